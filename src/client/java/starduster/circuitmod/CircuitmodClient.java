@@ -2,6 +2,7 @@ package starduster.circuitmod;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.minecraft.client.MinecraftClient;
@@ -24,8 +25,9 @@ import starduster.circuitmod.client.render.DrillBlockEntityRenderer;
 import starduster.circuitmod.client.render.LaserMiningDrillBlockEntityRenderer;
 import starduster.circuitmod.client.render.ConstructorBlockEntityRenderer;
 import starduster.circuitmod.client.render.HologramTableBlockEntityRenderer;
+import starduster.circuitmod.client.render.HologramSurfaceIndex;
 import starduster.circuitmod.client.render.HovercraftEntityRenderer;
-import starduster.circuitmod.client.HovercraftInputHandler;
+import starduster.circuitmod.client.VehicleInputHandler;
 import starduster.circuitmod.screen.*;
 import starduster.circuitmod.entity.ModEntityTypes;
 import starduster.circuitmod.entity.ModEntities;
@@ -98,11 +100,8 @@ public class CircuitmodClient implements ClientModInitializer {
 		// Initialize client networking
 		starduster.circuitmod.network.ClientNetworking.initialize();
 		
-		// Initialize hovercraft input handler
-		HovercraftInputHandler.initialize();
-		
-		// Initialize rocket input handler
-		starduster.circuitmod.client.RocketInputHandler.initialize();
+		// Initialize hovercraft and rocket input handler
+		VehicleInputHandler.initialize();
 
 		// Initialize client network animator
 		starduster.circuitmod.network.ClientNetworkAnimator.initialize();
@@ -115,7 +114,11 @@ public class CircuitmodClient implements ClientModInitializer {
 		
 		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
 			Circuitmod.LOGGER.info("[CLIENT] Disconnected from server");
+			HologramSurfaceIndex.clear();
 		});
+
+		// Newly loaded chunks may fill in columns of a hologram area
+		ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> HologramSurfaceIndex.onChunkLoad(chunk.getPos()));
 		
         // Force black sky background for our dimension - use NORMAL sky type to allow custom sky renderers
         DimensionRenderingRegistry.registerDimensionEffects(LUNA_ID,
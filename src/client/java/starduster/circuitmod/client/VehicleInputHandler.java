@@ -0,0 +1,68 @@
+package starduster.circuitmod.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.entity.Entity;
+import org.lwjgl.glfw.GLFW;
+import starduster.circuitmod.network.ClientNetworking;
+import starduster.circuitmod.network.IControllableVehicle;
+import starduster.circuitmod.network.VehicleInput;
+
+@Environment(EnvType.CLIENT)
+public class VehicleInputHandler {
+    // Resend unchanged input this often, in case the vehicle wasn't known to the server yet
+    private static final int RESEND_INTERVAL_TICKS = 20;
+    
+    private static int lastVehicleId = -1;
+    private static int lastFlags = -1;
+    private static int ticksSinceSend = 0;
+    private static byte sequence = 0;
+    
+    /**
+     * Initialize the vehicle input handler
+     */
+    public static void initialize() {
+        // Register tick event to check for input changes
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            if (client.player == null) return;
+            
+            // Check if player is riding one of our vehicles
+            Entity vehicle = client.player.getVehicle();
+            if (!(vehicle instanceof IControllableVehicle controllable)) {
+                // Reset so the next vehicle gets our input straight away
+                lastVehicleId = -1;
+                return;
+            }
+            
+            // Check for Alt key (left or right Alt) using GLFW
+            long windowHandle = client.getWindow().getHandle();
+            boolean altLeft = GLFW.glfwGetKey(windowHandle, GLFW.GLFW_KEY_LEFT_ALT) == GLFW.GLFW_PRESS;
+            boolean altRight = GLFW.glfwGetKey(windowHandle, GLFW.GLFW_KEY_RIGHT_ALT) == GLFW.GLFW_PRESS;
+            
+            int flags = VehicleInput.pack(
+                client.options.forwardKey.isPressed(),
+                client.options.backKey.isPressed(),
+                client.options.leftKey.isPressed(),
+                client.options.rightKey.isPressed(),
+                client.options.jumpKey.isPressed(), // Space for up / launch
+                altLeft || altRight, // Alt for down
+                client.options.sprintKey.isPressed() // Ctrl for boost
+            );
+            
+            // Feed the current input back into the local vehicle so it can predict motion immediately
+            if (controllable.predictsInput()) {
+                controllable.applyInput(flags);
+            }
+            
+            ticksSinceSend++;
+            if (vehicle.getId() != lastVehicleId || flags != lastFlags || ticksSinceSend >= RESEND_INTERVAL_TICKS) {
+                sequence++;
+                ClientNetworking.sendVehicleInput(vehicle.getId(), sequence, flags);
+                lastVehicleId = vehicle.getId();
+                lastFlags = flags;
+                ticksSinceSend = 0;
+            }
+        });
+    }
+}
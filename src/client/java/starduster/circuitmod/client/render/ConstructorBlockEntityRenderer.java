@@ -7,19 +7,26 @@ import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import starduster.circuitmod.block.entity.ConstructorBlockEntity;
 
-import java.util.List;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.render.OverlayTexture;
-import net.minecraft.item.ItemStack;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 @Environment(EnvType.CLIENT)
 public class ConstructorBlockEntityRenderer implements BlockEntityRenderer<ConstructorBlockEntity> {
 
+    // Ghosts farther than this from the camera are not drawn
+    private static final double GHOST_RENDER_DISTANCE = 64.0;
+
+    // Maximum number of ghost blocks drawn per constructor per frame (-Dcircuitmod.constructorGhostBudget)
+    private static final int GHOST_BUDGET = Integer.getInteger("circuitmod.constructorGhostBudget", 4096);
+
+    // Baked ghost meshes per constructor; weak keys so unloaded constructors don't leak
+    private static final Map<ConstructorBlockEntity, ConstructorGhostMesh> GHOST_MESHES = new WeakHashMap<>();
+
     public ConstructorBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) { }
 
     @Override
@@ -32,35 +39,30 @@ public class ConstructorBlockEntityRenderer implements BlockEntityRenderer<Const
                        Vec3d cameraPos) {
         
         // Only render if there's a blueprint loaded
-        if (!entity.hasBlueprint()) {
+        if (!entity.hasBlueprint() || entity.getWorld() == null) {
             return;
         }
-        
-        matrices.push();
-        VertexConsumer v = vertexConsumers.getBuffer(RenderLayer.getLines());
 
-        // Get blueprint build positions
-        List<BlockPos> buildPositions = entity.getBlueprintBuildPositions();
-        if (buildPositions.isEmpty()) {
-            matrices.pop();
+        // Rebuild the cached ghost mesh only when the synced ghost map, rotation, offset or built set changes
+        ConstructorGhostMesh mesh = GHOST_MESHES.get(entity);
+        if (mesh == null || !mesh.getKey().equals(ConstructorGhostMesh.Key.of(entity))) {
+            mesh = ConstructorGhostMesh.bake(entity, entity.getWorld());
+            GHOST_MESHES.put(entity, mesh);
+        }
+        if (!mesh.hasBounds()) {
             return;
         }
 
-        // Calculate bounding box of the build area
-        int minX = buildPositions.stream().mapToInt(BlockPos::getX).min().orElse(0);
-        int maxX = buildPositions.stream().mapToInt(BlockPos::getX).max().orElse(0);
-        int minY = buildPositions.stream().mapToInt(BlockPos::getY).min().orElse(0);
-        int maxY = buildPositions.stream().mapToInt(BlockPos::getY).max().orElse(0);
-        int minZ = buildPositions.stream().mapToInt(BlockPos::getZ).min().orElse(0);
-        int maxZ = buildPositions.stream().mapToInt(BlockPos::getZ).max().orElse(0);
+        matrices.push();
+        VertexConsumer v = vertexConsumers.getBuffer(RenderLayer.getLines());
 
         // Convert to local coordinates relative to the constructor (fully enclose blocks)
-        float x0 = (minX - entity.getPos().getX());
-        float x1 = (maxX - entity.getPos().getX()) + 1.0f;
-        float y0 = (minY - entity.getPos().getY());
-        float y1 = (maxY - entity.getPos().getY()) + 1.0f;
-        float z0 = (minZ - entity.getPos().getZ());
-        float z1 = (maxZ - entity.getPos().getZ()) + 1.0f;
+        float x0 = mesh.getMinX();
+        float x1 = mesh.getMaxX() + 1.0f;
+        float y0 = mesh.getMinY();
+        float y1 = mesh.getMaxY() + 1.0f;
+        float z0 = mesh.getMinZ();
+        float z1 = mesh.getMaxZ() + 1.0f;
 
         // Use cyan/blue color for constructor outline (different from quarry's green)
         float r = 0f, g = 0.8f, b = 1f, a = 0.8f;
@@ -69,69 +71,11 @@ public class ConstructorBlockEntityRenderer implements BlockEntityRenderer<Const
         drawWireframeBox(v, matrices, x0, y0, z0, x1, y1, z1, 0.03f, r, g, b, a);
 
         // --- GHOST BLOCK RENDERING ---
-        // Only on client side, and only if blueprint is loaded
-        if (entity.hasBlueprint() && entity.getWorld() != null && entity.getWorld().isClient()) {
-            MinecraftClient client = MinecraftClient.getInstance();
-            var itemRenderer = client.getItemRenderer();
-            var world = entity.getWorld();
-            var builtPositions = entity instanceof starduster.circuitmod.block.entity.ConstructorBlockEntity cbe ? cbe.getBuiltPositions() : java.util.Collections.emptySet();
-            java.util.Map<net.minecraft.util.math.BlockPos, net.minecraft.item.Item> ghostBlockItems = 
-                entity instanceof starduster.circuitmod.block.entity.ConstructorBlockEntity cbe2 
-                    ? cbe2.getClientGhostBlockItems() 
-                    : java.util.Collections.emptyMap();
-            int ghostCount = 0;
-            System.out.println("[CONSTRUCTOR-GHOST-DEBUG] buildPositions=" + buildPositions.size() + ", builtPositions=" + builtPositions.size() + ", ghostItems=" + ghostBlockItems.size());
-            if (ghostBlockItems.isEmpty()) {
-                System.out.println("[CONSTRUCTOR-GHOST-DEBUG] No ghost items available; skipping ghost rendering.");
-            }
-            // No need for GL state manipulation in modern Minecraft rendering
-            // The render system handles this automatically
-            // For each planned build position
-            for (BlockPos worldPos : buildPositions) {
-                BlockPos baseBuildPos = entity.getPos().add(entity.getBuildOffset());
-                BlockPos relPos = worldPos.subtract(baseBuildPos);
-                int rot = entity.getBlueprintRotation() % 4;
-                int x = relPos.getX(), y = relPos.getY(), z = relPos.getZ();
-                for (int i = 0; i < (4 - rot) % 4; i++) {
-                    int tmp = x;
-                    x = z;
-                    z = -tmp;
-                }
-                BlockPos blueprintPos = new BlockPos(x, y, z);
-                if (!builtPositions.contains(blueprintPos)) {
-                    net.minecraft.item.Item item = ghostBlockItems.get(blueprintPos);
-                    if (item == null || item == net.minecraft.item.Items.AIR) {
-                        System.out.println("[CONSTRUCTOR-GHOST-DEBUG] No item for blueprintPos: " + blueprintPos);
-                        continue;
-                    }
-                    ItemStack stack = new ItemStack(item);
-                    if (stack.isEmpty()) {
-                        System.out.println("[CONSTRUCTOR-GHOST-DEBUG] ItemStack is empty for item: " + item + " at blueprintPos: " + blueprintPos);
-                        continue;
-                    }
-                    System.out.println("[CONSTRUCTOR-GHOST-DEBUG] Rendering ghost block at worldPos: " + worldPos + ", blueprintPos: " + blueprintPos + ", item: " + stack.getItem());
-                    ghostCount++;
-                    matrices.push();
-                    double dx = worldPos.getX() - entity.getPos().getX();
-                    double dy = worldPos.getY() - entity.getPos().getY();
-                    double dz = worldPos.getZ() - entity.getPos().getZ();
-                    matrices.translate(dx + 0.5, dy + 0.5, dz + 0.5);
-                    matrices.scale(0.5f, 0.5f, 0.5f);
-                    itemRenderer.renderItem(
-                        stack,
-                        net.minecraft.item.ItemDisplayContext.GROUND,
-                        15728880, // full-bright
-                        OverlayTexture.DEFAULT_UV,
-                        matrices,
-                        vertexConsumers,
-                        world,
-                        0
-                    );
-                    matrices.pop();
-                }
-            }
-            System.out.println("[CONSTRUCTOR-GHOST-DEBUG] Total ghost blocks attempted for rendering: " + ghostCount);
-            // No need to restore GL state - render system handles it
+        // All unbuilt ghosts go through one translucent buffer, culled by camera distance and capped by the budget
+        if (mesh.getGhostCount() > 0) {
+            mesh.render(matrices,
+                vertexConsumers.getBuffer(RenderLayer.getEntityTranslucent(SpriteAtlasTexture.BLOCK_ATLAS_TEXTURE)),
+                entity.getPos(), cameraPos, GHOST_RENDER_DISTANCE, GHOST_BUDGET);
         }
 
         matrices.pop();
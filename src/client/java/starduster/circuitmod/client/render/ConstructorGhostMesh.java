@@ -0,0 +1,305 @@
+package starduster.circuitmod.client.render;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.color.block.BlockColors;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.block.BlockRenderManager;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.render.model.BlockModelPart;
+import net.minecraft.client.render.model.BlockStateModel;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import starduster.circuitmod.block.entity.ConstructorBlockEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A baked preview of the blocks a constructor still has to place.
+ * Every unbuilt ghost's block model quads are flattened once into vertex arrays (relative to the constructor)
+ * and replayed into a single translucent buffer each frame. Faces hidden behind an opaque neighbouring
+ * ghost are dropped at bake time. Ghosts are stored nearest-to-the-constructor first, so the per-frame
+ * budget keeps the part of the build that is about to happen.
+ */
+@Environment(EnvType.CLIENT)
+public class ConstructorGhostMesh {
+
+    private static final int GHOST_ALPHA = 0x66;
+    // Slightly shrink ghosts so they don't z-fight with adjacent real blocks
+    private static final float GHOST_SCALE = 0.98f;
+    private static final int FULL_BRIGHT = 15728880;
+
+    private final Key key;
+    private final boolean hasBounds;
+    private final int minX, minY, minZ, maxX, maxY, maxZ; // Build area bounds relative to the constructor
+    private final float[] centers; // x, y, z per ghost, relative to the constructor
+    private final int[] vertexStarts; // First vertex per ghost, plus a trailing end marker
+    private final float[] positions; // x, y, z per vertex
+    private final float[] uvs; // u, v per vertex
+    private final float[] normals; // x, y, z per vertex
+    private final int[] colors; // argb per vertex
+
+    private ConstructorGhostMesh(Key key, int[] bounds, GhostBuilder builder) {
+        this.key = key;
+        this.hasBounds = bounds != null;
+        this.minX = hasBounds ? bounds[0] : 0;
+        this.minY = hasBounds ? bounds[1] : 0;
+        this.minZ = hasBounds ? bounds[2] : 0;
+        this.maxX = hasBounds ? bounds[3] : 0;
+        this.maxY = hasBounds ? bounds[4] : 0;
+        this.maxZ = hasBounds ? bounds[5] : 0;
+        this.centers = Arrays.copyOf(builder.centers, builder.ghostCount * 3);
+        this.vertexStarts = Arrays.copyOf(builder.vertexStarts, builder.ghostCount + 1);
+        this.vertexStarts[builder.ghostCount] = builder.vertexCount;
+        this.positions = Arrays.copyOf(builder.positions, builder.vertexCount * 3);
+        this.uvs = Arrays.copyOf(builder.uvs, builder.vertexCount * 2);
+        this.normals = Arrays.copyOf(builder.normals, builder.vertexCount * 3);
+        this.colors = Arrays.copyOf(builder.colors, builder.vertexCount);
+    }
+
+    /**
+     * Identifies the inputs a mesh was baked from; a different key means the mesh is stale.
+     */
+    public record Key(int ghostVersion, int rotation, BlockPos buildOffset, int builtCount) {
+        public static Key of(ConstructorBlockEntity entity) {
+            return new Key(entity.getGhostVersion(), entity.getBlueprintRotation() % 4,
+                entity.getBuildOffset(), entity.getBuiltPositions().size());
+        }
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public boolean hasBounds() {
+        return hasBounds;
+    }
+
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMinZ() { return minZ; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    public int getMaxZ() { return maxZ; }
+
+    public int getGhostCount() {
+        return vertexStarts.length - 1;
+    }
+
+    /**
+     * Emits up to {@code budget} ghosts within {@code maxDistance} of the camera.
+     * Expects an entity translucent layer on the block atlas.
+     */
+    public void render(MatrixStack matrices, VertexConsumer consumer, BlockPos origin, Vec3d cameraPos,
+                       double maxDistance, int budget) {
+        MatrixStack.Entry entry = matrices.peek();
+        double cameraX = cameraPos.x - origin.getX();
+        double cameraY = cameraPos.y - origin.getY();
+        double cameraZ = cameraPos.z - origin.getZ();
+        double maxDistanceSq = maxDistance * maxDistance;
+
+        int rendered = 0;
+        int ghostCount = getGhostCount();
+        for (int ghost = 0; ghost < ghostCount && rendered < budget; ghost++) {
+            double dx = centers[ghost * 3] - cameraX;
+            double dy = centers[ghost * 3 + 1] - cameraY;
+            double dz = centers[ghost * 3 + 2] - cameraZ;
+            if (dx * dx + dy * dy + dz * dz > maxDistanceSq) {
+                continue;
+            }
+            for (int i = vertexStarts[ghost]; i < vertexStarts[ghost + 1]; i++) {
+                consumer.vertex(entry, positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2])
+                    .color(colors[i])
+                    .texture(uvs[i * 2], uvs[i * 2 + 1])
+                    .overlay(OverlayTexture.DEFAULT_UV)
+                    .light(FULL_BRIGHT)
+                    .normal(entry, normals[i * 3], normals[i * 3 + 1], normals[i * 3 + 2]);
+            }
+            rendered++;
+        }
+    }
+
+    /**
+     * Bakes the ghost mesh from the constructor's synced build positions and ghost block map.
+     */
+    public static ConstructorGhostMesh bake(ConstructorBlockEntity entity, World world) {
+        Key key = Key.of(entity);
+        BlockPos origin = entity.getPos();
+        List<BlockPos> buildPositions = entity.getBlueprintBuildPositions();
+        if (buildPositions.isEmpty()) {
+            return new ConstructorGhostMesh(key, null, new GhostBuilder());
+        }
+
+        Map<BlockPos, Item> ghostItems = entity.getClientGhostBlockItems();
+        Set<BlockPos> builtPositions = entity.getBuiltPositions();
+        BlockPos baseBuildPos = origin.add(key.buildOffset());
+        int rotation = key.rotation();
+
+        int[] bounds = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        Map<BlockPos, BlockState> ghosts = new HashMap<>();
+        for (BlockPos worldPos : buildPositions) {
+            BlockPos local = worldPos.subtract(origin);
+            bounds[0] = Math.min(bounds[0], local.getX());
+            bounds[1] = Math.min(bounds[1], local.getY());
+            bounds[2] = Math.min(bounds[2], local.getZ());
+            bounds[3] = Math.max(bounds[3], local.getX());
+            bounds[4] = Math.max(bounds[4], local.getY());
+            bounds[5] = Math.max(bounds[5], local.getZ());
+
+            // Undo the blueprint rotation to look up the ghost item
+            BlockPos relPos = worldPos.subtract(baseBuildPos);
+            int x = relPos.getX(), y = relPos.getY(), z = relPos.getZ();
+            for (int i = 0; i < (4 - rotation) % 4; i++) {
+                int tmp = x;
+                x = z;
+                z = -tmp;
+            }
+            BlockPos blueprintPos = new BlockPos(x, y, z);
+            if (builtPositions.contains(blueprintPos)) {
+                continue;
+            }
+            Item item = ghostItems.get(blueprintPos);
+            if (item == null) {
+                continue;
+            }
+            Block block = Block.getBlockFromItem(item);
+            if (block == Blocks.AIR) {
+                continue;
+            }
+            BlockState state = block.getDefaultState();
+            if (state.getRenderType() != BlockRenderType.MODEL) {
+                continue;
+            }
+            ghosts.put(worldPos, state);
+        }
+
+        // Nearest to the constructor first
+        List<BlockPos> order = new ArrayList<>(ghosts.keySet());
+        order.sort((a, b) -> Double.compare(a.getSquaredDistance(origin), b.getSquaredDistance(origin)));
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        BlockRenderManager blockRenderManager = client.getBlockRenderManager();
+        BlockColors blockColors = client.getBlockColors();
+        Random random = Random.create();
+        GhostBuilder builder = new GhostBuilder();
+        List<BlockModelPart> parts = new ArrayList<>();
+        BlockPos.Mutable neighborPos = new BlockPos.Mutable();
+
+        for (BlockPos worldPos : order) {
+            BlockState state = ghosts.get(worldPos);
+            BlockStateModel model = blockRenderManager.getModel(state);
+            random.setSeed(state.getRenderingSeed(worldPos));
+            parts.clear();
+            model.addParts(random, parts);
+
+            builder.beginGhost(worldPos.getX() - origin.getX() + 0.5f,
+                worldPos.getY() - origin.getY() + 0.5f,
+                worldPos.getZ() - origin.getZ() + 0.5f);
+            for (BlockModelPart part : parts) {
+                for (Direction direction : Direction.values()) {
+                    // Skip faces covered by an opaque neighbouring ghost
+                    BlockState neighbor = ghosts.get(neighborPos.set(worldPos, direction));
+                    if (neighbor != null && neighbor.isOpaqueFullCube()) {
+                        continue;
+                    }
+                    for (BakedQuad quad : part.getQuads(direction)) {
+                        builder.addQuad(quad, tint(blockColors, state, world, worldPos, quad));
+                    }
+                }
+                for (BakedQuad quad : part.getQuads(null)) {
+                    builder.addQuad(quad, tint(blockColors, state, world, worldPos, quad));
+                }
+            }
+        }
+        return new ConstructorGhostMesh(key, bounds, builder);
+    }
+
+    private static int tint(BlockColors blockColors, BlockState state, World world, BlockPos pos, BakedQuad quad) {
+        int rgb = quad.hasTint() ? blockColors.getColor(state, world, pos, quad.tintIndex()) : -1;
+        return (GHOST_ALPHA << 24) | (rgb & 0xFFFFFF);
+    }
+
+    /**
+     * Accumulates flattened quad vertices grouped per ghost.
+     */
+    private static class GhostBuilder {
+        // Block vertex data layout: x, y, z, color, u, v, light, normal
+        private static final int VERTEX_STRIDE = 8;
+
+        private float[] centers = new float[3 * 64];
+        private int[] vertexStarts = new int[65];
+        private float[] positions = new float[3 * 1024];
+        private float[] uvs = new float[2 * 1024];
+        private float[] normals = new float[3 * 1024];
+        private int[] colors = new int[1024];
+        private int ghostCount = 0;
+        private int vertexCount = 0;
+        private float centerX, centerY, centerZ;
+
+        void beginGhost(float x, float y, float z) {
+            if (ghostCount + 1 >= vertexStarts.length) {
+                centers = Arrays.copyOf(centers, centers.length * 2);
+                vertexStarts = Arrays.copyOf(vertexStarts, vertexStarts.length * 2);
+            }
+            centers[ghostCount * 3] = x;
+            centers[ghostCount * 3 + 1] = y;
+            centers[ghostCount * 3 + 2] = z;
+            vertexStarts[ghostCount] = vertexCount;
+            ghostCount++;
+            centerX = x;
+            centerY = y;
+            centerZ = z;
+        }
+
+        void addQuad(BakedQuad quad, int color) {
+            int[] data = quad.vertexData();
+            Direction face = quad.face();
+            for (int v = 0; v < 4; v++) {
+                int offset = v * VERTEX_STRIDE;
+                // Model coordinates are 0..1 within the block; scale them about the block centre
+                float x = Float.intBitsToFloat(data[offset]) - 0.5f;
+                float y = Float.intBitsToFloat(data[offset + 1]) - 0.5f;
+                float z = Float.intBitsToFloat(data[offset + 2]) - 0.5f;
+                addVertex(centerX + x * GHOST_SCALE, centerY + y * GHOST_SCALE, centerZ + z * GHOST_SCALE,
+                    Float.intBitsToFloat(data[offset + 4]), Float.intBitsToFloat(data[offset + 5]),
+                    face.getOffsetX(), face.getOffsetY(), face.getOffsetZ(), color);
+            }
+        }
+
+        private void addVertex(float x, float y, float z, float u, float v, float nx, float ny, float nz, int color) {
+            if (vertexCount == colors.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+                uvs = Arrays.copyOf(uvs, uvs.length * 2);
+                normals = Arrays.copyOf(normals, normals.length * 2);
+                colors = Arrays.copyOf(colors, colors.length * 2);
+            }
+            positions[vertexCount * 3] = x;
+            positions[vertexCount * 3 + 1] = y;
+            positions[vertexCount * 3 + 2] = z;
+            uvs[vertexCount * 2] = u;
+            uvs[vertexCount * 2 + 1] = v;
+            normals[vertexCount * 3] = nx;
+            normals[vertexCount * 3 + 1] = ny;
+            normals[vertexCount * 3 + 2] = nz;
+            colors[vertexCount] = color;
+            vertexCount++;
+        }
+    }
+}
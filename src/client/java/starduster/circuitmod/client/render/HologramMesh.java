@@ -0,0 +1,302 @@
+package starduster.circuitmod.client.render;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.MapColor;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import starduster.circuitmod.block.entity.HologramTableBlockEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A baked, scaled mesh of a hologram table's surface blocks.
+ * Each world block becomes a small cube coloured by its map colour; hidden faces are dropped
+ * and coplanar faces of the same colour are greedy-merged into larger quads.
+ * The mesh is built once per block cache version and replayed into a single buffer every frame.
+ */
+@Environment(EnvType.CLIENT)
+public class HologramMesh {
+
+    // Fixed Y reference point (sea level) so chained holograms align properly
+    public static final int REFERENCE_Y = 64;
+    public static final float WORLD_TO_HOLOGRAM_SCALE = 1.0f / 16.0f;
+    public static final float HOLOGRAM_HEIGHT = 1.0f;
+
+    // Per-face shading so the terrain reads without lighting (indexed by Direction ordinal: D, U, N, S, W, E)
+    private static final float[] FACE_SHADE = {0.5f, 1.0f, 0.8f, 0.8f, 0.6f, 0.6f};
+    private static final int CLEAR_BLOCK_COLOR = 0x80DDEEFF;
+
+    private final int version;
+    private final double minYOffset;
+    private final float[] positions; // x, y, z per vertex
+    private final int[] colors; // argb per vertex
+    private final int vertexCount;
+
+    private HologramMesh(int version, double minYOffset, float[] positions, int[] colors, int vertexCount) {
+        this.version = version;
+        this.minYOffset = minYOffset;
+        this.positions = positions;
+        this.colors = colors;
+        this.vertexCount = vertexCount;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Vertical offset applied so blocks below sea level don't clip into the table. Entities use the same offset.
+     */
+    public double getMinYOffset() {
+        return minYOffset;
+    }
+
+    public int getQuadCount() {
+        return vertexCount / 4;
+    }
+
+    /**
+     * Emits the baked quads. Expects a POSITION_COLOR quad layer.
+     */
+    public void render(MatrixStack matrices, VertexConsumer consumer) {
+        MatrixStack.Entry entry = matrices.peek();
+        for (int i = 0; i < vertexCount; i++) {
+            consumer.vertex(entry, positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]).color(colors[i]);
+        }
+    }
+
+    /**
+     * Bakes the mesh for the given block entries.
+     */
+    public static HologramMesh bake(World world, List<HologramTableBlockEntity.BlockEntry> entries, int version,
+                                    double centerX, double centerZ) {
+        // Voxel colours keyed by packed world position
+        Map<Long, Integer> voxels = new HashMap<>(entries.size() * 2);
+        int lowestY = Integer.MAX_VALUE;
+        for (HologramTableBlockEntity.BlockEntry entry : entries) {
+            BlockState state = entry.state;
+            // Same visibility rule as the old item-based renderer: blocks without an item are skipped
+            if (state.getBlock().asItem() == Items.AIR) {
+                continue;
+            }
+            MapColor mapColor = state.getMapColor(world, entry.pos);
+            int color = mapColor == MapColor.CLEAR ? CLEAR_BLOCK_COLOR : (0xFF000000 | mapColor.color);
+            voxels.put(entry.pos.asLong(), color);
+            lowestY = Math.min(lowestY, entry.pos.getY());
+        }
+
+        double minYOffset = 0.0;
+        if (lowestY != Integer.MAX_VALUE && lowestY < REFERENCE_Y) {
+            // The lowest block should stay at least half a block above the table surface
+            double lowestBlockDy = (lowestY - REFERENCE_Y) * WORLD_TO_HOLOGRAM_SCALE;
+            if (lowestBlockDy < -0.5) {
+                minYOffset = -0.5 - lowestBlockDy;
+            }
+        }
+
+        // Collect exposed faces grouped by (direction, slice)
+        Map<Long, FaceSlice> slices = new HashMap<>();
+        for (Map.Entry<Long, Integer> voxel : voxels.entrySet()) {
+            long packed = voxel.getKey();
+            int x = BlockPos.unpackLongX(packed);
+            int y = BlockPos.unpackLongY(packed);
+            int z = BlockPos.unpackLongZ(packed);
+            for (Direction direction : Direction.values()) {
+                long neighbor = BlockPos.asLong(x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ());
+                if (voxels.containsKey(neighbor)) {
+                    continue; // Face hidden by a neighbouring voxel
+                }
+                int slice = switch (direction.getAxis()) {
+                    case X -> x;
+                    case Y -> y;
+                    case Z -> z;
+                };
+                long sliceKey = ((long) direction.ordinal() << 32) | (slice & 0xFFFFFFFFL);
+                slices.computeIfAbsent(sliceKey, key -> new FaceSlice(direction, slice)).add(x, y, z, voxel.getValue());
+            }
+        }
+
+        MeshBuilder builder = new MeshBuilder(centerX, centerZ, minYOffset);
+        for (FaceSlice slice : slices.values()) {
+            slice.greedyMesh(builder);
+        }
+        return new HologramMesh(version, minYOffset, builder.positions, builder.colors, builder.vertexCount);
+    }
+
+    /**
+     * All exposed faces of one direction lying in one plane, in (u, v) plane coordinates.
+     */
+    private static class FaceSlice {
+        private final Direction direction;
+        private final int slice;
+        private final List<int[]> faces = new ArrayList<>(); // u, v, color
+        private int minU = Integer.MAX_VALUE, minV = Integer.MAX_VALUE;
+        private int maxU = Integer.MIN_VALUE, maxV = Integer.MIN_VALUE;
+
+        FaceSlice(Direction direction, int slice) {
+            this.direction = direction;
+            this.slice = slice;
+        }
+
+        void add(int x, int y, int z, int color) {
+            int u, v;
+            switch (direction.getAxis()) {
+                case X -> { u = y; v = z; }
+                case Y -> { u = x; v = z; }
+                default -> { u = x; v = y; }
+            }
+            faces.add(new int[]{u, v, color});
+            minU = Math.min(minU, u);
+            minV = Math.min(minV, v);
+            maxU = Math.max(maxU, u);
+            maxV = Math.max(maxV, v);
+        }
+
+        void greedyMesh(MeshBuilder builder) {
+            int width = maxU - minU + 1;
+            int height = maxV - minV + 1;
+            int[] mask = new int[width * height];
+            boolean[] filled = new boolean[width * height];
+            for (int[] face : faces) {
+                int index = (face[0] - minU) + (face[1] - minV) * width;
+                mask[index] = face[2];
+                filled[index] = true;
+            }
+
+            for (int v = 0; v < height; v++) {
+                for (int u = 0; u < width; ) {
+                    int index = u + v * width;
+                    if (!filled[index]) {
+                        u++;
+                        continue;
+                    }
+                    int color = mask[index];
+
+                    // Grow along u
+                    int quadWidth = 1;
+                    while (u + quadWidth < width && filled[index + quadWidth] && mask[index + quadWidth] == color) {
+                        quadWidth++;
+                    }
+                    // Grow along v while the whole row matches
+                    int quadHeight = 1;
+                    grow:
+                    while (v + quadHeight < height) {
+                        int rowStart = u + (v + quadHeight) * width;
+                        for (int k = 0; k < quadWidth; k++) {
+                            if (!filled[rowStart + k] || mask[rowStart + k] != color) {
+                                break grow;
+                            }
+                        }
+                        quadHeight++;
+                    }
+                    // Consume the merged area
+                    for (int dv = 0; dv < quadHeight; dv++) {
+                        Arrays.fill(filled, u + (v + dv) * width, u + (v + dv) * width + quadWidth, false);
+                    }
+
+                    builder.addQuad(direction, slice, minU + u, minV + v, quadWidth, quadHeight, color);
+                    u += quadWidth;
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates scaled quad vertices in hologram space (relative to the table's block origin).
+     */
+    private static class MeshBuilder {
+        private final double centerX;
+        private final double centerZ;
+        private final double minYOffset;
+        private float[] positions = new float[4 * 3 * 256];
+        private int[] colors = new int[4 * 256];
+        private int vertexCount = 0;
+
+        MeshBuilder(double centerX, double centerZ, double minYOffset) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.minYOffset = minYOffset;
+        }
+
+        /**
+         * Adds a face covering [u, u + width) x [v, v + height) on the given block slice.
+         */
+        void addQuad(Direction direction, int slice, int u, int v, int width, int height, int color) {
+            // Far side of the block for positive directions
+            int plane = slice + (direction.getDirection() == Direction.AxisDirection.POSITIVE ? 1 : 0);
+            int shaded = shade(color, FACE_SHADE[direction.ordinal()]);
+
+            float[][] corners = new float[4][];
+            int u2 = u + width;
+            int v2 = v + height;
+            switch (direction.getAxis()) {
+                case X -> {
+                    corners[0] = toHologram(plane, u, v);
+                    corners[1] = toHologram(plane, u2, v);
+                    corners[2] = toHologram(plane, u2, v2);
+                    corners[3] = toHologram(plane, u, v2);
+                }
+                case Y -> {
+                    corners[0] = toHologram(u, plane, v);
+                    corners[1] = toHologram(u2, plane, v);
+                    corners[2] = toHologram(u2, plane, v2);
+                    corners[3] = toHologram(u, plane, v2);
+                }
+                default -> {
+                    corners[0] = toHologram(u, v, plane);
+                    corners[1] = toHologram(u2, v, plane);
+                    corners[2] = toHologram(u2, v2, plane);
+                    corners[3] = toHologram(u, v2, plane);
+                }
+            }
+
+            // Keep counter-clockwise winding when seen from outside the block
+            boolean flip = switch (direction) {
+                case DOWN, EAST, SOUTH -> false;
+                default -> true;
+            };
+            for (int i = 0; i < 4; i++) {
+                addVertex(corners[flip ? 3 - i : i], shaded);
+            }
+        }
+
+        private float[] toHologram(double worldX, double worldY, double worldZ) {
+            // Blocks are centred on their scaled position, as the item renderer used to draw them
+            return new float[]{
+                (float) (0.5 + (worldX - 0.5 - centerX) * WORLD_TO_HOLOGRAM_SCALE),
+                (float) (HOLOGRAM_HEIGHT + 0.5 + (worldY - 0.5 - REFERENCE_Y) * WORLD_TO_HOLOGRAM_SCALE + minYOffset),
+                (float) (0.5 + (worldZ - 0.5 - centerZ) * WORLD_TO_HOLOGRAM_SCALE)
+            };
+        }
+
+        private void addVertex(float[] position, int color) {
+            if (vertexCount == colors.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+                colors = Arrays.copyOf(colors, colors.length * 2);
+            }
+            positions[vertexCount * 3] = position[0];
+            positions[vertexCount * 3 + 1] = position[1];
+            positions[vertexCount * 3 + 2] = position[2];
+            colors[vertexCount] = color;
+            vertexCount++;
+        }
+
+        private static int shade(int argb, float factor) {
+            int a = (argb >>> 24) & 0xFF;
+            int r = (int) (((argb >> 16) & 0xFF) * factor);
+            int g = (int) (((argb >> 8) & 0xFF) * factor);
+            int b = (int) ((argb & 0xFF) * factor);
+            return (a << 24) | (r << 16) | (g << 8) | b;
+        }
+    }
+}
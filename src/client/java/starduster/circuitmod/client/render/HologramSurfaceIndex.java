@@ -0,0 +1,347 @@
+package starduster.circuitmod.client.render;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import starduster.circuitmod.block.ModBlocks;
+import starduster.circuitmod.block.entity.HologramTableBlockEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client-side surface index for a hologram table's render area.
+ * <p>
+ * The surface is computed per column from copied chunk section palettes and the WORLD_SURFACE heightmap
+ * on a background worker. Block updates and chunk loads only mark the affected columns dirty, and just
+ * those columns are rescanned. Finished results are swapped into the table's block cache on the render thread.
+ */
+@Environment(EnvType.CLIENT)
+public class HologramSurfaceIndex {
+
+    // Indices per table; weak keys so unloaded tables don't leak. Only touched on the render thread.
+    private static final Map<HologramTableBlockEntity, HologramSurfaceIndex> INDICES = new WeakHashMap<>();
+
+    private int minX, maxX, minZ, maxZ, minY;
+    private boolean hasArea = false;
+    private int generation = 0;
+
+    // Surface blocks per column, owned by the render thread and replaced when a scan result is applied
+    private Map<Long, List<HologramTableBlockEntity.BlockEntry>> columns = new HashMap<>();
+    private final Set<Long> dirtyColumns = new HashSet<>();
+    private boolean fullRebuild = true;
+    private CompletableFuture<ScanResult> pending = null;
+
+    public static HologramSurfaceIndex get(HologramTableBlockEntity entity) {
+        return INDICES.computeIfAbsent(entity, key -> new HologramSurfaceIndex());
+    }
+
+    /**
+     * Called when the client applies a block update. Marks the changed column and its horizontal
+     * neighbours (whose side exposure may have changed) dirty in every index covering them.
+     */
+    public static void onBlockUpdate(BlockPos pos) {
+        for (HologramSurfaceIndex index : INDICES.values()) {
+            index.markDirty(pos.getX(), pos.getZ());
+            index.markDirty(pos.getX() + 1, pos.getZ());
+            index.markDirty(pos.getX() - 1, pos.getZ());
+            index.markDirty(pos.getX(), pos.getZ() + 1);
+            index.markDirty(pos.getX(), pos.getZ() - 1);
+        }
+    }
+
+    /**
+     * Called when a chunk is loaded on the client. Marks every column of it that an index covers dirty.
+     */
+    public static void onChunkLoad(ChunkPos chunkPos) {
+        for (HologramSurfaceIndex index : INDICES.values()) {
+            if (!index.hasArea) {
+                continue;
+            }
+            int fromX = Math.max(index.minX, chunkPos.getStartX());
+            int toX = Math.min(index.maxX, chunkPos.getEndX());
+            int fromZ = Math.max(index.minZ, chunkPos.getStartZ());
+            int toZ = Math.min(index.maxZ, chunkPos.getEndZ());
+            for (int x = fromX; x <= toX; x++) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    index.dirtyColumns.add(columnKey(x, z));
+                }
+            }
+        }
+    }
+
+    public static void clear() {
+        INDICES.clear();
+    }
+
+    /**
+     * Applies finished scans and schedules new ones. Called every frame from the renderer.
+     */
+    public void update(HologramTableBlockEntity entity, World world) {
+        int scanStartY = Math.max(entity.getMinYLevel(), world.getBottomY());
+        boolean areaChanged = !hasArea || minX != entity.getAreaMinX() || maxX != entity.getAreaMaxX()
+            || minZ != entity.getAreaMinZ() || maxZ != entity.getAreaMaxZ() || minY != scanStartY;
+        if (areaChanged || (entity.needsRescan() && !fullRebuild)) {
+            minX = entity.getAreaMinX();
+            maxX = entity.getAreaMaxX();
+            minZ = entity.getAreaMinZ();
+            maxZ = entity.getAreaMaxZ();
+            minY = scanStartY;
+            hasArea = true;
+            generation++; // Results of in-flight scans for the old area are dropped
+            fullRebuild = true;
+            pending = null;
+            columns = new HashMap<>();
+            dirtyColumns.clear();
+        }
+
+        if (pending != null && pending.isDone()) {
+            ScanResult result = pending.getNow(null);
+            pending = null;
+            if (result != null && result.generation == generation) {
+                applyResult(entity, result);
+            }
+        }
+
+        if (pending == null && (fullRebuild || !dirtyColumns.isEmpty())) {
+            submitScan(world);
+        }
+    }
+
+    private void markDirty(int x, int z) {
+        if (hasArea && x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+            dirtyColumns.add(columnKey(x, z));
+        }
+    }
+
+    private void applyResult(HologramTableBlockEntity entity, ScanResult result) {
+        Map<Long, List<HologramTableBlockEntity.BlockEntry>> merged = result.full ? new HashMap<>() : new HashMap<>(columns);
+        merged.putAll(result.columns);
+        columns = merged;
+        if (result.full) {
+            fullRebuild = false;
+        }
+
+        List<HologramTableBlockEntity.BlockEntry> blocks = new ArrayList<>();
+        for (List<HologramTableBlockEntity.BlockEntry> column : columns.values()) {
+            blocks.addAll(column);
+        }
+        entity.setCachedBlocks(blocks);
+    }
+
+    /**
+     * Copies the chunk data needed for the dirty columns on the render thread and scans them on a worker.
+     */
+    private void submitScan(World world) {
+        boolean full = fullRebuild;
+        List<Long> targetColumns = new ArrayList<>();
+        if (full) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    targetColumns.add(columnKey(x, z));
+                }
+            }
+            dirtyColumns.clear();
+        } else {
+            targetColumns.addAll(dirtyColumns);
+            dirtyColumns.clear();
+        }
+
+        // Snapshot every chunk touched by the target columns or their in-area neighbours
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        for (long column : targetColumns) {
+            int x = columnX(column);
+            int z = columnZ(column);
+            for (int cx = (Math.max(minX, x - 1)) >> 4; cx <= (Math.min(maxX, x + 1)) >> 4; cx++) {
+                for (int cz = (Math.max(minZ, z - 1)) >> 4; cz <= (Math.min(maxZ, z + 1)) >> 4; cz++) {
+                    long chunkKey = ChunkPos.toLong(cx, cz);
+                    if (!snapshots.containsKey(chunkKey)) {
+                        snapshots.put(chunkKey, ChunkSnapshot.capture(world, cx, cz, minY));
+                    }
+                }
+            }
+        }
+
+        int scanGeneration = generation;
+        int areaMinX = minX, areaMaxX = maxX, areaMinZ = minZ, areaMaxZ = maxZ, scanStartY = minY;
+        pending = CompletableFuture.supplyAsync(() -> {
+            SurfaceScanner scanner = new SurfaceScanner(snapshots, areaMinX, areaMaxX, areaMinZ, areaMaxZ, scanStartY);
+            Map<Long, List<HologramTableBlockEntity.BlockEntry>> scanned = new HashMap<>();
+            for (long column : targetColumns) {
+                scanned.put(column, scanner.scanColumn(columnX(column), columnZ(column)));
+            }
+            return new ScanResult(scanGeneration, full, scanned);
+        }, Util.getMainWorkerExecutor());
+    }
+
+    /**
+     * Filters ground litter like grass, flowers and saplings (and the table itself) out of the hologram.
+     * Leaf blocks are kept - they're important for visualizing trees.
+     */
+    public static boolean isFiltered(BlockState blockState) {
+        Block block = blockState.getBlock();
+        return block == ModBlocks.HOLOGRAM_TABLE
+            || block == Blocks.SHORT_GRASS || block == Blocks.TALL_GRASS
+            || block == Blocks.FERN || block == Blocks.LARGE_FERN
+            || block == Blocks.VINE
+            || block == Blocks.DANDELION || block == Blocks.POPPY
+            || block == Blocks.BLUE_ORCHID || block == Blocks.ALLIUM
+            || block == Blocks.AZURE_BLUET || block == Blocks.RED_TULIP
+            || block == Blocks.ORANGE_TULIP || block == Blocks.WHITE_TULIP
+            || block == Blocks.PINK_TULIP || block == Blocks.OXEYE_DAISY
+            || block == Blocks.CORNFLOWER || block == Blocks.LILY_OF_THE_VALLEY
+            || block == Blocks.WITHER_ROSE || block == Blocks.SUNFLOWER
+            || block == Blocks.LILAC || block == Blocks.ROSE_BUSH || block == Blocks.PEONY
+            || block == Blocks.DEAD_BUSH || blockState.isIn(BlockTags.SAPLINGS)
+            || block == Blocks.RED_MUSHROOM || block == Blocks.BROWN_MUSHROOM
+            || block == Blocks.AZALEA || block == Blocks.FLOWERING_AZALEA
+            || block == Blocks.SWEET_BERRY_BUSH
+            || block instanceof net.minecraft.block.LeafLitterBlock;
+    }
+
+    private static long columnKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static int columnX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int columnZ(long key) {
+        return (int) key;
+    }
+
+    private record ScanResult(int generation, boolean full, Map<Long, List<HologramTableBlockEntity.BlockEntry>> columns) {
+    }
+
+    /**
+     * Detached copy of one chunk's block states from the scan start upwards, plus its surface heightmap.
+     */
+    private static class ChunkSnapshot {
+        private final int bottomSectionY;
+        private final PalettedContainer<BlockState>[] sections;
+        private final int[] surfaceHeights = new int[256];
+
+        @SuppressWarnings("unchecked")
+        private ChunkSnapshot(int bottomSectionY, int sectionCount) {
+            this.bottomSectionY = bottomSectionY;
+            this.sections = new PalettedContainer[sectionCount];
+        }
+
+        static ChunkSnapshot capture(World world, int chunkX, int chunkZ, int scanStartY) {
+            if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                return new ChunkSnapshot(0, 0); // Unloaded chunks read as air, like getBlockState does
+            }
+            WorldChunk chunk = world.getChunk(chunkX, chunkZ);
+            int bottomSectionY = ChunkSectionPos.getSectionCoord(scanStartY);
+            int topSectionY = chunk.getTopSectionCoord();
+            ChunkSnapshot snapshot = new ChunkSnapshot(bottomSectionY, Math.max(0, topSectionY - bottomSectionY + 1));
+            for (int sectionY = bottomSectionY; sectionY <= topSectionY; sectionY++) {
+                ChunkSection section = chunk.getSection(chunk.sectionCoordToIndex(sectionY));
+                if (!section.isEmpty()) {
+                    snapshot.sections[sectionY - bottomSectionY] = section.getBlockStateContainer().copy();
+                }
+            }
+            Heightmap heightmap = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE);
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    snapshot.surfaceHeights[localX + localZ * 16] = heightmap.get(localX, localZ);
+                }
+            }
+            return snapshot;
+        }
+
+        BlockState getBlockState(int x, int y, int z) {
+            int index = ChunkSectionPos.getSectionCoord(y) - bottomSectionY;
+            if (index < 0 || index >= sections.length || sections[index] == null) {
+                return Blocks.AIR.getDefaultState();
+            }
+            return sections[index].get(x & 15, y & 15, z & 15);
+        }
+
+        /**
+         * One above the highest non-air block in the column.
+         */
+        int getSurfaceHeight(int x, int z) {
+            return sections.length == 0 ? Integer.MIN_VALUE : surfaceHeights[(x & 15) + (z & 15) * 16];
+        }
+    }
+
+    /**
+     * Runs the surface test against snapshots. Safe to use off the render thread.
+     */
+    private static class SurfaceScanner {
+        private final Map<Long, ChunkSnapshot> snapshots;
+        private final int minX, maxX, minZ, maxZ, scanStartY;
+
+        SurfaceScanner(Map<Long, ChunkSnapshot> snapshots, int minX, int maxX, int minZ, int maxZ, int scanStartY) {
+            this.snapshots = snapshots;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+            this.scanStartY = scanStartY;
+        }
+
+        List<HologramTableBlockEntity.BlockEntry> scanColumn(int x, int z) {
+            List<HologramTableBlockEntity.BlockEntry> entries = new ArrayList<>();
+            ChunkSnapshot chunk = snapshots.get(ChunkPos.toLong(x >> 4, z >> 4));
+            if (chunk == null) {
+                return entries;
+            }
+            // Nothing above the heightmap but air
+            int topY = chunk.getSurfaceHeight(x, z) - 1;
+            for (int y = scanStartY; y <= topY; y++) {
+                BlockState state = chunk.getBlockState(x, y, z);
+                if (state.isAir() || isFiltered(state)) {
+                    continue;
+                }
+                if (isSurfaceBlock(x, y, z)) {
+                    entries.add(new HologramTableBlockEntity.BlockEntry(new BlockPos(x, y, z), state));
+                }
+            }
+            return entries;
+        }
+
+        /**
+         * A block is on the surface if it is exposed from the top or the sides (not from the bottom).
+         */
+        private boolean isSurfaceBlock(int x, int y, int z) {
+            if (isExposing(x, y + 1, z)) {
+                return true;
+            }
+            return isExposing(x + 1, y, z) || isExposing(x - 1, y, z)
+                || isExposing(x, y, z + 1) || isExposing(x, y, z - 1);
+        }
+
+        private boolean isExposing(int x, int y, int z) {
+            if (x < minX || x > maxX || z < minZ || z > maxZ) {
+                return true; // Outside bounds - consider as exposed (edge of area)
+            }
+            ChunkSnapshot chunk = snapshots.get(ChunkPos.toLong(x >> 4, z >> 4));
+            if (chunk == null) {
+                return true;
+            }
+            BlockState state = chunk.getBlockState(x, y, z);
+            return state.isAir() || isFiltered(state);
+        }
+    }
+}
@@ -16,6 +16,9 @@ import net.minecraft.util.math.RotationAxis;
 import net.minecraft.util.math.Vec3d;
 import starduster.circuitmod.block.entity.LaserMiningDrillBlockEntity;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Environment(EnvType.CLIENT)
 public class LaserMiningDrillBlockEntityRenderer implements BlockEntityRenderer<LaserMiningDrillBlockEntity> {
 
@@ -23,6 +26,30 @@ public class LaserMiningDrillBlockEntityRenderer implements BlockEntityRenderer<
     private static final Identifier LASER_BEAM_TEXTURE = Identifier.ofVanilla("textures/entity/end_crystal/end_crystal_beam.png");
     private static final RenderLayer LASER_BEAM_LAYER = RenderLayer.getEntitySmoothCutout(LASER_BEAM_TEXTURE);
 
+    private static final float BEAM_RADIUS = 0.25f; // Half block thickness
+    private static final float CORE_RADIUS = 0.1f;
+
+    private static final int[] BEAM_COLORS = {
+        0xFF0000, // Red
+        0x00FF00, // Green
+        0x0000FF, // Blue
+        0xFFFF00, // Yellow
+        0xFF00FF, // Magenta
+        0x00FFFF  // Cyan
+    };
+
+    // Level of detail: segments around the beam, by camera distance in blocks
+    private static final double[] LOD_DISTANCES = {16.0, 48.0, 128.0};
+    private static final int[] LOD_SEGMENTS = {24, 12, 6, 4};
+
+    // Unit circle tables per segment count so no trig runs per frame
+    private static final Map<Integer, float[]> UNIT_CIRCLES = new HashMap<>();
+    static {
+        for (int segments : LOD_SEGMENTS) {
+            UNIT_CIRCLES.put(segments, buildUnitCircle(segments));
+        }
+    }
+
     public LaserMiningDrillBlockEntityRenderer(BlockEntityRendererFactory.Context context) {
     }
 
@@ -87,26 +114,61 @@ public class LaserMiningDrillBlockEntityRenderer implements BlockEntityRenderer<
             }
         }
 
+        // Pick the level of detail from the camera's distance to the closest point on the beam
+        BlockPos origin = entity.getPos();
+        double cameraDistanceSq = squaredDistanceToSegment(
+            cameraPos.x - origin.getX(), cameraPos.y - origin.getY(), cameraPos.z - origin.getZ(),
+            startX, startY, startZ, endX, endY, endZ);
+
         // Render the thick cylindrical beam
         renderLaserBeam(
             startX, startY, startZ,
             endX, endY, endZ,
             entity.getWorld().getTime() + tickDelta, // Animation time
+            getSegmentCount(cameraDistanceSq),
             matrices,
-            vertexConsumers,
-            light
+            vertexConsumers
         );
     }
 
     /**
-     * Render a thick cylindrical laser beam between two points
+     * Picks the number of cylinder segments for the given squared camera distance.
+     */
+    private static int getSegmentCount(double cameraDistanceSq) {
+        for (int i = 0; i < LOD_DISTANCES.length; i++) {
+            if (cameraDistanceSq <= LOD_DISTANCES[i] * LOD_DISTANCES[i]) {
+                return LOD_SEGMENTS[i];
+            }
+        }
+        return LOD_SEGMENTS[LOD_SEGMENTS.length - 1];
+    }
+
+    /**
+     * Squared distance from a point to the segment between two points.
+     */
+    private static double squaredDistanceToSegment(double px, double py, double pz,
+                                                   float ax, float ay, float az,
+                                                   float bx, float by, float bz) {
+        double abx = bx - ax, aby = by - ay, abz = bz - az;
+        double lengthSq = abx * abx + aby * aby + abz * abz;
+        double t = lengthSq > 0 ? ((px - ax) * abx + (py - ay) * aby + (pz - az) * abz) / lengthSq : 0;
+        t = MathHelper.clamp(t, 0, 1);
+        double cx = ax + abx * t - px;
+        double cy = ay + aby * t - py;
+        double cz = az + abz * t - pz;
+        return cx * cx + cy * cy + cz * cz;
+    }
+
+    /**
+     * Render a thick cylindrical laser beam between two points as two nested quad cylinders:
+     * a faint coloured shell and a bright core
      */
     private void renderLaserBeam(float startX, float startY, float startZ,
                                  float endX, float endY, float endZ,
                                  float tickProgress,
+                                 int segments,
                                  MatrixStack matrices,
-                                 VertexConsumerProvider vertexConsumers,
-                                 int light) {
+                                 VertexConsumerProvider vertexConsumers) {
         
         // Calculate beam direction vector
         float dx = endX - startX;
@@ -136,96 +198,59 @@ public class LaserMiningDrillBlockEntityRenderer implements BlockEntityRenderer<
             matrices.multiply(RotationAxis.POSITIVE_X.rotation(pitch));
         }
         
-        // Get vertex consumer for the beam - use a render layer that's less affected by fog
+        // Lightning layer: emissive, additive, no fog-dependent lighting
         VertexConsumer vertexConsumer = vertexConsumers.getBuffer(RenderLayer.getLightning());
         
         // Color cycling animation (changes every 2 seconds)
-        int colorIndex = (int)(tickProgress / 40) % 6; // 40 ticks = 2 seconds (20 ticks per second)
-        int[] colors = {
-            0xFF0000, // Red
-            0x00FF00, // Green  
-            0x0000FF, // Blue
-            0xFFFF00, // Yellow
-            0xFF00FF, // Magenta
-            0x00FFFF  // Cyan
-        };
-        
-        int currentColor = colors[colorIndex];
+        int colorIndex = (int)(tickProgress / 40) % BEAM_COLORS.length; // 40 ticks = 2 seconds (20 ticks per second)
+        int currentColor = BEAM_COLORS[colorIndex];
         int r = (currentColor >> 16) & 0xFF;
         int g = (currentColor >> 8) & 0xFF;
         int b = currentColor & 0xFF;
         
         MatrixStack.Entry entry = matrices.peek();
+        float[] circle = UNIT_CIRCLES.get(segments);
         
-        // Create a thick cylindrical beam using multiple layers of lines
-        float beamRadius = 0.25f; // Half block thickness
-        int numLayers = 40; // Number of concentric circles (5x more)
-        int linesPerLayer = 80; // Lines per circle (5x more)
+        // Coloured shell fading to white at the far end, then a bright core
+        renderCylinder(vertexConsumer, entry, circle, BEAM_RADIUS, beamLength, r, g, b, 96, 255, 255, 255, 96);
+        renderCylinder(vertexConsumer, entry, circle, CORE_RADIUS, beamLength, r, g, b, 200, 255, 255, 255, 200);
         
-        for (int layer = 0; layer < numLayers; layer++) {
-            float currentRadius = (layer + 1) * (beamRadius / numLayers);
+        matrices.pop();
+    }
+
+    /**
+     * Emits the side quads of an open cylinder along +Z, coloured from the start colour to the end colour.
+     */
+    private static void renderCylinder(VertexConsumer consumer, MatrixStack.Entry entry, float[] circle,
+                                       float radius, float length,
+                                       int startR, int startG, int startB, int startA,
+                                       int endR, int endG, int endB, int endA) {
+        int segments = circle.length / 2;
+        for (int i = 0; i < segments; i++) {
+            int next = (i + 1) % segments;
+            float x1 = circle[i * 2] * radius;
+            float y1 = circle[i * 2 + 1] * radius;
+            float x2 = circle[next * 2] * radius;
+            float y2 = circle[next * 2 + 1] * radius;
             
-            for (int i = 0; i < linesPerLayer; i++) {
-                float angle = (i * 2 * (float)Math.PI) / linesPerLayer;
-                float nextAngle = ((i + 1) * 2 * (float)Math.PI) / linesPerLayer;
-                
-                // Calculate points on the circle
-                float x1 = MathHelper.cos(angle) * currentRadius;
-                float y1 = MathHelper.sin(angle) * currentRadius;
-                float x2 = MathHelper.cos(nextAngle) * currentRadius;
-                float y2 = MathHelper.sin(nextAngle) * currentRadius;
-                
-                // Draw lines from start to end of the beam with full brightness
-                vertexConsumer.vertex(entry, x1, y1, 0.0f)
-                    .color(r, g, b, 255) // Current cycling color
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness (15,15,15,15)
-                vertexConsumer.vertex(entry, x1, y1, beamLength)
-                    .color(255, 255, 255, 255) // White at the end
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness (15,15,15,15)
-                
-                // Draw connecting lines around the circle with full brightness
-                vertexConsumer.vertex(entry, x1, y1, 0.0f)
-                    .color(r, g, b, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-                vertexConsumer.vertex(entry, x2, y2, 0.0f)
-                    .color(r, g, b, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-                
-                vertexConsumer.vertex(entry, x1, y1, beamLength)
-                    .color(255, 255, 255, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-                vertexConsumer.vertex(entry, x2, y2, beamLength)
-                    .color(255, 255, 255, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-            }
+            consumer.vertex(entry, x1, y1, 0.0f).color(startR, startG, startB, startA);
+            consumer.vertex(entry, x2, y2, 0.0f).color(startR, startG, startB, startA);
+            consumer.vertex(entry, x2, y2, length).color(endR, endG, endB, endA);
+            consumer.vertex(entry, x1, y1, length).color(endR, endG, endB, endA);
         }
-        
-        // Add some cross-sectional lines for more density
-        for (int i = 0; i < 20; i++) { // 5x more cross-sections
-            float z = (i + 1) * (beamLength / 21);
-            for (int j = 0; j < 40; j++) { // 5x more lines per cross-section
-                float angle = (j * 2 * (float)Math.PI) / 40;
-                float x = MathHelper.cos(angle) * beamRadius;
-                float y = MathHelper.sin(angle) * beamRadius;
-                
-                vertexConsumer.vertex(entry, x, y, z)
-                    .color(r, g, b, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-                vertexConsumer.vertex(entry, -x, -y, z)
-                    .color(r, g, b, 255)
-                    .normal(entry, 0.0f, 0.0f, 1.0f)
-                    .light(15728880); // Full brightness
-            }
+    }
+
+    /**
+     * Precomputes cos/sin pairs for a circle with the given number of segments.
+     */
+    private static float[] buildUnitCircle(int segments) {
+        float[] circle = new float[segments * 2];
+        for (int i = 0; i < segments; i++) {
+            double angle = (i * 2 * Math.PI) / segments;
+            circle[i * 2] = (float) Math.cos(angle);
+            circle[i * 2 + 1] = (float) Math.sin(angle);
         }
-        
-        matrices.pop();
+        return circle;
     }
 
     @Override
@@ -6,6 +6,7 @@ import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.recipebook.ClientRecipeBook;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.stat.StatHandler;
+import starduster.circuitmod.util.DiagnosticLog;
 
 /**
  * Custom client player entity that uses CustomPlayerInventory.
@@ -17,7 +18,7 @@ public class CustomClientPlayerEntity extends ClientPlayerEntity {
         super(client, world, networkHandler, stats, recipeBook, lastSneaking, lastSprinting);
         // Note: The inventory is already created in PlayerEntity constructor before this runs
         // We need to use a mixin to replace it at creation time
-        System.out.println("[CircuitMod] CustomClientPlayerEntity created");
+        DiagnosticLog.PLAYER.debug("[CircuitMod] CustomClientPlayerEntity created");
     }
     
     /**
@@ -1,14 +1,21 @@
 package starduster.circuitmod.mixin.client;
 
 
+import net.minecraft.block.BlockState;
 import net.minecraft.client.world.ClientWorld;
 
+import net.minecraft.util.math.BlockPos;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import starduster.circuitmod.client.render.HologramSurfaceIndex;
 
 
 /**
  * Mixin to override client player entity creation.
  * This ensures that our CustomClientPlayerEntity is used instead of the regular ClientPlayerEntity.
+ * Also forwards server block updates to the hologram surface index so only changed columns are rescanned.
  */
 @Mixin(ClientWorld.class)
 public class ClientWorldMixin {
@@ -21,4 +28,12 @@ public class ClientWorldMixin {
  //       System.out.println("[CircuitMod] ClientWorldMixin creating CustomClientPlayerEntity");
  //       return new CustomClientPlayerEntity(client, world, networkHandler, stats, recipeBook, lastSneaking, lastSprinting);
  //   }
+
+    /**
+     * Marks hologram columns dirty whenever the server changes a block.
+     */
+    @Inject(method = "handleBlockUpdate", at = @At("TAIL"))
+    private void circuitmod$onBlockUpdate(BlockPos pos, BlockState state, int flags, CallbackInfo ci) {
+        HologramSurfaceIndex.onBlockUpdate(pos);
+    }
 }
@@ -16,6 +16,8 @@ import starduster.circuitmod.screen.DrillScreen;
 import starduster.circuitmod.screen.LaserMiningDrillScreen;
 
 import starduster.circuitmod.block.entity.ConstructorBlockEntity;
+import starduster.circuitmod.network.ISyncedMachine;
+import starduster.circuitmod.util.DiagnosticLog;
 import net.minecraft.item.ItemStack;
 import java.util.Map;
 import java.util.List;
@@ -27,37 +29,6 @@ public class ClientNetworking {
      */
     public static void initialize() {
 
-        // Register handler for quarry mining progress updates
-        ClientPlayNetworking.registerGlobalReceiver(ModNetworking.QuarryMiningProgressPayload.ID, (payload, context) -> {
-            // Extract data from the payload
-            int miningProgress = payload.miningProgress();
-            var miningPos = payload.miningPos();
-            var quarryPos = payload.quarryPos();
-            
-            // Process on the game thread
-            context.client().execute(() -> {
-                // If the player's world is loaded
-                if (context.client().world != null) {
-                    // Try to get the quarry block entity at the position
-                    if (context.client().world.getBlockEntity(quarryPos) instanceof QuarryBlockEntity quarry) {
-                        
-                        // Update the mining progress and position directly
-                        quarry.setMiningProgressFromNetwork(miningProgress, miningPos);
-                        
-                        Circuitmod.LOGGER.info("[CLIENT] Received quarry mining progress update: " + miningProgress + "% at " + miningPos + " for quarry at " + quarryPos);
-                    }
-                    // Also try to get the drill block entity at the position
-                    else if (context.client().world.getBlockEntity(quarryPos) instanceof starduster.circuitmod.block.entity.DrillBlockEntity drill) {
-                        
-                        // Update the mining progress and position directly
-                        drill.setMiningProgressFromNetwork(miningProgress, miningPos);
-                        
-                        Circuitmod.LOGGER.info("[CLIENT] Received drill mining progress update: " + miningProgress + "% at " + miningPos + " for drill at " + quarryPos);
-                    }
-                }
-            });
-        });
-        
         // Register handler for mining enabled status updates
         ClientPlayNetworking.registerGlobalReceiver(ModNetworking.MiningEnabledStatusPayload.ID, (payload, context) -> {
             // Extract data from the payload
@@ -72,13 +43,13 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(machinePos) instanceof QuarryBlockEntity quarry) {
                         // Update the mining enabled state directly
                         quarry.setMiningEnabledFromNetwork(enabled);
-                        Circuitmod.LOGGER.info("[CLIENT] Updated mining enabled status: " + enabled);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Updated mining enabled status: {}", enabled);
                     }
                     // Also try to get the drill block entity at the position
                     else if (context.client().world.getBlockEntity(machinePos) instanceof starduster.circuitmod.block.entity.DrillBlockEntity drill) {
                         // Update the mining enabled state directly
                         drill.setMiningEnabledFromNetwork(enabled);
-                        Circuitmod.LOGGER.info("[CLIENT] Updated drill mining enabled status: " + enabled);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Updated drill mining enabled status: {}", enabled);
                     }
                 }
                 
@@ -87,11 +58,11 @@ public class ClientNetworking {
                 if (client.player != null && client.player.currentScreenHandler instanceof QuarryScreenHandler handler) {
                     // Update the property delegate through the new method
                     handler.updateMiningEnabledFromNetwork(enabled);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated QuarryScreenHandler mining enabled property to: {}", enabled);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated QuarryScreenHandler mining enabled property to: {}", enabled);
                 } else if (client.player != null && client.player.currentScreenHandler instanceof DrillScreenHandler handler) {
                     // Update the property delegate through the new method
                     handler.updateMiningEnabledFromNetwork(enabled);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated DrillScreenHandler mining enabled property to: {}", enabled);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated DrillScreenHandler mining enabled property to: {}", enabled);
                 }
             });
         });
@@ -111,7 +82,7 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(quarryPos) instanceof QuarryBlockEntity quarry) {
                         // Update the mining dimensions directly
                         quarry.setMiningDimensionsFromNetwork(width, length);
-                        Circuitmod.LOGGER.info("[CLIENT] Received quarry dimensions sync: {}x{} for quarry at {}", width, length, quarryPos);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Received quarry dimensions sync: {}x{} for quarry at {}", width, length, quarryPos);
                     }
                 }
                 
@@ -119,27 +90,7 @@ public class ClientNetworking {
                 MinecraftClient client = MinecraftClient.getInstance();
                 if (client.currentScreen instanceof QuarryScreen quarryScreen) {
                     quarryScreen.updateTextFields(width, length);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated quarry screen text fields with dimensions: {}x{}", width, length);
-                }
-            });
-        });
-        
-        // Register handler for drill mining progress updates
-        ClientPlayNetworking.registerGlobalReceiver(ModNetworking.DrillMiningProgressPayload.ID, (payload, context) -> {
-            // Extract data from the payload
-            int miningProgress = payload.miningProgress();
-            var miningPos = payload.miningPos();
-            
-            // Process on the game thread
-            context.client().execute(() -> {
-                // If the player's world is loaded
-                if (context.client().world != null) {
-                    // Try to get the drill block entity at the position
-                    if (context.client().world.getBlockEntity(miningPos) instanceof DrillBlockEntity drill) {
-                        // Update the mining progress and position directly
-                        drill.setMiningProgressFromNetwork(miningProgress, miningPos);
-                        Circuitmod.LOGGER.info("[CLIENT] Received drill mining progress update: {}% at {}", miningProgress, miningPos);
-                    }
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated quarry screen text fields with dimensions: {}x{}", width, length);
                 }
             });
         });
@@ -156,7 +107,7 @@ public class ClientNetworking {
                 if (client.player != null && client.player.currentScreenHandler instanceof DrillScreenHandler handler) {
                     // Update the property delegate through the new method
                     handler.updateMiningEnabledFromNetwork(enabled);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated DrillScreenHandler mining enabled property to: {}", enabled);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated DrillScreenHandler mining enabled property to: {}", enabled);
                 }
             });
         });
@@ -183,7 +134,7 @@ public class ClientNetworking {
                                     if (context.client().world.getBlockEntity(pos) instanceof DrillBlockEntity drill) {
                                         // Update the mining dimensions directly
                                         drill.setMiningDimensionsFromNetwork(height, width);
-                                        Circuitmod.LOGGER.info("[CLIENT] Received drill dimensions sync: {}x{} for drill at {}", height, width, pos);
+                                        DiagnosticLog.NETWORK.debug("[CLIENT] Received drill dimensions sync: {}x{} for drill at {}", height, width, pos);
                                         return;
                                     }
                                 }
@@ -196,7 +147,7 @@ public class ClientNetworking {
                 MinecraftClient client = MinecraftClient.getInstance();
                 if (client.currentScreen instanceof DrillScreen drillScreen) {
                     drillScreen.updateTextFields(height, width);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated drill screen text fields with dimensions: {}x{}", height, width);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated drill screen text fields with dimensions: {}x{}", height, width);
                 }
             });
         });
@@ -215,9 +166,9 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(drillPos) instanceof LaserMiningDrillBlockEntity laserDrill) {
                         // Update the mining depth directly
                         laserDrill.setMiningDepthFromNetwork(depth);
-                        Circuitmod.LOGGER.info("[CLIENT] Received laser mining drill depth sync: {} for drill at {}", depth, drillPos);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Received laser mining drill depth sync: {} for drill at {}", depth, drillPos);
                     } else {
-                        Circuitmod.LOGGER.warn("[CLIENT] Could not find laser mining drill at position: {}", drillPos);
+                        DiagnosticLog.NETWORK.warn("[CLIENT] Could not find laser mining drill at position: {}", drillPos);
                     }
                 }
                 
@@ -225,7 +176,7 @@ public class ClientNetworking {
                 MinecraftClient client = MinecraftClient.getInstance();
                 if (client.currentScreen instanceof LaserMiningDrillScreen laserDrillScreen) {
                     laserDrillScreen.updateDepthField(depth);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated laser mining drill screen depth field with depth: {}", depth);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated laser mining drill screen depth field with depth: {}", depth);
                 }
             });
         });
@@ -243,7 +194,7 @@ public class ClientNetworking {
             context.client().execute(() -> {
                 // Use server timing for perfect synchronization with actual transfers
                 ClientNetworkAnimator.addAnimation(stack, from, to, serverStartTick, durationTicks);
-                Circuitmod.LOGGER.info("[CLIENT] Received item move animation: {} from {} to {} (server start: {})", 
+                DiagnosticLog.NETWORK.debug("[CLIENT] Received item move animation: {} from {} to {} (server start: {})", 
                     stack.getItem().getName().getString(), from, to, serverStartTick);
             });
         });
@@ -260,7 +211,7 @@ public class ClientNetworking {
             context.client().execute(() -> {
                 // Use server timing for perfect synchronization with actual transfers
                 ClientNetworkAnimator.addContinuousPathAnimation(stack, path, serverStartTick, durationTicks);
-                Circuitmod.LOGGER.info("[CLIENT] Received continuous path animation: {} with {} waypoints (server start: {})", 
+                DiagnosticLog.NETWORK.debug("[CLIENT] Received continuous path animation: {} with {} waypoints (server start: {})", 
                     stack.getItem().getName().getString(), path.size(), serverStartTick);
             });
         });
@@ -280,7 +231,7 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(constructorPos) instanceof ConstructorBlockEntity constructor) {
                         // Update the building status directly
                         constructor.setBuildingStatusFromNetwork(building, hasBlueprint);
-                        Circuitmod.LOGGER.info("[CLIENT] Updated constructor building status: building={}, hasBlueprint={}", building, hasBlueprint);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Updated constructor building status: building={}, hasBlueprint={}", building, hasBlueprint);
                     }
                 }
                 
@@ -289,7 +240,7 @@ public class ClientNetworking {
                 if (client.player != null && client.player.currentScreenHandler instanceof ConstructorScreenHandler handler) {
                     // Update the property delegate through the new method
                     handler.updateBuildingStatusFromNetwork(building, hasBlueprint);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated ConstructorScreenHandler building status: building={}, hasBlueprint={}", building, hasBlueprint);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated ConstructorScreenHandler building status: building={}, hasBlueprint={}", building, hasBlueprint);
                 }
             });
         });
@@ -308,7 +259,7 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(constructorPos) instanceof ConstructorBlockEntity constructor) {
                         // Update the power status directly
                         constructor.setPowerStatusFromNetwork(hasPower);
-                        Circuitmod.LOGGER.info("[CLIENT] Updated constructor power status: hasPower={}", hasPower);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Updated constructor power status: hasPower={}", hasPower);
                     }
                 }
                 
@@ -317,7 +268,7 @@ public class ClientNetworking {
                 if (client.player != null && client.player.currentScreenHandler instanceof ConstructorScreenHandler handler) {
                     // Update the property delegate through the new method
                     handler.updatePowerStatusFromNetwork(hasPower);
-                    Circuitmod.LOGGER.info("[CLIENT] Updated ConstructorScreenHandler power status: hasPower={}", hasPower);
+                    DiagnosticLog.NETWORK.debug("[CLIENT] Updated ConstructorScreenHandler power status: hasPower={}", hasPower);
                 }
             });
         });
@@ -336,7 +287,7 @@ public class ClientNetworking {
                     if (context.client().world.getBlockEntity(constructorPos) instanceof ConstructorBlockEntity constructor) {
                         // Update the status message directly
                         constructor.setStatusMessageFromNetwork(message);
-                        Circuitmod.LOGGER.info("[CLIENT] Updated constructor status message: {}", message);
+                        DiagnosticLog.NETWORK.debug("[CLIENT] Updated constructor status message: {}", message);
                     }
                 }
             });
@@ -354,7 +305,7 @@ public class ClientNetworking {
             // Process on the game thread
             context.client().execute(() -> {
                 starduster.circuitmod.screen.ConstructorScreenHandler.updateMaterialsFromServer(constructorPos, required, available);
-                Circuitmod.LOGGER.info("[CLIENT] Updated ConstructorScreenHandler materials from server for {}: required={}, available={}", constructorPos, required, available);
+                DiagnosticLog.NETWORK.debug("[CLIENT] Updated ConstructorScreenHandler materials from server for {}: required={}, available={}", constructorPos, required, available);
             });
         });
         
@@ -372,7 +323,7 @@ public class ClientNetworking {
                         constructor.setBuildPositionsFromNetwork(buildPositions);
                     }
                 }
-                Circuitmod.LOGGER.info("[CLIENT] Updated constructor build positions from server for {}: {} positions", constructorPos, buildPositions.size());
+                DiagnosticLog.NETWORK.debug("[CLIENT] Updated constructor build positions from server for {}: {} positions", constructorPos, buildPositions.size());
             });
         });
         
@@ -393,16 +344,79 @@ public class ClientNetworking {
                 }
             });
         });
+        
+        // Register handler for coalesced machine state changes
+        ClientPlayNetworking.registerGlobalReceiver(ModNetworking.MachineStateSyncPayload.ID, (payload, context) -> {
+            List<ModNetworking.MachineDelta> deltas = payload.deltas();
+            
+            // Process on the game thread
+            context.client().execute(() -> {
+                if (context.client().world == null) {
+                    return;
+                }
+                for (ModNetworking.MachineDelta delta : deltas) {
+                    if (context.client().world.getBlockEntity(delta.machinePos()) instanceof ISyncedMachine machine) {
+                        machine.applySyncedFields(delta.changedMask(), delta.values());
+                        updateOpenMachineScreen(context.client(), machine, delta.changedMask(), delta.values());
+                    }
+                }
+            });
+        });
 
     }
     
+    /**
+     * Pushes synced machine state into the open screen, if it belongs to that machine
+     */
+    private static void updateOpenMachineScreen(MinecraftClient client, ISyncedMachine machine, int changedMask, long[] values) {
+        if (client.player == null) {
+            return;
+        }
+        if (machine instanceof QuarryBlockEntity quarry) {
+            if (client.player.currentScreenHandler instanceof QuarryScreenHandler handler && handler.getBlockPos().equals(quarry.getPos())) {
+                if ((changedMask & (1 << QuarryBlockEntity.SYNC_MINING_ENABLED)) != 0) {
+                    handler.updateMiningEnabledFromNetwork(quarry.isMiningEnabled());
+                }
+                if ((changedMask & ((1 << QuarryBlockEntity.SYNC_MINING_WIDTH) | (1 << QuarryBlockEntity.SYNC_MINING_LENGTH))) != 0
+                    && client.currentScreen instanceof QuarryScreen quarryScreen) {
+                    quarryScreen.updateTextFields(quarry.getMiningWidth(), quarry.getMiningLength());
+                }
+            }
+        } else if (machine instanceof DrillBlockEntity drill) {
+            if (client.player.currentScreenHandler instanceof DrillScreenHandler handler && handler.getBlockPos().equals(drill.getPos())) {
+                if ((changedMask & (1 << DrillBlockEntity.SYNC_MINING_ENABLED)) != 0) {
+                    handler.updateMiningEnabledFromNetwork(drill.isMiningEnabled());
+                }
+                if ((changedMask & ((1 << DrillBlockEntity.SYNC_MINING_HEIGHT) | (1 << DrillBlockEntity.SYNC_MINING_WIDTH))) != 0
+                    && client.currentScreen instanceof DrillScreen drillScreen) {
+                    drillScreen.updateTextFields(drill.getMiningHeight(), drill.getMiningWidth());
+                }
+            }
+        } else if (machine instanceof LaserMiningDrillBlockEntity laserDrill) {
+            if ((changedMask & (1 << LaserMiningDrillBlockEntity.SYNC_MINING_DEPTH)) != 0
+                && client.currentScreen instanceof LaserMiningDrillScreen laserDrillScreen
+                && laserDrillScreen.getScreenHandler().getBlockPos().equals(laserDrill.getPos())) {
+                laserDrillScreen.updateDepthField(laserDrill.getMiningDepth());
+            }
+        } else if (machine instanceof ConstructorBlockEntity constructor) {
+            if (client.player.currentScreenHandler instanceof ConstructorScreenHandler handler && handler.getBlockPos().equals(constructor.getPos())) {
+                if ((changedMask & ((1 << ConstructorBlockEntity.SYNC_BUILDING) | (1 << ConstructorBlockEntity.SYNC_HAS_BLUEPRINT))) != 0) {
+                    handler.updateBuildingStatusFromNetwork(constructor.isBuilding(), constructor.hasBlueprint());
+                }
+                if ((changedMask & (1 << ConstructorBlockEntity.SYNC_POWERED)) != 0) {
+                    handler.updatePowerStatusFromNetwork(values[ConstructorBlockEntity.SYNC_POWERED] != 0);
+                }
+            }
+        }
+    }
+    
     /**
      * Send a toggle mining request to the server
      * 
      * @param machinePos The position of the machine to toggle
      */
     public static void sendToggleMiningRequest(BlockPos machinePos) {
-        Circuitmod.LOGGER.info("[CLIENT] sendToggleMiningRequest called with position: {}", machinePos);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendToggleMiningRequest called with position: {}", machinePos);
         
         if (machinePos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send toggle request for invalid position (0,0,0)!");
@@ -412,7 +426,7 @@ public class ClientNetworking {
         try {
             ModNetworking.ToggleMiningPayload payload = new ModNetworking.ToggleMiningPayload(machinePos);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent toggle mining request for machine at {}", machinePos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent toggle mining request for machine at {}", machinePos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send toggle mining request: {}", e.getMessage(), e);
         }
@@ -424,7 +438,7 @@ public class ClientNetworking {
      * @param xpGeneratorPos The position of the XP Generator
      */
     public static void sendCollectXpRequest(BlockPos xpGeneratorPos) {
-        Circuitmod.LOGGER.info("[CLIENT] sendCollectXpRequest called with position: {}", xpGeneratorPos);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendCollectXpRequest called with position: {}", xpGeneratorPos);
         
         if (xpGeneratorPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send collect XP request for invalid position (0,0,0)!");
@@ -434,7 +448,7 @@ public class ClientNetworking {
         try {
             ModNetworking.CollectXpPayload payload = new ModNetworking.CollectXpPayload(xpGeneratorPos);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent collect XP request for XP Generator at {}", xpGeneratorPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent collect XP request for XP Generator at {}", xpGeneratorPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send collect XP request: {}", e.getMessage(), e);
         }
@@ -448,7 +462,7 @@ public class ClientNetworking {
      * @param length The length of the mining area
      */
     public static void sendQuarryDimensions(BlockPos quarryPos, int width, int length) {
-        Circuitmod.LOGGER.info("[CLIENT] sendQuarryDimensions called with position: {}, width: {}, length: {}", quarryPos, width, length);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendQuarryDimensions called with position: {}, width: {}, length: {}", quarryPos, width, length);
         
         if (quarryPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send dimensions for invalid position (0,0,0)!");
@@ -458,7 +472,7 @@ public class ClientNetworking {
         try {
             ModNetworking.QuarryDimensionsPayload payload = new ModNetworking.QuarryDimensionsPayload(quarryPos, width, length);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent quarry dimensions for quarry at {}", quarryPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent quarry dimensions for quarry at {}", quarryPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send quarry dimensions: {}", e.getMessage(), e);
         }
@@ -472,7 +486,7 @@ public class ClientNetworking {
      * @param width The width of the mining area
      */
     public static void sendDrillDimensions(BlockPos drillPos, int height, int width) {
-        Circuitmod.LOGGER.info("[CLIENT] sendDrillDimensions called with position: {}, height: {}, width: {}", drillPos, height, width);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendDrillDimensions called with position: {}, height: {}, width: {}", drillPos, height, width);
         
         if (drillPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send dimensions for invalid position (0,0,0)!");
@@ -482,7 +496,7 @@ public class ClientNetworking {
         try {
             ModNetworking.DrillDimensionsPayload payload = new ModNetworking.DrillDimensionsPayload(drillPos, height, width);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent drill dimensions for drill at {}", drillPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent drill dimensions for drill at {}", drillPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send drill dimensions: {}", e.getMessage(), e);
         }
@@ -495,7 +509,7 @@ public class ClientNetworking {
      * @param depth The depth of the mining line
      */
     public static void sendDrillDepth(BlockPos drillPos, int depth) {
-        Circuitmod.LOGGER.info("[CLIENT] sendDrillDepth called with position: {}, depth: {}", drillPos, depth);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendDrillDepth called with position: {}, depth: {}", drillPos, depth);
         
         if (drillPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send depth for invalid position (0,0,0)!");
@@ -505,7 +519,7 @@ public class ClientNetworking {
         try {
             ModNetworking.LaserDrillDepthPayload payload = new ModNetworking.LaserDrillDepthPayload(drillPos, depth);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent laser mining drill depth for drill at {}", drillPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent laser mining drill depth for drill at {}", drillPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send laser mining drill depth: {}", e.getMessage(), e);
         }
@@ -523,7 +537,7 @@ public class ClientNetworking {
         try {
             ModNetworking.HologramAreaPayload payload = new ModNetworking.HologramAreaPayload(tablePos, minX, maxX, minZ, maxZ, minY, reset);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Sent hologram area update for {} (reset={}): X[{},{}] Z[{},{}] minY={}", tablePos, reset, minX, maxX, minZ, maxZ, minY);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Sent hologram area update for {} (reset={}): X[{},{}] Z[{},{}] minY={}", tablePos, reset, minX, maxX, minZ, maxZ, minY);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send hologram area update: {}", e.getMessage(), e);
         }
@@ -535,7 +549,7 @@ public class ClientNetworking {
      * @param quarryPos The position of the quarry
      */
     public static void sendQuarryResetHeight(BlockPos quarryPos) {
-        Circuitmod.LOGGER.info("[CLIENT] sendQuarryResetHeight called with position: {}", quarryPos);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendQuarryResetHeight called with position: {}", quarryPos);
         
         if (quarryPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send reset height for invalid position (0,0,0)!");
@@ -545,7 +559,7 @@ public class ClientNetworking {
         try {
             ModNetworking.QuarryResetHeightPayload payload = new ModNetworking.QuarryResetHeightPayload(quarryPos);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent quarry reset height request for quarry at {}", quarryPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent quarry reset height request for quarry at {}", quarryPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send quarry reset height request: {}", e.getMessage(), e);
         }
@@ -557,7 +571,7 @@ public class ClientNetworking {
      * @param constructorPos The position of the constructor
      */
     public static void sendConstructorBuildingToggle(BlockPos constructorPos) {
-        Circuitmod.LOGGER.info("[CLIENT] sendConstructorBuildingToggle called with position: {}", constructorPos);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendConstructorBuildingToggle called with position: {}", constructorPos);
         
         if (constructorPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send toggle request for invalid position (0,0,0)!");
@@ -567,7 +581,7 @@ public class ClientNetworking {
         try {
             ModNetworking.ConstructorBuildingPayload payload = new ModNetworking.ConstructorBuildingPayload(constructorPos);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent constructor building toggle for constructor at {}", constructorPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent constructor building toggle for constructor at {}", constructorPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send constructor building toggle: {}", e.getMessage(), e);
         }
@@ -577,7 +591,7 @@ public class ClientNetworking {
      * Send constructor transform (offset/rotation) update to the server
      */
     public static void sendConstructorTransform(BlockPos constructorPos, int forwardOffset, int rightOffset, int upOffset, int rotation) {
-        Circuitmod.LOGGER.info("[CLIENT] sendConstructorTransform called with position: {} off({},{},{}) rot:{}", constructorPos, forwardOffset, rightOffset, upOffset, rotation);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendConstructorTransform called with position: {} off({},{},{}) rot:{}", constructorPos, forwardOffset, rightOffset, upOffset, rotation);
 
         if (constructorPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send transform for invalid position (0,0,0)!");
@@ -587,44 +601,25 @@ public class ClientNetworking {
         try {
             ModNetworking.ConstructorTransformPayload payload = new ModNetworking.ConstructorTransformPayload(constructorPos, forwardOffset, rightOffset, upOffset, rotation);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent constructor transform update for constructor at {}", constructorPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent constructor transform update for constructor at {}", constructorPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send constructor transform update: {}", e.getMessage(), e);
         }
     }
     
     /**
-     * Send hovercraft input to the server
-     * 
-     * @param entityId The ID of the hovercraft entity
-     * @param forward Whether the forward key is pressed
-     * @param backward Whether the backward key is pressed
-     * @param left Whether the left key is pressed
-     * @param right Whether the right key is pressed
-     * @param up Whether the up key is pressed
-     * @param down Whether the down key is pressed
-     */
-    public static void sendHovercraftInput(int entityId, boolean forward, boolean backward, boolean left, boolean right, boolean up, boolean down, boolean boost) {
-        try {
-            ModNetworking.HovercraftInputPayload payload = new ModNetworking.HovercraftInputPayload(entityId, forward, backward, left, right, up, down, boost);
-            ClientPlayNetworking.send(payload);
-        } catch (Exception e) {
-            Circuitmod.LOGGER.error("[CLIENT] Failed to send hovercraft input: {}", e.getMessage(), e);
-        }
-    }
-    
-    /**
-     * Send rocket spacebar input to the server
+     * Send packed vehicle input to the server
      * 
-     * @param entityId The ID of the rocket entity
-     * @param spacePressed Whether the spacebar is pressed
+     * @param entityId The ID of the vehicle entity
+     * @param sequence Wrapping sequence number, so the server can drop stale input
+     * @param flags The pressed keys, packed with {@link starduster.circuitmod.network.VehicleInput#pack}
      */
-    public static void sendRocketSpacebarInput(int entityId, boolean spacePressed) {
+    public static void sendVehicleInput(int entityId, byte sequence, int flags) {
         try {
-            ModNetworking.RocketSpacebarInputPayload payload = new ModNetworking.RocketSpacebarInputPayload(entityId, spacePressed);
+            ModNetworking.VehicleInputPayload payload = new ModNetworking.VehicleInputPayload(entityId, sequence, (byte) flags);
             ClientPlayNetworking.send(payload);
         } catch (Exception e) {
-            Circuitmod.LOGGER.error("[CLIENT] Failed to send rocket spacebar input: {}", e.getMessage(), e);
+            Circuitmod.LOGGER.error("[CLIENT] Failed to send vehicle input: {}", e.getMessage(), e);
         }
     }
     
@@ -637,7 +632,7 @@ public class ClientNetworking {
      * @param targetZ Target Z coordinate
      */
     public static void sendMissileControlUpdate(BlockPos controlBlockPos, int targetX, int targetY, int targetZ) {
-        Circuitmod.LOGGER.info("[CLIENT] sendMissileControlUpdate called with position: {}, target: ({}, {}, {})", controlBlockPos, targetX, targetY, targetZ);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendMissileControlUpdate called with position: {}, target: ({}, {}, {})", controlBlockPos, targetX, targetY, targetZ);
         
         if (controlBlockPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send missile control update for invalid position (0,0,0)!");
@@ -647,7 +642,7 @@ public class ClientNetworking {
         try {
             ModNetworking.MissileControlUpdatePayload payload = new ModNetworking.MissileControlUpdatePayload(controlBlockPos, targetX, targetY, targetZ);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent missile control update for control block at {}", controlBlockPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent missile control update for control block at {}", controlBlockPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send missile control update: {}", e.getMessage(), e);
         }
@@ -659,7 +654,7 @@ public class ClientNetworking {
      * @param controlBlockPos The position of the missile control block
      */
     public static void sendMissileFireCommand(BlockPos controlBlockPos) {
-        Circuitmod.LOGGER.info("[CLIENT] sendMissileFireCommand called with position: {}", controlBlockPos);
+        DiagnosticLog.NETWORK.debug("[CLIENT] sendMissileFireCommand called with position: {}", controlBlockPos);
         
         if (controlBlockPos.equals(BlockPos.ORIGIN)) {
             Circuitmod.LOGGER.error("[CLIENT] Refusing to send missile fire command for invalid position (0,0,0)!");
@@ -669,7 +664,7 @@ public class ClientNetworking {
         try {
             ModNetworking.MissileFirePayload payload = new ModNetworking.MissileFirePayload(controlBlockPos);
             ClientPlayNetworking.send(payload);
-            Circuitmod.LOGGER.info("[CLIENT] Successfully sent missile fire command for control block at {}", controlBlockPos);
+            DiagnosticLog.NETWORK.debug("[CLIENT] Successfully sent missile fire command for control block at {}", controlBlockPos);
         } catch (Exception e) {
             Circuitmod.LOGGER.error("[CLIENT] Failed to send missile fire command: {}", e.getMessage(), e);
         }
@@ -0,0 +1,307 @@
+package starduster.circuitmod.gametest;
+
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.HorizontalFacingBlock;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.Registries;
+import net.minecraft.test.TestContext;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import starduster.circuitmod.block.ModBlocks;
+import starduster.circuitmod.block.entity.BatteryBlockEntity;
+import starduster.circuitmod.block.entity.CreativeConsumerBlockEntity;
+import starduster.circuitmod.block.entity.NukeBlockEntity;
+import starduster.circuitmod.block.entity.PowerCableBlockEntity;
+import starduster.circuitmod.block.entity.QuarryBlockEntity;
+import starduster.circuitmod.block.entity.ReactorBlockBlockEntity;
+import starduster.circuitmod.block.entity.SortingPipeBlockEntity;
+import starduster.circuitmod.item.ModItems;
+import starduster.circuitmod.power.EnergyNetwork;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Stress scenarios that build a representative factory in an empty arena, run it on the test server and
+ * check both that it works and that the server keeps up.
+ * <p>
+ * Run them with {@code ./gradlew runGameTest}. Tick budgets are loose on purpose: they catch changes that
+ * make a scenario several times slower, not noise between machines. The logged mean and p99 are the
+ * baselines to compare against.
+ */
+public class StressScenarios {
+    private static final String ARENA = "circuitmod:gametest/stress_arena";
+
+    // Energy grid: a 20x20x13 block of 5,200 cables with reactors, batteries and consumers on top
+    private static final int GRID_MIN = 2;
+    private static final int GRID_SIDE = 20;
+    private static final int GRID_HEIGHT = 13;
+    private static final int GRID_WARMUP_TICKS = 60;
+    private static final int GRID_RUN_TICKS = 200;
+
+    // Pipe manifold: 25 sorting pipes, each with two filtered branches ending in a barrel
+    private static final int MANIFOLD_PIPES = 25;
+    private static final int MANIFOLD_START_X = 10;
+    private static final int MANIFOLD_Y = 4;
+    private static final int MANIFOLD_Z = 24;
+    private static final int ITEMS_PER_BARREL = 4;
+    private static final int MANIFOLD_RUN_TICKS = 900;
+
+    // Quarry field: 20 quarries, each fed by its own generator, over a 3x3 stone column
+    private static final int QUARRY_COLUMNS = 5;
+    private static final int QUARRY_ROWS = 4;
+    private static final int QUARRY_Y = 22;
+    private static final int QUARRY_AREA = 3;
+    private static final int QUARRY_WARMUP_TICKS = 20;
+    private static final int QUARRY_RUN_TICKS = 100;
+
+    // Nuke: a radius 8 blast in a solid block of stone
+    private static final BlockPos NUKE_POS = new BlockPos(24, 10, 24);
+    private static final int NUKE_RADIUS = 8;
+    private static final int NUKE_RUN_TICKS = 300;
+
+    @GameTest(structure = ARENA, environment = "circuitmod:energy_grid", maxTicks = 400)
+    public void energyGrid(TestContext context) {
+        int max = GRID_MIN + GRID_SIDE - 1;
+        for (int x = GRID_MIN; x <= max; x++) {
+            for (int y = 1; y <= GRID_HEIGHT; y++) {
+                for (int z = GRID_MIN; z <= max; z++) {
+                    context.setBlockState(new BlockPos(x, y, z), ModBlocks.POWER_CABLE.getDefaultState());
+                }
+            }
+        }
+
+        // Machines sit on the top face of the cable block
+        int top = GRID_HEIGHT + 1;
+        List<BlockPos> reactors = List.of(
+            new BlockPos(GRID_MIN, top, GRID_MIN), new BlockPos(max, top, GRID_MIN),
+            new BlockPos(GRID_MIN, top, max), new BlockPos(max, top, max));
+        List<BlockPos> batteries = List.of(
+            new BlockPos(GRID_MIN + 1, top, 11), new BlockPos(max, top, 11),
+            new BlockPos(11, top, GRID_MIN + 1), new BlockPos(11, top, max));
+        List<BlockPos> consumers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                consumers.add(new BlockPos(5 + i * 4, top, 5 + j * 4));
+            }
+        }
+
+        for (BlockPos pos : reactors) {
+            context.setBlockState(pos, ModBlocks.REACTOR_BLOCK.getDefaultState());
+            blockEntity(context, pos, ReactorBlockBlockEntity.class).setStack(0, new ItemStack(ModItems.FUEL_ROD, 9));
+        }
+        for (BlockPos pos : batteries) {
+            context.setBlockState(pos, ModBlocks.BATTERY.getDefaultState());
+        }
+        for (BlockPos pos : consumers) {
+            context.setBlockState(pos, ModBlocks.CREATIVE_CONSUMER.getDefaultState());
+        }
+
+        TickTimes times = TickTimes.start(GRID_WARMUP_TICKS);
+        context.waitAndRun(GRID_WARMUP_TICKS + GRID_RUN_TICKS, () -> {
+            EnergyNetwork network = blockEntity(context, new BlockPos(GRID_MIN, 1, GRID_MIN), PowerCableBlockEntity.class).getNetwork();
+            EnergyNetwork farCorner = blockEntity(context, new BlockPos(max, GRID_HEIGHT, max), PowerCableBlockEntity.class).getNetwork();
+            int cables = GRID_SIDE * GRID_SIDE * GRID_HEIGHT;
+            context.assertTrue(network != null && network == farCorner,
+                Text.literal("Opposite corners of the cable block are not on the same network"));
+            context.assertTrue(network.getSize() >= cables,
+                Text.literal("Network has " + network.getSize() + " members, expected at least " + cables));
+
+            for (BlockPos pos : consumers) {
+                CreativeConsumerBlockEntity consumer = blockEntity(context, pos, CreativeConsumerBlockEntity.class);
+                context.assertTrue(consumer.getLastReceivedEnergy() > 0,
+                    Text.literal("Consumer at " + pos + " received no energy"));
+            }
+
+            int stored = 0;
+            for (BlockPos pos : batteries) {
+                stored += blockEntity(context, pos, BatteryBlockEntity.class).getStoredEnergy();
+            }
+            context.assertTrue(stored > 0, Text.literal("Reactor surplus did not charge any battery"));
+
+            times.assertWithin(context, "energy grid", 20.0, 50.0);
+            context.complete();
+        });
+    }
+
+    @GameTest(structure = ARENA, environment = "circuitmod:pipe_manifold", maxTicks = 1200)
+    public void pipeManifold(TestContext context) {
+        List<Item> kinds = Registries.ITEM.stream()
+            .filter(item -> item != Items.AIR && item.getMaxCount() == 64)
+            .limit(MANIFOLD_PIPES * 2L)
+            .toList();
+
+        // Each manifold pipe sends one kind down and one kind sideways. Branches of neighbouring pipes
+        // point different ways so they never touch and items cannot hop between them.
+        List<BlockPos> barrels = new ArrayList<>();
+        for (int i = 0; i < MANIFOLD_PIPES; i++) {
+            BlockPos pipePos = new BlockPos(MANIFOLD_START_X + i, MANIFOLD_Y, MANIFOLD_Z);
+            context.setBlockState(pipePos, ModBlocks.SORTING_PIPE.getDefaultState());
+            Direction vertical = i % 2 == 0 ? Direction.DOWN : Direction.UP;
+            Direction horizontal = i % 2 == 0 ? Direction.NORTH : Direction.SOUTH;
+
+            SortingPipeBlockEntity pipe = blockEntity(context, pipePos, SortingPipeBlockEntity.class);
+            Direction[] branches = {vertical, horizontal};
+            for (int b = 0; b < branches.length; b++) {
+                Direction branch = branches[b];
+                pipe.setFilterStack(filterSlot(branch), new ItemStack(kinds.get(i * 2 + b)));
+                context.setBlockState(pipePos.offset(branch), ModBlocks.ITEM_PIPE.getDefaultState());
+                BlockPos barrelPos = pipePos.offset(branch, 2);
+                context.setBlockState(barrelPos, Blocks.BARREL.getDefaultState());
+                barrels.add(barrelPos);
+            }
+        }
+
+        Queue<ItemStack> feed = new ArrayDeque<>();
+        for (int round = 0; round < ITEMS_PER_BARREL; round++) {
+            for (Item kind : kinds) {
+                feed.add(new ItemStack(kind));
+            }
+        }
+
+        // Drop the next item into the first pipe whenever it is free, as if it came from the west
+        BlockPos inletPos = new BlockPos(MANIFOLD_START_X, MANIFOLD_Y, MANIFOLD_Z);
+        for (int tick = 1; tick < MANIFOLD_RUN_TICKS; tick++) {
+            context.waitAndRun(tick, () -> {
+                SortingPipeBlockEntity inlet = blockEntity(context, inletPos, SortingPipeBlockEntity.class);
+                if (!feed.isEmpty() && inlet.isEmpty()) {
+                    inlet.setLastInputDirection(Direction.WEST);
+                    inlet.setStack(0, feed.poll());
+                }
+            });
+        }
+
+        TickTimes times = TickTimes.start(0);
+        context.waitAndRun(MANIFOLD_RUN_TICKS, () -> {
+            context.assertTrue(feed.isEmpty(), Text.literal(feed.size() + " items were never accepted by the manifold"));
+            for (int i = 0; i < barrels.size(); i++) {
+                Item expected = kinds.get(i);
+                Inventory barrel = blockEntity(context, barrels.get(i), Inventory.class);
+                int count = 0;
+                for (int slot = 0; slot < barrel.size(); slot++) {
+                    ItemStack stack = barrel.getStack(slot);
+                    if (stack.isEmpty()) {
+                        continue;
+                    }
+                    context.assertTrue(stack.isOf(expected), Text.literal("Barrel " + i + " received "
+                        + stack.getItem() + " but only accepts " + expected));
+                    count += stack.getCount();
+                }
+                context.assertTrue(count == ITEMS_PER_BARREL, Text.literal("Barrel " + i + " holds " + count
+                    + " items, expected " + ITEMS_PER_BARREL));
+            }
+
+            times.assertWithin(context, "pipe manifold", 15.0, 40.0);
+            context.complete();
+        });
+    }
+
+    @GameTest(structure = ARENA, environment = "circuitmod:quarry_field", maxTicks = 300)
+    public void quarryField(TestContext context) {
+        List<BlockPos> quarries = new ArrayList<>();
+        for (int column = 0; column < QUARRY_COLUMNS; column++) {
+            for (int row = 0; row < QUARRY_ROWS; row++) {
+                BlockPos quarryPos = new BlockPos(3 + column * 8, QUARRY_Y, 2 + row * 8);
+                context.setBlockState(quarryPos, ModBlocks.QUARRY_BLOCK.getDefaultState()
+                    .with(HorizontalFacingBlock.FACING, Direction.NORTH));
+                context.setBlockState(quarryPos.east(), ModBlocks.POWER_CABLE.getDefaultState());
+                context.setBlockState(quarryPos.east(2), ModBlocks.MEGA_CREATIVE_GENERATOR.getDefaultState());
+
+                QuarryBlockEntity quarry = blockEntity(context, quarryPos, QuarryBlockEntity.class);
+                quarry.setMiningDimensions(QUARRY_AREA, QUARRY_AREA);
+
+                // Fill the mining area with stone from the quarry's level down to the arena floor
+                BlockPos absolute = context.getAbsolutePos(quarryPos);
+                int[] bounds = quarry.getMiningAreaBounds();
+                for (int x = bounds[0]; x <= bounds[1]; x++) {
+                    for (int z = bounds[2]; z <= bounds[3]; z++) {
+                        for (int y = 0; y <= QUARRY_Y; y++) {
+                            BlockPos relative = quarryPos.add(x - absolute.getX(), y - QUARRY_Y, z - absolute.getZ());
+                            context.setBlockState(relative, Blocks.STONE.getDefaultState());
+                        }
+                    }
+                }
+
+                quarry.setMiningEnabled(true);
+                quarries.add(quarryPos);
+            }
+        }
+
+        TickTimes times = TickTimes.start(QUARRY_WARMUP_TICKS);
+        context.waitAndRun(QUARRY_WARMUP_TICKS + QUARRY_RUN_TICKS, () -> {
+            for (BlockPos pos : quarries) {
+                QuarryBlockEntity quarry = blockEntity(context, pos, QuarryBlockEntity.class);
+                context.assertTrue(quarry.isMiningEnabled() && !quarry.isEmpty(),
+                    Text.literal("Quarry at " + pos + " has not mined anything"));
+            }
+
+            times.assertWithin(context, "quarry field", 20.0, 50.0);
+            context.complete();
+        });
+    }
+
+    @GameTest(structure = ARENA, environment = "circuitmod:nuke", maxTicks = 400)
+    public void nukeDetonation(TestContext context) {
+        int extent = NUKE_RADIUS + 1;
+        for (int x = -extent; x <= extent; x++) {
+            for (int y = -extent; y <= extent; y++) {
+                for (int z = -extent; z <= extent; z++) {
+                    context.setBlockState(NUKE_POS.add(x, y, z), Blocks.STONE.getDefaultState());
+                }
+            }
+        }
+        context.setBlockState(NUKE_POS, ModBlocks.NUKE.getDefaultState());
+
+        NukeBlockEntity nuke = blockEntity(context, NUKE_POS, NukeBlockEntity.class);
+        nuke.setExplosionRadius(NUKE_RADIUS);
+        nuke.setVegetationRadius(NUKE_RADIUS + 1);
+        nuke.prime();
+
+        // Priming is only a countdown; the blast starts once it runs out
+        TickTimes times = TickTimes.start(nuke.getTotalDetonationTime());
+        context.waitAndRun(NUKE_RUN_TICKS, () -> {
+            context.assertTrue(context.getBlockState(NUKE_POS).isAir(), Text.literal("Nuke did not finish detonating"));
+
+            // Fire may land on the crater floor, so only the inner ball has to be clear
+            int clearRadius = NUKE_RADIUS - 2;
+            for (int x = -clearRadius; x <= clearRadius; x++) {
+                for (int y = -clearRadius; y <= clearRadius; y++) {
+                    for (int z = -clearRadius; z <= clearRadius; z++) {
+                        if (x * x + y * y + z * z > clearRadius * clearRadius) {
+                            continue;
+                        }
+                        BlockPos pos = NUKE_POS.add(x, y, z);
+                        context.assertTrue(context.getBlockState(pos).isAir(), Text.literal("Block at " + pos + " survived the blast"));
+                    }
+                }
+            }
+
+            times.assertWithin(context, "nuke detonation", 30.0, 150.0);
+            context.complete();
+        });
+    }
+
+    private static int filterSlot(Direction direction) {
+        Direction[] order = SortingPipeBlockEntity.DIRECTION_ORDER;
+        for (int slot = 0; slot < order.length; slot++) {
+            if (order[slot] == direction) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("No filter slot for " + direction);
+    }
+
+    private static <T> T blockEntity(TestContext context, BlockPos relativePos, Class<T> type) {
+        BlockEntity blockEntity = context.getWorld().getBlockEntity(context.getAbsolutePos(relativePos));
+        context.assertTrue(type.isInstance(blockEntity), Text.literal("Expected a " + type.getSimpleName() + " at " + relativePos));
+        return type.cast(blockEntity);
+    }
+}
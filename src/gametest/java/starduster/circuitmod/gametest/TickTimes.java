@@ -0,0 +1,86 @@
+package starduster.circuitmod.gametest;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.test.TestContext;
+import net.minecraft.text.Text;
+import starduster.circuitmod.Circuitmod;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the length of every server tick while a scenario is running.
+ * <p>
+ * Each scenario runs in its own test environment, and so in its own batch, which means the recorded ticks
+ * only contain that scenario's machines.
+ */
+final class TickTimes {
+    private static final List<TickTimes> RECORDING = new CopyOnWriteArrayList<>();
+    private static boolean registered = false;
+    private static long tickStart;
+
+    private int ticksToSkip;
+    private long[] samples = new long[256];
+    private int count = 0;
+
+    private TickTimes(int warmupTicks) {
+        this.ticksToSkip = warmupTicks;
+    }
+
+    /**
+     * Starts recording once {@code warmupTicks} ticks have passed, so that building the scenario and
+     * forming its networks are left out.
+     */
+    static TickTimes start(int warmupTicks) {
+        if (!registered) {
+            registered = true;
+            ServerTickEvents.START_SERVER_TICK.register(server -> tickStart = System.nanoTime());
+            ServerTickEvents.END_SERVER_TICK.register(server -> {
+                long duration = System.nanoTime() - tickStart;
+                for (TickTimes times : RECORDING) {
+                    times.add(duration);
+                }
+            });
+        }
+        TickTimes times = new TickTimes(warmupTicks);
+        RECORDING.add(times);
+        return times;
+    }
+
+    private void add(long duration) {
+        if (ticksToSkip > 0) {
+            ticksToSkip--;
+            return;
+        }
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = duration;
+    }
+
+    /**
+     * Stops recording, logs the baseline and fails the test when the mean or p99 tick time is over budget.
+     */
+    void assertWithin(TestContext context, String scenario, double maxMeanMillis, double maxP99Millis) {
+        RECORDING.remove(this);
+        context.assertTrue(count > 0, Text.literal(scenario + ": no ticks were recorded"));
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        double meanMillis = total / (double) count / 1_000_000.0;
+        double p99Millis = sorted[(int) Math.ceil(count * 0.99) - 1] / 1_000_000.0;
+
+        Circuitmod.LOGGER.info("[GAMETEST] {}: {} ticks, mean {} ms, p99 {} ms",
+            scenario, count, String.format("%.2f", meanMillis), String.format("%.2f", p99Millis));
+
+        context.assertTrue(meanMillis <= maxMeanMillis, Text.literal(String.format(
+            "%s: mean tick %.2f ms is over the %.2f ms budget", scenario, meanMillis, maxMeanMillis)));
+        context.assertTrue(p99Millis <= maxP99Millis, Text.literal(String.format(
+            "%s: p99 tick %.2f ms is over the %.2f ms budget", scenario, p99Millis, maxP99Millis)));
+    }
+}
@@ -0,0 +1,94 @@
+package starduster.circuitmod.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.StairsBlock;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import starduster.circuitmod.blueprint.Blueprint;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building, saving and loading {@link Blueprint}s of synthetic block volumes.
+ * <p>
+ * Block states need the vanilla registries, so setup bootstraps Minecraft the way its own unit tests do.
+ * No mod is loaded; only the blueprint classes run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlueprintBenchmark {
+    private static final int BLOCK_ENTITY_INTERVAL = 50; // One block in 50 carries block entity data
+
+    @Param({"1000", "10000", "100000"})
+    public int blocks;
+
+    private RegistryWrapper.WrapperLookup registries;
+    private BlockState[] palette;
+    private Blueprint blueprint;
+    private NbtCompound saved;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        registries = DynamicRegistryManager.of(Registries.REGISTRIES);
+        palette = new BlockState[]{
+            Blocks.STONE.getDefaultState(),
+            Blocks.OAK_PLANKS.getDefaultState(),
+            Blocks.GLASS.getDefaultState(),
+            Blocks.IRON_BLOCK.getDefaultState(),
+            Blocks.OAK_STAIRS.getDefaultState().with(StairsBlock.FACING, Direction.NORTH),
+            Blocks.OAK_STAIRS.getDefaultState().with(StairsBlock.FACING, Direction.EAST),
+            Blocks.CHEST.getDefaultState()
+        };
+        blueprint = build();
+        saved = blueprint.writeToNbt(registries);
+    }
+
+    @Benchmark
+    public Blueprint build() {
+        int side = SyntheticGrids.cubeSide(blocks);
+        Blueprint built = new Blueprint("bench", new BlockPos(side, side, side), BlockPos.ORIGIN);
+        int index = 0;
+        for (int y = 0; y < side && index < blocks; y++) {
+            for (int z = 0; z < side && index < blocks; z++) {
+                for (int x = 0; x < side && index < blocks; x++, index++) {
+                    NbtCompound blockEntityData = null;
+                    if (index % BLOCK_ENTITY_INTERVAL == 0) {
+                        blockEntityData = new NbtCompound();
+                        blockEntityData.putString("id", "minecraft:chest");
+                        blockEntityData.putInt("bench_index", index);
+                    }
+                    built.addBlock(new BlockPos(x, y, z), palette[index % palette.length], blockEntityData);
+                }
+            }
+        }
+        return built;
+    }
+
+    @Benchmark
+    public NbtCompound writeToNbt() {
+        return blueprint.writeToNbt(registries);
+    }
+
+    @Benchmark
+    public Blueprint readFromNbt() {
+        return Blueprint.readFromNbt(saved, registries);
+    }
+}
@@ -0,0 +1,54 @@
+package starduster.circuitmod.benchmark;
+
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import starduster.circuitmod.power.EnergyNetwork;
+import starduster.circuitmod.power.IPowerConnectable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EnergyNetwork#tick()} and {@link EnergyNetwork#rebuild} on synthetic cable grids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnergyNetworkBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int nodes;
+
+    private Map<BlockPos, IPowerConnectable> grid;
+    private EnergyNetwork network;
+
+    @Setup
+    public void setup() {
+        // Keep the network out of the global manager, which needs a running server
+        EnergyNetwork.setStartupMode(true);
+        grid = SyntheticGrids.energyGrid(nodes);
+        network = new EnergyNetwork("NET-BENCH");
+        network.rebuild(grid::get, BlockPos.ORIGIN);
+        if (network.getSize() != nodes) {
+            throw new IllegalStateException("Synthetic grid is not connected: " + network.getSize() + "/" + nodes);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        network.tick();
+        return network.getLastTickEnergyConsumed();
+    }
+
+    @Benchmark
+    public Set<BlockPos> rebuild() {
+        return network.rebuild(grid::get, BlockPos.ORIGIN);
+    }
+}
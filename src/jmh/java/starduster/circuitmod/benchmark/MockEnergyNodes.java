@@ -0,0 +1,151 @@
+package starduster.circuitmod.benchmark;
+
+import net.minecraft.util.math.Direction;
+import starduster.circuitmod.power.EnergyNetwork;
+import starduster.circuitmod.power.IEnergyConsumer;
+import starduster.circuitmod.power.IEnergyProducer;
+import starduster.circuitmod.power.IEnergyStorage;
+import starduster.circuitmod.power.IPowerConnectable;
+
+/**
+ * Plain-object network members for benchmarks. They connect on every side and keep just enough state for
+ * {@link EnergyNetwork#tick()} to do real work: producers have a fixed output, consumers a fixed demand and
+ * batteries a charge level.
+ */
+final class MockEnergyNodes {
+    private static final Direction[] ALL_SIDES = Direction.values();
+
+    private MockEnergyNodes() {
+    }
+
+    static class Cable implements IPowerConnectable {
+        private EnergyNetwork network;
+
+        @Override
+        public boolean canConnectPower(Direction side) {
+            return true;
+        }
+
+        @Override
+        public EnergyNetwork getNetwork() {
+            return network;
+        }
+
+        @Override
+        public void setNetwork(EnergyNetwork network) {
+            this.network = network;
+        }
+    }
+
+    static class Producer extends Cable implements IEnergyProducer {
+        private final int output;
+
+        Producer(int output) {
+            this.output = output;
+        }
+
+        @Override
+        public int produceEnergy(int maxRequested) {
+            return Math.min(maxRequested, output);
+        }
+
+        @Override
+        public int getMaxOutput() {
+            return output;
+        }
+
+        @Override
+        public Direction[] getOutputSides() {
+            return ALL_SIDES;
+        }
+    }
+
+    static class Consumer extends Cable implements IEnergyConsumer {
+        private final int demand;
+
+        Consumer(int demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public int consumeEnergy(int energyOffered) {
+            return Math.min(energyOffered, demand);
+        }
+
+        @Override
+        public int getEnergyDemand() {
+            return demand;
+        }
+
+        @Override
+        public Direction[] getInputSides() {
+            return ALL_SIDES;
+        }
+    }
+
+    static class Battery extends Cable implements IEnergyStorage {
+        private final int capacity;
+        private final int rate;
+        private int stored;
+
+        Battery(int capacity, int rate) {
+            this.capacity = capacity;
+            this.rate = rate;
+            this.stored = capacity / 2;
+        }
+
+        @Override
+        public int chargeEnergy(int energyToCharge) {
+            int charged = Math.min(energyToCharge, capacity - stored);
+            stored += charged;
+            return charged;
+        }
+
+        @Override
+        public int dischargeEnergy(int energyRequested) {
+            int drawn = Math.min(energyRequested, stored);
+            stored -= drawn;
+            return drawn;
+        }
+
+        @Override
+        public int getMaxChargeRate() {
+            return rate;
+        }
+
+        @Override
+        public int getMaxDischargeRate() {
+            return rate;
+        }
+
+        @Override
+        public int getStoredEnergy() {
+            return stored;
+        }
+
+        @Override
+        public int getMaxCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public boolean canCharge() {
+            return stored < capacity;
+        }
+
+        @Override
+        public boolean canDischarge() {
+            return stored > 0;
+        }
+
+        @Override
+        public Direction[] getInputSides() {
+            return ALL_SIDES;
+        }
+
+        @Override
+        public Direction[] getOutputSides() {
+            return ALL_SIDES;
+        }
+    }
+}
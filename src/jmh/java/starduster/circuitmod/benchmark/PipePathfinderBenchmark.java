@@ -0,0 +1,69 @@
+package starduster.circuitmod.benchmark;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import starduster.circuitmod.item.network.PipePathfinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-hop route search pipes run ({@link PipePathfinder}) on synthetic pipe mazes. Each invocation
+ * scores all six directions from the next of a fixed set of start pipes, as a pipe does for every item it
+ * moves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PipePathfinderBenchmark {
+    private static final int START_COUNT = 256;
+
+    @Param({"1000", "10000", "100000"})
+    public int pipes;
+
+    private PipePathfinder.Maze maze;
+    private BlockPos[] starts;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Map<BlockPos, PipePathfinder.Cell> cells = SyntheticGrids.pipeMaze(pipes, 42L);
+        maze = pos -> cells.getOrDefault(pos, PipePathfinder.Cell.BLOCKED);
+
+        List<BlockPos> emptyPipes = new ArrayList<>();
+        for (Map.Entry<BlockPos, PipePathfinder.Cell> entry : cells.entrySet()) {
+            if (entry.getValue() == PipePathfinder.Cell.EMPTY_PIPE) {
+                emptyPipes.add(entry.getKey());
+            }
+        }
+        Random random = new Random(7L);
+        starts = new BlockPos[START_COUNT];
+        for (int i = 0; i < START_COUNT; i++) {
+            starts[i] = emptyPipes.get(random.nextInt(emptyPipes.size()));
+        }
+    }
+
+    @Benchmark
+    public int route() {
+        BlockPos pos = starts[next];
+        next = (next + 1) % START_COUNT;
+
+        int bestScore = -1;
+        for (Direction direction : Direction.values()) {
+            PipePathfinder.PathResult result = PipePathfinder.evaluate(maze, pos.offset(direction), direction);
+            bestScore = Math.max(bestScore, result.score);
+        }
+        return bestScore;
+    }
+}
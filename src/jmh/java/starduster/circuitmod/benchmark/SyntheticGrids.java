@@ -0,0 +1,127 @@
+package starduster.circuitmod.benchmark;
+
+import net.minecraft.util.math.BlockPos;
+import starduster.circuitmod.item.network.PipePathfinder;
+import starduster.circuitmod.power.IPowerConnectable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generators for the synthetic layouts the benchmarks run on.
+ */
+final class SyntheticGrids {
+    private SyntheticGrids() {
+    }
+
+    /**
+     * Side of the smallest cube holding {@code count} cells.
+     */
+    static int cubeSide(int count) {
+        int side = (int) Math.ceil(Math.cbrt(count));
+        while (side * side * side < count) {
+            side++;
+        }
+        return side;
+    }
+
+    /**
+     * A connected block of {@code count} network members filling a cube layer by layer, starting at the
+     * origin. Roughly one in ten members is a consumer, one in a hundred a producer and one in two hundred
+     * a battery; the rest are cables. Supply and demand are balanced so ticks take both the surplus and
+     * the deficit paths depending on battery state.
+     */
+    static Map<BlockPos, IPowerConnectable> energyGrid(int count) {
+        int side = cubeSide(count);
+        Map<BlockPos, IPowerConnectable> grid = new HashMap<>(count * 2);
+        int index = 0;
+        for (int y = 0; y < side && index < count; y++) {
+            for (int z = 0; z < side && index < count; z++) {
+                for (int x = 0; x < side && index < count; x++, index++) {
+                    IPowerConnectable node;
+                    if (index % 100 == 0) {
+                        node = new MockEnergyNodes.Producer(200);
+                    } else if (index % 200 == 7) {
+                        node = new MockEnergyNodes.Battery(100_000, 500);
+                    } else if (index % 10 == 5) {
+                        node = new MockEnergyNodes.Consumer(20);
+                    } else {
+                        node = new MockEnergyNodes.Cable();
+                    }
+                    grid.put(new BlockPos(x, y, z), node);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * A flat maze of roughly {@code pipes} pipes with no loops, carved by a seeded depth-first walk. Every
+     * dead end holds an inventory, alternately with and without space, and about one pipe in thirteen is
+     * holding an item.
+     */
+    static Map<BlockPos, PipePathfinder.Cell> pipeMaze(int pipes, long seed) {
+        int cells = (int) Math.ceil(Math.sqrt(pipes / 2.0));
+        int width = cells * 2 - 1;
+        boolean[] carved = new boolean[width * width];
+        Random random = new Random(seed);
+        int[][] steps = {{2, 0}, {-2, 0}, {0, 2}, {0, -2}};
+
+        ArrayDeque<int[]> stack = new ArrayDeque<>();
+        carved[0] = true;
+        stack.push(new int[]{0, 0});
+        int[] order = {0, 1, 2, 3};
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            boolean moved = false;
+            for (int k : order) {
+                int nx = cell[0] + steps[k][0];
+                int nz = cell[1] + steps[k][1];
+                if (nx < 0 || nz < 0 || nx >= width || nz >= width || carved[nz * width + nx]) {
+                    continue;
+                }
+                carved[(cell[1] + nz) / 2 * width + (cell[0] + nx) / 2] = true; // The wall between
+                carved[nz * width + nx] = true;
+                stack.push(new int[]{nx, nz});
+                moved = true;
+                break;
+            }
+            if (!moved) {
+                stack.pop();
+            }
+        }
+
+        Map<BlockPos, PipePathfinder.Cell> maze = new HashMap<>(width * width);
+        int deadEnds = 0;
+        int index = 0;
+        for (int z = 0; z < width; z++) {
+            for (int x = 0; x < width; x++) {
+                if (!carved[z * width + x]) {
+                    continue;
+                }
+                int open = 0;
+                if (x > 0 && carved[z * width + x - 1]) open++;
+                if (x < width - 1 && carved[z * width + x + 1]) open++;
+                if (z > 0 && carved[(z - 1) * width + x]) open++;
+                if (z < width - 1 && carved[(z + 1) * width + x]) open++;
+
+                PipePathfinder.Cell cell;
+                if (open == 1) {
+                    cell = deadEnds++ % 2 == 0 ? PipePathfinder.Cell.INVENTORY_WITH_SPACE : PipePathfinder.Cell.FULL_INVENTORY;
+                } else {
+                    cell = index++ % 13 == 0 ? PipePathfinder.Cell.BUSY_PIPE : PipePathfinder.Cell.EMPTY_PIPE;
+                }
+                maze.put(new BlockPos(x, 0, z), cell);
+            }
+        }
+        return maze;
+    }
+}
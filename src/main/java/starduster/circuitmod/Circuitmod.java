@@ -6,7 +6,6 @@ import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.fabricmc.fabric.api.registry.FuelRegistryEvents;
 import net.fabricmc.fabric.api.registry.StrippableBlockRegistry;
-import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -22,7 +21,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
-import starduster.circuitmod.advancement.TorchPlacementCriterion;
 import starduster.circuitmod.item.ModItems;
 import starduster.circuitmod.block.ModBlocks;
 import starduster.circuitmod.block.entity.ModBlockEntities;
@@ -49,10 +47,6 @@ public class Circuitmod implements ModInitializer {
 	// That way, it's clear which mod wrote info, warnings, and errors.
 	public static final Logger LOGGER = LoggerFactory.getLogger("circuitmod");
 	public static final String MOD_ID = "circuitmod";
-	
-
-	// Custom criterion for torch placement advancement
-	public static final TorchPlacementCriterion TORCH_PLACED_IN_LUNA = net.minecraft.advancement.criterion.Criteria.register("circuitmod/torch_placed_luna", new TorchPlacementCriterion());
 
 	@Override
 	public void onInitialize() {
@@ -81,15 +75,25 @@ public class Circuitmod implements ModInitializer {
 		starduster.circuitmod.entity.ModEntities.initialize();
 		ModScreenHandlers.initialize();
 		ModNetworking.initialize();
+		starduster.circuitmod.network.MachineStateSync.initialize();
+		starduster.circuitmod.network.VehicleInput.initialize();
 		ModItemTags.initialize();
 		ModBlockTags.initialize();
+		starduster.circuitmod.luna.VacuumReplacements.initialize();
+		starduster.circuitmod.luna.LunaAtmosphere.initialize();
+		starduster.circuitmod.luna.PressurizedRooms.initialize();
 		ModToolMaterials.initialize();
 		starduster.circuitmod.item.ModArmorMaterials.initialize();
 		ModRecipes.initialize();
+		starduster.circuitmod.recipe.RecipeLookupCache.initialize();
 		ModSounds.initialize();
+		starduster.circuitmod.advancement.ModCriteria.initialize();
 		starduster.circuitmod.effect.ModStatusEffects.initialize();
 		starduster.circuitmod.item.PulseStickHandler.initialize();
 		starduster.circuitmod.power.EnergyNetworkTickHandler.initialize();
+		starduster.circuitmod.entity.damage.ElectricHazardField.initialize();
+		starduster.circuitmod.block.entity.ElectricCarpetField.initialize();
+		starduster.circuitmod.util.MachineSleepScheduler.initialize();
 		// starduster.circuitmod.worldgen.ModBiomes.initialize();
 		ModCreativeTabs.initialize();
         CircuitmodRegistries.initialize();
@@ -253,49 +257,6 @@ public class Circuitmod implements ModInitializer {
 		
 		
 		
-		// Register rocket spacebar input handler
-		ServerPlayNetworking.registerGlobalReceiver(ModNetworking.RocketSpacebarInputPayload.ID, (payload, context) -> {
-			int entityId = payload.entityId();
-			boolean spacePressed = payload.spacePressed();
-			context.server().execute(() -> {
-				// Find the rocket entity by ID
-				Entity entity = context.player().getWorld().getEntityById(entityId);
-				if (entity instanceof starduster.circuitmod.entity.RocketEntity rocket) {
-					rocket.setSpacePressed(spacePressed);
-					LOGGER.info("[SERVER] Rocket spacebar input: {} for entity {}", spacePressed, entityId);
-				}
-			});
-		});
-		
-		// Register hovercraft input handler
-		ServerPlayNetworking.registerGlobalReceiver(ModNetworking.HovercraftInputPayload.ID, (payload, context) -> {
-			int entityId = payload.entityId();
-			boolean forward = payload.forward();
-			boolean backward = payload.backward();
-			boolean left = payload.left();
-			boolean right = payload.right();
-			boolean up = payload.up();
-			boolean down = payload.down();
-			boolean boost = payload.boost();
-			context.server().execute(() -> {
-				// Find the hovercraft entity by ID
-				Entity entity = context.player().getWorld().getEntityById(entityId);
-				if (entity instanceof starduster.circuitmod.entity.HovercraftEntity hovercraft) {
-					// Verify the player is actually riding this hovercraft
-					if (hovercraft.hasPassenger(context.player())) {
-						hovercraft.setInputs(forward, backward, left, right, up, down, boost);
-						// Debug logging removed to prevent spam
-					} else {
-						LOGGER.warn("[SERVER] Player {} tried to send input for hovercraft {} but is not riding it", 
-							context.player().getName().getString(), entityId);
-					}
-				} else {
-					LOGGER.warn("[SERVER] Hovercraft entity {} not found for input from player {}", 
-						entityId, context.player().getName().getString());
-				}
-			});
-		});
-		
 		// Register hologram table area handler
 		ServerPlayNetworking.registerGlobalReceiver(ModNetworking.HologramAreaPayload.ID, (payload, context) -> {
 			var tablePos = payload.tablePos();
@@ -0,0 +1,12 @@
+package starduster.circuitmod.advancement;
+
+import net.minecraft.advancement.criterion.Criteria;
+import starduster.circuitmod.Circuitmod;
+
+public class ModCriteria {
+
+    // Custom criterion for torch placement advancement
+    public static final TorchPlacementCriterion TORCH_PLACED_IN_LUNA = Criteria.register("circuitmod/torch_placed_luna", new TorchPlacementCriterion());
+
+    public static void initialize() { Circuitmod.LOGGER.info("Registering mod criteria"); }
+}
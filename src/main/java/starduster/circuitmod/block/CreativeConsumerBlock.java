@@ -5,8 +5,6 @@ import net.minecraft.block.BlockRenderType;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.BlockWithEntity;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -18,7 +16,6 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.block.entity.CreativeConsumerBlockEntity;
-import starduster.circuitmod.block.entity.ModBlockEntities;
 import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.power.EnergyNetworkManager;
 import starduster.circuitmod.Circuitmod;
@@ -110,17 +107,11 @@ public class CreativeConsumerBlock extends BlockWithEntity {
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[CREATIVE-CONSUMER] Scheduled tick at {}, checking network connections", pos);
         }
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
-        return validateTicker(type, ModBlockEntities.CREATIVE_CONSUMER_BLOCK_ENTITY, CreativeConsumerBlockEntity::tick);
-    }
-
     @Override
     protected void onStateReplaced(BlockState state, ServerWorld world, BlockPos pos, boolean moved) {
         if (!moved) {
@@ -106,6 +106,16 @@ public final class ModBlocks {
                     .strength(3.0f, 5.0f)
     );
 
+    // Register oxygen vent block
+    public static final Block OXYGEN_VENT = register(
+            "oxygen_vent",
+            starduster.circuitmod.block.machines.OxygenVentBlock::new,
+            Block.Settings.create()
+                    .sounds(BlockSoundGroup.METAL)
+                    .requiresTool()
+                    .strength(3.0f, 6.0f)
+    );
+
     // Register bloomery block
     public static final Block BLOOMERY = register(
         "bloomery", 
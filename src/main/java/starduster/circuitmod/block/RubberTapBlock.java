@@ -9,6 +9,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemPlacementContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.state.StateManager;
 import net.minecraft.state.property.BooleanProperty;
 import net.minecraft.state.property.IntProperty;
@@ -29,6 +30,7 @@ import starduster.circuitmod.block.entity.BloomeryBlockEntity;
 import starduster.circuitmod.block.entity.ModBlockEntities;
 import starduster.circuitmod.block.entity.QuarryBlockEntity;
 import starduster.circuitmod.block.entity.RubberTapBlockEntity;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -98,6 +100,24 @@ public class RubberTapBlock extends BlockWithEntity implements BlockEntityProvid
         return attachedState.isSolidBlock(world, attachedPos);
     }
 
+    @Override
+    protected BlockState getStateForNeighborUpdate(
+        BlockState state,
+        WorldView world,
+        net.minecraft.world.tick.ScheduledTickView tickView,
+        BlockPos pos,
+        Direction direction,
+        BlockPos neighborPos,
+        BlockState neighborState,
+        net.minecraft.util.math.random.Random random
+    ) {
+        // The log behind the tap may have changed: wake the tap if it was idling
+        if (world instanceof ServerWorld serverWorld) {
+            MachineSleepScheduler.wake(serverWorld, pos);
+        }
+        return state;
+    }
+
     @Override
     protected void appendProperties(StateManager.Builder<Block, BlockState> builder) {
         builder.add(Properties.HORIZONTAL_FACING, FILL_LEVEL);
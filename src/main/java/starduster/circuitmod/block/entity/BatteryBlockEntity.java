@@ -15,13 +15,11 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.World;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
 
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyStorage;
-import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.BatteryScreenHandler;
 import starduster.circuitmod.screen.ModScreenHandlers;
 
@@ -38,7 +36,6 @@ public class BatteryBlockEntity extends BlockEntity implements IEnergyStorage, N
     private int maxDischargeRate = DEFAULT_MAX_DISCHARGE_RATE;
     private boolean canCharge = true;
     private boolean canDischarge = true;
-    private boolean needsNetworkRefresh = false;
     
     // Client-side state tracking (for GUI updates)
     private int clientStoredEnergy = 0;
@@ -188,7 +185,6 @@ public class BatteryBlockEntity extends BlockEntity implements IEnergyStorage, N
         this.maxDischargeRate = nbt.getInt("max_discharge_rate").orElse(DEFAULT_MAX_DISCHARGE_RATE);
         this.canCharge = nbt.getBoolean("can_charge").orElse(true);
         this.canDischarge = nbt.getBoolean("can_discharge").orElse(true);
-        this.needsNetworkRefresh = true;
         
         // Load network data
         if (nbt.contains("energy_network")) {
@@ -330,95 +326,6 @@ public class BatteryBlockEntity extends BlockEntity implements IEnergyStorage, N
         markDirty();
     }
     
-    /**
-     * Attempts to find and join a network from adjacent connectable blocks.
-     * Should be called when this battery's network connection might have changed.
-     */
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient) return;
-        
-        boolean foundNetwork = false;
-        
-        // Look for adjacent networks
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                
-                if (network != null && network != this.network) {
-                    // Found a network, join it
-                    if (this.network != null) {
-                        // Remove from old network first
-                        String oldNetworkId = this.network.getNetworkId();
-                        this.network.removeBlock(pos);
-                        Circuitmod.LOGGER.info("Battery at " + pos + " left network " + oldNetworkId);
-                    }
-                    
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    Circuitmod.LOGGER.info("Battery at " + pos + " joined existing network " + network.getNetworkId());
-                    break;
-                }
-            }
-        }
-        
-        // If no existing network was found, create a new one
-        if (!foundNetwork && (this.network == null)) {
-            Circuitmod.LOGGER.info("No existing network found for battery at " + pos + ", creating new network");
-            
-            // Create a new network
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            
-            // Try to add adjacent connectables to this new network
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    
-                    // Only add if it doesn't already have a network and can connect
-                    if (connectable.canConnectPower(dir.getOpposite()) && 
-                        this.canConnectPower(dir)) {
-                        
-                        newNetwork.addBlock(neighborPos, connectable);
-                        Circuitmod.LOGGER.info("Added neighbor at " + neighborPos + " to new network " + newNetwork.getNetworkId());
-                    }
-                }
-            }
-            
-            Circuitmod.LOGGER.info("Created new network " + newNetwork.getNetworkId() + " with battery at " + pos);
-        }
-    }
-
-    // Add network handling logic to the tick method
-    public static void tick(World world, BlockPos pos, BlockState state, BatteryBlockEntity entity) {
-        if (entity.needsNetworkRefresh) {
-            entity.findAndJoinNetwork();
-            entity.needsNetworkRefresh = false;
-        }
-        
-        if (world.isClient()) {
-            return;
-        }
-        
-        // Periodically check if we should be in a network
-        if (world.getTime() % 20 == 0) {  // Check every second
-            if (entity.network == null) {
-                entity.findAndJoinNetwork();
-            }
-        }
-        
-        // Update GUI data every 10 ticks (0.5 seconds) to keep it responsive
-        if (world.getTime() % 10 == 0) {
-            entity.markDirty(); // Trigger PropertyDelegate update
-        }
-    }
-    
     // NamedScreenHandlerFactory implementation
     @Override
     public Text getDisplayName() {
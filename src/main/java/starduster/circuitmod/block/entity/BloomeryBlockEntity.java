@@ -30,6 +30,7 @@ import starduster.circuitmod.block.machines.BloomeryBlock;
 import starduster.circuitmod.recipe.BloomeryRecipe;
 import starduster.circuitmod.recipe.BloomeryRecipeInput;
 import starduster.circuitmod.recipe.ModRecipes;
+import starduster.circuitmod.recipe.RecipeLookupCache;
 import starduster.circuitmod.screen.BloomeryScreenHandler;
 import starduster.circuitmod.util.ImplementedInventory;
 
@@ -47,6 +48,7 @@ public class BloomeryBlockEntity extends BlockEntity implements NamedScreenHandl
     private int maxProgress = 200; //default max time
     private int burnTime = 0;
     private int maxBurnTime = 50;
+    private final RecipeLookupCache<BloomeryRecipeInput, BloomeryRecipe> recipes = new RecipeLookupCache<>(ModRecipes.BLOOMERY_TYPE);
 
     public BloomeryBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.BLOOMERY_BLOCK_ENTITY, pos, state);
@@ -190,8 +192,7 @@ public class BloomeryBlockEntity extends BlockEntity implements NamedScreenHandl
     }
 
     private Optional<RecipeEntry<BloomeryRecipe>> getCurrentRecipe() {
-        return ((ServerWorld) this.getWorld()).getRecipeManager()
-                .getFirstMatch(ModRecipes.BLOOMERY_TYPE, new BloomeryRecipeInput(inventory.get(INPUT_SLOT)), this.getWorld());
+        return recipes.get((ServerWorld) this.getWorld(), inventory.get(INPUT_SLOT), BloomeryRecipeInput::new);
     }
 
     private boolean canInsertItemIntoOutputSlot(ItemStack output) {
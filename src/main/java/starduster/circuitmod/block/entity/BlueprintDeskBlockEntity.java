@@ -305,7 +305,7 @@ public class BlueprintDeskBlockEntity extends BlockEntity implements Inventory,
         
         // Create the blueprint and start async scanning
         BlueprintScanner.scanAreaAsync(startPos, endPos, (ServerWorld) world, blueprintName, 
-            this::onScanComplete, this::onScanProgress);
+            this::onScanComplete, this::onScanProgress, this::onScanFailed);
     }
     
     /**
@@ -321,15 +321,30 @@ public class BlueprintDeskBlockEntity extends BlockEntity implements Inventory,
      * Called when scanning progress updates
      */
     private void onScanProgress(int progress) {
+        if (isRemoved()) {
+            return; // Desk was broken while the scan was running
+        }
         this.scanProgress = progress;
         markDirty();
     }
     
+    /**
+     * Called when the scan was rejected or failed; the blank blueprint stays in the desk
+     */
+    private void onScanFailed() {
+        if (isRemoved()) {
+            return;
+        }
+        this.isScanning = false;
+        this.scanProgress = 0;
+        markDirty();
+    }
+    
     /**
      * Called when scanning is complete
      */
     private void onScanComplete(Blueprint blueprint) {
-        if (world == null || world.isClient()) {
+        if (world == null || world.isClient() || isRemoved()) {
             return;
         }
         
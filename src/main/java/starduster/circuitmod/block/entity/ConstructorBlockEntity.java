@@ -32,7 +32,8 @@ import starduster.circuitmod.screen.ConstructorScreenHandler;
 import starduster.circuitmod.screen.ModScreenHandlers;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
-import starduster.circuitmod.power.IPowerConnectable;
+import starduster.circuitmod.util.TickProfiler;
+import starduster.circuitmod.util.DiagnosticLog;
 import net.minecraft.item.Item;
 import net.minecraft.item.Items;
 import net.minecraft.block.Blocks;
@@ -43,7 +44,7 @@ import java.util.*;
  * Block entity for the Constructor block.
  * Reads blueprints and builds structures by placing blocks from its inventory.
  */
-public class ConstructorBlockEntity extends BlockEntity implements Inventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.ConstructorData>, IEnergyConsumer {
+public class ConstructorBlockEntity extends BlockEntity implements Inventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.ConstructorData>, IEnergyConsumer, starduster.circuitmod.network.ISyncedMachine {
     
     // Inventory: 1 slot for blueprint + 12 slots for blocks (same as quarry layout)
     private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(13, ItemStack.EMPTY);
@@ -77,14 +78,20 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     
     // Client-side: mapping of build positions to items for ghost rendering
     private Map<BlockPos, net.minecraft.item.Item> clientGhostBlockItems = new HashMap<>();
+    // Client-side: bumped whenever the ghost preview inputs change so the renderer can rebuild its cached mesh
+    private int clientGhostVersion = 0;
     public void setGhostBlockItemsFromNetwork(Map<BlockPos, net.minecraft.item.Item> map) {
         if (world != null && world.isClient()) {
             this.clientGhostBlockItems = new HashMap<>(map);
+            this.clientGhostVersion++;
         }
     }
     public Map<BlockPos, net.minecraft.item.Item> getClientGhostBlockItems() {
         return clientGhostBlockItems;
     }
+    public int getGhostVersion() {
+        return clientGhostVersion;
+    }
     
     // Energy properties
     private static final int MAX_ENERGY_DEMAND = 1000; // Maximum energy demand per tick
@@ -94,9 +101,14 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     private boolean isReceivingPower = false; // Track if we're receiving power
     private boolean hasBlueprintState = false; // Track blueprint state on client side
     private boolean hasPowerState = false; // Track power state on client side
+    
+    // Synced field indices for MachineStateSync
+    public static final int SYNC_BUILDING = 0;
+    public static final int SYNC_HAS_BLUEPRINT = 1;
+    public static final int SYNC_POWERED = 2;
+    private static final int SYNC_FIELD_COUNT = 3;
     private String clientStatusMessage = "No blueprint loaded"; // Track status message on client side
     private EnergyNetwork network;
-    public boolean needsNetworkRefresh = false;
     
     // Property delegate for GUI synchronization
     private final PropertyDelegate propertyDelegate = new PropertyDelegate() {
@@ -109,7 +121,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 case 3: 
                     boolean hasBP = world != null && world.isClient() ? hasBlueprintState : (currentBlueprint != null);
                     if (world != null && world.getTime() % 100 == 0) { // Log every 5 seconds
-                        Circuitmod.LOGGER.info("[CONSTRUCTOR-PROPERTY] Index 3 (hasBlueprint): {}, hasBlueprintState: {}, currentBlueprint: {}", hasBP ? 1 : 0, hasBlueprintState, currentBlueprint != null ? currentBlueprint.getName() : "null");
+                        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-PROPERTY] Index 3 (hasBlueprint): {}, hasBlueprintState: {}, currentBlueprint: {}", hasBP ? 1 : 0, hasBlueprintState, currentBlueprint != null ? currentBlueprint.getName() : "null");
                     }
                     return hasBP ? 1 : 0;
                 case 4: 
@@ -136,7 +148,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                     boolean hasBlueprint = value == 1;
                     if (world != null && world.isClient()) {
                         hasBlueprintState = hasBlueprint;
-                        Circuitmod.LOGGER.info("[CONSTRUCTOR-PROPERTY] Setting hasBlueprintState to {} via property delegate", hasBlueprint);
+                        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-PROPERTY] Setting hasBlueprintState to {} via property delegate", hasBlueprint);
                     }
                     break;
                 case 4: 
@@ -144,7 +156,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                     boolean hasPower = value == 1;
                     if (world != null && world.isClient()) {
                         hasPowerState = hasPower;
-                        Circuitmod.LOGGER.info("[CONSTRUCTOR-PROPERTY] Setting hasPowerState to {} via property delegate", hasPower);
+                        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-PROPERTY] Setting hasPowerState to {} via property delegate", hasPower);
                     }
                     break;
             }
@@ -259,6 +271,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 }
             }
         }
+        clientGhostVersion++;
         
         // Load positioning system (with backwards compatibility)
         if (nbt.contains("forward_offset")) {
@@ -279,7 +292,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             this.upOffset = offsetY;
             this.blueprintRotation = 0;
             
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] Converted old buildOffset ({},{},{}) to new system (forward:{}, right:{}, up:{}, rotation:{})",
+            DiagnosticLog.CONSTRUCTOR.info("[CONSTRUCTOR] Converted old buildOffset ({},{},{}) to new system (forward:{}, right:{}, up:{}, rotation:{})",
                     offsetX, offsetY, offsetZ, forwardOffset, rightOffset, upOffset, blueprintRotation);
         } else {
             // Set defaults
@@ -304,12 +317,6 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             return;
         }
         
-        // Handle network refresh
-        if (entity.needsNetworkRefresh) {
-            entity.findAndJoinNetwork();
-            entity.needsNetworkRefresh = false;
-        }
-        
         // Update block state based on building status
         boolean buildingState = entity.building;
         if (state.get(ConstructorBlock.RUNNING) != buildingState) {
@@ -339,33 +346,14 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         }
         
         // Update power status and reset energy received at the end of each tick
-        boolean wasReceivingPower = entity.isReceivingPower;
         entity.isReceivingPower = entity.energyReceived > 0;
         
-        // Send power status updates to clients if it changed
-        if (wasReceivingPower != entity.isReceivingPower) {
-            for (ServerPlayerEntity player : world.getServer().getPlayerManager().getPlayerList()) {
-                if (player.getWorld() == world && player.getBlockPos().getSquaredDistance(pos) <= 64 * 64) {
-                    starduster.circuitmod.network.ModNetworking.sendConstructorPowerStatusUpdate(player, pos, entity.isReceivingPower);
-                }
-            }
-        }
-        
-        // Send initial sync to nearby players periodically (every 100 ticks to avoid spam)
-        if (world.getTime() % 100 == 0) {
-            for (ServerPlayerEntity player : world.getServer().getPlayerManager().getPlayerList()) {
-                if (player.getWorld() == world && player.getBlockPos().getSquaredDistance(pos) <= 64 * 64) {
-                    // Send current building status
-                    starduster.circuitmod.network.ModNetworking.sendConstructorBuildingStatusUpdate(player, pos, entity.building, entity.currentBlueprint != null);
-                    // Send current power status
-                    starduster.circuitmod.network.ModNetworking.sendConstructorPowerStatusUpdate(player, pos, entity.isReceivingPower);
-                }
-            }
-        }
+        // Building and power status reach clients through the shared machine sync channel
+        starduster.circuitmod.network.MachineStateSync.track(entity);
         
         // Debug logging for power status
         if (world.getTime() % 20 == 0) { // Log every second
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-POWER] Energy demand: {}, energy received: {}, isReceivingPower: {}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-POWER] Energy demand: {}, energy received: {}, isReceivingPower: {}", 
                 entity.energyDemand, entity.energyReceived, entity.isReceivingPower);
         }
         
@@ -400,7 +388,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 updateMaterialsTracking();
                 markDirty();
                 
-                Circuitmod.LOGGER.info("[CONSTRUCTOR] Loaded blueprint: {}", blueprint.getName());
+                DiagnosticLog.CONSTRUCTOR.info("[CONSTRUCTOR] Loaded blueprint: {}", blueprint.getName());
                 
                 // Send status update to nearby players
                 if (world != null && !world.isClient()) {
@@ -480,10 +468,10 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
      * Starts building the current blueprint
      */
     public void startBuilding() {
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() called");
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() called");
         
         if (currentBlueprint == null || world == null || world.isClient()) {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() - early return: blueprint={}, world={}, isClient={}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() - early return: blueprint={}, world={}, isClient={}", 
                 currentBlueprint != null, world != null, world != null && world.isClient());
             return;
         }
@@ -491,12 +479,12 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         // Update materials tracking before checking
         updateMaterialsTracking();
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() - Required materials: {}", requiredMaterials);
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() - Available materials: {}", availableMaterials);
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() - Required materials: {}", requiredMaterials);
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() - Available materials: {}", availableMaterials);
         
         // Check if we have ANY materials available (not all required)
         boolean hasAnyMaterials = hasAnyMaterialsAvailable();
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() - hasAnyMaterialsAvailable() returned: {}", hasAnyMaterials);
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() - hasAnyMaterialsAvailable() returned: {}", hasAnyMaterials);
         
         if (!hasAnyMaterials) {
             this.statusMessage = "No materials available";
@@ -508,7 +496,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                     }
                 }
             }
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] startBuilding() - No materials available, cannot start building");
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] startBuilding() - No materials available, cannot start building");
             return;
         }
         
@@ -516,7 +504,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         this.statusMessage = "Building: " + currentBlueprint.getName() + " (partial materials)";
         markDirty();
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] Started building with partial materials: {}", currentBlueprint.getName());
+        DiagnosticLog.CONSTRUCTOR.info("[CONSTRUCTOR] Started building with partial materials: {}", currentBlueprint.getName());
         
         // Send status update to nearby players
         if (world != null && !world.isClient()) {
@@ -552,19 +540,19 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
      */
     public void toggleBuilding() {
         if (world == null || world.isClient()) {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] toggleBuilding() - early return: world={}, isClient={}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] toggleBuilding() - early return: world={}, isClient={}", 
                 world != null, world != null && world.isClient());
             return;
         }
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] toggleBuilding() - current building state: {}, hasBlueprint: {}", 
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] toggleBuilding() - current building state: {}, hasBlueprint: {}", 
             building, currentBlueprint != null);
         
         if (building) {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] toggleBuilding() - stopping building");
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] toggleBuilding() - stopping building");
             stopBuilding();
         } else {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] toggleBuilding() - starting building");
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] toggleBuilding() - starting building");
             startBuilding();
         }
     }
@@ -579,14 +567,16 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         
         // Debug logging for energy consumption
         if (world.getTime() % 20 == 0) { // Log every second
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-ENERGY] Energy received: {}, energy per block: {}, energy demand: {}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-ENERGY] Energy received: {}, energy per block: {}, energy demand: {}", 
                 energyReceived, ENERGY_PER_BLOCK, energyDemand);
         }
         
         // If we have energy and are building, try to build the current block
         if (energyReceived > 0 && building) {
             // Try to build the current block (this will handle gradual building)
+            long profileStart = TickProfiler.begin();
             boolean built = buildNextBlock(world);
+            TickProfiler.end(TickProfiler.Subsystem.CONSTRUCTOR, profileStart);
             
             if (built) {
                 // Block was completed, mark dirty for sync
@@ -607,7 +597,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
 
         // Debug logging to track the building process
         if (world.getTime() % 20 == 0) { // Log every second
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] buildNextBlock() called - currentBuildPos: {}, energyReceived: {}, building: {}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] buildNextBlock() called - currentBuildPos: {}, energyReceived: {}, building: {}", 
                 currentBuildPos, energyReceived, building);
         }
 
@@ -625,7 +615,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                         this.statusMessage = "Construction complete!";
                         this.buildProgress = totalBuildBlocks;
                         
-                        Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Construction complete! All {} blocks built", totalBuildBlocks);
+                        DiagnosticLog.CONSTRUCTOR.info("[CONSTRUCTOR-BUILDING] Construction complete! All {} blocks built", totalBuildBlocks);
                         
                         // Send status update to nearby players
                         if (world != null && !world.isClient()) {
@@ -643,7 +633,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                         this.statusMessage = "Waiting for more materials... (" + buildProgress + "/" + totalBuildBlocks + " blocks built)";
                         
                         if (world.getTime() % 20 == 0) { // Log every second
-                            Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Waiting for more materials. Built: {}/{}, continuing to search", buildProgress, totalBuildBlocks);
+                            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Waiting for more materials. Built: {}/{}, continuing to search", buildProgress, totalBuildBlocks);
                         }
                         
                         // Continue searching for buildable positions
@@ -656,7 +646,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 totalBuildTicks = 0;
                 
                 if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Found next build position: {}", currentBuildPos);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Found next build position: {}", currentBuildPos);
                 }
             }
             
@@ -665,7 +655,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             if (requiredState == null) {
                 // Invalid position - skip it
                 if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Invalid position - no block state at {}", currentBuildPos);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Invalid position - no block state at {}", currentBuildPos);
                 }
                 advanceToNextBlock();
                 currentBuildPos = null;
@@ -686,7 +676,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             if (!foundItem) {
                 // Skip this position - no material available, but continue searching
                 if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] No material available for {} at position {}, continuing search", requiredItem.getName().getString(), currentBuildPos);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] No material available for {} at position {}, continuing search", requiredItem.getName().getString(), currentBuildPos);
                 }
                 advanceToNextBlock();
                 currentBuildPos = null;
@@ -718,7 +708,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             if (!canBuild) {
                 // Position not available - skip it
                 if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Position not available at world pos {} (current state: {})", worldPos, currentState.getBlock().getName());
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Position not available at world pos {} (current state: {})", worldPos, currentState.getBlock().getName());
                 }
                 advanceToNextBlock();
                 currentBuildPos = null;
@@ -728,14 +718,14 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             
             // Found a valid block to build
                             if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Found valid block to build: {} at relative position {} (world pos: {})", requiredState.getBlock().getName(), currentBuildPos, worldPos);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Found valid block to build: {} at relative position {} (world pos: {})", requiredState.getBlock().getName(), currentBuildPos, worldPos);
                 }
             break;
         }
         
         if (attempts >= maxAttempts) {
             // Could not find a valid block to build
-            Circuitmod.LOGGER.warn("[CONSTRUCTOR-BUILDING] Could not find valid block to build after {} attempts", maxAttempts);
+            DiagnosticLog.CONSTRUCTOR.warn("[CONSTRUCTOR-BUILDING] Could not find valid block to build after {} attempts", maxAttempts);
             return false;
         }
 
@@ -757,7 +747,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         currentBuildProgress = Math.min(100, currentBuildProgress);
 
         if (world.getTime() % 20 == 0) { // Log every second
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Building progress: {}/{} ticks ({}%)", currentBuildTicks, totalBuildTicks, currentBuildProgress);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Building progress: {}/{} ticks ({}%)", currentBuildTicks, totalBuildTicks, currentBuildProgress);
         }
 
         if (currentBuildTicks >= totalBuildTicks) {
@@ -814,12 +804,12 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 }
                 
                 if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-BUILDING] Successfully placed block at {}: {}", worldPos, requiredState.getBlock().getName());
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-BUILDING] Successfully placed block at {}: {}", worldPos, requiredState.getBlock().getName());
                 }
                 return true;
             } else {
                 // Could not consume item, stay at current position
-                Circuitmod.LOGGER.warn("[CONSTRUCTOR-BUILDING] Could not consume item for block placement");
+                DiagnosticLog.CONSTRUCTOR.warn("[CONSTRUCTOR-BUILDING] Could not consume item for block placement");
                 return false;
             }
         }
@@ -883,21 +873,21 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             }
             
             // Count available materials in inventory using item identifiers
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Scanning inventory ({} slots):", inventory.size());
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Scanning inventory ({} slots):", inventory.size());
             for (int slot = 1; slot < inventory.size(); slot++) {
                 ItemStack stack = inventory.get(slot);
                 if (!stack.isEmpty()) {
                     // Use the item's registry identifier (e.g., "minecraft:stone")
                     String itemId = Registries.ITEM.getId(stack.getItem()).toString();
                     availableMaterials.put(itemId, availableMaterials.getOrDefault(itemId, 0) + stack.getCount());
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Slot {}: {} x{}", slot, itemId, stack.getCount());
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Slot {}: {} x{}", slot, itemId, stack.getCount());
                 } else {
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Slot {}: empty", slot);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Slot {}: empty", slot);
                 }
             }
             
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Final required: {}", requiredMaterials);
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Final available: {}", availableMaterials);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Final required: {}", requiredMaterials);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Final available: {}", availableMaterials);
         }
         
         // Send materials sync to all nearby players (server side only)
@@ -916,18 +906,18 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     private boolean hasRequiredMaterials() {
         updateMaterialsTracking();
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Checking required materials:");
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Checking required materials:");
         for (Map.Entry<String, Integer> required : requiredMaterials.entrySet()) {
             int available = availableMaterials.getOrDefault(required.getKey(), 0);
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] {}: required={}, available={}, sufficient={}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] {}: required={}, available={}, sufficient={}", 
                 required.getKey(), required.getValue(), available, available >= required.getValue());
             if (available < required.getValue()) {
-                Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Missing required materials - returning false");
+                DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Missing required materials - returning false");
                 return false;
             }
         }
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] All materials available - returning true");
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] All materials available - returning true");
         return true;
     }
     
@@ -938,18 +928,18 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     private boolean hasAnyMaterialsAvailable() {
         updateMaterialsTracking();
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Checking if any materials are available:");
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Checking if any materials are available:");
         for (Map.Entry<String, Integer> required : requiredMaterials.entrySet()) {
             int available = availableMaterials.getOrDefault(required.getKey(), 0);
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] {}: required={}, available={}", 
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] {}: required={}, available={}", 
                 required.getKey(), required.getValue(), available);
             if (available > 0) {
-                Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] Found available materials - returning true");
+                DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] Found available materials - returning true");
                 return true;
             }
         }
         
-        Circuitmod.LOGGER.info("[CONSTRUCTOR-MATERIALS] No materials available - returning false");
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-MATERIALS] No materials available - returning false");
         return false;
     }
     
@@ -995,7 +985,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         // Update materials tracking when inventory changes
         if (slot > 0 && world != null && !world.isClient()) {
             updateMaterialsTracking();
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-INVENTORY] Slot {} updated with: {}", slot, stack.isEmpty() ? "empty" : stack.getName().getString() + " x" + stack.getCount());
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-INVENTORY] Slot {} updated with: {}", slot, stack.isEmpty() ? "empty" : stack.getName().getString() + " x" + stack.getCount());
             
             // If we're building and new materials were added, update status message
             if (building && currentBlueprint != null) {
@@ -1010,7 +1000,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
                 this.statusMessage = String.format("Building... (%d/%d blocks) - Materials: %d/%d", 
                     buildProgress, totalBuildBlocks, availableCount, requiredCount);
                 
-                Circuitmod.LOGGER.info("[CONSTRUCTOR-INVENTORY] Updated status after inventory change: {}", this.statusMessage);
+                DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-INVENTORY] Updated status after inventory change: {}", this.statusMessage);
             }
         }
     }
@@ -1043,13 +1033,13 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     public @Nullable ScreenHandler createMenu(int syncId, PlayerInventory playerInventory, PlayerEntity player) {
         // Debug logging for inventory contents when screen is opened
         if (world != null && !world.isClient()) {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-SCREEN] Screen opened - Inventory contents:");
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-SCREEN] Screen opened - Inventory contents:");
             for (int i = 0; i < inventory.size(); i++) {
                 ItemStack stack = inventory.get(i);
                 if (!stack.isEmpty()) {
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-SCREEN] Slot {}: {} x{}", i, stack.getName().getString(), stack.getCount());
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-SCREEN] Slot {}: {} x{}", i, stack.getName().getString(), stack.getCount());
                 } else {
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-SCREEN] Slot {}: empty", i);
+                    DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-SCREEN] Slot {}: empty", i);
                 }
             }
             
@@ -1199,7 +1189,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         this.rightOffset = offset.getX();
         this.upOffset = offset.getY();
         markDirty();
-        Circuitmod.LOGGER.info("[CONSTRUCTOR] Set build offset to: {} (forward:{}, right:{}, up:{})", 
+        DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] Set build offset to: {} (forward:{}, right:{}, up:{})", 
                 offset, forwardOffset, rightOffset, upOffset);
     }
     
@@ -1229,6 +1219,30 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         markDirty();
     }
     
+    @Override
+    public int getSyncedFieldCount() {
+        return SYNC_FIELD_COUNT;
+    }
+    
+    @Override
+    public void writeSyncedFields(long[] values) {
+        values[SYNC_BUILDING] = building ? 1 : 0;
+        values[SYNC_HAS_BLUEPRINT] = currentBlueprint != null ? 1 : 0;
+        values[SYNC_POWERED] = isReceivingPower ? 1 : 0;
+    }
+    
+    @Override
+    public void applySyncedFields(int changedMask, long[] values) {
+        if ((changedMask & ((1 << SYNC_BUILDING) | (1 << SYNC_HAS_BLUEPRINT))) != 0) {
+            boolean newBuilding = (changedMask & (1 << SYNC_BUILDING)) != 0 ? values[SYNC_BUILDING] != 0 : building;
+            boolean newHasBlueprint = (changedMask & (1 << SYNC_HAS_BLUEPRINT)) != 0 ? values[SYNC_HAS_BLUEPRINT] != 0 : hasBlueprintState;
+            setBuildingStatusFromNetwork(newBuilding, newHasBlueprint);
+        }
+        if ((changedMask & (1 << SYNC_POWERED)) != 0) {
+            setPowerStatusFromNetwork(values[SYNC_POWERED] != 0);
+        }
+    }
+    
     /**
      * Update building status from network (client-side only)
      */
@@ -1236,7 +1250,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         if (world != null && world.isClient()) {
             this.building = building;
             this.hasBlueprintState = hasBlueprint;
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] Updated from network: building={}, hasBlueprint={}", building, hasBlueprint);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] Updated from network: building={}, hasBlueprint={}", building, hasBlueprint);
         }
     }
     
@@ -1246,7 +1260,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     public void setPowerStatusFromNetwork(boolean hasPower) {
         if (world != null && world.isClient()) {
             this.hasPowerState = hasPower;
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] Updated power status from network: hasPower={}", hasPower);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] Updated power status from network: hasPower={}", hasPower);
         }
     }
     
@@ -1256,7 +1270,7 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     public void setStatusMessageFromNetwork(String message) {
         if (world != null && world.isClient()) {
             this.clientStatusMessage = message;
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] Updated status message from network: {}", message);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] Updated status message from network: {}", message);
         }
     }
     
@@ -1298,7 +1312,8 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     public void setBuildPositionsFromNetwork(List<BlockPos> positions) {
         if (world != null && world.isClient()) {
             this.clientBuildPositions = new ArrayList<>(positions);
-            Circuitmod.LOGGER.info("[CONSTRUCTOR] Updated build positions from network: {} positions", positions.size());
+            this.clientGhostVersion++;
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR] Updated build positions from network: {} positions", positions.size());
         }
     }
     
@@ -1323,12 +1338,12 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
         if (this.network != null && network != null && this.network != network) {
             String oldNetworkId = this.network.getNetworkId();
             String newNetworkId = network.getNetworkId();
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-NETWORK] Constructor at " + pos + " changing networks: " + oldNetworkId + " -> " + newNetworkId);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-NETWORK] Constructor at {} changing networks: {} -> {}", pos, oldNetworkId, newNetworkId);
         } else if (network != null && this.network == null) {
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-NETWORK] Constructor at " + pos + " connecting to network: " + network.getNetworkId());
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-NETWORK] Constructor at {} connecting to network: {}", pos, network.getNetworkId());
         } else if (this.network != null && network == null) {
             String oldNetworkId = this.network.getNetworkId();
-            Circuitmod.LOGGER.info("[CONSTRUCTOR-NETWORK] Constructor at " + pos + " disconnecting from network: " + oldNetworkId);
+            DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-NETWORK] Constructor at {} disconnecting from network: {}", pos, oldNetworkId);
         }
         
         this.network = network;
@@ -1349,7 +1364,8 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
             
             // Debug logs to diagnose the issue (only log occasionally to avoid spam)
             if (world.getTime() % 20 == 0) { // Only log every second
-                Circuitmod.LOGGER.info("[CONSTRUCTOR-ENERGY] Energy offered: " + energyOffered + ", consumed: " + energyToConsume + ", accumulated: " + this.energyReceived);
+                DiagnosticLog.CONSTRUCTOR.debug("[CONSTRUCTOR-ENERGY] Energy offered: {}, consumed: {}, accumulated: {}",
+                    energyOffered, energyToConsume, this.energyReceived);
             }
         }
         
@@ -1365,33 +1381,4 @@ public class ConstructorBlockEntity extends BlockEntity implements Inventory, Na
     public Direction[] getInputSides() {
         return Direction.values(); // Can receive from all sides
     }
-    
-    /**
-     * Finds and joins a power network
-     */
-    private void findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return;
-        }
-        
-        // Search for nearby power connectables
-        for (Direction direction : Direction.values()) {
-            BlockPos neighborPos = pos.offset(direction);
-            BlockEntity neighborEntity = world.getBlockEntity(neighborPos);
-            
-            if (neighborEntity instanceof IPowerConnectable neighbor) {
-                EnergyNetwork neighborNetwork = neighbor.getNetwork();
-                if (neighborNetwork != null) {
-                    neighborNetwork.addBlock(pos, this);
-                    Circuitmod.LOGGER.info("[CONSTRUCTOR-NETWORK] Constructor at {} joined network {} via {}", pos, neighborNetwork.getNetworkId(), direction);
-                    return;
-                }
-            }
-        }
-        
-        // If no network found, create a new one
-        EnergyNetwork newNetwork = new EnergyNetwork();
-        newNetwork.addBlock(pos, this);
-        Circuitmod.LOGGER.info("[CONSTRUCTOR-NETWORK] Constructor at {} created new network {}", pos, newNetwork.getNetworkId());
-    }
 } 
\ No newline at end of file
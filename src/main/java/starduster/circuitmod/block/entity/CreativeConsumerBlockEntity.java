@@ -6,17 +6,14 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.World;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
-import starduster.circuitmod.power.IPowerConnectable;
 
 public class CreativeConsumerBlockEntity extends BlockEntity implements IEnergyConsumer {
     private static final int ENERGY_DEMAND_PER_TICK = 100;
     
     private EnergyNetwork network;
     private int lastReceivedEnergy = 0;
-    private boolean needsNetworkRefresh = false;
     
     public CreativeConsumerBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.CREATIVE_CONSUMER_BLOCK_ENTITY, pos, state);
@@ -50,7 +47,6 @@ public class CreativeConsumerBlockEntity extends BlockEntity implements IEnergyC
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
     }
     
     // IEnergyConsumer implementation
@@ -90,52 +86,4 @@ public class CreativeConsumerBlockEntity extends BlockEntity implements IEnergyC
     public int getLastReceivedEnergy() {
         return lastReceivedEnergy;
     }
-    
-    // Tick method
-    public static void tick(World world, BlockPos pos, BlockState state, CreativeConsumerBlockEntity blockEntity) {
-        if (world.isClient() || blockEntity.network == null) {
-            return;
-        }
-        
-        // Handle network refresh if needed
-        if (blockEntity.needsNetworkRefresh) {
-            blockEntity.findAndJoinNetwork();
-            blockEntity.needsNetworkRefresh = false;
-        }
-    }
-
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient) return;
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    break;
-                }
-            }
-        }
-        if (!foundNetwork && (this.network == null)) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    if (connectable.canConnectPower(dir.getOpposite()) && this.canConnectPower(dir)) {
-                        newNetwork.addBlock(neighborPos, connectable);
-                    }
-                }
-            }
-        }
-    }
 } 
\ No newline at end of file
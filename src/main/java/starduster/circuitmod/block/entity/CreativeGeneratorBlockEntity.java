@@ -6,16 +6,13 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.World;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyProducer;
-import starduster.circuitmod.power.IPowerConnectable;
 
 public class CreativeGeneratorBlockEntity extends BlockEntity implements IEnergyProducer {
     private static final int ENERGY_PER_TICK = 1000;
     
     private EnergyNetwork network;
-    private boolean needsNetworkRefresh = false;
     
     public CreativeGeneratorBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.CREATIVE_GENERATOR_BLOCK_ENTITY, pos, state);
@@ -43,7 +40,6 @@ public class CreativeGeneratorBlockEntity extends BlockEntity implements IEnergy
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
     }
     
     // IEnergyProducer implementation
@@ -77,52 +73,4 @@ public class CreativeGeneratorBlockEntity extends BlockEntity implements IEnergy
     public Direction[] getOutputSides() {
         return Direction.values(); // Can output to all sides
     }
-    
-    // Tick method
-    public static void tick(World world, BlockPos pos, BlockState state, CreativeGeneratorBlockEntity blockEntity) {
-        if (world.isClient() || blockEntity.network == null) {
-            return;
-        }
-        
-        // Handle network refresh
-        if (blockEntity.needsNetworkRefresh) {
-            blockEntity.findAndJoinNetwork();
-            blockEntity.needsNetworkRefresh = false;
-        }
-    }
-
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient) return;
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    break;
-                }
-            }
-        }
-        if (!foundNetwork && (this.network == null)) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    if (connectable.canConnectPower(dir.getOpposite()) && this.canConnectPower(dir)) {
-                        newNetwork.addBlock(neighborPos, connectable);
-                    }
-                }
-            }
-        }
-    }
 } 
\ No newline at end of file
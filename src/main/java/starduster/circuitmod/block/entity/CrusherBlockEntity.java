@@ -52,11 +52,11 @@ public class CrusherBlockEntity extends BlockEntity implements NamedScreenHandle
     protected final PropertyDelegate propertyDelegate;
     private int progress = 0;
     private int maxProgress = 30;
+    private final RecipeLookupCache<CrusherRecipeInput, CrusherRecipe> recipes = new RecipeLookupCache<>(ModRecipes.CRUSHER_TYPE);
 
     // Energy properties
     private static final int ENERGY_DEMAND_PER_TICK = 1; // Consumes 1 energy per tick when active
     private EnergyNetwork network;
-    public boolean needsNetworkRefresh = false;
     private int energyReceived = 0; // Energy received this tick
 
     private void resetProgress() {
@@ -135,21 +135,12 @@ public class CrusherBlockEntity extends BlockEntity implements NamedScreenHandle
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
         
         super.readNbt(nbt, registryLookup);
     }
 
     // Add network handling logic to the tick method
     public void tick(World world, BlockPos pos, BlockState state, CrusherBlockEntity entity) {
-        // Handle network refresh
-        if (needsNetworkRefresh && world != null && !world.isClient()) {
-            needsNetworkRefresh = false;
-            if (network != null) {
-                network.addBlock(pos, this);
-            }
-        }
-        
         // Do NOT reset energyReceived at the start!
         // Only reset at the end of the tick, after processing.
         // Remove isReceivingPower logic entirely.
@@ -270,8 +261,7 @@ public class CrusherBlockEntity extends BlockEntity implements NamedScreenHandle
 
     private Optional<RecipeEntry<CrusherRecipe>> getCurrentRecipe() {
         if (this.getWorld() instanceof ServerWorld serverWorld) {
-            return serverWorld.getRecipeManager()
-                    .getFirstMatch(ModRecipes.CRUSHER_TYPE, new CrusherRecipeInput(inventory.get(INPUT_SLOT)), this.getWorld());
+            return recipes.get(serverWorld, inventory.get(INPUT_SLOT), CrusherRecipeInput::new);
         }
         return Optional.empty();
     }
@@ -30,16 +30,19 @@ import net.minecraft.world.World;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.machines.DrillBlock;
+import starduster.circuitmod.network.ISyncedMachine;
+import starduster.circuitmod.network.MachineStateSync;
 import starduster.circuitmod.network.ModNetworking;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
-import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.ModScreenHandlers;
 import starduster.circuitmod.screen.DrillScreenHandler;
+import starduster.circuitmod.util.PersistentStateTracker;
 import net.minecraft.block.Blocks;
 
 import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.sound.ModSounds;
+import starduster.circuitmod.util.TickProfiler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,7 +52,7 @@ import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.entry.RegistryEntry;
 
-public class DrillBlockEntity extends BlockEntity implements SidedInventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.DrillData>, IEnergyConsumer {
+public class DrillBlockEntity extends BlockEntity implements SidedInventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.DrillData>, IEnergyConsumer, ISyncedMachine {
     // Energy properties
     private static final int MAX_ENERGY_DEMAND = 1000; // Maximum energy demand per tick
     private int energyDemand = MAX_ENERGY_DEMAND; // Current energy demand per tick
@@ -84,8 +87,15 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
     private int miningAreaMaxWidth;
     
     // Networking properties
-    private int packetCooldown = 0; // Cooldown to avoid sending too many packets
-    private static final int PACKET_COOLDOWN_MAX = 10; // Only send packets every 10 ticks max (0.5 seconds)
+    private final PersistentStateTracker savedState = new PersistentStateTracker(); // Only dirty the chunk when saved fields change
+    
+    // Synced field indices for MachineStateSync
+    public static final int SYNC_MINING_ENABLED = 0;
+    public static final int SYNC_MINING_PROGRESS = 1;
+    public static final int SYNC_MINING_POS = 2;
+    public static final int SYNC_MINING_HEIGHT = 3;
+    public static final int SYNC_MINING_WIDTH = 4;
+    private static final int SYNC_FIELD_COUNT = 5;
     // Cached enchantment level from the placed item (Fortune only for now)
     private int cachedFortuneLevel = 0;
     
@@ -145,9 +155,6 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
         }
     };
 
-    // Add this field to the class
-    private boolean needsNetworkRefresh = false;
-
     public DrillBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.DRILL_BLOCK_ENTITY, pos, state);
         
@@ -283,7 +290,6 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
         
         // Load inventory
         Inventories.readNbt(nbt, this.inventory, registries);
-        needsNetworkRefresh = true;
         
         // Initialize mining area on client side if not already done
         if (world != null && world.isClient() && startPos == null) {
@@ -323,20 +329,6 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
             blockEntity.condenseInventory();
         }
 
-        // Handle network refresh with retry logic for world reload scenarios
-        if (blockEntity.needsNetworkRefresh) {
-            boolean networkFound = blockEntity.findAndJoinNetwork();
-            if (networkFound) {
-                blockEntity.needsNetworkRefresh = false;
-                Circuitmod.LOGGER.info("[DRILL-NETWORK] Successfully joined network at " + pos);
-            } else {
-                // If we couldn't find a network, try again in a few ticks
-                // This helps with world reload scenarios where power cables might not be loaded yet
-                if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[DRILL-NETWORK] No network found at " + pos + ", will retry. Mining enabled: " + blockEntity.miningEnabled);
-                }
-            }
-        }
         if (world.isClient()) {
             return;
         }
@@ -356,7 +348,7 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
         // Make sure to set our demand for the next tick
         blockEntity.energyDemand = MAX_ENERGY_DEMAND;
         
-        boolean needsSync = false;
+        boolean minedBlock = false;
         
         // Debug log for diagnostics
         if (world.getTime() % 20 == 0) { // Only log every second
@@ -367,65 +359,49 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
         // Process mining operations if mining is enabled
         if (blockEntity.miningEnabled) {
             // Try to mine the current block
-            boolean mined = blockEntity.mineNextBlock(world);
-            
-            if (mined) {
-                needsSync = true;
-            }
-        } else {
-            // Mining is disabled
-            needsSync = true;
-            
-            // If mining is enabled but we're not receiving power, try to refresh network connection
-            if (blockEntity.miningEnabled && blockEntity.energyReceived == 0 && blockEntity.network == null) {
-                if (world.getTime() % 40 == 0) { // Try every 2 seconds
-                    Circuitmod.LOGGER.info("[DRILL-NETWORK-RETRY] Mining enabled but no power at " + pos + ", attempting network refresh");
-                    blockEntity.needsNetworkRefresh = true;
-                }
-            }
+            long profileStart = TickProfiler.begin();
+            minedBlock = blockEntity.mineNextBlock(world);
+            TickProfiler.end(TickProfiler.Subsystem.MINING, profileStart);
         }
         
         // Reset energy received at the end of each tick
         blockEntity.energyReceived = 0;
         
-        // Packet throttling logic to avoid network spam
-        blockEntity.packetCooldown--;
-        if (blockEntity.packetCooldown <= 0) {
-            blockEntity.packetCooldown = 0;
-        }
+        // Only dirty the chunk when saved state changed. Mined items land in the inventory, which the
+        // fingerprint doesn't cover, so a mined block always counts. No block update is sent: this block
+        // entity has no update packet and the screen reads its PropertyDelegate live
+        blockEntity.fingerprintSavedState().commit(blockEntity, minedBlock);
         
-        // Mark dirty if anything changed
-        if (needsSync) {
-            blockEntity.markDirty();
-            
-            // Do the normal block update
-            world.updateListeners(pos, state, state, 3);
-        }
-        
-        // Send mining progress updates to clients (every few ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && blockEntity.currentMiningPos != null && blockEntity.currentMiningProgress > 0) {
-            // Send progress updates every 5 ticks (4 times per second) to avoid spam
-            if (world.getTime() % 5 == 0) {
-                ModNetworking.sendDrillMiningProgressUpdate(PlayerLookup.tracking(serverWorld, pos), blockEntity.currentMiningProgress, blockEntity.currentMiningPos);
-            }
-        }
-        
-        // Send mining area bounds to clients for rendering (every 20 ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && world.getTime() % 20 == 0) {
-            for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, pos)) {
-                ModNetworking.sendDrillDimensionsUpdate(PlayerLookup.tracking(serverWorld, pos), blockEntity.miningHeight, blockEntity.miningWidth);
-            }
-        }
-        
-        // Send initial sync to new players (every 100 ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && world.getTime() % 100 == 0) {
-            for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, pos)) {
-                // Send current mining enabled status
-                ModNetworking.sendDrillMiningEnabledUpdate(PlayerLookup.tracking(serverWorld, pos), blockEntity.miningEnabled);
-                // Send current dimensions
-                ModNetworking.sendDrillDimensionsUpdate(PlayerLookup.tracking(serverWorld, pos), blockEntity.miningHeight, blockEntity.miningWidth);
-            }
-        }
+        // Progress, dimensions and enabled state reach clients through the shared machine sync channel
+        MachineStateSync.track(blockEntity);
+    }
+
+    /**
+     * Folds the fields written by writeNbt into the saved state tracker. The inventory and the
+     * per-tick energy bookkeeping are left out.
+     */
+    private PersistentStateTracker fingerprintSavedState() {
+        return savedState.begin()
+            .add(accumulatedEnergy)
+            .add(currentBlockEnergyCost)
+            .add(miningEnabled)
+            .add(inventoryFullPause)
+            .add(miningHeight)
+            .add(miningWidth)
+            .add(miningAreaMinY)
+            .add(miningAreaMaxY)
+            .add(miningAreaMinWidth)
+            .add(miningAreaMaxWidth)
+            .add(currentMiningPos)
+            .add(currentMiningProgress)
+            .add(startPos)
+            .add(currentPos)
+            .add(currentDepth)
+            .add(currentY)
+            .add(currentWidth)
+            .add(cachedFortuneLevel)
+            .add(facingDirection != null ? facingDirection.ordinal() : -1)
+            .add(network != null ? network.getNetworkId().hashCode() : 0);
     }
 
     /**
@@ -1154,10 +1130,36 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
     }
 
     // Network synchronization methods
-    public void setMiningProgressFromNetwork(int miningProgress, BlockPos miningPos) {
-        this.currentMiningProgress = miningProgress;
-        this.currentMiningPos = miningPos;
-        Circuitmod.LOGGER.info("[DRILL] Received mining progress update: {} at {}", miningProgress, miningPos);
+    @Override
+    public int getSyncedFieldCount() {
+        return SYNC_FIELD_COUNT;
+    }
+    
+    @Override
+    public void writeSyncedFields(long[] values) {
+        values[SYNC_MINING_ENABLED] = miningEnabled ? 1 : 0;
+        values[SYNC_MINING_PROGRESS] = currentMiningProgress;
+        values[SYNC_MINING_POS] = MachineStateSync.encodePos(currentMiningPos);
+        values[SYNC_MINING_HEIGHT] = miningHeight;
+        values[SYNC_MINING_WIDTH] = miningWidth;
+    }
+    
+    @Override
+    public void applySyncedFields(int changedMask, long[] values) {
+        if ((changedMask & (1 << SYNC_MINING_ENABLED)) != 0) {
+            setMiningEnabledFromNetwork(values[SYNC_MINING_ENABLED] != 0);
+        }
+        if ((changedMask & ((1 << SYNC_MINING_HEIGHT) | (1 << SYNC_MINING_WIDTH))) != 0) {
+            int height = (changedMask & (1 << SYNC_MINING_HEIGHT)) != 0 ? (int) values[SYNC_MINING_HEIGHT] : miningHeight;
+            int width = (changedMask & (1 << SYNC_MINING_WIDTH)) != 0 ? (int) values[SYNC_MINING_WIDTH] : miningWidth;
+            setMiningDimensionsFromNetwork(height, width);
+        }
+        if ((changedMask & (1 << SYNC_MINING_PROGRESS)) != 0) {
+            currentMiningProgress = (int) values[SYNC_MINING_PROGRESS];
+        }
+        if ((changedMask & (1 << SYNC_MINING_POS)) != 0) {
+            currentMiningPos = MachineStateSync.decodePos(values[SYNC_MINING_POS]);
+        }
     }
     
     public BlockPos getCurrentMiningPos() {
@@ -1301,40 +1303,6 @@ public class DrillBlockEntity extends BlockEntity implements SidedInventory, Nam
         return new DrillScreenHandler(syncId, playerInventory, this, this.propertyDelegate, this);
     }
     
-    public boolean findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return false;
-        }
-        
-        // Look for nearby power cables or other power connectables
-        for (Direction direction : Direction.values()) {
-            BlockPos neighborPos = pos.offset(direction);
-            BlockEntity neighborEntity = world.getBlockEntity(neighborPos);
-            
-            if (neighborEntity instanceof IPowerConnectable connectable) {
-                EnergyNetwork neighborNetwork = connectable.getNetwork();
-                if (neighborNetwork != null) {
-                    // Join the neighbor's network
-                    neighborNetwork.addBlock(pos, this);
-                    Circuitmod.LOGGER.info("[DRILL] Joined network {} at {}", 
-                        neighborNetwork.getNetworkId(), pos);
-                    return true;
-                }
-            }
-        }
-        
-        // If no network found, create a new one
-        if (network == null) {
-            network = new EnergyNetwork();
-            network.addBlock(pos, this);
-            Circuitmod.LOGGER.info("[DRILL] Created new network {} at {}", 
-                network.getNetworkId(), pos);
-            return true;
-        }
-        
-        return false;
-    }
-    
     /**
      * Gets the perimeter positions for rendering the mining area box
      */
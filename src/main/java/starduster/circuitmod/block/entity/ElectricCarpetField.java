@@ -0,0 +1,192 @@
+package starduster.circuitmod.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A contiguous area of electric carpets that draws power as a single network consumer.
+ * <p>
+ * One member, the head, reports the demand of the whole field and receives its energy; every other
+ * carpet reports no demand and takes its active state from the field. Membership is updated incrementally
+ * as carpets load and unload: joining merges the neighbouring fields, and leaving re-checks connectivity
+ * with an iterative flood fill over the member set, splitting off any carpets that are no longer attached.
+ */
+public class ElectricCarpetField {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Map<ServerWorld, Long2ObjectOpenHashMap<ElectricCarpetField>> FIELDS = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<ElectricCarpetBlockEntity> members = new Long2ObjectOpenHashMap<>();
+    private ElectricCarpetBlockEntity head;
+    private int energyReceived = 0; // Energy received by the head this tick
+    private boolean active = false;
+
+    public static void initialize() {
+        ServerWorldEvents.UNLOAD.register((server, world) -> FIELDS.remove(world));
+    }
+
+    /**
+     * Adds a carpet to the field of its neighbours, merging them if it bridges several, or starts a new field.
+     */
+    static ElectricCarpetField join(ServerWorld world, ElectricCarpetBlockEntity carpet) {
+        Long2ObjectOpenHashMap<ElectricCarpetField> index = FIELDS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+        long pos = carpet.getPos().asLong();
+
+        ElectricCarpetField field = null;
+        for (Direction direction : DIRECTIONS) {
+            ElectricCarpetField neighbor = index.get(BlockPos.offset(pos, direction));
+            if (neighbor == null || neighbor == field) {
+                continue;
+            }
+            field = field == null ? neighbor : merge(index, field, neighbor);
+        }
+        if (field == null) {
+            field = new ElectricCarpetField();
+        }
+        field.add(index, pos, carpet);
+        return field;
+    }
+
+    /**
+     * Removes a carpet from its field. If that disconnects the remaining carpets, each detached
+     * component becomes a field of its own.
+     */
+    static void leave(ServerWorld world, ElectricCarpetBlockEntity carpet) {
+        Long2ObjectOpenHashMap<ElectricCarpetField> index = FIELDS.get(world);
+        if (index == null) {
+            return;
+        }
+        long pos = carpet.getPos().asLong();
+        ElectricCarpetField field = index.remove(pos);
+        if (field == null) {
+            return;
+        }
+        field.members.remove(pos);
+        carpet.setField(null);
+        if (field.members.isEmpty()) {
+            return;
+        }
+
+        // Removing a carpet with at most one neighbour in the field can't split it
+        LongArrayList neighbors = new LongArrayList(DIRECTIONS.length);
+        for (Direction direction : DIRECTIONS) {
+            long neighbor = BlockPos.offset(pos, direction);
+            if (field.members.containsKey(neighbor)) {
+                neighbors.add(neighbor);
+            }
+        }
+        if (neighbors.size() > 1) {
+            LongOpenHashSet reached = field.floodFill(neighbors.getLong(0));
+            if (reached.size() < field.members.size()) {
+                for (int i = 1; i < neighbors.size(); i++) {
+                    long start = neighbors.getLong(i);
+                    if (reached.contains(start) || index.get(start) != field) {
+                        continue; // Still attached, or already split off from another neighbour
+                    }
+                    ElectricCarpetField split = new ElectricCarpetField();
+                    split.active = field.active;
+                    for (LongIterator it = field.floodFill(start).iterator(); it.hasNext(); ) {
+                        long member = it.nextLong();
+                        split.add(index, member, field.members.remove(member));
+                    }
+                }
+            }
+        }
+
+        if (field.head == carpet || !field.members.containsKey(field.head.getPos().asLong())) {
+            field.head = field.members.values().iterator().next();
+        }
+    }
+
+    private static ElectricCarpetField merge(Long2ObjectOpenHashMap<ElectricCarpetField> index,
+                                             ElectricCarpetField a, ElectricCarpetField b) {
+        ElectricCarpetField larger = a.members.size() >= b.members.size() ? a : b;
+        ElectricCarpetField smaller = larger == a ? b : a;
+        for (Long2ObjectMap.Entry<ElectricCarpetBlockEntity> entry : smaller.members.long2ObjectEntrySet()) {
+            larger.add(index, entry.getLongKey(), entry.getValue());
+        }
+        larger.energyReceived += smaller.energyReceived;
+        larger.active |= smaller.active;
+        smaller.members.clear();
+        return larger;
+    }
+
+    private void add(Long2ObjectOpenHashMap<ElectricCarpetField> index, long pos, ElectricCarpetBlockEntity carpet) {
+        members.put(pos, carpet);
+        index.put(pos, this);
+        carpet.setField(this);
+        if (head == null) {
+            head = carpet;
+        }
+    }
+
+    /**
+     * Iterative breadth-first walk over member positions connected to {@code start}.
+     */
+    private LongOpenHashSet floodFill(long start) {
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        visited.add(start);
+        queue.enqueue(start);
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            for (Direction direction : DIRECTIONS) {
+                long next = BlockPos.offset(current, direction);
+                if (members.containsKey(next) && visited.add(next)) {
+                    queue.enqueue(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Called from each member's tick. The head settles the field's active state for the tick.
+     */
+    void tick(ElectricCarpetBlockEntity carpet) {
+        // Make sure the demand is reported by a carpet that is actually on a network
+        if (head.getNetwork() == null && carpet.getNetwork() != null) {
+            head = carpet;
+        }
+        if (carpet == head) {
+            active = energyReceived > 0;
+            energyReceived = 0;
+        }
+    }
+
+    int getEnergyDemand(ElectricCarpetBlockEntity carpet, int demandPerCarpet) {
+        return carpet == head ? members.size() * demandPerCarpet : 0;
+    }
+
+    int consumeEnergy(ElectricCarpetBlockEntity carpet, int energyOffered, int demandPerCarpet) {
+        if (carpet != head) {
+            return 0;
+        }
+        int consumed = Math.min(energyOffered, getEnergyDemand(carpet, demandPerCarpet));
+        energyReceived += Math.max(consumed, 0);
+        return consumed;
+    }
+
+    void forEachMember(Consumer<ElectricCarpetBlockEntity> action) {
+        members.values().forEach(action);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int size() {
+        return members.size();
+    }
+}
@@ -15,6 +15,7 @@ import net.minecraft.recipe.SmeltingRecipe;
 import net.minecraft.recipe.input.SingleStackRecipeInput;
 import starduster.circuitmod.recipe.ElectricFurnaceRecipe;
 import starduster.circuitmod.recipe.ModRecipes;
+import starduster.circuitmod.recipe.RecipeLookupCache;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.screen.PropertyDelegate;
@@ -30,7 +31,6 @@ import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
-import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.ElectricFurnaceScreenHandler;
 import starduster.circuitmod.util.ImplementedInventory;
 
@@ -49,11 +49,14 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
     // Energy properties
     private static final int ENERGY_DEMAND_PER_TICK = 1; // Consumes 1 energy per tick when powered
     private EnergyNetwork network;
-    private boolean needsNetworkRefresh = false;
     private int energyReceived = 0; // Energy received this tick
     private boolean isPowered = false; // Whether we're receiving power
     // Debug logging control - set to true only when debugging
     private static final boolean DEBUG_LOGGING = false;
+
+    // Recipe lookups, memoized on the current input
+    private final RecipeLookupCache<SingleStackRecipeInput, SmeltingRecipe> smeltingRecipes = new RecipeLookupCache<>(RecipeType.SMELTING);
+    private final RecipeLookupCache<SingleStackRecipeInput, ElectricFurnaceRecipe> electricRecipes = new RecipeLookupCache<>(ModRecipes.ELECTRIC_FURNACE_TYPE);
     
     // Property delegate for GUI synchronization
     protected final PropertyDelegate propertyDelegate = new PropertyDelegate() {
@@ -135,7 +138,6 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
         
         super.readNbt(nbt, registries);
     }
@@ -144,22 +146,6 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
     public static void tick(World world, BlockPos pos, BlockState state, ElectricFurnaceBlockEntity entity) {
         if (world.isClient()) return;
         
-        // Handle network refresh
-        if (entity.needsNetworkRefresh) {
-            entity.needsNetworkRefresh = false;
-            if (entity.network != null) {
-                entity.network.addBlock(pos, entity);
-            }
-        }
-        
-        // Periodically check if we should be in a network
-        if (world.getTime() % 20 == 0) {  // Check every second
-            if (entity.network == null) {
-                // Use the standardized network connection method
-                starduster.circuitmod.power.EnergyNetworkManager.findAndJoinNetwork(world, pos, entity);
-            }
-        }
-        
         boolean poweredBefore = entity.isPowered;
         
         // Check if we have a recipe and can smelt
@@ -210,83 +196,7 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
         // Reset energy received at the end of the tick (after processing)
         entity.energyReceived = 0;
         // Don't reset isPowered here - let it persist for the GUI
-        
-        // Mark dirty to ensure GUI updates and property delegate synchronization
-        entity.markDirty();
-        
-        // Force block update to ensure clients get the latest state
-        world.updateListeners(pos, state, state, 3);
-    }
-    
-    /**
-     * Attempts to find and join a network from adjacent connectable blocks.
-     * Should be called when this furnace's network connection might have changed.
-     */
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient) return;
-        
-        boolean foundNetwork = false;
-        
-        // Look for adjacent networks
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                
-                Circuitmod.LOGGER.info("[ELECTRIC-FURNACE-NETWORK] Checking neighbor at {} in direction {}: network={}", 
-                    neighborPos, dir, network != null ? network.getNetworkId() : "null");
-                
-                if (network != null && network != this.network) {
-                    // Found a network, join it
-                    if (this.network != null) {
-                        // Remove from old network first
-                        String oldNetworkId = this.network.getNetworkId();
-                        this.network.removeBlock(pos);
-                        Circuitmod.LOGGER.info("[ELECTRIC-FURNACE] Left network {} at {}", oldNetworkId, pos);
-                    }
-                    
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    Circuitmod.LOGGER.info("[ELECTRIC-FURNACE] Joined existing network {} at {}", network.getNetworkId(), pos);
-                    break;
-                }
-            } else {
-                Circuitmod.LOGGER.info("[ELECTRIC-FURNACE-NETWORK] Neighbor at {} in direction {} is not IPowerConnectable: {}", 
-                    neighborPos, dir, be != null ? be.getClass().getSimpleName() : "null");
-            }
-        }
-        
-        // If no existing network was found, create a new one
-        if (!foundNetwork && (this.network == null)) {
-            Circuitmod.LOGGER.info("[ELECTRIC-FURNACE] No existing network found at {}, creating new network", pos);
-            
-            // Create a new network
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            
-            // Try to add adjacent connectables to this new network
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    
-                    // Only add if it doesn't already have a network and can connect
-                    if (connectable.canConnectPower(dir.getOpposite()) && 
-                        this.canConnectPower(dir)) {
-                        
-                        newNetwork.addBlock(neighborPos, connectable);
-                        Circuitmod.LOGGER.info("[ELECTRIC-FURNACE] Added neighbor at {} to new network {}", neighborPos, newNetwork.getNetworkId());
-                    }
-                }
-            }
-            
-            Circuitmod.LOGGER.info("[ELECTRIC-FURNACE] Created new network {} with furnace at {}", newNetwork.getNetworkId(), pos);
-        }
+        // The screen reads the PropertyDelegate live, so an idle furnace is never marked dirty
     }
     
     public boolean isBurning() {
@@ -379,9 +289,7 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
             return Optional.empty();
         }
         
-        SingleStackRecipeInput input = new SingleStackRecipeInput(this.getStack(INPUT_SLOT));
-        return ((ServerWorld) world).getRecipeManager()
-                .getFirstMatch(RecipeType.SMELTING, input, world);
+        return smeltingRecipes.get((ServerWorld) world, this.getStack(INPUT_SLOT), SingleStackRecipeInput::new);
     }
     
     private Optional<RecipeEntry<ElectricFurnaceRecipe>> getCurrentElectricRecipe() {
@@ -389,9 +297,7 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
             return Optional.empty();
         }
         
-        SingleStackRecipeInput input = new SingleStackRecipeInput(this.getStack(INPUT_SLOT));
-        return ((ServerWorld) world).getRecipeManager()
-                .getFirstMatch(ModRecipes.ELECTRIC_FURNACE_TYPE, input, world);
+        return electricRecipes.get((ServerWorld) world, this.getStack(INPUT_SLOT), SingleStackRecipeInput::new);
     }
     
     private int getCookTime() {
@@ -399,18 +305,14 @@ public class ElectricFurnaceBlockEntity extends BlockEntity implements NamedScre
             return 100; // Default cook time
         }
         
-        SingleStackRecipeInput input = new SingleStackRecipeInput(this.getStack(INPUT_SLOT));
-        
         // Check electric furnace recipes first
-        Optional<RecipeEntry<ElectricFurnaceRecipe>> electricRecipe = ((ServerWorld) world).getRecipeManager()
-                .getFirstMatch(ModRecipes.ELECTRIC_FURNACE_TYPE, input, world);
+        Optional<RecipeEntry<ElectricFurnaceRecipe>> electricRecipe = getCurrentElectricRecipe();
         if (electricRecipe.isPresent()) {
             return electricRecipe.get().value().getCookingTime(); // Use the recipe's cooking time
         }
         
         // Fall back to smelting recipes (half the cooking time)
-        Optional<RecipeEntry<SmeltingRecipe>> smeltingRecipe = ((ServerWorld) world).getRecipeManager()
-                .getFirstMatch(RecipeType.SMELTING, input, world);
+        Optional<RecipeEntry<SmeltingRecipe>> smeltingRecipe = getCurrentSmeltingRecipe();
         
         return smeltingRecipe.map(recipeEntry -> recipeEntry.value().getCookingTime() / 2).orElse(100);
     }
@@ -27,6 +27,7 @@ import starduster.circuitmod.fluid.IFluidStorage;
 import starduster.circuitmod.screen.FluidTankScreenHandler;
 import starduster.circuitmod.screen.ModScreenHandlers;
 import starduster.circuitmod.util.ImplementedInventory;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 public class FluidTankBlockEntity extends BlockEntity implements IFluidStorage, ImplementedInventory, 
         ExtendedScreenHandlerFactory<ModScreenHandlers.FluidTankData> {
@@ -81,10 +82,22 @@ public class FluidTankBlockEntity extends BlockEntity implements IFluidStorage,
     private void tick() {
         if (world == null || world.isClient()) return;
         
-        processBucketInteraction();
+        // Buckets only move when the inventory or the stored fluid changes, and both wake the tank
+        if (!processBucketInteraction()) {
+            MachineSleepScheduler.sleep(this);
+        }
+    }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        MachineSleepScheduler.wake(this);
     }
 
-    private void processBucketInteraction() {
+    /**
+     * @return whether a bucket was filled or emptied
+     */
+    private boolean processBucketInteraction() {
         // Process input slot (slot 0) - handles filled buckets and empty buckets being filled
         ItemStack inputStack = getStack(0);
         ItemStack outputStack = getStack(1);
@@ -103,6 +116,7 @@ public class FluidTankBlockEntity extends BlockEntity implements IFluidStorage,
                         inputStack.decrement(1);
                         setStack(1, filledBucket);
                         markDirty();
+                        return true;
                     }
                 }
             } else {
@@ -123,10 +137,12 @@ public class FluidTankBlockEntity extends BlockEntity implements IFluidStorage,
                             outputStack.increment(1);
                         }
                         markDirty();
+                        return true;
                     }
                 }
             }
         }
+        return false;
     }
 
     private ItemStack getFilledBucket(Fluid fluid) {
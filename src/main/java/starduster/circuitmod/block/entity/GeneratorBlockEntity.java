@@ -26,7 +26,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
-import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.machines.Generator;
 import starduster.circuitmod.block.machines.QuarryBlock;
 import starduster.circuitmod.power.EnergyNetwork;
@@ -35,10 +34,10 @@ import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.GeneratorScreenHandler;
 import starduster.circuitmod.sound.ModSounds;
 import starduster.circuitmod.util.ImplementedInventory;
+import starduster.circuitmod.util.MachineSleepScheduler;
+import starduster.circuitmod.util.PersistentStateTracker;
 
 public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHandlerFactory, ImplementedInventory, IEnergyProducer, IPowerConnectable {
-    // Debug logging control - set to true only when debugging
-    private static final boolean DEBUG_LOGGING = false;
     private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(1, ItemStack.EMPTY);
     
     private static final int FUEL_SLOT = 0;
@@ -51,7 +50,6 @@ public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHand
     
     // Power network connection
     private EnergyNetwork network = null;
-    private boolean needsNetworkRefresh = false;
     
     public GeneratorBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.GENERATOR_BLOCK_ENTITY, pos, state);
@@ -127,26 +125,13 @@ public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHand
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
     }
 
     private int soundClock = 0;
+    private final PersistentStateTracker savedState = new PersistentStateTracker();
     public void tick(World world, BlockPos pos, BlockState state, GeneratorBlockEntity entity) {
         if (world.isClient()) return;
         
-        // Handle network refresh
-        if (entity.needsNetworkRefresh) {
-            entity.findAndJoinNetwork();
-            entity.needsNetworkRefresh = false;
-        }
-        
-        // Periodically check if we should be in a network
-        if (world.getTime() % 20 == 0) {  // Check every second
-            if (entity.network == null) {
-                entity.findAndJoinNetwork();
-            }
-        }
-        
         boolean burningBefore = entity.isBurning();
         
         // Decrease burn time
@@ -171,7 +156,12 @@ public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHand
             world.setBlockState(pos, state.with(Generator.RUNNING, entity.isBurning()), Block.NOTIFY_ALL);
         }
         
-        entity.markDirty();
+        // Only dirty the chunk when the burn state changed; fuel slot changes mark dirty through the inventory
+        entity.savedState.begin()
+            .add(entity.burnTime)
+            .add(entity.maxBurnTime)
+            .add(entity.powerProduction)
+            .commit(entity, false);
 
         if(isBurning()) {
             if(soundClock <= 0){
@@ -185,6 +175,17 @@ public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHand
         if(!isBurning()) {
             soundClock = 60;
         }
+
+        // Out of fuel and attached to a network: nothing to do until fuel arrives or a neighbour changes
+        if (!entity.isBurning() && !entity.hasFuel() && entity.network != null) {
+            MachineSleepScheduler.sleep(entity);
+        }
+    }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        MachineSleepScheduler.wake(this);
     }
     
     public boolean isBurning() {
@@ -248,53 +249,6 @@ public class GeneratorBlockEntity extends BlockEntity implements NamedScreenHand
     @Override
     public void setNetwork(EnergyNetwork network) {
         this.network = network;
-    }
-    
-    /**
-     * Finds and joins an energy network by looking for adjacent power connectables.
-     */
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return;
-        }
-        
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    if (DEBUG_LOGGING) {
-                        Circuitmod.LOGGER.info("[GENERATOR-DEBUG] Joined network {} at {}", network.getNetworkId(), pos);
-                    }
-                    break;
-                }
-            }
-        }
-        
-        if (!foundNetwork && (this.network == null)) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    if (connectable.canConnectPower(dir.getOpposite()) && this.canConnectPower(dir)) {
-                        newNetwork.addBlock(neighborPos, connectable);
-                    }
-                }
-            }
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[GENERATOR-DEBUG] Created new network {} at {}", newNetwork.getNetworkId(), pos);
-            }
-        }
+        MachineSleepScheduler.wake(this);
     }
 } 
\ No newline at end of file
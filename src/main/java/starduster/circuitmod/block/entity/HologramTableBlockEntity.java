@@ -34,6 +34,8 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
 
     private List<BlockEntry> cachedBlocks = new ArrayList<>();
     private boolean needsRescan = true;
+    // Bumped whenever the cached block list changes so the client can rebuild its baked mesh
+    private int cacheVersion = 0;
     // Chunk offset for chaining - (0,0) means render own chunk, (1,0) means render chunk east, etc.
     private int chunkOffsetX = 0;
     private int chunkOffsetZ = 0;
@@ -181,6 +183,7 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
     public void requestRescan() {
         needsRescan = true;
         cachedBlocks.clear();
+        cacheVersion++;
     }
     
     public boolean needsRescan() {
@@ -190,12 +193,17 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
     public void setCachedBlocks(List<BlockEntry> blocks) {
         cachedBlocks = blocks;
         needsRescan = false;
+        cacheVersion++;
     }
     
     public List<BlockEntry> getCachedBlocks() {
         return cachedBlocks;
     }
     
+    public int getCacheVersion() {
+        return cacheVersion;
+    }
+    
     /**
      * Sets the chunk offset for chaining tables together
      */
@@ -206,6 +214,7 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
             this.chunkOffsetZ = offsetZ;
             this.needsRescan = true; // Rescan when offset changes
             this.cachedBlocks.clear(); // Clear cached blocks from old chunk
+            this.cacheVersion++;
             if (!useCustomArea) {
                 initializeChunkBounds();
             }
@@ -283,6 +292,13 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
     @Override
     protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
         super.readNbt(nbt, registries);
+        int oldOffsetX = chunkOffsetX;
+        int oldOffsetZ = chunkOffsetZ;
+        int oldMinX = areaMinX;
+        int oldMaxX = areaMaxX;
+        int oldMinZ = areaMinZ;
+        int oldMaxZ = areaMaxZ;
+        int oldMinY = minYLevel;
         chunkOffsetX = nbt.getInt("chunkOffsetX", 0);
         chunkOffsetZ = nbt.getInt("chunkOffsetZ", 0);
         areaMinX = nbt.getInt("areaMinX", getTargetChunkX() * 16);
@@ -291,8 +307,11 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
         areaMaxZ = nbt.getInt("areaMaxZ", areaMinZ + 15);
         minYLevel = nbt.getInt("minYLevel", pos.getY());
         useCustomArea = nbt.getBoolean("useCustomArea", false);
-        cachedBlocks.clear();
-        needsRescan = true;
+        // Client syncs resend the whole block entity; only drop the cache when the scanned area moved
+        if (chunkOffsetX != oldOffsetX || chunkOffsetZ != oldOffsetZ || areaMinX != oldMinX || areaMaxX != oldMaxX
+                || areaMinZ != oldMinZ || areaMaxZ != oldMaxZ || minYLevel != oldMinY) {
+            requestRescan();
+        }
     }
     
     @Nullable
@@ -364,9 +383,16 @@ public class HologramTableBlockEntity extends BlockEntity implements ExtendedScr
     }
 
     public void resetToChunkArea() {
+        int oldMinX = areaMinX;
+        int oldMaxX = areaMaxX;
+        int oldMinZ = areaMinZ;
+        int oldMaxZ = areaMaxZ;
+        int oldMinY = minYLevel;
         useCustomArea = false;
         initializeChunkBounds();
-        requestRescan();
+        if (areaMinX != oldMinX || areaMaxX != oldMaxX || areaMinZ != oldMinZ || areaMaxZ != oldMaxZ || minYLevel != oldMinY) {
+            requestRescan();
+        }
         syncToClient();
     }
 
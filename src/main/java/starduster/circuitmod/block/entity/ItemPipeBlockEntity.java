@@ -18,12 +18,9 @@ import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.networkblocks.BasePipeBlock;
 import starduster.circuitmod.item.network.ItemNetworkManager;
 import starduster.circuitmod.item.network.ItemNetwork;
+import starduster.circuitmod.item.network.PipePathfinder;
 import starduster.circuitmod.network.PipeNetworkAnimator;
-
-import java.util.HashSet;
-import java.util.Set;
-import java.util.List;
-import java.util.ArrayList;
+import starduster.circuitmod.util.TickProfiler;
 
 /**
  * ItemPipe - Transports items hop-by-hop towards inventories.
@@ -31,21 +28,8 @@ import java.util.ArrayList;
  */
 public class ItemPipeBlockEntity extends BlockEntity implements Inventory {
     
-    /**
-     * Result of pathfinding evaluation containing both score and path
-     */
-    private static class PathResult {
-        final int score;
-        final List<BlockPos> path;
-        
-        PathResult(int score, List<BlockPos> path) {
-            this.score = score;
-            this.path = new ArrayList<>(path);
-        }
-    }
     private static final int INVENTORY_SIZE = 1;
     private static final int COOLDOWN_TICKS = 2; // Move every 2 ticks (much faster movement)
-    private static final int MAX_PATHFIND_DEPTH = 12; // Increased depth for better pathfinding
     private static final int STUCK_TIMEOUT = 100; // Ticks before considering an item stuck
     private static final int DIRECTION_CHANGE_THRESHOLD = 20; // Ticks before allowing direction change
     
@@ -167,7 +151,9 @@ public class ItemPipeBlockEntity extends BlockEntity implements Inventory {
         }
         
         // Step 3: Use improved pathfinding to find the best direction - NO ANIMATION HERE
+        long profileStart = TickProfiler.begin();
         Direction bestDirection = findBestDirectionWithPathfinding(world, pos, item);
+        TickProfiler.end(TickProfiler.Subsystem.PIPE_ROUTING, profileStart);
         if (bestDirection != null) {
             BlockPos nextPos = pos.offset(bestDirection);
             if (tryPassToPipe(world, nextPos, item, bestDirection)) {
@@ -338,6 +324,7 @@ public class ItemPipeBlockEntity extends BlockEntity implements Inventory {
      * Find the best direction using improved pathfinding - NO ANIMATIONS HERE, just pathfinding.
      */
     private Direction findBestDirectionWithPathfinding(World world, BlockPos pos, ItemStack item) {
+        PipePathfinder.Maze maze = cellPos -> classifyCell(world, cellPos, item);
         Direction bestDirection = null;
         int bestScore = -1;
         
@@ -345,7 +332,7 @@ public class ItemPipeBlockEntity extends BlockEntity implements Inventory {
             if (isSourceDirection(pos, direction)) continue; // Don't go backwards
             
             BlockPos nextPos = pos.offset(direction);
-            PathResult result = evaluatePathScoreImproved(world, nextPos, item, direction, 0, new HashSet<>(), new ArrayList<>());
+            PipePathfinder.PathResult result = PipePathfinder.evaluate(maze, nextPos, direction);
             
             if (result.score > bestScore) {
                 bestScore = result.score;
@@ -359,59 +346,19 @@ public class ItemPipeBlockEntity extends BlockEntity implements Inventory {
     }
     
     /**
-     * Improved pathfinding that explores multiple branches simultaneously.
-     * Uses a visited set to prevent infinite loops and explores all possible paths.
+     * Classifies a position for {@link PipePathfinder}.
      */
-    private PathResult evaluatePathScoreImproved(World world, BlockPos pos, ItemStack item, Direction direction, int depth, Set<BlockPos> visited, List<BlockPos> currentPath) {
-        if (depth >= MAX_PATHFIND_DEPTH || visited.contains(pos)) {
-            return new PathResult(0, currentPath);
-        }
-        
-        visited.add(pos);
-        List<BlockPos> path = new ArrayList<>(currentPath);
-        path.add(pos);
+    private PipePathfinder.Cell classifyCell(World world, BlockPos pos, ItemStack item) {
         BlockState state = world.getBlockState(pos);
-        
-        // Found an inventory - score based on distance and availability
-        if (!(state.getBlock() instanceof BasePipeBlock)) {
-            Inventory inventory = getInventoryAt(world, pos);
-            if (inventory != null) {
-                if (hasSpaceForItem(inventory, item)) {
-                    visited.remove(pos); // Remove from visited for other paths
-                    return new PathResult(200 - (depth * 15), path); // Higher base score for better pathfinding
-                } else {
-                    visited.remove(pos);
-                    return new PathResult(5, path); // Inventory with no space gets minimal score
-                }
-            }
-            visited.remove(pos);
-            return new PathResult(-20, path); // Not an inventory - negative score
+        if (state.getBlock() instanceof BasePipeBlock) {
+            return world.getBlockEntity(pos) instanceof Inventory pipe && pipe.isEmpty()
+                ? PipePathfinder.Cell.EMPTY_PIPE : PipePathfinder.Cell.BUSY_PIPE;
         }
-        
-        // Found a pipe - explore all possible directions from this pipe
-        BlockEntity pipeEntity = world.getBlockEntity(pos);
-        if (pipeEntity instanceof Inventory pipe && pipe.isEmpty()) {
-            int bestScore = -1;
-            List<BlockPos> bestPath = new ArrayList<>(path);
-            
-            // Explore all directions from this pipe (full branching)
-            for (Direction exploreDir : Direction.values()) {
-                if (exploreDir == direction.getOpposite()) continue; // Don't go backwards
-                
-                BlockPos explorePos = pos.offset(exploreDir);
-                PathResult result = evaluatePathScoreImproved(world, explorePos, item, exploreDir, depth + 1, visited, path);
-                if (result.score > bestScore) {
-                    bestScore = result.score;
-                    bestPath = result.path;
-                }
-            }
-            
-            visited.remove(pos); // Remove from visited for other paths
-            return new PathResult(bestScore > 0 ? bestScore - 2 : bestScore, bestPath); // Subtract 2 for each pipe hop
+        Inventory inventory = getInventoryAt(world, pos);
+        if (inventory == null) {
+            return PipePathfinder.Cell.BLOCKED;
         }
-        
-        visited.remove(pos);
-        return new PathResult(-10, path); // Blocked pipe or invalid path
+        return hasSpaceForItem(inventory, item) ? PipePathfinder.Cell.INVENTORY_WITH_SPACE : PipePathfinder.Cell.FULL_INVENTORY;
     }
     
     /**
@@ -32,21 +32,25 @@ import net.minecraft.entity.damage.DamageSource;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.machines.LaserMiningDrillBlock;
+import starduster.circuitmod.network.ISyncedMachine;
+import starduster.circuitmod.network.MachineStateSync;
 import starduster.circuitmod.network.ModNetworking;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
 import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.ModScreenHandlers;
 import starduster.circuitmod.screen.LaserMiningDrillScreenHandler;
+import starduster.circuitmod.util.PersistentStateTracker;
 import net.minecraft.block.Blocks;
 
 import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.sound.ModSounds;
+import starduster.circuitmod.util.TickProfiler;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.LaserMiningDrillData>, IEnergyConsumer {
+public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.LaserMiningDrillData>, IEnergyConsumer, ISyncedMachine {
     // Debug logging control - set to true only when debugging
     private static final boolean DEBUG_LOGGING = false;
     // Energy properties
@@ -73,8 +77,14 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
     private int miningDepth = 50; // Depth of the mining line (how far it will drill)
     
     // Networking properties
-    private int packetCooldown = 0; // Cooldown to avoid sending too many packets
-    private static final int PACKET_COOLDOWN_MAX = 10; // Only send packets every 10 ticks max (0.5 seconds)
+    private final PersistentStateTracker savedState = new PersistentStateTracker(); // Only dirty the chunk when saved fields change
+    
+    // Synced field indices for MachineStateSync
+    public static final int SYNC_MINING_ENABLED = 0;
+    public static final int SYNC_MINING_PROGRESS = 1;
+    public static final int SYNC_MINING_POS = 2;
+    public static final int SYNC_MINING_DEPTH = 3;
+    private static final int SYNC_FIELD_COUNT = 4;
     
     // Property delegate indices
     private static final int ENERGY_RECEIVED_INDEX = 0;
@@ -126,8 +136,6 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
         }
     };
 
-    // Add this field to the class
-    private boolean needsNetworkRefresh = false;
     private int soundClock = 160;
 
     public LaserMiningDrillBlockEntity(BlockPos pos, BlockState state) {
@@ -224,9 +232,6 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
         
         // Load inventory
         Inventories.readNbt(nbt, this.inventory, registries);
-        
-        // Mark that we need to refresh the network connection
-        this.needsNetworkRefresh = true;
     }
 
     public void tick(World world, BlockPos pos, BlockState state, LaserMiningDrillBlockEntity blockEntity) {
@@ -335,22 +340,6 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
             blockEntity.soundClock = 160;
         }
 
-        // Handle network refresh with retry logic for world reload scenarios
-        if (blockEntity.needsNetworkRefresh) {
-            boolean networkFound = blockEntity.findAndJoinNetwork();
-            if (networkFound) {
-                blockEntity.needsNetworkRefresh = false;
-                    if (DEBUG_LOGGING) {
-                        Circuitmod.LOGGER.info("[LASER-MINING-DRILL-NETWORK-DEBUG] Successfully joined network at {}", pos);
-                    }
-            } else {
-                // If we couldn't find a network, try again in a few ticks
-                // This helps with world reload scenarios where power cables might not be loaded yet
-                if (DEBUG_LOGGING && world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[LASER-MINING-DRILL-NETWORK-DEBUG] No network found at {}, will retry. Mining enabled: {}", pos, blockEntity.miningEnabled);
-                }
-            }
-        }
         if (world.isClient()) {
             return;
         }
@@ -370,7 +359,7 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
         // Make sure to set our demand for the next tick
         blockEntity.energyDemand = MAX_ENERGY_DEMAND;
         
-        boolean needsSync = false;
+        boolean minedBlock = false;
         
         // Debug log for diagnostics
         if (DEBUG_LOGGING && world.getTime() % 20 == 0) { // Only log every second
@@ -381,11 +370,9 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
         // Process mining operations based on energy available and if mining is enabled
         if (blockEntity.energyReceived > 0 && blockEntity.miningEnabled) {
             // Try to mine the current block (this will handle gradual mining)
-            boolean mined = blockEntity.mineNextBlock(world);
-            
-            if (mined) {
-                needsSync = true;
-            }
+            long profileStart = TickProfiler.begin();
+            minedBlock = blockEntity.mineNextBlock(world);
+            TickProfiler.end(TickProfiler.Subsystem.MINING, profileStart);
             
             // Add impact particles at the current mining position
             if (world.isClient() && blockEntity.currentMiningPos != null) {
@@ -405,47 +392,38 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
                     world.addParticleClient(ParticleTypes.ELECTRIC_SPARK, x, y, z, 0.0, 0.0, 0.0);
                 }
             }
-        } else {
-            // No energy received or mining is disabled
-            needsSync = true;
-            
-            // If mining is enabled but we're not receiving power, try to refresh network connection
-            // This helps with world reload scenarios where network connections might be lost
-            if (blockEntity.miningEnabled && blockEntity.energyReceived == 0 && blockEntity.network == null) {
-                if (DEBUG_LOGGING && world.getTime() % 40 == 0) { // Try every 2 seconds
-                    Circuitmod.LOGGER.info("[LASER-MINING-DRILL-NETWORK-RETRY] Mining enabled but no power at {}, attempting network refresh", pos);
-                    blockEntity.needsNetworkRefresh = true;
-                }
-            }
         }
         
         // Reset energy received at the end of each tick
         blockEntity.energyReceived = 0;
         
-        // Packet throttling logic to avoid network spam
-        blockEntity.packetCooldown--;
-        if (blockEntity.packetCooldown <= 0) {
-            blockEntity.packetCooldown = 0;
-        }
-        
-        // Mark dirty if anything changed
-        if (needsSync) {
-            blockEntity.markDirty();
-            
-            // Do the normal block update
-            world.updateListeners(pos, state, state, 3);
-        }
+        // Only dirty the chunk when saved state changed. Mined items land in the inventory, which the
+        // fingerprint doesn't cover, so a mined block always counts. No block update is sent: this block
+        // entity has no update packet and the screen reads its PropertyDelegate live
+        blockEntity.fingerprintSavedState().commit(blockEntity, minedBlock);
         
-        // Send mining progress updates to clients (every few ticks to avoid spam)
-        if (blockEntity.packetCooldown == 0 && blockEntity.currentMiningPos != null) {
-            blockEntity.packetCooldown = PACKET_COOLDOWN_MAX;
-            
-            ModNetworking.sendDrillMiningProgressUpdate(
-                PlayerLookup.tracking(blockEntity),
-                blockEntity.currentMiningProgress,
-                blockEntity.currentMiningPos
-            );
-        }
+        // Progress, depth and enabled state reach clients through the shared machine sync channel
+        MachineStateSync.track(blockEntity);
+    }
+
+    /**
+     * Folds the fields written by writeNbt into the saved state tracker. The inventory and the
+     * per-tick energy bookkeeping are left out.
+     */
+    private PersistentStateTracker fingerprintSavedState() {
+        return savedState.begin()
+            .add(currentBlockEnergyCost)
+            .add(miningEnabled)
+            .add(miningDepth)
+            .add(currentMiningPos)
+            .add(currentMiningProgress)
+            .add(totalMiningTicks)
+            .add(currentMiningTicks)
+            .add(currentDepth)
+            .add(startPos)
+            .add(currentPos)
+            .add(facingDirection != null ? facingDirection.ordinal() : -1)
+            .add(network != null ? network.getNetworkId().hashCode() : 0);
     }
     
     private void initializeMiningArea(BlockPos pos, BlockState state) {
@@ -829,10 +807,34 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
     }
 
     // Network synchronization methods
-    public void setMiningProgressFromNetwork(int miningProgress, BlockPos miningPos) {
-        this.currentMiningProgress = miningProgress;
-        this.currentMiningPos = miningPos;
-        Circuitmod.LOGGER.info("[LASER-MINING-DRILL] Received mining progress update: {} at {}", miningProgress, miningPos);
+    @Override
+    public int getSyncedFieldCount() {
+        return SYNC_FIELD_COUNT;
+    }
+    
+    @Override
+    public void writeSyncedFields(long[] values) {
+        values[SYNC_MINING_ENABLED] = miningEnabled ? 1 : 0;
+        values[SYNC_MINING_PROGRESS] = currentMiningProgress;
+        values[SYNC_MINING_POS] = MachineStateSync.encodePos(currentMiningPos);
+        values[SYNC_MINING_DEPTH] = miningDepth;
+    }
+    
+    @Override
+    public void applySyncedFields(int changedMask, long[] values) {
+        if ((changedMask & (1 << SYNC_MINING_ENABLED)) != 0) {
+            setMiningEnabledFromNetwork(values[SYNC_MINING_ENABLED] != 0);
+        }
+        // Depth first: changing it resets the mining position
+        if ((changedMask & (1 << SYNC_MINING_DEPTH)) != 0) {
+            setMiningDepthFromNetwork((int) values[SYNC_MINING_DEPTH]);
+        }
+        if ((changedMask & (1 << SYNC_MINING_PROGRESS)) != 0) {
+            currentMiningProgress = (int) values[SYNC_MINING_PROGRESS];
+        }
+        if ((changedMask & (1 << SYNC_MINING_POS)) != 0) {
+            currentMiningPos = MachineStateSync.decodePos(values[SYNC_MINING_POS]);
+        }
     }
     
     public BlockPos getCurrentMiningPos() {
@@ -960,40 +962,6 @@ public class LaserMiningDrillBlockEntity extends BlockEntity implements SidedInv
         return new LaserMiningDrillScreenHandler(syncId, playerInventory, this, this.propertyDelegate, this);
     }
     
-    public boolean findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return false;
-        }
-        
-        // Look for nearby power cables or other power connectables
-        for (Direction direction : Direction.values()) {
-            BlockPos neighborPos = pos.offset(direction);
-            BlockEntity neighborEntity = world.getBlockEntity(neighborPos);
-            
-            if (neighborEntity instanceof IPowerConnectable connectable) {
-                EnergyNetwork neighborNetwork = connectable.getNetwork();
-                if (neighborNetwork != null) {
-                    // Join the neighbor's network
-                    neighborNetwork.addBlock(pos, this);
-                    Circuitmod.LOGGER.info("[LASER-MINING-DRILL] Joined network {} at {}", 
-                        neighborNetwork.getNetworkId(), pos);
-                    return true;
-                }
-            }
-        }
-        
-        // If no network found, create a new one
-        if (network == null) {
-            network = new EnergyNetwork();
-            network.addBlock(pos, this);
-            Circuitmod.LOGGER.info("[LASER-MINING-DRILL] Created new network {} at {}", 
-                network.getNetworkId(), pos);
-            return true;
-        }
-        
-        return false;
-    }
-    
     /**
      * Gets the positions for rendering the mining line
      */
@@ -22,6 +22,7 @@ import net.minecraft.screen.ScreenHandler;
 import net.minecraft.text.Text;
 import net.minecraft.entity.player.PlayerInventory;
 import starduster.circuitmod.screen.MassFabricatorScreenHandler;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 public class MassFabricatorBlockEntity extends BlockEntity implements SidedInventory, IEnergyConsumer, NamedScreenHandlerFactory {
     public static final int INPUT_SLOT = 0;
@@ -148,9 +149,19 @@ public class MassFabricatorBlockEntity extends BlockEntity implements SidedInven
             entity.markDirty();
         } else {
             entity.progress = 0;
+            // Energy keeps arriving while asleep; only a new input can start fabrication
+            if (!hasNetherStar) {
+                MachineSleepScheduler.sleep(entity);
+            }
         }
     }
 
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        MachineSleepScheduler.wake(this);
+    }
+
     private static ItemStack getResultForResource(int resource) {
         // 0: Diamond, 1: Emerald, 2: Netherite Ingot, 3: Gold Ingot
         switch (resource) {
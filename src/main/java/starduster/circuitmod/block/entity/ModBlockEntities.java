@@ -205,6 +205,13 @@ public class ModBlockEntities {
         FabricBlockEntityTypeBuilder.create(MissileControlBlockEntity::new, ModBlocks.MISSILE_CONTROL_BLOCK).build()
     );
 
+    // Oxygen vent block entity
+    public static final BlockEntityType<OxygenVentBlockEntity> OXYGEN_VENT_BLOCK_ENTITY = Registry.register(
+        Registries.BLOCK_ENTITY_TYPE,
+        Identifier.of(Circuitmod.MOD_ID, "oxygen_vent"),
+        FabricBlockEntityTypeBuilder.create(OxygenVentBlockEntity::new, ModBlocks.OXYGEN_VENT).build()
+    );
+
     public static void initialize() {
         Circuitmod.LOGGER.info("ModBlockEntities initialized");
     }
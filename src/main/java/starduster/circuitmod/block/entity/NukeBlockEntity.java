@@ -18,7 +18,12 @@ import net.minecraft.world.World;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.machines.BloomeryBlock;
 import starduster.circuitmod.block.machines.Nuke;
+import starduster.circuitmod.util.BulkBlockWriter;
+import starduster.circuitmod.util.DiagnosticLog;
+import starduster.circuitmod.util.SphereShells;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Random;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -34,6 +39,7 @@ public class NukeBlockEntity extends BlockEntity {
     private static final int DEFAULT_VEGETATION_RADIUS = 100; // Halved from 200 to 100 - reduced radius for vegetation destruction
     private static final int DETONATION_TICKS = 60; // 3 seconds at 20 ticks/second
     private static final int EXPLOSION_DURATION_TICKS = 200; // 10 seconds at 20 ticks/second
+    private static final int BLOCKS_PER_TICK = 32768; // Shell positions visited per tick before the shell continues next tick
     
     // Vegetation destruction percentages
     private static final int VEGETATION_DESTRUCTION_CHANCE = 30; // 30% chance to destroy vegetation
@@ -50,6 +56,16 @@ public class NukeBlockEntity extends BlockEntity {
     private int currentRadius = 0; // Current radius being processed
     private int explosionTimer = 0; // Timer for the explosion phase
     private boolean vegetationPhase = false; // Whether we're in the vegetation destruction phase
+    private boolean effectsPhase = false; // Whether we're in the aftermath (glass, radiation, shockwave, thermal) phase
+    private int shellCursor = 0; // Index into the current shell, for shells that span several ticks
+    private int shellBlocksChanged = 0; // Blocks changed so far in the current shell
+    
+    // Current shell's offsets ordered by chunk section (not saved, rebuilt on demand)
+    private int[] shellOrder = null;
+    private int shellOrderRadius = -1;
+    
+    // Crater writes go through the bulk writer (no neighbor or shape updates); the rim is notified once at the end
+    private BulkBlockWriter blastWriter = null;
     
     public NukeBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.NUKE_BLOCK_ENTITY, pos, state);
@@ -66,6 +82,9 @@ public class NukeBlockEntity extends BlockEntity {
         nbt.putInt("current_radius", currentRadius);
         nbt.putInt("explosion_timer", explosionTimer);
         nbt.putBoolean("vegetation_phase", vegetationPhase);
+        nbt.putBoolean("effects_phase", effectsPhase);
+        nbt.putInt("shell_cursor", shellCursor);
+        nbt.putInt("shell_blocks_changed", shellBlocksChanged);
     }
     
     @Override
@@ -79,6 +98,9 @@ public class NukeBlockEntity extends BlockEntity {
         this.currentRadius = nbt.getInt("current_radius").orElse(0);
         this.explosionTimer = nbt.getInt("explosion_timer").orElse(0);
         this.vegetationPhase = nbt.getBoolean("vegetation_phase").orElse(false);
+        this.effectsPhase = nbt.getBoolean("effects_phase").orElse(false);
+        this.shellCursor = nbt.getInt("shell_cursor").orElse(0);
+        this.shellBlocksChanged = nbt.getInt("shell_blocks_changed").orElse(0);
     }
     
     public static void tick(World world, BlockPos pos, BlockState state, NukeBlockEntity blockEntity) {
@@ -88,12 +110,10 @@ public class NukeBlockEntity extends BlockEntity {
         
         // Handle detonation sequence
         if (blockEntity.isDetonating) {
-            Circuitmod.LOGGER.info("[NUKE-TICK] Detonating at " + pos);
             blockEntity.handleDetonation((ServerWorld) world);
         }
         // Handle priming sequence
         else if (blockEntity.isPrimed) {
-            Circuitmod.LOGGER.info("[NUKE-TICK] Primed at " + pos);
             blockEntity.handlePriming((ServerWorld) world);
         }
         double x = (double)pos.getX() + (double)0.5F;
@@ -128,12 +148,26 @@ public class NukeBlockEntity extends BlockEntity {
     private void handleDetonation(ServerWorld world) {
         explosionTimer++;
         
-        if (!vegetationPhase) {
-            // Main explosion phase
-            Circuitmod.LOGGER.info("[NUKE] Processing radius " + currentRadius + "/" + explosionRadius);
+        if (effectsPhase) {
+            // Aftermath phase: glass, radiation, shockwave and thermal effects, one shell at a time
+            if (!processShell(world, currentRadius, this::applyAftermathEffects)) {
+                return;
+            }
+            DiagnosticLog.EXPLOSIVES.debug("[NUKE] Applied {} aftermath effects at radius {}", shellBlocksChanged, currentRadius);
+            shellBlocksChanged = 0;
+            currentRadius++;
             
-            // Remove all blocks in the current radius layer
-            int blocksRemoved = removeRadiusLayer(world, currentRadius);
+            if (currentRadius > getAftermathRadius()) {
+                startVegetationPhase(world);
+            }
+        } else if (!vegetationPhase) {
+            // Main explosion phase
+            if (!processShell(world, currentRadius, this::blastBlock)) {
+                return;
+            }
+            int blocksRemoved = shellBlocksChanged;
+            shellBlocksChanged = 0;
+            DiagnosticLog.EXPLOSIVES.debug("[NUKE] Removed {} blocks at radius {}", blocksRemoved, currentRadius);
             
             // Send progress message every 10 radius increments
             if (currentRadius % 10 == 0 && currentRadius <= explosionRadius) {
@@ -144,21 +178,29 @@ public class NukeBlockEntity extends BlockEntity {
                     });
             }
             
+            if (currentRadius == explosionRadius) {
+                notifyCraterRim(world);
+                startRandomFires(world);
+                removeEntitiesInRadius(world);
+            }
+            
             // Move to next radius
             currentRadius++;
             
-            Circuitmod.LOGGER.info("[NUKE] Moved to radius " + currentRadius);
+            DiagnosticLog.EXPLOSIVES.debug("[NUKE] Moved to radius {}", currentRadius);
             
-            // Check if main explosion is complete, then start vegetation phase
+            // Check if main explosion is complete, then start the aftermath phase
             if (currentRadius > explosionRadius) {
-                startVegetationPhase(world);
+                startEffectsPhase();
             }
         } else {
             // Vegetation destruction phase
-            Circuitmod.LOGGER.info("[NUKE] Processing vegetation radius " + currentRadius + "/" + vegetationRadius);
-            
-            // Remove vegetation in the current radius layer
-            int vegetationRemoved = removeVegetationRadiusLayer(world, currentRadius);
+            if (!processShell(world, currentRadius, this::destroyVegetation)) {
+                return;
+            }
+            int vegetationRemoved = shellBlocksChanged;
+            shellBlocksChanged = 0;
+            DiagnosticLog.EXPLOSIVES.debug("[NUKE] Removed {} vegetation blocks at radius {}", vegetationRemoved, currentRadius);
             
             // Send progress message every 10 radius increments
             if (currentRadius % 10 == 0 && currentRadius <= vegetationRadius) {
@@ -172,7 +214,7 @@ public class NukeBlockEntity extends BlockEntity {
             // Move to next radius
             currentRadius++;
             
-            Circuitmod.LOGGER.info("[NUKE] Moved to vegetation radius " + currentRadius);
+            DiagnosticLog.EXPLOSIVES.debug("[NUKE] Moved to vegetation radius {}", currentRadius);
             
             // Check if vegetation destruction is complete
             if (currentRadius > vegetationRadius) {
@@ -181,14 +223,81 @@ public class NukeBlockEntity extends BlockEntity {
         }
     }
     
+    /**
+     * Visits one block of a shell. Returns true if the block was changed.
+     */
+    @FunctionalInterface
+    private interface ShellVisitor {
+        boolean visit(ServerWorld world, BlockPos blockPos, int squaredDistance);
+    }
+    
+    /**
+     * Visits up to {@link #BLOCKS_PER_TICK} positions of the shell at the given radius, section by section.
+     * Returns true once the whole shell has been visited.
+     */
+    private boolean processShell(ServerWorld world, int radius, ShellVisitor visitor) {
+        if (shellOrder == null || shellOrderRadius != radius) {
+            shellOrder = sortBySection(SphereShells.getShell(radius));
+            shellOrderRadius = radius;
+        }
+        
+        if (blastWriter == null) {
+            blastWriter = new BulkBlockWriter(world);
+        }
+        
+        int end = Math.min(shellOrder.length, shellCursor + BLOCKS_PER_TICK);
+        for (; shellCursor < end; shellCursor++) {
+            int offset = shellOrder[shellCursor];
+            if (offset == 0) {
+                continue; // Never touch the nuke block itself
+            }
+            BlockPos blockPos = pos.add(SphereShells.unpackX(offset), SphereShells.unpackY(offset), SphereShells.unpackZ(offset));
+            if (visitor.visit(world, blockPos, SphereShells.squaredLength(offset))) {
+                shellBlocksChanged++;
+            }
+        }
+        blastWriter.flush();
+        
+        if (shellCursor < shellOrder.length) {
+            markDirty();
+            return false;
+        }
+        shellCursor = 0;
+        return true;
+    }
+    
+    /**
+     * Orders shell offsets so that all positions in the same chunk section are visited together.
+     */
+    private int[] sortBySection(int[] shell) {
+        long[] keys = new long[shell.length];
+        int baseX = pos.getX() >> 4;
+        int baseY = pos.getY() >> 4;
+        int baseZ = pos.getZ() >> 4;
+        for (int i = 0; i < shell.length; i++) {
+            int offset = shell[i];
+            long sectionX = ((pos.getX() + SphereShells.unpackX(offset)) >> 4) - baseX + 64;
+            long sectionY = ((pos.getY() + SphereShells.unpackY(offset)) >> 4) - baseY + 64;
+            long sectionZ = ((pos.getZ() + SphereShells.unpackZ(offset)) >> 4) - baseZ + 64;
+            keys[i] = (sectionX << 46) | (sectionY << 39) | (sectionZ << 32) | i;
+        }
+        Arrays.sort(keys);
+        
+        int[] ordered = new int[shell.length];
+        for (int i = 0; i < keys.length; i++) {
+            ordered[i] = shell[(int) keys[i]];
+        }
+        return ordered;
+    }
+    
     // Helper: Remove all contiguous bamboo blocks up and down from a given position
-    private void removeBambooStack(ServerWorld world, BlockPos startPos) {
+    private void removeBambooStack(ServerWorld world, BlockPos startPos, Consumer<BlockPos> remover) {
         // Remove upwards
         BlockPos posUp = startPos;
         while (true) {
             BlockState state = world.getBlockState(posUp);
             if (state.getBlock() == Blocks.BAMBOO) {
-                world.setBlockState(posUp, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+                remover.accept(posUp);
                 posUp = posUp.up();
             } else {
                 break;
@@ -199,7 +308,7 @@ public class NukeBlockEntity extends BlockEntity {
         while (true) {
             BlockState state = world.getBlockState(posDown);
             if (state.getBlock() == Blocks.BAMBOO) {
-                world.setBlockState(posDown, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+                remover.accept(posDown);
                 posDown = posDown.down();
             } else {
                 break;
@@ -207,115 +316,83 @@ public class NukeBlockEntity extends BlockEntity {
         }
     }
     
-    private int removeRadiusLayer(ServerWorld world, int radius) {
-        int blocksRemoved = 0;
-        boolean isImmediateBlast = (radius <= explosionRadius);
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (Math.abs(distance - radius) < 0.5) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        if (blockPos.equals(pos)) continue;
-                        BlockState blockState = world.getBlockState(blockPos);
-                        Block block = blockState.getBlock();
-                        if (blockState.isAir() || block == Blocks.BEDROCK) continue;
-                        // Bamboo stack removal
-                        if (block == Blocks.BAMBOO) {
-                            removeBambooStack(world, blockPos);
-                            blocksRemoved++;
-                            continue;
-                        }
-                        if (isImmediateBlast) {
-                            world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                            blocksRemoved++;
-                        } else {
-                            // Only replace surface dirt with coarse dirt
-                            if (block == Blocks.DIRT) {
-                                BlockPos above = blockPos.up();
-                                BlockState aboveState = world.getBlockState(above);
-                                if (aboveState.isAir()) {
-                                    world.setBlockState(blockPos, Blocks.COARSE_DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                                    blocksRemoved++;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+    private boolean blastBlock(ServerWorld world, BlockPos blockPos, int squaredDistance) {
+        BlockState blockState = world.getBlockState(blockPos);
+        Block block = blockState.getBlock();
+        if (blockState.isAir() || block == Blocks.BEDROCK) {
+            return false;
         }
-        if (radius == explosionRadius) {
-            convertSandToGlass(world);
-            startRandomFires(world);
-            applyRadiationEffects(world);
-            applyShockwaveEffects(world);
-            applyThermalEffects(world);
-            removeEntitiesInRadius(world);
+        // Bamboo stack removal
+        if (block == Blocks.BAMBOO) {
+            removeBambooStack(world, blockPos, bambooPos -> blastWriter.set(bambooPos, Blocks.AIR.getDefaultState()));
+            return true;
         }
-        Circuitmod.LOGGER.info("[NUKE] Removed " + blocksRemoved + " blocks at radius " + radius);
-        return blocksRemoved;
+        blastWriter.set(blockPos, Blocks.AIR.getDefaultState());
+        return true;
     }
     
-    private int removeVegetationRadiusLayer(ServerWorld world, int radius) {
-        int vegetationRemoved = 0;
-        int firesStarted = 0;
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (Math.abs(distance - radius) < 0.5) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        if (blockPos.equals(pos)) continue;
-                        BlockState blockState = world.getBlockState(blockPos);
-                        Block block = blockState.getBlock();
-                        if (blockState.isAir()) continue;
-                        // Bamboo stack removal
-                        if (block == Blocks.BAMBOO) {
-                            removeBambooStack(world, blockPos);
-                            vegetationRemoved++;
-                            continue;
-                        }
-                        if (isVegetationBlock(blockState)) {
-                            boolean shouldDestroy = world.getRandom().nextInt(100) < VEGETATION_DESTRUCTION_CHANCE;
-                            if (shouldDestroy) {
-                                if (block == Blocks.GRASS_BLOCK) {
-                                    world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.SNOW || block == Blocks.SNOW_BLOCK) {
-                                    world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.MOSS_CARPET) {
-                                    world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.MOSS_BLOCK) {
-                                    world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.CRIMSON_NYLIUM || block == Blocks.WARPED_NYLIUM) {
-                                    world.setBlockState(blockPos, Blocks.NETHERRACK.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.ROOTED_DIRT) {
-                                    world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.MUD || block == Blocks.MUDDY_MANGROVE_ROOTS) {
-                                    world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.MANGROVE_ROOTS) {
-                                    world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                                } else if (block == Blocks.HANGING_ROOTS) {
-                                    world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                                } else {
-                                    world.removeBlock(blockPos, false);
-                                }
-                                vegetationRemoved++;
-                            }
-                            if (world.getRandom().nextInt(100) < FIRE_SETTING_CHANCE) {
-                                BlockPos firePos = blockPos.up();
-                                BlockState fireState = world.getBlockState(firePos);
-                                if (fireState.isAir()) {
-                                    world.setBlockState(firePos, Blocks.FIRE.getDefaultState(), Block.NOTIFY_ALL);
-                                    firesStarted++;
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * The crater interior was cleared without neighbor updates; notify the blocks just outside the
+     * outermost shell once so fluids flow in and unsupported blocks react.
+     */
+    private void notifyCraterRim(ServerWorld world) {
+        for (int offset : SphereShells.getShell(explosionRadius)) {
+            BlockPos blockPos = pos.add(SphereShells.unpackX(offset), SphereShells.unpackY(offset), SphereShells.unpackZ(offset));
+            if (world.getBlockState(blockPos).isAir()) {
+                world.updateNeighbors(blockPos, Blocks.AIR);
+            }
+        }
+    }
+    
+    private boolean destroyVegetation(ServerWorld world, BlockPos blockPos, int squaredDistance) {
+        BlockState blockState = world.getBlockState(blockPos);
+        Block block = blockState.getBlock();
+        if (blockState.isAir()) {
+            return false;
+        }
+        // Bamboo stack removal
+        if (block == Blocks.BAMBOO) {
+            removeBambooStack(world, blockPos, bambooPos -> world.setBlockState(bambooPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL));
+            return true;
+        }
+        if (!isVegetationBlock(blockState)) {
+            return false;
+        }
+        
+        boolean destroyed = false;
+        boolean shouldDestroy = world.getRandom().nextInt(100) < VEGETATION_DESTRUCTION_CHANCE;
+        if (shouldDestroy) {
+            if (block == Blocks.GRASS_BLOCK) {
+                world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.SNOW || block == Blocks.SNOW_BLOCK) {
+                world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.MOSS_CARPET) {
+                world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.MOSS_BLOCK) {
+                world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.CRIMSON_NYLIUM || block == Blocks.WARPED_NYLIUM) {
+                world.setBlockState(blockPos, Blocks.NETHERRACK.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.ROOTED_DIRT) {
+                world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.MUD || block == Blocks.MUDDY_MANGROVE_ROOTS) {
+                world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.MANGROVE_ROOTS) {
+                world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            } else if (block == Blocks.HANGING_ROOTS) {
+                world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            } else {
+                world.removeBlock(blockPos, false);
+            }
+            destroyed = true;
+        }
+        if (world.getRandom().nextInt(100) < FIRE_SETTING_CHANCE) {
+            BlockPos firePos = blockPos.up();
+            BlockState fireState = world.getBlockState(firePos);
+            if (fireState.isAir()) {
+                world.setBlockState(firePos, Blocks.FIRE.getDefaultState(), Block.NOTIFY_ALL);
             }
         }
-        Circuitmod.LOGGER.info("[NUKE] Removed " + vegetationRemoved + " vegetation blocks and started " + firesStarted + " fires at radius " + radius);
-        return vegetationRemoved;
+        return destroyed;
     }
     
     private boolean isVegetationBlock(BlockState blockState) {
@@ -416,34 +493,46 @@ public class NukeBlockEntity extends BlockEntity {
         return false;
     }
     
-    private void convertSandToGlass(ServerWorld world) {
+    /**
+     * Outermost radius touched by the aftermath effects (radiation reaches 3x blast radius).
+     */
+    private int getAftermathRadius() {
+        return explosionRadius * 3;
+    }
+    
+    /**
+     * Applies every aftermath effect whose radius covers this block, in the same order the
+     * effects were originally applied: glass, radiation, shockwave, thermal.
+     */
+    private boolean applyAftermathEffects(ServerWorld world, BlockPos blockPos, int squaredDistance) {
         int glassRadius = explosionRadius * 2; // 2x blast radius
-        int sandConverted = 0;
-        
-        // Convert sand to glass in 2x blast radius
-        for (int x = -glassRadius; x <= glassRadius; x++) {
-            for (int y = -glassRadius; y <= glassRadius; y++) {
-                for (int z = -glassRadius; z <= glassRadius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance <= glassRadius) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        
-                        // Don't convert the nuke block itself
-                        if (blockPos.equals(pos)) {
-                            continue;
-                        }
-                        
-                        BlockState blockState = world.getBlockState(blockPos);
-                        if (blockState.getBlock() == Blocks.SAND || blockState.getBlock() == Blocks.RED_SAND) {
-                            world.setBlockState(blockPos, Blocks.GLASS.getDefaultState(), Block.NOTIFY_ALL);
-                            sandConverted++;
-                        }
-                    }
-                }
-            }
-        }
+        int radiationRadius = explosionRadius * 3; // 3x blast radius
+        int shockwaveRadius = (int)(explosionRadius * 2.5); // 2.5x blast radius
+        int thermalRadius = (int)(explosionRadius * 1.5); // 1.5x blast radius
         
-        Circuitmod.LOGGER.info("[NUKE] Converted " + sandConverted + " sand blocks to glass in 2x blast radius");
+        boolean changed = false;
+        if (squaredDistance <= glassRadius * glassRadius) {
+            changed |= convertSandToGlass(world, blockPos);
+        }
+        if (squaredDistance <= radiationRadius * radiationRadius) {
+            changed |= applyRadiationEffects(world, blockPos);
+        }
+        if (squaredDistance <= shockwaveRadius * shockwaveRadius) {
+            changed |= applyShockwaveEffects(world, blockPos);
+        }
+        if (squaredDistance <= thermalRadius * thermalRadius) {
+            changed |= applyThermalEffects(world, blockPos);
+        }
+        return changed;
+    }
+    
+    private boolean convertSandToGlass(ServerWorld world, BlockPos blockPos) {
+        BlockState blockState = world.getBlockState(blockPos);
+        if (blockState.getBlock() == Blocks.SAND || blockState.getBlock() == Blocks.RED_SAND) {
+            world.setBlockState(blockPos, Blocks.GLASS.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        return false;
     }
     
     private void startRandomFires(ServerWorld world) {
@@ -482,213 +571,150 @@ public class NukeBlockEntity extends BlockEntity {
         Circuitmod.LOGGER.info("[NUKE] Started " + firesStarted + " random fires in 1.5x blast radius");
     }
     
-    private void applyRadiationEffects(ServerWorld world) {
-        int radiationRadius = explosionRadius * 3; // 3x blast radius
-        int effectsApplied = 0;
-        
-        // Apply radiation effects in 3x blast radius
-        for (int x = -radiationRadius; x <= radiationRadius; x++) {
-            for (int y = -radiationRadius; y <= radiationRadius; y++) {
-                for (int z = -radiationRadius; z <= radiationRadius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance <= radiationRadius) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        
-                        // Don't affect the nuke block itself
-                        if (blockPos.equals(pos)) {
-                            continue;
-                        }
-                        
-                        BlockState blockState = world.getBlockState(blockPos);
-                        Block block = blockState.getBlock();
-                        
-                        // Convert stone to cracked stone
-                        if (block == Blocks.STONE) {
-                            world.setBlockState(blockPos, Blocks.CRACKED_STONE_BRICKS.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert stone bricks to cracked stone bricks
-                        else if (block == Blocks.STONE_BRICKS) {
-                            world.setBlockState(blockPos, Blocks.CRACKED_STONE_BRICKS.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert grass to dead grass (brown)
-                        else if (block == Blocks.GRASS_BLOCK) {
-                            world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert water to contaminated water (different color via block state)
-                        else if (block == Blocks.WATER) {
-                            // Use a different water level to simulate contamination
-                            world.setBlockState(blockPos, Blocks.WATER.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert wool to black wool (charred)
-                        else if (blockState.isIn(BlockTags.WOOL)) {
-                            world.setBlockState(blockPos, Blocks.BLACK_WOOL.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                    }
-                }
-            }
-        }
+    private boolean applyRadiationEffects(ServerWorld world, BlockPos blockPos) {
+        BlockState blockState = world.getBlockState(blockPos);
+        Block block = blockState.getBlock();
         
-        Circuitmod.LOGGER.info("[NUKE] Applied " + effectsApplied + " radiation effects in 3x blast radius");
+        // Convert stone to cracked stone
+        if (block == Blocks.STONE) {
+            world.setBlockState(blockPos, Blocks.CRACKED_STONE_BRICKS.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert stone bricks to cracked stone bricks
+        else if (block == Blocks.STONE_BRICKS) {
+            world.setBlockState(blockPos, Blocks.CRACKED_STONE_BRICKS.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert grass to dead grass (brown)
+        else if (block == Blocks.GRASS_BLOCK) {
+            world.setBlockState(blockPos, Blocks.DIRT.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert water to contaminated water (different color via block state)
+        else if (block == Blocks.WATER) {
+            // Use a different water level to simulate contamination
+            world.setBlockState(blockPos, Blocks.WATER.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert wool to black wool (charred)
+        else if (blockState.isIn(BlockTags.WOOL)) {
+            world.setBlockState(blockPos, Blocks.BLACK_WOOL.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        return false;
     }
     
-    private void applyShockwaveEffects(ServerWorld world) {
-        int shockwaveRadius = (int)(explosionRadius * 2.5); // 2.5x blast radius
-        int effectsApplied = 0;
-        
-        // Apply shockwave effects in 2.5x blast radius
-        for (int x = -shockwaveRadius; x <= shockwaveRadius; x++) {
-            for (int y = -shockwaveRadius; y <= shockwaveRadius; y++) {
-                for (int z = -shockwaveRadius; z <= shockwaveRadius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance <= shockwaveRadius) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        
-                        // Don't affect the nuke block itself
-                        if (blockPos.equals(pos)) {
-                            continue;
-                        }
-                        
-                        BlockState blockState = world.getBlockState(blockPos);
-                        Block block = blockState.getBlock();
-                        
-                        // Break glass panes and windows
-                        if (block == Blocks.GLASS_PANE || block == Blocks.WHITE_STAINED_GLASS_PANE || 
-                            block == Blocks.ORANGE_STAINED_GLASS_PANE || block == Blocks.MAGENTA_STAINED_GLASS_PANE ||
-                            block == Blocks.LIGHT_BLUE_STAINED_GLASS_PANE || block == Blocks.YELLOW_STAINED_GLASS_PANE ||
-                            block == Blocks.LIME_STAINED_GLASS_PANE || block == Blocks.PINK_STAINED_GLASS_PANE ||
-                            block == Blocks.GRAY_STAINED_GLASS_PANE || block == Blocks.LIGHT_GRAY_STAINED_GLASS_PANE ||
-                            block == Blocks.CYAN_STAINED_GLASS_PANE || block == Blocks.PURPLE_STAINED_GLASS_PANE ||
-                            block == Blocks.BLUE_STAINED_GLASS_PANE || block == Blocks.BROWN_STAINED_GLASS_PANE ||
-                            block == Blocks.GREEN_STAINED_GLASS_PANE || block == Blocks.RED_STAINED_GLASS_PANE ||
-                            block == Blocks.BLACK_STAINED_GLASS_PANE) {
-                            world.removeBlock(blockPos, false);
-                            effectsApplied++;
-                        }
-                        // Note: Item frames and paintings are entities, not blocks
-                        // They will be handled by the removeEntitiesInRadius method
-                        // Disable redstone components by breaking them
-                        else if (block == Blocks.REDSTONE_LAMP || block == Blocks.REDSTONE_TORCH || 
-                                 block == Blocks.REDSTONE_WALL_TORCH || block == Blocks.REDSTONE_WIRE ||
-                                 block == Blocks.REPEATER || block == Blocks.COMPARATOR) {
-                            world.removeBlock(blockPos, false);
-                            effectsApplied++;
-                        }
-                        // Break powered rails
-                        else if (block == Blocks.POWERED_RAIL) {
-                            world.setBlockState(blockPos, Blocks.RAIL.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                    }
-                }
-            }
-        }
+    private boolean applyShockwaveEffects(ServerWorld world, BlockPos blockPos) {
+        BlockState blockState = world.getBlockState(blockPos);
+        Block block = blockState.getBlock();
         
-        Circuitmod.LOGGER.info("[NUKE] Applied " + effectsApplied + " shockwave effects in 2.5x blast radius");
+        // Break glass panes and windows
+        if (block == Blocks.GLASS_PANE || block == Blocks.WHITE_STAINED_GLASS_PANE || 
+            block == Blocks.ORANGE_STAINED_GLASS_PANE || block == Blocks.MAGENTA_STAINED_GLASS_PANE ||
+            block == Blocks.LIGHT_BLUE_STAINED_GLASS_PANE || block == Blocks.YELLOW_STAINED_GLASS_PANE ||
+            block == Blocks.LIME_STAINED_GLASS_PANE || block == Blocks.PINK_STAINED_GLASS_PANE ||
+            block == Blocks.GRAY_STAINED_GLASS_PANE || block == Blocks.LIGHT_GRAY_STAINED_GLASS_PANE ||
+            block == Blocks.CYAN_STAINED_GLASS_PANE || block == Blocks.PURPLE_STAINED_GLASS_PANE ||
+            block == Blocks.BLUE_STAINED_GLASS_PANE || block == Blocks.BROWN_STAINED_GLASS_PANE ||
+            block == Blocks.GREEN_STAINED_GLASS_PANE || block == Blocks.RED_STAINED_GLASS_PANE ||
+            block == Blocks.BLACK_STAINED_GLASS_PANE) {
+            world.removeBlock(blockPos, false);
+            return true;
+        }
+        // Note: Item frames and paintings are entities, not blocks
+        // They will be handled by the removeEntitiesInRadius method
+        // Disable redstone components by breaking them
+        else if (block == Blocks.REDSTONE_LAMP || block == Blocks.REDSTONE_TORCH || 
+                 block == Blocks.REDSTONE_WALL_TORCH || block == Blocks.REDSTONE_WIRE ||
+                 block == Blocks.REPEATER || block == Blocks.COMPARATOR) {
+            world.removeBlock(blockPos, false);
+            return true;
+        }
+        // Break powered rails
+        else if (block == Blocks.POWERED_RAIL) {
+            world.setBlockState(blockPos, Blocks.RAIL.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        return false;
     }
     
-    private void applyThermalEffects(ServerWorld world) {
-        int thermalRadius = (int)(explosionRadius * 1.5); // 1.5x blast radius
-        int effectsApplied = 0;
-        
-        // Apply thermal effects in 1.5x blast radius
-        for (int x = -thermalRadius; x <= thermalRadius; x++) {
-            for (int y = -thermalRadius; y <= thermalRadius; y++) {
-                for (int z = -thermalRadius; z <= thermalRadius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance <= thermalRadius) {
-                        BlockPos blockPos = pos.add(x, y, z);
-                        
-                        // Don't affect the nuke block itself
-                        if (blockPos.equals(pos)) {
-                            continue;
-                        }
-                        
-                        BlockState blockState = world.getBlockState(blockPos);
-                        Block block = blockState.getBlock();
-                        
-                        // Melt ice and snow
-                        if (block == Blocks.ICE || block == Blocks.SNOW || block == Blocks.SNOW_BLOCK) {
-                            world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert wooden items to charcoal (simulate burning)
-                        else if (blockState.isIn(BlockTags.LOGS) || blockState.isIn(BlockTags.PLANKS) ||
-                                 block == Blocks.CRAFTING_TABLE || block == Blocks.CHEST || 
-                                 block == Blocks.TRAPPED_CHEST || block == Blocks.BARREL ||
-                                 block == Blocks.LADDER ||
-                                 // All fence gate variants
-                                 block == Blocks.OAK_FENCE_GATE || block == Blocks.SPRUCE_FENCE_GATE ||
-                                 block == Blocks.BIRCH_FENCE_GATE || block == Blocks.JUNGLE_FENCE_GATE ||
-                                 block == Blocks.ACACIA_FENCE_GATE || block == Blocks.DARK_OAK_FENCE_GATE ||
-                                 block == Blocks.MANGROVE_FENCE_GATE || block == Blocks.CHERRY_FENCE_GATE ||
-                                 block == Blocks.BAMBOO_FENCE_GATE || block == Blocks.CRIMSON_FENCE_GATE ||
-                                 block == Blocks.WARPED_FENCE_GATE ||
-                                 // All door variants
-                                 block == Blocks.OAK_DOOR || block == Blocks.SPRUCE_DOOR ||
-                                 block == Blocks.BIRCH_DOOR || block == Blocks.JUNGLE_DOOR ||
-                                 block == Blocks.ACACIA_DOOR || block == Blocks.DARK_OAK_DOOR ||
-                                 block == Blocks.MANGROVE_DOOR || block == Blocks.CHERRY_DOOR ||
-                                 block == Blocks.BAMBOO_DOOR || block == Blocks.CRIMSON_DOOR ||
-                                 block == Blocks.WARPED_DOOR ||
-                                 // All trapdoor variants
-                                 block == Blocks.OAK_TRAPDOOR || block == Blocks.SPRUCE_TRAPDOOR ||
-                                 block == Blocks.BIRCH_TRAPDOOR || block == Blocks.JUNGLE_TRAPDOOR ||
-                                 block == Blocks.ACACIA_TRAPDOOR || block == Blocks.DARK_OAK_TRAPDOOR ||
-                                 block == Blocks.MANGROVE_TRAPDOOR || block == Blocks.CHERRY_TRAPDOOR ||
-                                 block == Blocks.BAMBOO_TRAPDOOR || block == Blocks.CRIMSON_TRAPDOOR ||
-                                 block == Blocks.WARPED_TRAPDOOR ||
-                                 // All stairs variants
-                                 block == Blocks.OAK_STAIRS || block == Blocks.SPRUCE_STAIRS ||
-                                 block == Blocks.BIRCH_STAIRS || block == Blocks.JUNGLE_STAIRS ||
-                                 block == Blocks.ACACIA_STAIRS || block == Blocks.DARK_OAK_STAIRS ||
-                                 block == Blocks.MANGROVE_STAIRS || block == Blocks.CHERRY_STAIRS ||
-                                 block == Blocks.BAMBOO_STAIRS || block == Blocks.CRIMSON_STAIRS ||
-                                 block == Blocks.WARPED_STAIRS ||
-                                 // All slab variants
-                                 block == Blocks.OAK_SLAB || block == Blocks.SPRUCE_SLAB ||
-                                 block == Blocks.BIRCH_SLAB || block == Blocks.JUNGLE_SLAB ||
-                                 block == Blocks.ACACIA_SLAB || block == Blocks.DARK_OAK_SLAB ||
-                                 block == Blocks.MANGROVE_SLAB || block == Blocks.CHERRY_SLAB ||
-                                 block == Blocks.BAMBOO_SLAB || block == Blocks.CRIMSON_SLAB ||
-                                 block == Blocks.WARPED_SLAB) {
-                            // Replace with charcoal blocks to simulate charred wood
-                            world.setBlockState(blockPos, Blocks.COAL_BLOCK.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Convert wool to black wool (charred)
-                        else if (blockState.isIn(BlockTags.WOOL)) {
-                            world.setBlockState(blockPos, Blocks.BLACK_WOOL.getDefaultState(), Block.NOTIFY_ALL);
-                            effectsApplied++;
-                        }
-                        // Create lava pools in depressions (random chance)
-                        else if (block == Blocks.AIR && world.getRandom().nextInt(100) < 5) { // 5% chance
-                            BlockState blockBelow = world.getBlockState(blockPos.down());
-                            if (blockBelow.getBlock() == Blocks.STONE || blockBelow.getBlock() == Blocks.DIRT) {
-                                world.setBlockState(blockPos, Blocks.LAVA.getDefaultState(), Block.NOTIFY_ALL);
-                                effectsApplied++;
-                            }
-                        }
-                        // Set fire to everything (not just flammable blocks)
-                        else if (block == Blocks.AIR && world.getRandom().nextInt(100) < 10) { // 15% chance for fire
-                            // Check if there's a solid block below to place fire on
-                            BlockState blockBelow = world.getBlockState(blockPos.down());
-                            if (!blockBelow.isAir() && blockBelow.getBlock() != Blocks.LAVA && 
-                                blockBelow.getBlock() != Blocks.WATER && blockBelow.getBlock() != Blocks.BEDROCK) {
-                                world.setBlockState(blockPos, Blocks.FIRE.getDefaultState(), Block.NOTIFY_ALL);
-                                effectsApplied++;
-                            }
-                        }
-                    }
-                }
+    private boolean applyThermalEffects(ServerWorld world, BlockPos blockPos) {
+        BlockState blockState = world.getBlockState(blockPos);
+        Block block = blockState.getBlock();
+        
+        // Melt ice and snow
+        if (block == Blocks.ICE || block == Blocks.SNOW || block == Blocks.SNOW_BLOCK) {
+            world.setBlockState(blockPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert wooden items to charcoal (simulate burning)
+        else if (blockState.isIn(BlockTags.LOGS) || blockState.isIn(BlockTags.PLANKS) ||
+                 block == Blocks.CRAFTING_TABLE || block == Blocks.CHEST || 
+                 block == Blocks.TRAPPED_CHEST || block == Blocks.BARREL ||
+                 block == Blocks.LADDER ||
+                 // All fence gate variants
+                 block == Blocks.OAK_FENCE_GATE || block == Blocks.SPRUCE_FENCE_GATE ||
+                 block == Blocks.BIRCH_FENCE_GATE || block == Blocks.JUNGLE_FENCE_GATE ||
+                 block == Blocks.ACACIA_FENCE_GATE || block == Blocks.DARK_OAK_FENCE_GATE ||
+                 block == Blocks.MANGROVE_FENCE_GATE || block == Blocks.CHERRY_FENCE_GATE ||
+                 block == Blocks.BAMBOO_FENCE_GATE || block == Blocks.CRIMSON_FENCE_GATE ||
+                 block == Blocks.WARPED_FENCE_GATE ||
+                 // All door variants
+                 block == Blocks.OAK_DOOR || block == Blocks.SPRUCE_DOOR ||
+                 block == Blocks.BIRCH_DOOR || block == Blocks.JUNGLE_DOOR ||
+                 block == Blocks.ACACIA_DOOR || block == Blocks.DARK_OAK_DOOR ||
+                 block == Blocks.MANGROVE_DOOR || block == Blocks.CHERRY_DOOR ||
+                 block == Blocks.BAMBOO_DOOR || block == Blocks.CRIMSON_DOOR ||
+                 block == Blocks.WARPED_DOOR ||
+                 // All trapdoor variants
+                 block == Blocks.OAK_TRAPDOOR || block == Blocks.SPRUCE_TRAPDOOR ||
+                 block == Blocks.BIRCH_TRAPDOOR || block == Blocks.JUNGLE_TRAPDOOR ||
+                 block == Blocks.ACACIA_TRAPDOOR || block == Blocks.DARK_OAK_TRAPDOOR ||
+                 block == Blocks.MANGROVE_TRAPDOOR || block == Blocks.CHERRY_TRAPDOOR ||
+                 block == Blocks.BAMBOO_TRAPDOOR || block == Blocks.CRIMSON_TRAPDOOR ||
+                 block == Blocks.WARPED_TRAPDOOR ||
+                 // All stairs variants
+                 block == Blocks.OAK_STAIRS || block == Blocks.SPRUCE_STAIRS ||
+                 block == Blocks.BIRCH_STAIRS || block == Blocks.JUNGLE_STAIRS ||
+                 block == Blocks.ACACIA_STAIRS || block == Blocks.DARK_OAK_STAIRS ||
+                 block == Blocks.MANGROVE_STAIRS || block == Blocks.CHERRY_STAIRS ||
+                 block == Blocks.BAMBOO_STAIRS || block == Blocks.CRIMSON_STAIRS ||
+                 block == Blocks.WARPED_STAIRS ||
+                 // All slab variants
+                 block == Blocks.OAK_SLAB || block == Blocks.SPRUCE_SLAB ||
+                 block == Blocks.BIRCH_SLAB || block == Blocks.JUNGLE_SLAB ||
+                 block == Blocks.ACACIA_SLAB || block == Blocks.DARK_OAK_SLAB ||
+                 block == Blocks.MANGROVE_SLAB || block == Blocks.CHERRY_SLAB ||
+                 block == Blocks.BAMBOO_SLAB || block == Blocks.CRIMSON_SLAB ||
+                 block == Blocks.WARPED_SLAB) {
+            // Replace with charcoal blocks to simulate charred wood
+            world.setBlockState(blockPos, Blocks.COAL_BLOCK.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Convert wool to black wool (charred)
+        else if (blockState.isIn(BlockTags.WOOL)) {
+            world.setBlockState(blockPos, Blocks.BLACK_WOOL.getDefaultState(), Block.NOTIFY_ALL);
+            return true;
+        }
+        // Create lava pools in depressions (random chance)
+        else if (block == Blocks.AIR && world.getRandom().nextInt(100) < 5) { // 5% chance
+            BlockState blockBelow = world.getBlockState(blockPos.down());
+            if (blockBelow.getBlock() == Blocks.STONE || blockBelow.getBlock() == Blocks.DIRT) {
+                world.setBlockState(blockPos, Blocks.LAVA.getDefaultState(), Block.NOTIFY_ALL);
+                return true;
             }
         }
-        
-        Circuitmod.LOGGER.info("[NUKE] Applied " + effectsApplied + " thermal effects in 1.5x blast radius");
+        // Set fire to everything (not just flammable blocks)
+        else if (block == Blocks.AIR && world.getRandom().nextInt(100) < 10) { // 15% chance for fire
+            // Check if there's a solid block below to place fire on
+            BlockState blockBelow = world.getBlockState(blockPos.down());
+            if (!blockBelow.isAir() && blockBelow.getBlock() != Blocks.LAVA && 
+                blockBelow.getBlock() != Blocks.WATER && blockBelow.getBlock() != Blocks.BEDROCK) {
+                world.setBlockState(blockPos, Blocks.FIRE.getDefaultState(), Block.NOTIFY_ALL);
+                return true;
+            }
+        }
+        return false;
     }
     
     private void removeEntitiesInRadius(ServerWorld world) {
@@ -754,7 +780,16 @@ public class NukeBlockEntity extends BlockEntity {
         markDirty();
     }
     
+    private void startEffectsPhase() {
+        effectsPhase = true;
+        currentRadius = 1; // Aftermath effects cover the whole ball around the nuke
+        
+        Circuitmod.LOGGER.info("[NUKE] Nuclear aftermath phase started at " + pos);
+        markDirty();
+    }
+    
     private void startVegetationPhase(ServerWorld world) {
+        effectsPhase = false;
         vegetationPhase = true;
         currentRadius = explosionRadius + 1; // Start from where main explosion left off
         
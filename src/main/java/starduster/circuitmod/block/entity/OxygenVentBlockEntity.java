@@ -0,0 +1,15 @@
+package starduster.circuitmod.block.entity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Marks an oxygen vent so {@link starduster.circuitmod.luna.PressurizedRooms} finds it as its chunk loads and
+ * unloads. Holds no state and never ticks.
+ */
+public class OxygenVentBlockEntity extends BlockEntity {
+    public OxygenVentBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.OXYGEN_VENT_BLOCK_ENTITY, pos, state);
+    }
+}
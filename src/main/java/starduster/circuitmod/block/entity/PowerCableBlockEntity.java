@@ -9,10 +9,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
-import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.EnergyNetworkManager;
 import starduster.circuitmod.power.IPowerConnectable;
+import starduster.circuitmod.util.TickProfiler;
+import starduster.circuitmod.util.DiagnosticLog;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -76,7 +77,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             return;
         }
         
-        Circuitmod.LOGGER.info("Cable at " + pos + " removed. Handling network changes...");
+        DiagnosticLog.ENERGY.debug("Cable at {} removed. Handling network changes...", pos);
         
         // Store connected blocks before removing this one (for notification)
         Set<BlockPos> connectedPositions = new HashSet<>(network.getConnectedBlockPositions());
@@ -109,7 +110,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                     // Create new networks for disconnected blocks that are still valid
                     createNetworksForDisconnectedBlocks(disconnectedPositions);
                     
-                    Circuitmod.LOGGER.info("Network " + network.getNetworkId() + " rebuilt from " + rebuildFrom);
+                    DiagnosticLog.ENERGY.debug("Network {} rebuilt from {}", network.getNetworkId(), rebuildFrom);
                     
                     // Update chunk loading after network rebuild
                     updateChunkLoading();
@@ -126,7 +127,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                         Set<BlockPos> disconnectedPositions = network.rebuild(world, blockPos);
                         createNetworksForDisconnectedBlocks(disconnectedPositions);
                         foundRebuildBlock = true;
-                        Circuitmod.LOGGER.info("Network " + network.getNetworkId() + " rebuilt from non-adjacent block " + blockPos);
+                        DiagnosticLog.ENERGY.debug("Network {} rebuilt from non-adjacent block {}", network.getNetworkId(), blockPos);
                         
                         // Update chunk loading after network rebuild
                         updateChunkLoading();
@@ -138,7 +139,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                     // If we can't find any valid block for rebuilding, the network is invalid
                     // Clear it entirely and create new networks for all disconnected blocks
                     createNetworksForDisconnectedBlocks(connectedPositions);
-                    Circuitmod.LOGGER.info("Network " + network.getNetworkId() + " completely dissolved");
+                    DiagnosticLog.ENERGY.debug("Network {} completely dissolved", network.getNetworkId());
                 }
             }
         }
@@ -169,7 +170,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                 if (!serverWorld.isChunkLoaded(chunkPos.x, chunkPos.z) || 
                     this.chunkTicketExpiryTicks <= 0L) {
                     serverWorld.setChunkForced(chunkPos.x, chunkPos.z, true);
-                    Circuitmod.LOGGER.info("Forced chunk loading for cable at {}: chunk ({}, {})", pos, chunkPos.x, chunkPos.z);
+                    DiagnosticLog.ENERGY.debug("Forced chunk loading for cable at {}: chunk ({}, {})", pos, chunkPos.x, chunkPos.z);
                 }
             }
         }
@@ -182,7 +183,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             // Only release if no other cables in the network are keeping it loaded
             if (!isChunkNeededByNetwork(chunkPos)) {
                 serverWorld.setChunkForced(chunkPos.x, chunkPos.z, false);
-                Circuitmod.LOGGER.info("Released forced chunk loading: chunk ({}, {})", chunkPos.x, chunkPos.z);
+                DiagnosticLog.ENERGY.debug("Released forced chunk loading: chunk ({}, {})", chunkPos.x, chunkPos.z);
             }
         }
         
@@ -207,7 +208,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             // Only release if no other cables in the network are keeping it loaded
             if (!isChunkNeededByNetwork(chunkPos)) {
                 serverWorld.setChunkForced(chunkPos.x, chunkPos.z, false);
-                Circuitmod.LOGGER.debug("Released forced chunk loading on removal: chunk ({}, {})", chunkPos.x, chunkPos.z);
+                DiagnosticLog.ENERGY.debug("Released forced chunk loading on removal: chunk ({}, {})", chunkPos.x, chunkPos.z);
             }
         }
         
@@ -259,7 +260,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
         // Look for adjacent networks
         EnergyNetwork existingNetwork = null;
         
-        Circuitmod.LOGGER.info("Looking for adjacent networks to " + pos);
+        DiagnosticLog.ENERGY.debug("Looking for adjacent networks to {}", pos);
         
         // First, collect all connectable neighbors for later use
         Map<BlockPos, IPowerConnectable> connectableNeighbors = new HashMap<>();
@@ -270,7 +271,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             
             if (be instanceof IPowerConnectable) {
                 IPowerConnectable connectable = (IPowerConnectable) be;
-                Circuitmod.LOGGER.info("Found connectable at " + neighborPos + ": " + be.getClass().getSimpleName());
+                DiagnosticLog.ENERGY.debug("Found connectable at {}: {}", neighborPos, be.getClass().getSimpleName());
                 
                 // Store this connectable for later use
                 connectableNeighbors.put(neighborPos, connectable);
@@ -278,7 +279,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                 EnergyNetwork neighborNetwork = connectable.getNetwork();
                 
                 if (neighborNetwork != null) {
-                    Circuitmod.LOGGER.info("Neighbor has a network with " + neighborNetwork.getSize() + " blocks");
+                    DiagnosticLog.ENERGY.debug("Neighbor has a network with {} blocks", neighborNetwork.getSize());
                     if (existingNetwork == null) {
                         existingNetwork = neighborNetwork;
                     } else if (existingNetwork != neighborNetwork) {
@@ -286,21 +287,21 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                         String neighborNetworkId = neighborNetwork.getNetworkId();
                         if (neighborNetworkId.startsWith("MERGED-")) {
                             if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                                Circuitmod.LOGGER.info("Found neighbor with already merged network at " + neighborPos + 
-                                                      " (Network ID: " + neighborNetworkId + "), skipping merge");
+                                DiagnosticLog.ENERGY.debug("Found neighbor with already merged network at {} (Network ID: {}), skipping merge",
+                                    neighborPos, neighborNetworkId);
                             }
                             continue;
                         }
                         
                         // Found multiple networks, they need to be merged
                         if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                            Circuitmod.LOGGER.info("Found multiple networks, merging");
+                            DiagnosticLog.ENERGY.debug("Found multiple networks, merging");
                         }
                         existingNetwork.mergeWith(neighborNetwork);
                     }
                 } else {
                     if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                        Circuitmod.LOGGER.info("Neighbor has no network yet");
+                        DiagnosticLog.ENERGY.debug("Neighbor has no network yet");
                     }
                 }
             }
@@ -311,7 +312,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             existingNetwork.addBlock(pos, this);
             this.network = existingNetwork;
             if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                Circuitmod.LOGGER.info("Cable at " + pos + " joined existing network with " + existingNetwork.getSize() + " blocks");
+                DiagnosticLog.ENERGY.debug("Cable at {} joined existing network with {} blocks", pos, existingNetwork.getSize());
             }
             
             // Also add any neighbors that don't have a network yet
@@ -319,7 +320,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                 IPowerConnectable connectable = entry.getValue();
                 if (connectable.getNetwork() == null) {
                     if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                        Circuitmod.LOGGER.info("Adding previously unconnected neighbor at " + entry.getKey() + " to existing network");
+                        DiagnosticLog.ENERGY.debug("Adding previously unconnected neighbor at {} to existing network", entry.getKey());
                     }
                     existingNetwork.addBlock(entry.getKey(), connectable);
                 }
@@ -329,13 +330,13 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             this.network = starduster.circuitmod.power.EnergyNetworkManager.createNetwork();
             this.network.addBlock(pos, this);
             if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                Circuitmod.LOGGER.info("Cable at " + pos + " created new network");
+                DiagnosticLog.ENERGY.debug("Cable at {} created new network", pos);
             }
             
             // Add all the connectable neighbors to our new network
             for (Map.Entry<BlockPos, IPowerConnectable> entry : connectableNeighbors.entrySet()) {
                 if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                    Circuitmod.LOGGER.info("Adding neighbor at " + entry.getKey() + " to new network");
+                    DiagnosticLog.ENERGY.debug("Adding neighbor at {} to new network", entry.getKey());
                 }
                 this.network.addBlock(entry.getKey(), entry.getValue());
             }
@@ -367,8 +368,8 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                     String neighborNetworkId = neighborNetwork.getNetworkId();
                     if (neighborNetworkId.startsWith("MERGED-")) {
                         if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                            Circuitmod.LOGGER.debug("Cable at " + pos + " found neighbor with already merged network at " + neighborPos + 
-                                                  " (Network ID: " + neighborNetworkId + "), skipping merge");
+                            DiagnosticLog.ENERGY.debug("Cable at {} found neighbor with already merged network at {} (Network ID: {}), skipping merge",
+                                pos, neighborPos, neighborNetworkId);
                         }
                         continue;
                     }
@@ -376,7 +377,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                     // Found different network, merge them using global manager
                     starduster.circuitmod.power.EnergyNetworkManager.mergeNetworks(network, neighborNetwork);
                     if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                        Circuitmod.LOGGER.debug("Merged networks at " + pos);
+                        DiagnosticLog.ENERGY.debug("Merged networks at {}", pos);
                     }
                 }
             }
@@ -466,6 +467,11 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
     
     // IPowerConnectable implementation
     
+    @Override
+    public boolean attachesOnLoad() {
+        return false; // Cables rebuild their own connections from their tick
+    }
+    
     @Override
     public boolean canConnectPower(Direction side) {
         return true; // Cables can connect from any side
@@ -496,10 +502,14 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
         // Check if we have a network
         if (blockEntity.network != null) {
             // Process network energy transfers once per tick
+            long profileStart = TickProfiler.begin();
             blockEntity.network.tick();
+            TickProfiler.end(TickProfiler.Subsystem.ENERGY_SOLVE, profileStart);
             
             // Check for network integrity every tick
+            profileStart = TickProfiler.begin();
             validateNetworkIntegrity(world, pos, blockEntity);
+            TickProfiler.end(TickProfiler.Subsystem.TOPOLOGY_REPAIR, profileStart);
             
             // Check for neighbors that aren't in a network every 2 ticks (high frequency)
             if (world.getTime() % 10 == 0) {
@@ -571,12 +581,12 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             // If block entity doesn't exist or is no longer a power connectable
             if (!(be instanceof IPowerConnectable)) {
                 String networkId = cable.network != null ? cable.network.getNetworkId() : "NULL";
-                Circuitmod.LOGGER.info("Found invalid block at " + blockPos + " in network " + networkId + ", scheduling removal from network tracking");
+                DiagnosticLog.ENERGY.debug("Found invalid block at {} in network {}, scheduling removal from network tracking", blockPos, networkId);
                 invalidPositions.add(blockPos);
             } 
             // Or if it exists but has a different network
             else if (((IPowerConnectable) be).getNetwork() != cable.network) {
-                Circuitmod.LOGGER.info("Block at " + blockPos + " has a different network, scheduling removal from network tracking");
+                DiagnosticLog.ENERGY.debug("Block at {} has a different network, scheduling removal from network tracking", blockPos);
                 invalidPositions.add(blockPos);
             }
         }
@@ -586,14 +596,14 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             for (BlockPos invalidPos : invalidPositions) {
                 cable.network.removeBlock(invalidPos);
                 String networkId = cable.network != null ? cable.network.getNetworkId() : "NULL";
-                Circuitmod.LOGGER.info("Removed reference to block at " + invalidPos + " from network " + networkId + " tracking");
+                DiagnosticLog.ENERGY.debug("Removed reference to block at {} from network {} tracking", invalidPos, networkId);
             }
             
             // If we're still in the network after cleanup, rebuild from our position
             if (cable.network.getSize() > 0 && cable.network.getConnectedBlockPositions().contains(pos)) {
                 cable.network.rebuild(world, pos);
                 String networkId = cable.network != null ? cable.network.getNetworkId() : "NULL";
-                Circuitmod.LOGGER.info("Rebuilt network " + networkId + " after updating internal tracking");
+                DiagnosticLog.ENERGY.debug("Rebuilt network {} after updating internal tracking", networkId);
                 
                 // Update chunk loading after network rebuild
                 cable.updateChunkLoading();
@@ -622,9 +632,8 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                 IPowerConnectable connectable = (IPowerConnectable) be;
                 
                 // Debug the neighbor's current state
-                Circuitmod.LOGGER.debug("Cable at " + pos + " checking neighbor at " + neighborPos + 
-                                       ": hasNetwork=" + (connectable.getNetwork() != null) +
-                                       ", canConnect=" + connectable.canConnectPower(dir.getOpposite()));
+                DiagnosticLog.ENERGY.debug("Cable at {} checking neighbor at {}: hasNetwork={}, canConnect={}",
+                    pos, neighborPos, (connectable.getNetwork() != null), connectable.canConnectPower(dir.getOpposite()));
                 
                 // Check if the neighbor can connect to this side and doesn't have a network yet
                 if (connectable.getNetwork() == null && 
@@ -646,18 +655,17 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                     // Check if the neighbor's network is already merged (prevent infinite loops)
                     String neighborNetworkId = connectable.getNetwork().getNetworkId();
                     if (neighborNetworkId.startsWith("MERGED-")) {
-                        Circuitmod.LOGGER.debug("Cable at " + pos + " found neighbor with already merged network at " + neighborPos + 
-                                              " (Network ID: " + neighborNetworkId + "), skipping merge");
+                        DiagnosticLog.ENERGY.debug("Cable at {} found neighbor with already merged network at {} (Network ID: {}), skipping merge",
+                            pos, neighborPos, neighborNetworkId);
                         continue;
                     }
                     
-                    Circuitmod.LOGGER.info("Cable at " + pos + " found neighbor with different network at " + neighborPos + 
-                                          " (Network ID: " + neighborNetworkId + ")");
+                    DiagnosticLog.ENERGY.debug("Cable at {} found neighbor with different network at {} (Network ID: {})",
+                        pos, neighborPos, neighborNetworkId);
                     
                     // Merge networks using global manager
                     starduster.circuitmod.power.EnergyNetworkManager.mergeNetworks(cable.network, connectable.getNetwork());
-                    Circuitmod.LOGGER.info("Merged networks at " + pos + ": " + 
-                                          neighborNetworkId + " -> " + cable.network.getNetworkId());
+                    DiagnosticLog.ENERGY.debug("Merged networks at {}: {} -> {}", pos, neighborNetworkId, cable.network.getNetworkId());
                 }
             }
         }
@@ -689,7 +697,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             if (be instanceof IPowerConnectable) {
                 // Create a new network using global manager
                 EnergyNetwork newNetwork = starduster.circuitmod.power.EnergyNetworkManager.createNetwork();
-                Circuitmod.LOGGER.info("Created new network " + newNetwork.getNetworkId() + " for disconnected blocks");
+                DiagnosticLog.ENERGY.debug("Created new network {} for disconnected blocks", newNetwork.getNetworkId());
                 
                 // Flood fill from this position to find all connected blocks
                 Set<BlockPos> visited = new HashSet<>();
@@ -768,7 +776,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
             // Check if the network is in a valid state
             if (!network.isActive()) {
                 if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                    Circuitmod.LOGGER.warn("Cable at {} has inactive network {}, clearing reference", pos, network.getNetworkId());
+                    DiagnosticLog.ENERGY.warn("Cable at {} has inactive network {}, clearing reference", pos, network.getNetworkId());
                 }
                 network = null;
                 wasRecovered = true;
@@ -776,7 +784,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
                 // Check if we're still in the network's connected blocks
                 if (!network.getConnectedBlockPositions().contains(pos)) {
                     if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                        Circuitmod.LOGGER.warn("Cable at {} not found in network {}, clearing reference", pos, network.getNetworkId());
+                        DiagnosticLog.ENERGY.warn("Cable at {} not found in network {}, clearing reference", pos, network.getNetworkId());
                     }
                     network = null;
                     wasRecovered = true;
@@ -787,7 +795,7 @@ public class PowerCableBlockEntity extends BlockEntity implements IPowerConnecta
         // If we don't have a network, try to join one
         if (network == null) {
             if (!starduster.circuitmod.power.EnergyNetwork.startupMode) {
-                Circuitmod.LOGGER.info("Cable at {} has no network, attempting to join or create one", pos);
+                DiagnosticLog.ENERGY.debug("Cable at {} has no network, attempting to join or create one", pos);
             }
             joinExistingNetworkOrCreateNew();
             wasRecovered = true;
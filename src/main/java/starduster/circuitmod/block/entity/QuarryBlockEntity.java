@@ -29,23 +29,28 @@ import net.minecraft.world.World;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.machines.QuarryBlock;
+import starduster.circuitmod.network.ISyncedMachine;
+import starduster.circuitmod.network.MachineStateSync;
 import starduster.circuitmod.network.ModNetworking;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
 import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.ModScreenHandlers;
 import starduster.circuitmod.screen.QuarryScreenHandler;
+import starduster.circuitmod.util.BulkBlockWriter;
+import starduster.circuitmod.util.PersistentStateTracker;
 import net.minecraft.block.Blocks;
 
 import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.sound.ModSounds;
+import starduster.circuitmod.util.TickProfiler;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Set;
 
-public class QuarryBlockEntity extends BlockEntity implements SidedInventory, ExtendedScreenHandlerFactory<ModScreenHandlers.QuarryData>, IEnergyConsumer {
+public class QuarryBlockEntity extends BlockEntity implements SidedInventory, ExtendedScreenHandlerFactory<ModScreenHandlers.QuarryData>, IEnergyConsumer, ISyncedMachine {
     // Energy properties
     private static final int MAX_ENERGY_DEMAND = 3600; // Maximum energy demand per tick
     private int energyDemand = MAX_ENERGY_DEMAND; // Current energy demand per tick
@@ -84,7 +89,15 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
     private static final boolean DEBUG_LOGGING = false;
     
     // Networking properties
-    private int packetCooldown = 0; // Cooldown to avoid sending too many packets
+    private final PersistentStateTracker savedState = new PersistentStateTracker(); // Only dirty the chunk when saved fields change
+    
+    // Synced field indices for MachineStateSync
+    public static final int SYNC_MINING_ENABLED = 0;
+    public static final int SYNC_MINING_PROGRESS = 1;
+    public static final int SYNC_MINING_POS = 2;
+    public static final int SYNC_MINING_WIDTH = 3;
+    public static final int SYNC_MINING_LENGTH = 4;
+    private static final int SYNC_FIELD_COUNT = 5;
     
     // Property delegate indices
     private static final int ENERGY_RECEIVED_INDEX = 0;
@@ -145,8 +158,6 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
         }
     };
 
-    // Add this field to the class
-    private boolean needsNetworkRefresh = false;
     private int soundClock = 0;
 
     public QuarryBlockEntity(BlockPos pos, BlockState state) {
@@ -288,7 +299,6 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
         
         // Load inventory
         Inventories.readNbt(nbt, this.inventory, registries);
-        needsNetworkRefresh = true;
         
         // Initialize mining area on client side if not already done
         if (world != null && world.isClient() && startPos == null) {
@@ -331,20 +341,6 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
         if (world.getTime() % 20 == 0) {
             blockEntity.recentlyMinedPositions.clear();
         }
-
-        // Handle network refresh with retry logic for world reload scenarios
-        if (blockEntity.needsNetworkRefresh) {
-            boolean networkFound = blockEntity.findAndJoinNetwork();
-            if (networkFound) {
-                blockEntity.needsNetworkRefresh = false;
-                Circuitmod.LOGGER.info("[QUARRY-NETWORK] Successfully joined network at " + pos);
-            } else {
-                // If we couldn't find a network, try again in a few ticks
-                if (world.getTime() % 20 == 0) { // Log every second
-                    Circuitmod.LOGGER.info("[QUARRY-NETWORK] No network found at " + pos + ", will retry. Mining enabled: " + blockEntity.miningEnabled);
-                }
-            }
-        }
         
         if (world.isClient()) {
             return;
@@ -364,7 +360,7 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
         // Set our demand for the next tick
         blockEntity.energyDemand = MAX_ENERGY_DEMAND;
         
-        boolean needsSync = false;
+        boolean minedBlock = false;
         
         // Debug log for diagnostics
         if (DEBUG_LOGGING && world.getTime() % 20 == 0) { // Only log every second
@@ -381,67 +377,47 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
         // Process mining operations if mining is enabled
         if (blockEntity.miningEnabled) {
             // Try to mine the current block
-            boolean mined = blockEntity.processCurrentBlock(world);
-            
-            if (mined) {
-                needsSync = true;
-            }
-        } else {
-            // Mining is disabled
-            needsSync = true;
-            
-            // If mining is enabled but we're not receiving power, try to refresh network connection
-            if (blockEntity.miningEnabled && blockEntity.energyReceived == 0 && blockEntity.network == null) {
-                if (world.getTime() % 40 == 0) { // Try every 2 seconds
-                    Circuitmod.LOGGER.info("[QUARRY-NETWORK-RETRY] Mining enabled but no power at " + pos + ", attempting network refresh");
-                    blockEntity.needsNetworkRefresh = true;
-                }
-            }
+            long profileStart = TickProfiler.begin();
+            minedBlock = blockEntity.processCurrentBlock(world);
+            TickProfiler.end(TickProfiler.Subsystem.MINING, profileStart);
         }
         
         // Reset energy received at the end of each tick
         blockEntity.energyReceived = 0;
         
-        // Packet throttling logic to avoid network spam
-        blockEntity.packetCooldown--;
-        if (blockEntity.packetCooldown <= 0) {
-            blockEntity.packetCooldown = 0;
-        }
-        
-        // Mark dirty if anything changed
-        if (needsSync) {
-            blockEntity.markDirty();
-            
-            // Do the normal block update
-            world.updateListeners(pos, state, state, 3);
-        }
+        // Only dirty the chunk when saved state changed. Mined items land in the inventory, which the
+        // fingerprint doesn't cover, so a mined block always counts. No block update is sent: this block
+        // entity has no update packet and the screen reads its PropertyDelegate live
+        blockEntity.fingerprintSavedState().commit(blockEntity, minedBlock);
         
-        // Send mining progress updates to clients (every few ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && blockEntity.currentMiningPos != null && blockEntity.currentMiningProgress > 0) {
-            // Send progress updates every 5 ticks (4 times per second) to avoid spam
-            if (world.getTime() % 5 == 0) {
-                for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, pos)) {
-                    ModNetworking.sendMiningProgressUpdate(player, blockEntity.currentMiningProgress, blockEntity.currentMiningPos, pos);
-                }
-            }
-        }
-        
-        // Send mining area bounds to clients for rendering (every 20 ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && world.getTime() % 20 == 0) {
-            for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, pos)) {
-                ModNetworking.sendQuarryDimensionsSync(player, blockEntity.miningWidth, blockEntity.miningLength, pos);
-            }
-        }
-        
-        // Send initial sync to new players (every 100 ticks to avoid spam)
-        if (world instanceof ServerWorld serverWorld && world.getTime() % 100 == 0) {
-            for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, pos)) {
-                // Send current mining enabled status
-                ModNetworking.sendMiningEnabledStatus(player, blockEntity.miningEnabled, pos);
-                // Send current dimensions
-                ModNetworking.sendQuarryDimensionsSync(player, blockEntity.miningWidth, blockEntity.miningLength, pos);
-            }
-        }
+        // Progress, dimensions and enabled state reach clients through the shared machine sync channel
+        MachineStateSync.track(blockEntity);
+    }
+
+    /**
+     * Folds the fields written by writeNbt into the saved state tracker. The inventory and the
+     * per-tick energy bookkeeping are left out.
+     */
+    private PersistentStateTracker fingerprintSavedState() {
+        return savedState.begin()
+            .add(accumulatedEnergy)
+            .add(currentBlockEnergyCost)
+            .add(miningEnabled)
+            .add(inventoryFullPause)
+            .add(miningWidth)
+            .add(miningLength)
+            .add(miningAreaMinX)
+            .add(miningAreaMaxX)
+            .add(miningAreaMinZ)
+            .add(miningAreaMaxZ)
+            .add(currentMiningPos)
+            .add(currentMiningProgress)
+            .add(startPos)
+            .add(currentPos)
+            .add(currentY)
+            .add(cachedFortuneLevel)
+            .add(facingDirection != null ? facingDirection.ordinal() : -1)
+            .add(network != null ? network.getNetworkId().hashCode() : 0);
     }
     
     /**
@@ -545,6 +521,16 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
             return null;
         }
         
+        // Fluid sources found while searching are removed in one batch when the search returns
+        BulkBlockWriter fluidWriter = new BulkBlockWriter((ServerWorld) world);
+        try {
+            return searchMiningArea(world, minX, maxX, minZ, maxZ, fluidWriter);
+        } finally {
+            fluidWriter.flush(true);
+        }
+    }
+    
+    private BlockPos searchMiningArea(World world, int minX, int maxX, int minZ, int maxZ, BulkBlockWriter fluidWriter) {
         // Start searching from current position
         int searchX = currentPos.getX();
         int searchZ = currentPos.getZ();
@@ -564,7 +550,7 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
                 
                 // Handle fluid blocks
                 if (blockState.getBlock() instanceof FluidBlock) {
-                    removeFluidBlocks(world, searchPos);
+                    removeFluidBlocks(world, searchPos, fluidWriter);
                 } else if (!blockState.isAir() && canMineBlock(blockState, searchPos)) {
                     // Found a mineable block!
                     currentPos = searchPos; // Update current position
@@ -773,7 +759,7 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
      * This method is called when the quarry encounters fluid blocks during mining.
      * Only removes source blocks, not flowing blocks.
      */
-    private void removeFluidBlocks(World world, BlockPos miningPos) {
+    private void removeFluidBlocks(World world, BlockPos miningPos, BulkBlockWriter fluidWriter) {
         BlockState blockState = world.getBlockState(miningPos);
         
         // Check if this is a water block
@@ -782,7 +768,7 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
             FluidState fluidState = world.getFluidState(miningPos);
             if (fluidState.getLevel() == 0) {
                 // Remove only source water blocks
-                world.removeBlock(miningPos, false);
+                fluidWriter.set(miningPos, Blocks.AIR.getDefaultState());
                 
                 // Log the water removal for debugging
                 Circuitmod.LOGGER.info("[QUARRY-FLUID] Removed water source block at {}", miningPos);
@@ -795,7 +781,7 @@ public class QuarryBlockEntity extends BlockEntity implements SidedInventory, Ex
             FluidState fluidState = world.getFluidState(miningPos);
             if (fluidState.getLevel() == 0) {
                 // Remove only source lava blocks
-                world.removeBlock(miningPos, false);
+                fluidWriter.set(miningPos, Blocks.AIR.getDefaultState());
                 
                 // Log the lava removal for debugging
                 Circuitmod.LOGGER.info("[QUARRY-FLUID] Removed lava source block at {}", miningPos);
@@ -1102,6 +1088,37 @@ private void addToInventory(ItemStack itemToAdd) {
         }
     }
     
+    @Override
+    public int getSyncedFieldCount() {
+        return SYNC_FIELD_COUNT;
+    }
+    
+    @Override
+    public void writeSyncedFields(long[] values) {
+        values[SYNC_MINING_ENABLED] = miningEnabled ? 1 : 0;
+        values[SYNC_MINING_PROGRESS] = currentMiningProgress;
+        values[SYNC_MINING_POS] = MachineStateSync.encodePos(currentMiningPos);
+        values[SYNC_MINING_WIDTH] = miningWidth;
+        values[SYNC_MINING_LENGTH] = miningLength;
+    }
+    
+    @Override
+    public void applySyncedFields(int changedMask, long[] values) {
+        if ((changedMask & (1 << SYNC_MINING_ENABLED)) != 0) {
+            setMiningEnabledFromNetwork(values[SYNC_MINING_ENABLED] != 0);
+        }
+        if ((changedMask & ((1 << SYNC_MINING_WIDTH) | (1 << SYNC_MINING_LENGTH))) != 0) {
+            int width = (changedMask & (1 << SYNC_MINING_WIDTH)) != 0 ? (int) values[SYNC_MINING_WIDTH] : miningWidth;
+            int length = (changedMask & (1 << SYNC_MINING_LENGTH)) != 0 ? (int) values[SYNC_MINING_LENGTH] : miningLength;
+            setMiningDimensionsFromNetwork(width, length);
+        }
+        if ((changedMask & ((1 << SYNC_MINING_PROGRESS) | (1 << SYNC_MINING_POS))) != 0) {
+            int progress = (changedMask & (1 << SYNC_MINING_PROGRESS)) != 0 ? (int) values[SYNC_MINING_PROGRESS] : currentMiningProgress;
+            BlockPos miningPos = (changedMask & (1 << SYNC_MINING_POS)) != 0 ? MachineStateSync.decodePos(values[SYNC_MINING_POS]) : currentMiningPos;
+            setMiningProgressFromNetwork(progress, miningPos);
+        }
+    }
+    
     /**
      * Gets the current mining position
      * @return the current mining position, or null if not mining
@@ -1312,44 +1329,6 @@ private void addToInventory(ItemStack itemToAdd) {
         return new QuarryScreenHandler(syncId, playerInventory, this, this.propertyDelegate, this);
     }
 
-    public boolean findAndJoinNetwork() {
-        if (world == null || world.isClient()) return false;
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    break;
-                }
-            }
-        }
-        if (!foundNetwork && (this.network == null)) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    if (connectable.canConnectPower(dir.getOpposite()) && this.canConnectPower(dir)) {
-                        newNetwork.addBlock(neighborPos, connectable);
-                    }
-                }
-            }
-            // If we created a new network, consider it a success
-            foundNetwork = true;
-        }
-        return foundNetwork;
-    }
-
     /**
      * Get the perimeter positions of the mining area for rendering
      * @return List of BlockPos representing the perimeter of the mining area
@@ -23,13 +23,13 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
-import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.item.ModItems;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyProducer;
-import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.screen.ReactorScreenHandler;
 import starduster.circuitmod.item.FuelRodItem;
+import starduster.circuitmod.util.MachineSleepScheduler;
+import starduster.circuitmod.util.DiagnosticLog;
 
 public class ReactorBlockBlockEntity extends BlockEntity implements SidedInventory, NamedScreenHandlerFactory, ExtendedScreenHandlerFactory<ModScreenHandlers.ReactorData>, IEnergyProducer {
     // Energy production properties
@@ -40,7 +40,6 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
     // Network and state
     private EnergyNetwork network;
     private int tickCounter = 0;
-    private boolean needsNetworkRefresh = false;
     private boolean isActive = false; // Whether the reactor is currently producing energy
     
     // Inventory for fuel rods - 9 slots for 9 rods
@@ -146,16 +145,10 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
         
         // Load inventory
         Inventories.readNbt(nbt, this.inventory, registries);
-        needsNetworkRefresh = true;
     }
 
     // Tick method called by the ticker in ReactorBlock
     public static void tick(World world, BlockPos pos, BlockState state, ReactorBlockBlockEntity blockEntity) {
-        if (blockEntity.needsNetworkRefresh) {
-            blockEntity.findAndJoinNetwork();
-            blockEntity.needsNetworkRefresh = false;
-        }
-        
         if (world.isClient()) {
             return;
         }
@@ -193,11 +186,20 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
         // Debug logging (only log occasionally to avoid spam)
         if (world.getTime() % 20 == 0) { // Only log every second
             String networkInfo = blockEntity.network != null ? blockEntity.network.getNetworkId() : "NO NETWORK";
-            Circuitmod.LOGGER.info("[REACTOR-TICK] Rods: " + blockEntity.getRodCount() + 
-                ", Active: " + blockEntity.isActive + 
-                ", Energy: " + blockEntity.getCurrentEnergyProduction() + 
-                ", Network: " + networkInfo);
+            DiagnosticLog.ENERGY.debug("[REACTOR-TICK] Rods: {}, Active: {}, Energy: {}, Network: {}",
+                blockEntity.getRodCount(), blockEntity.isActive, blockEntity.getCurrentEnergyProduction(), networkInfo);
         }
+        
+        // No rods: idle until a rod is inserted or the network changes
+        if (!shouldBeActive && blockEntity.network != null) {
+            MachineSleepScheduler.sleep(blockEntity);
+        }
+    }
+    
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        MachineSleepScheduler.wake(this);
     }
     
     // IEnergyProducer implementation
@@ -221,15 +223,16 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
         if (this.network != null && network != null && this.network != network) {
             String oldNetworkId = this.network.getNetworkId();
             String newNetworkId = network.getNetworkId();
-            Circuitmod.LOGGER.info("[REACTOR-NETWORK] Reactor at " + pos + " changing networks: " + oldNetworkId + " -> " + newNetworkId);
+            DiagnosticLog.ENERGY.debug("[REACTOR-NETWORK] Reactor at {} changing networks: {} -> {}", pos, oldNetworkId, newNetworkId);
         } else if (network != null && this.network == null) {
-            Circuitmod.LOGGER.info("[REACTOR-NETWORK] Reactor at " + pos + " connecting to network: " + network.getNetworkId());
+            DiagnosticLog.ENERGY.debug("[REACTOR-NETWORK] Reactor at {} connecting to network: {}", pos, network.getNetworkId());
         } else if (this.network != null && network == null) {
             String oldNetworkId = this.network.getNetworkId();
-            Circuitmod.LOGGER.info("[REACTOR-NETWORK] Reactor at " + pos + " disconnecting from network: " + oldNetworkId);
+            DiagnosticLog.ENERGY.debug("[REACTOR-NETWORK] Reactor at {} disconnecting from network: {}", pos, oldNetworkId);
         }
         
         this.network = network;
+        MachineSleepScheduler.wake(this);
     }
     
     @Override
@@ -243,11 +246,8 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
         
         // Debug logs to diagnose the issue (only log occasionally to avoid spam)
         if (world.getTime() % 20 == 0) { // Only log every second
-            Circuitmod.LOGGER.info("[REACTOR-ENERGY] Max requested: " + maxRequested + 
-                ", Current production: " + currentProduction + 
-                ", Producing: " + energyToProduce + 
-                ", Rods: " + getRodCount() + 
-                ", Active: " + isActive);
+            DiagnosticLog.ENERGY.debug("[REACTOR-ENERGY] Max requested: {}, Current production: {}, Producing: {}, Rods: {}, Active: {}",
+                maxRequested, currentProduction, energyToProduce, getRodCount(), isActive);
         }
         
         return energyToProduce;
@@ -339,7 +339,7 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
                     inventoryChanged = true;
                     
                     if (world != null && !world.isClient()) {
-                        Circuitmod.LOGGER.info("[REACTOR-FUEL] Fuel rod consumed at slot " + i + " in reactor at " + pos);
+                        DiagnosticLog.ENERGY.debug("[REACTOR-FUEL] Fuel rod consumed at slot {} in reactor at {}", i, pos);
                     }
                 } else {
                     // Fuel rod was damaged but not consumed, update the slot
@@ -365,49 +365,11 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
         
         // Debug logging
         if (world != null && !world.isClient() && world.getTime() % 20 == 0) {
-            Circuitmod.LOGGER.info("[PROPERTY-DELEGATE] Updated values - Energy: {}, Rods: {}, Active: {}", 
+            DiagnosticLog.ENERGY.debug("[PROPERTY-DELEGATE] Updated values - Energy: {}, Rods: {}, Active: {}", 
                 syncedEnergyProduction, syncedRodCount, syncedActiveStatus);
         }
     }
     
-    // Network connection logic
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient()) return;
-        
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    break;
-                }
-            }
-        }
-        
-        if (!foundNetwork && (this.network == null)) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pos.offset(dir);
-                BlockEntity be = world.getBlockEntity(neighborPos);
-                if (be instanceof IPowerConnectable && ((IPowerConnectable) be).getNetwork() == null) {
-                    IPowerConnectable connectable = (IPowerConnectable) be;
-                    if (connectable.canConnectPower(dir.getOpposite()) && this.canConnectPower(dir)) {
-                        newNetwork.addBlock(neighborPos, connectable);
-                    }
-                }
-            }
-        }
-    }
-    
     // Inventory implementation
     @Override
     public int size() {
@@ -537,10 +499,10 @@ public class ReactorBlockBlockEntity extends BlockEntity implements SidedInvento
                 BlockState newState = currentState.with(starduster.circuitmod.block.machines.ReactorBlock.RODS, rodCount);
                 if (!currentState.equals(newState)) {
                     world.setBlockState(pos, newState, 3);
-                    Circuitmod.LOGGER.info("[REACTOR-STATE] Updated rod count to " + rodCount + " at " + pos);
+                    DiagnosticLog.ENERGY.debug("[REACTOR-STATE] Updated rod count to {} at {}", rodCount, pos);
                 }
             } catch (Exception e) {
-                Circuitmod.LOGGER.warn("[REACTOR-STATE] Failed to update block state at " + pos + ": " + e.getMessage());
+                DiagnosticLog.ENERGY.warn("[REACTOR-STATE] Failed to update block state at {}: {}", pos, e.getMessage());
             }
         }
     }
@@ -37,6 +37,7 @@ import starduster.circuitmod.recipe.ModRecipes;
 import starduster.circuitmod.screen.BloomeryScreenHandler;
 import starduster.circuitmod.screen.RubberTapScreenHandler;
 import starduster.circuitmod.util.ImplementedInventory;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 import java.util.Optional;
 
@@ -143,6 +144,16 @@ public class RubberTapBlockEntity extends BlockEntity implements NamedScreenHand
             world.setBlockState(pos, world.getBlockState(pos).with(RubberTapBlock.FILL_LEVEL, blockEntity.fillLevel()), Block.NOTIFY_ALL);
         }
 
+        // Full, or not on a natural log: idle until rubber is taken out or the log changes
+        if (blockEntity.progress == 0 && !(canOutput() && isOnLog(state))) {
+            MachineSleepScheduler.sleep(blockEntity);
+        }
+    }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        MachineSleepScheduler.wake(this);
     }
 
     public int fillLevel() {
@@ -11,7 +11,7 @@ import net.minecraft.world.World;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyProducer;
-import starduster.circuitmod.power.IPowerConnectable;
+import starduster.circuitmod.util.MachineSleepScheduler;
 import net.minecraft.world.LightType;
 
 /**
@@ -32,7 +32,6 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
     private EnergyNetwork network;
     private int tickCounter = 0;
     private int startupTickCounter = 0; // Track ticks during startup to prevent excessive operations
-    private boolean needsNetworkRefresh = false;
     private int currentEnergyProduction = 0;
     private float lastLightLevel = 0.0f;
     
@@ -77,7 +76,6 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
         }
         
         // Mark that we need to refresh network connections
-        needsNetworkRefresh = true;
     }
 
     // Tick method called by the ticker in SolarPanel
@@ -94,12 +92,6 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
         // After 5 seconds, check if we're still in startup mode
         if (starduster.circuitmod.power.EnergyNetwork.startupMode) {
             // Still in startup mode, be very conservative
-            if (blockEntity.needsNetworkRefresh && world.getTime() > 200) {
-                // Wait until world has settled before trying to join networks
-                blockEntity.findAndJoinNetwork();
-                blockEntity.needsNetworkRefresh = false;
-            }
-            
             // Set minimal energy production during startup
             if (blockEntity.currentEnergyProduction == 0) {
                 blockEntity.currentEnergyProduction = 1;
@@ -107,12 +99,6 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
             return;
         }
         
-        // Normal operation - after startup mode is disabled
-        if (blockEntity.needsNetworkRefresh) {
-            blockEntity.findAndJoinNetwork();
-            blockEntity.needsNetworkRefresh = false;
-        }
-        
         if (world.isClient()) {
             return;
         }
@@ -129,6 +115,15 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
         if (blockEntity.currentEnergyProduction == 0 && blockEntity.tickCounter > UPDATE_INTERVAL) {
             blockEntity.updateEnergyProduction(world, pos);
         }
+        
+        // Nothing happens between light updates: skip straight to the next one
+        if (blockEntity.network != null && blockEntity.currentEnergyProduction != 0) {
+            int ticksUntilUpdate = UPDATE_INTERVAL - 1 - blockEntity.tickCounter % UPDATE_INTERVAL;
+            if (ticksUntilUpdate > 0) {
+                blockEntity.tickCounter += ticksUntilUpdate;
+                MachineSleepScheduler.sleep(blockEntity, ticksUntilUpdate);
+            }
+        }
     }
     
     /**
@@ -275,59 +270,7 @@ public class SolarPanelBlockEntity extends BlockEntity implements IEnergyProduce
         }
         
         this.network = network;
-    }
-    
-    // Network connection logic
-    public void findAndJoinNetwork() {
-        if (world == null || world.isClient()) return;
-        
-        // CRITICAL SAFETY CHECK: During the first 5 seconds, just set minimal values to prevent hanging
-        if (world.getTime() < 100) {
-            // Just set minimal energy production and do nothing else
-            this.currentEnergyProduction = 1;
-            this.lastLightLevel = 0.1f;
-            return;
-        }
-        
-        // During startup mode, be very conservative
-        if (starduster.circuitmod.power.EnergyNetwork.startupMode) {
-            // Just create a simple network for this panel during startup
-            if (this.network == null) {
-                try {
-                    EnergyNetwork newNetwork = new EnergyNetwork();
-                    newNetwork.addBlock(pos, this);
-                } catch (Exception e) {
-                    // If anything goes wrong during startup, just continue with no network
-                    Circuitmod.LOGGER.warn("[SOLAR-PANEL] Failed to create network during startup: {}", e.getMessage());
-                }
-            }
-            return;
-        }
-        
-        // Normal network joining logic (only after startup)
-        boolean foundNetwork = false;
-        for (Direction dir : Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            BlockEntity be = world.getBlockEntity(neighborPos);
-            if (be instanceof IPowerConnectable) {
-                IPowerConnectable connectable = (IPowerConnectable) be;
-                EnergyNetwork network = connectable.getNetwork();
-                if (network != null && network != this.network) {
-                    if (this.network != null) {
-                        this.network.removeBlock(pos);
-                    }
-                    network.addBlock(pos, this);
-                    foundNetwork = true;
-                    break;
-                }
-            }
-        }
-        
-        // If no network found, create a new one
-        if (!foundNetwork && this.network == null) {
-            EnergyNetwork newNetwork = new EnergyNetwork();
-            newNetwork.addBlock(pos, this);
-        }
+        MachineSleepScheduler.wake(this);
     }
     
     @Override
@@ -22,18 +22,18 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
-import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.block.networkblocks.BasePipeBlock;
 import starduster.circuitmod.item.network.ItemNetworkManager;
 import starduster.circuitmod.item.network.ItemNetwork;
+import starduster.circuitmod.item.network.PipePathfinder;
 import starduster.circuitmod.network.PipeNetworkAnimator;
 import starduster.circuitmod.screen.SortingPipeScreenHandler;
 import starduster.circuitmod.util.ImplementedInventory;
+import starduster.circuitmod.util.TickProfiler;
+import starduster.circuitmod.util.DiagnosticLog;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * SortingPipe - Routes items based on directional filters.
@@ -42,22 +42,6 @@ import java.util.Set;
  */
 public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHandlerFactory, ImplementedInventory {
     
-    // Debug logging control - set to true only when debugging
-    private static final boolean DEBUG_LOGGING = false;
-
-    
-    /**
-     * Result of pathfinding evaluation containing both score and path
-     */
-    private static class PathResult {
-        final int score;
-        final List<BlockPos> path;
-        
-        PathResult(int score, List<BlockPos> path) {
-            this.score = score;
-            this.path = new ArrayList<>(path);
-        }
-    }
     // Main item storage (1 slot for current item being processed)
     private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(1, ItemStack.EMPTY);
     
@@ -108,8 +92,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         ItemStack currentItem = blockEntity.getStack(0);
         
         // Debug logging for sorting pipe activity
-        if (DEBUG_LOGGING && world.getTime() % 20 == 0) { // Log every second
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] At {}: processing item {}, cooldown: {}, stuck timer: {}", 
+        if (DiagnosticLog.PIPES.isDebugEnabled() && world.getTime() % 20 == 0) { // Log every second
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] At {}: processing item {}, cooldown: {}, stuck timer: {}", 
                 pos, currentItem.getItem().getName().getString(), blockEntity.transferCooldown, blockEntity.stuckTimer);
         }
         
@@ -119,22 +103,24 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             blockEntity.stuckTimer = 0;
             blockEntity.markDirty();
             
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Successfully moved item {} from {}", 
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Successfully moved item {} from {}", 
                     currentItem.getItem().getName().getString(), pos);
             }
         } else {
             // Item couldn't move - increment stuck timer
             blockEntity.stuckTimer++;
             
-            if (DEBUG_LOGGING && world.getTime() % 20 == 0) { // Log every second when stuck
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Item {} stuck at {} for {} ticks", 
+            if (DiagnosticLog.PIPES.isDebugEnabled() && world.getTime() % 20 == 0) { // Log every second when stuck
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Item {} stuck at {} for {} ticks", 
                     currentItem.getItem().getName().getString(), pos, blockEntity.stuckTimer);
             }
             
             if (blockEntity.stuckTimer >= STUCK_TIMEOUT) {
-                Circuitmod.LOGGER.warn("[SORTING-PIPE] Item {} stuck at {} for {} ticks, attempting emergency unstuck", 
-                    currentItem.getItem().getName().getString(), pos, blockEntity.stuckTimer);
+                // Retried every tick while the pipe stays blocked, so only report it now and then
+                int stuckTicks = blockEntity.stuckTimer;
+                DiagnosticLog.PIPES.warnLimited(pos, () -> "[SORTING-PIPE] Item " + currentItem.getItem().getName().getString()
+                    + " stuck at " + pos + " for " + stuckTicks + " ticks, attempting emergency unstuck");
                 
                 if (blockEntity.emergencyUnstuck(world, pos, currentItem)) {
                     blockEntity.transferCooldown = COOLDOWN_TICKS;
@@ -156,8 +142,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
     private boolean tryMoveItemWithFiltering(World world, BlockPos pos, ItemStack item) {
         List<Direction> allowedDirections = getAllowedDirectionsForItem(item);
         
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Item {} at {} - allowed directions: {}", 
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Item {} at {} - allowed directions: {}", 
                 item.getItem().getName().getString(), pos, allowedDirections);
         }
         
@@ -165,13 +151,15 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         boolean anyAllowedHasPipe = allowedDirections.stream()
             .anyMatch(dir -> world.getBlockState(pos.offset(dir)).getBlock() instanceof BasePipeBlock);
         if (!anyAllowedHasPipe && !allowedDirections.isEmpty()) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] WARNING: No pipes found in allowed directions! Checking all directions:");
-            for (Direction dir : Direction.values()) {
-                BlockPos checkPos = pos.offset(dir);
-                BlockState checkState = world.getBlockState(checkPos);
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Direction {} at {}: {} (isPipe: {})", 
-                    dir, checkPos, checkState.getBlock().getClass().getSimpleName(), 
-                    checkState.getBlock() instanceof BasePipeBlock);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] WARNING: No pipes found in allowed directions! Checking all directions:");
+                for (Direction dir : Direction.values()) {
+                    BlockPos checkPos = pos.offset(dir);
+                    BlockState checkState = world.getBlockState(checkPos);
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Direction {} at {}: {} (isPipe: {})", 
+                        dir, checkPos, checkState.getBlock().getClass().getSimpleName(), 
+                        checkState.getBlock() instanceof BasePipeBlock);
+                }
             }
             
             // FALLBACK: If no pipes in allowed directions, use any available pipes
@@ -183,7 +171,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                 }
             }
             if (!availablePipes.isEmpty()) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] FALLBACK: Using available pipes instead: {}", availablePipes);
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] FALLBACK: Using available pipes instead: {}", availablePipes);
                 allowedDirections = availablePipes;
             }
         }
@@ -191,26 +179,26 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         // Step 1: Try allowed directions first (try inventories, then pipes)
         for (Direction direction : allowedDirections) {
             if (lastInputDirection != null && direction == lastInputDirection) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Skipping direction {} (backwards - came from this direction)", direction);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Skipping direction {} (backwards - came from this direction)", direction);
                 }
                 continue; // Don't go backwards
             }
             
             BlockPos targetPos = pos.offset(direction);
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Trying direction {} to {}", direction, targetPos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Trying direction {} to {}", direction, targetPos);
                 // DIAGNOSTIC: Log what block is actually at the target position
                 BlockState targetState = world.getBlockState(targetPos);
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Target block at {}: {} (isPipe: {})", 
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Target block at {}: {} (isPipe: {})", 
                     targetPos, targetState.getBlock().getClass().getSimpleName(), 
                     targetState.getBlock() instanceof BasePipeBlock);
             }
             
             // Try to deliver to inventory first
             if (tryInsertIntoInventory(world, targetPos, item)) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Successfully delivered to inventory at {}", targetPos);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Successfully delivered to inventory at {}", targetPos);
                 }
                 // Trigger animation only when movement actually succeeds
                 if (world instanceof ServerWorld serverWorld) {
@@ -225,8 +213,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             
             // Then try to pass to pipe
             if (tryPassToPipe(world, targetPos, item, direction)) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Successfully passed to pipe at {}", targetPos);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Successfully passed to pipe at {}", targetPos);
                 }
                 // Trigger animation only when movement actually succeeds
                 if (world instanceof ServerWorld serverWorld) {
@@ -239,14 +227,16 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                 return true;
             }
             
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Failed to move in direction {}", direction);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Failed to move in direction {}", direction);
             }
         }
         
         // Step 2: If we have multiple allowed directions, use pathfinding to find the best one
         if (allowedDirections.size() > 1) {
+            long profileStart = TickProfiler.begin();
             Direction bestDirection = findBestDirectionWithPathfinding(world, pos, item, allowedDirections);
+            TickProfiler.end(TickProfiler.Subsystem.PIPE_ROUTING, profileStart);
             if (bestDirection != null) {
                 BlockPos targetPos = pos.offset(bestDirection);
                 if (tryPassToPipe(world, targetPos, item, bestDirection)) {
@@ -265,26 +255,26 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         
         // Step 3: If no allowed directions worked, this might be an emergency case
         // Try any direction that isn't backwards as absolute fallback
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] No allowed directions worked, trying fallback directions");
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] No allowed directions worked, trying fallback directions");
         }
         for (Direction direction : Direction.values()) {
             if (lastInputDirection != null && direction == lastInputDirection) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Skipping fallback direction {} (backwards - came from this direction)", direction);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Skipping fallback direction {} (backwards - came from this direction)", direction);
                 }
                 continue;
             }
             if (allowedDirections.contains(direction)) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Skipping fallback direction {} (already tried)", direction);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Skipping fallback direction {} (already tried)", direction);
                 }
                 continue; // Already tried these
             }
             
             BlockPos targetPos = pos.offset(direction);
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Trying fallback direction {} to {}", direction, targetPos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Trying fallback direction {} to {}", direction, targetPos);
             }
             
             if (tryInsertIntoInventory(world, targetPos, item)) {
@@ -296,8 +286,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                     PipeNetworkAnimator.startItemPath(serverWorld, item, pos, path);
                 }
                 removeStack(0);
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Used fallback direction {} for item {}", 
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Used fallback direction {} for item {}", 
                         direction, item.getItem().getName().getString());
                 }
                 return true;
@@ -312,8 +302,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                     PipeNetworkAnimator.startItemPath(serverWorld, item, pos, path);
                 }
                 removeStack(0);
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Used fallback direction {} for item {}", 
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Used fallback direction {} for item {}", 
                         direction, item.getItem().getName().getString());
                 }
                 return true;
@@ -327,7 +317,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
      * Emergency unstuck method - similar to ItemPipe but considers filters
      */
     private boolean emergencyUnstuck(World world, BlockPos pos, ItemStack item) {
-        Circuitmod.LOGGER.info("[SORTING-EMERGENCY] Attempting to unstuck item {} at {}", 
+        DiagnosticLog.PIPES.debug("[SORTING-EMERGENCY] Attempting to unstuck item {} at {}", 
             item.getItem().getName().getString(), pos);
         
         // Try any direction, ignoring filters and input direction
@@ -336,7 +326,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             
             if (tryPassToPipe(world, nextPos, item, direction)) {
                 removeStack(0);
-                Circuitmod.LOGGER.info("[SORTING-EMERGENCY] Successfully unstuck item to {}", nextPos);
+                DiagnosticLog.PIPES.debug("[SORTING-EMERGENCY] Successfully unstuck item to {}", nextPos);
                 return true;
             }
         }
@@ -351,7 +341,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                     if (remaining.getCount() < item.getCount()) {
                         setStack(0, remaining);
                         inventory.markDirty();
-                        Circuitmod.LOGGER.info("[SORTING-EMERGENCY] Partially delivered item to inventory at {}", targetPos);
+                        DiagnosticLog.PIPES.debug("[SORTING-EMERGENCY] Partially delivered item to inventory at {}", targetPos);
                         return true;
                     }
                 }
@@ -365,6 +355,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
      * Find the best direction using pathfinding, considering only allowed directions.
      */
     private Direction findBestDirectionWithPathfinding(World world, BlockPos pos, ItemStack item, List<Direction> allowedDirections) {
+        PipePathfinder.Maze maze = cellPos -> classifyCell(world, cellPos, item);
         Direction bestDirection = null;
         int bestScore = -1;
         List<BlockPos> bestPath = null;
@@ -373,7 +364,7 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             if (lastInputDirection != null && direction == lastInputDirection) continue; // Don't go backwards
             
             BlockPos nextPos = pos.offset(direction);
-            PathResult result = evaluatePathScoreImproved(world, nextPos, item, direction, 0, new HashSet<>(), new ArrayList<>());
+            PipePathfinder.PathResult result = PipePathfinder.evaluate(maze, nextPos, direction);
             
             if (result.score > bestScore) {
                 bestScore = result.score;
@@ -386,59 +377,19 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
     }
     
     /**
-     * Improved pathfinding that explores multiple branches simultaneously.
-     * Uses a visited set to prevent infinite loops and explores all possible paths.
+     * Classifies a position for {@link PipePathfinder}.
      */
-    private PathResult evaluatePathScoreImproved(World world, BlockPos pos, ItemStack item, Direction direction, int depth, Set<BlockPos> visited, List<BlockPos> currentPath) {
-        if (depth >= 12 || visited.contains(pos)) { // Use same depth as ItemPipe
-            return new PathResult(0, currentPath);
-        }
-        
-        visited.add(pos);
-        List<BlockPos> path = new ArrayList<>(currentPath);
-        path.add(pos);
+    private PipePathfinder.Cell classifyCell(World world, BlockPos pos, ItemStack item) {
         BlockState state = world.getBlockState(pos);
-        
-        // Found an inventory - score based on distance and availability
-        if (!(state.getBlock() instanceof BasePipeBlock)) {
-            Inventory inventory = getInventoryAt(world, pos);
-            if (inventory != null) {
-                if (hasSpaceForItem(inventory, item)) {
-                    visited.remove(pos); // Remove from visited for other paths
-                    return new PathResult(200 - (depth * 15), path); // Higher base score for better pathfinding
-                } else {
-                    visited.remove(pos);
-                    return new PathResult(5, path); // Inventory with no space gets minimal score
-                }
-            }
-            visited.remove(pos);
-            return new PathResult(-20, path); // Not an inventory - negative score
+        if (state.getBlock() instanceof BasePipeBlock) {
+            return world.getBlockEntity(pos) instanceof Inventory pipe && pipe.isEmpty()
+                ? PipePathfinder.Cell.EMPTY_PIPE : PipePathfinder.Cell.BUSY_PIPE;
         }
-        
-        // Found a pipe - explore all possible directions from this pipe
-        BlockEntity pipeEntity = world.getBlockEntity(pos);
-        if (pipeEntity instanceof Inventory pipe && pipe.isEmpty()) {
-            int bestScore = -1;
-            List<BlockPos> bestPath = new ArrayList<>(path);
-            
-            // Explore all directions from this pipe (full branching)
-            for (Direction exploreDir : Direction.values()) {
-                if (exploreDir == direction.getOpposite()) continue; // Don't go backwards
-                
-                BlockPos explorePos = pos.offset(exploreDir);
-                PathResult result = evaluatePathScoreImproved(world, explorePos, item, exploreDir, depth + 1, visited, path);
-                if (result.score > bestScore) {
-                    bestScore = result.score;
-                    bestPath = result.path;
-                }
-            }
-            
-            visited.remove(pos); // Remove from visited for other paths
-            return new PathResult(bestScore > 0 ? bestScore - 2 : bestScore, bestPath); // Subtract 2 for each pipe hop
+        Inventory inventory = getInventoryAt(world, pos);
+        if (inventory == null) {
+            return PipePathfinder.Cell.BLOCKED;
         }
-        
-        visited.remove(pos);
-        return new PathResult(-10, path); // Blocked pipe or invalid path
+        return hasSpaceForItem(inventory, item) ? PipePathfinder.Cell.INVENTORY_WITH_SPACE : PipePathfinder.Cell.FULL_INVENTORY;
     }
     
     /**
@@ -448,12 +399,12 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         List<Direction> allowedDirections = new ArrayList<>();
         
         // Debug: Log all filters
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Checking filters for item: {}", item.getItem().getName().getString());
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Checking filters for item: {}", item.getItem().getName().getString());
             for (int i = 0; i < 6; i++) {
                 ItemStack filterStack = getFilterStack(i);
                 if (!filterStack.isEmpty()) {
-                    Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Filter {} ({}): {}", i, DIRECTION_ORDER[i], filterStack.getItem().getName().getString());
+                    DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Filter {} ({}): {}", i, DIRECTION_ORDER[i], filterStack.getItem().getName().getString());
                 }
             }
         }
@@ -465,16 +416,16 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
                 // This item has a specific filter - it can ONLY go in this direction
                 Direction direction = DIRECTION_ORDER[i];
                 allowedDirections.add(direction);
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Item matches filter in direction: {}", direction);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Item matches filter in direction: {}", direction);
                 }
             }
         }
         
         // If this item has specific filters, it can ONLY go in those directions
         if (!allowedDirections.isEmpty()) {
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Item has specific filter, allowed directions: {}", allowedDirections);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Item has specific filter, allowed directions: {}", allowedDirections);
             }
             return allowedDirections;
         }
@@ -486,8 +437,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             if (filterStack.isEmpty()) {
                 Direction direction = DIRECTION_ORDER[i];
                 allowedDirections.add(direction);
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Direction {} has no filter, allowing item", direction);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Direction {} has no filter, allowing item", direction);
                 }
             }
         }
@@ -497,13 +448,13 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             for (Direction dir : Direction.values()) {
                 allowedDirections.add(dir);
             }
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] All directions filtered, allowing all as fallback");
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] All directions filtered, allowing all as fallback");
             }
         }
         
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-FILTER-DEBUG] Final allowed directions: {}", allowedDirections);
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-FILTER-DEBUG] Final allowed directions: {}", allowedDirections);
         }
         return allowedDirections;
     }
@@ -527,8 +478,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             
             // Note: Animation is now handled by continuous path system in findBestDirectionWithPathfinding
             
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Delivered {} to inventory at {}", 
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Delivered {} to inventory at {}", 
                     item.getItem().getName().getString(), pos);
             }
             return true;
@@ -541,33 +492,33 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
      * Try to pass item to another pipe.
      */
     private boolean tryPassToPipe(World world, BlockPos pos, ItemStack item, Direction direction) {
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] tryPassToPipe: checking {} for item {}", pos, item.getItem().getName().getString());
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] tryPassToPipe: checking {} for item {}", pos, item.getItem().getName().getString());
         }
         
         if (!(world.getBlockState(pos).getBlock() instanceof BasePipeBlock)) {
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Target at {} is not a pipe block", pos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Target at {} is not a pipe block", pos);
             }
             return false;
         }
         
         BlockEntity targetEntity = world.getBlockEntity(pos);
         if (!(targetEntity instanceof Inventory targetPipe)) {
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Target at {} is not an inventory", pos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Target at {} is not an inventory", pos);
             }
             return false;
         }
         
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Target pipe at {} has space: {}", pos, hasSpaceForItem(targetPipe, item));
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Target pipe at {} has space: {}", pos, hasSpaceForItem(targetPipe, item));
         }
         
         // Check if the target pipe has space (not just if it's empty)
         if (!hasSpaceForItem(targetPipe, item)) {
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Target pipe at {} has no space for item", pos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Target pipe at {} has no space for item", pos);
             }
             return false;
         }
@@ -575,8 +526,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         // Insert the item into the target pipe
         ItemStack remaining = insertIntoInventory(targetPipe, item.copy());
         if (!remaining.isEmpty()) {
-            if (DEBUG_LOGGING) {
-                Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Could not insert item into pipe at {}", pos);
+            if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Could not insert item into pipe at {}", pos);
             }
             return false;
         }
@@ -595,8 +546,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
         
         // Note: Animation is now handled by continuous path system in findBestDirectionWithPathfinding
         
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] Successfully passed {} to pipe at {}", 
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] Successfully passed {} to pipe at {}", 
                 item.getItem().getName().getString(), pos);
         }
         return true;
@@ -604,8 +555,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
     
     // Helper methods (similar to ItemPipe)
     private boolean hasSpaceForItem(Inventory inventory, ItemStack item) {
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] hasSpaceForItem: checking inventory with {} slots for item {}", 
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] hasSpaceForItem: checking inventory with {} slots for item {}", 
                 inventory.size(), item.getItem().getName().getString());
         }
         
@@ -613,8 +564,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             ItemStack slotStack = inventory.getStack(slot);
             
             if (slotStack.isEmpty()) {
-                if (DEBUG_LOGGING) {
-                    Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] hasSpaceForItem: slot {} is empty, returning true", slot);
+                if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                    DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] hasSpaceForItem: slot {} is empty, returning true", slot);
                 }
                 return true;
             }
@@ -622,8 +573,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             if (ItemStack.areItemsEqual(slotStack, item)) {
                 int maxCount = Math.min(slotStack.getMaxCount(), inventory.getMaxCountPerStack());
                 if (slotStack.getCount() < maxCount) {
-                    if (DEBUG_LOGGING) {
-                        Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] hasSpaceForItem: slot {} has matching item with space ({} < {}), returning true", 
+                    if (DiagnosticLog.PIPES.isDebugEnabled()) {
+                        DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] hasSpaceForItem: slot {} has matching item with space ({} < {}), returning true", 
                             slot, slotStack.getCount(), maxCount);
                     }
                     return true;
@@ -631,8 +582,8 @@ public class SortingPipeBlockEntity extends BlockEntity implements NamedScreenHa
             }
         }
         
-        if (DEBUG_LOGGING) {
-            Circuitmod.LOGGER.info("[SORTING-PIPE-DEBUG] hasSpaceForItem: no space found, returning false");
+        if (DiagnosticLog.PIPES.isDebugEnabled()) {
+            DiagnosticLog.PIPES.debug("[SORTING-PIPE-DEBUG] hasSpaceForItem: no space found, returning false");
         }
         return false;
     }
@@ -2,36 +2,24 @@ package starduster.circuitmod.block.entity;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
-import starduster.circuitmod.power.IPowerConnectable;
-import starduster.circuitmod.entity.damage.ElectricDamageSource;
-
-import java.util.List;
+import starduster.circuitmod.entity.damage.ElectricHazardField;
 
 public class TeslaCoilBlockEntity extends BlockEntity implements IEnergyConsumer {
     // Energy properties
     private static final int ENERGY_DEMAND_PER_TICK = 20; // Consumes 20 energy per tick when active
     private EnergyNetwork network;
-    private boolean needsNetworkRefresh = false;
     private int energyReceived = 0; // Energy received this tick
     private boolean isActive = false; // Whether the tesla coil is currently powered and active
-    
-    // Damage properties
-    private static final float DAMAGE_PER_TICK = 2.0f; // Same damage as electric carpet
-    private static final int DAMAGE_INTERVAL = 2; // Damage every 2 ticks (0.1 seconds)
-    private static final int DAMAGE_RANGE = 5; // 5 block range for damage
-    private int damageTimer = 0;
+    private boolean hazardRegistered = false; // Whether our damage range is registered in the hazard field
     
     public TeslaCoilBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.TESLA_COIL_BLOCK_ENTITY, pos, state);
@@ -42,7 +30,6 @@ public class TeslaCoilBlockEntity extends BlockEntity implements IEnergyConsumer
         super.writeNbt(nbt, registries);
         nbt.putBoolean("is_active", isActive);
         nbt.putInt("energy_received", energyReceived);
-        nbt.putInt("damage_timer", damageTimer);
         
         // Save network data if we have a network
         if (network != null) {
@@ -57,7 +44,6 @@ public class TeslaCoilBlockEntity extends BlockEntity implements IEnergyConsumer
         super.readNbt(nbt, registries);
         this.isActive = nbt.getBoolean("is_active").orElse(false);
         this.energyReceived = nbt.getInt("energy_received").orElse(0);
-        this.damageTimer = nbt.getInt("damage_timer").orElse(0);
         
         // Load network data
         if (nbt.contains("energy_network")) {
@@ -65,16 +51,10 @@ public class TeslaCoilBlockEntity extends BlockEntity implements IEnergyConsumer
             NbtCompound networkNbt = nbt.getCompound("energy_network").orElse(new NbtCompound());
             network.readFromNbt(networkNbt);
         }
-        this.needsNetworkRefresh = true;
     }
 
     // Add network handling logic to the tick method
     public static void tick(World world, BlockPos pos, BlockState state, TeslaCoilBlockEntity entity) {
-        if (entity.needsNetworkRefresh) {
-            entity.findAndJoinNetwork();
-            entity.needsNetworkRefresh = false;
-        }
-        
         if (world.isClient()) {
             return;
         }
@@ -93,103 +73,27 @@ public class TeslaCoilBlockEntity extends BlockEntity implements IEnergyConsumer
             }
         }
         
-        // Only damage entities if the tesla coil is active
-        if (entity.isActive) {
-            entity.damageTimer++;
-            
-            // Damage entities every DAMAGE_INTERVAL ticks
-            if (entity.damageTimer >= DAMAGE_INTERVAL) {
-                entity.damageTimer = 0;
-                entity.damageEntitiesInRange((ServerWorld) world, pos);
+        // Damage is applied by the world's hazard field while the coil is registered as active
+        if (entity.isActive != entity.hazardRegistered) {
+            entity.hazardRegistered = entity.isActive;
+            if (entity.isActive) {
+                ElectricHazardField.addCoil((ServerWorld) world, pos);
+            } else {
+                ElectricHazardField.removeCoil((ServerWorld) world, pos);
             }
-        } else {
-            // Reset damage timer when not active
-            entity.damageTimer = 0;
         }
         
         // Reset energy received at the end of each tick
         entity.energyReceived = 0;
     }
     
-    /**
-     * Damages all entities within the tesla coil's range
-     */
-    private void damageEntitiesInRange(ServerWorld world, BlockPos pos) {
-        // Create a box that covers the tesla coil's range
-        Box damageBox = new Box(
-            pos.getX() - DAMAGE_RANGE, pos.getY() - DAMAGE_RANGE, pos.getZ() - DAMAGE_RANGE,
-            pos.getX() + DAMAGE_RANGE + 1, pos.getY() + DAMAGE_RANGE + 1, pos.getZ() + DAMAGE_RANGE + 1
-        );
-        
-        // Get all entities in the damage range
-        List<Entity> entities = world.getOtherEntities(null, damageBox, 
-            entity -> entity instanceof LivingEntity);
-        
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity livingEntity) {
-                // Check if the entity is within the exact range (not just the box)
-                if (isEntityInRange(livingEntity, pos)) {
-                    // Create a custom damage source for electrocution
-                    ElectricDamageSource electrocutionDamage = ElectricDamageSource.create(world);
-                    
-                    // Apply damage
-                    livingEntity.damage(world, electrocutionDamage, DAMAGE_PER_TICK);
-                    
-                    // Log the damage (only occasionally to avoid spam)
-                    if (world.getTime() % 100 == 0) {
-                        Circuitmod.LOGGER.info("[TESLA-COIL] Damaged {} at {} with {} damage", 
-                            livingEntity.getName().getString(), pos, DAMAGE_PER_TICK);
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Checks if an entity is within the tesla coil's damage range
-     */
-    private boolean isEntityInRange(LivingEntity entity, BlockPos teslaPos) {
-        // Calculate the distance from the tesla coil to the entity
-        double distance = Math.sqrt(
-            Math.pow(entity.getX() - (teslaPos.getX() + 0.5), 2) +
-            Math.pow(entity.getY() - (teslaPos.getY() + 0.5), 2) +
-            Math.pow(entity.getZ() - (teslaPos.getZ() + 0.5), 2)
-        );
-        
-        return distance <= DAMAGE_RANGE;
-    }
-    
-    /**
-     * Finds and joins an energy network
-     */
-    private void findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return;
-        }
-        
-        // Look for nearby power cables or other power connectables
-        for (Direction direction : Direction.values()) {
-            BlockPos neighborPos = pos.offset(direction);
-            BlockEntity neighborEntity = world.getBlockEntity(neighborPos);
-            
-            if (neighborEntity instanceof IPowerConnectable connectable) {
-                EnergyNetwork neighborNetwork = connectable.getNetwork();
-                if (neighborNetwork != null) {
-                    // Join the neighbor's network
-                    neighborNetwork.addBlock(pos, this);
-                    Circuitmod.LOGGER.info("[TESLA-COIL] Joined network {} at {}", 
-                        neighborNetwork.getNetworkId(), pos);
-                    return;
-                }
-            }
-        }
-        
-        // If no network found, create a new one
-        if (network == null) {
-            network = new EnergyNetwork();
-            network.addBlock(pos, this);
-            Circuitmod.LOGGER.info("[TESLA-COIL] Created new network {} at {}", 
-                network.getNetworkId(), pos);
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        // Broken or unloaded: stop damaging around this position
+        if (hazardRegistered && world instanceof ServerWorld serverWorld) {
+            ElectricHazardField.removeCoil(serverWorld, pos);
+            hazardRegistered = false;
         }
     }
     
@@ -19,6 +19,7 @@ import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IEnergyConsumer;
 import starduster.circuitmod.screen.XpGeneratorScreenHandler;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHandlerFactory, IEnergyConsumer {
     // Debug logging control - set to true only when debugging
@@ -33,7 +34,6 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
     // Energy properties
     private static final int ENERGY_DEMAND_PER_TICK = 6; // Consumes 6 energy per tick when powered (matches combustion generator)
     private EnergyNetwork network;
-    private boolean needsNetworkRefresh = false;
     private int energyReceived = 0; // Energy received this tick
     private boolean isPowered = false; // Whether we're receiving power
     
@@ -131,8 +131,6 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
             this.clientGenerationProgress = this.generationProgress;
             this.clientIsPowered = this.isPowered;
         }
-        
-        this.needsNetworkRefresh = true;
     }
     
     public void onRemoved() {
@@ -141,45 +139,10 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
         }
     }
     
-    private void findAndJoinNetwork() {
-        if (world == null || world.isClient()) {
-            return;
-        }
-        
-        // Try to find an adjacent power block to join its network
-        for (Direction direction : Direction.values()) {
-            BlockPos adjacentPos = pos.offset(direction);
-            BlockEntity adjacentEntity = world.getBlockEntity(adjacentPos);
-            
-            if (adjacentEntity instanceof starduster.circuitmod.power.IPowerConnectable powerConnectable) {
-                EnergyNetwork adjacentNetwork = powerConnectable.getNetwork();
-                if (adjacentNetwork != null) {
-                    adjacentNetwork.addBlock(pos, this);
-                    return;
-                }
-            }
-        }
-    }
-    
     // Main tick method
     public static void tick(World world, BlockPos pos, BlockState state, XpGeneratorBlockEntity entity) {
         if (world.isClient()) return;
         
-        // Handle network refresh
-        if (entity.needsNetworkRefresh) {
-            entity.needsNetworkRefresh = false;
-            if (entity.network != null) {
-                entity.network.addBlock(pos, entity);
-            }
-        }
-        
-        // Periodically check if we should be in a network
-        if (world.getTime() % 20 == 0) {  // Check every second
-            if (entity.network == null) {
-                entity.findAndJoinNetwork();
-            }
-        }
-        
         boolean poweredBefore = entity.isPowered;
         
         // Set powered state based on energy received
@@ -213,6 +176,11 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
         // Reset energy received at the end of the tick
         entity.energyReceived = 0;
         
+        // Unpowered and attached: the next energy delivery or network change wakes it
+        if (!entity.isPowered && entity.network != null) {
+            MachineSleepScheduler.sleep(entity);
+        }
+        
         // Debug logging every 40 ticks (2 seconds)
         if (DEBUG_LOGGING && world.getTime() % 40 == 0) {
             Circuitmod.LOGGER.info("[XP-GENERATOR-DEBUG] Tick at {}: network={}, energyReceived={}, isPowered={}, storedXp={}, progress={}/{}", 
@@ -294,6 +262,7 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
         }
         
         this.network = network;
+        MachineSleepScheduler.wake(this);
     }
     
     @Override
@@ -305,6 +274,7 @@ public class XpGeneratorBlockEntity extends BlockEntity implements NamedScreenHa
         int energyToConsume = Math.min(energyOffered, ENERGY_DEMAND_PER_TICK);
         if (energyToConsume > 0) {
             this.energyReceived += energyToConsume;
+            MachineSleepScheduler.wake(this);
         }
         
         return energyToConsume;
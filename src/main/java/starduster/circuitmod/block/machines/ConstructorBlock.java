@@ -129,7 +129,7 @@ public class ConstructorBlock extends BlockWithEntity {
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[CONSTRUCTOR] Scheduled tick at {}, checking network connections", pos);
         }
     }
@@ -129,7 +129,7 @@ public class CrusherBlock extends BlockWithEntity {
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[CRUSHER] Scheduled tick at {}, checking network connections", pos);
         }
     }
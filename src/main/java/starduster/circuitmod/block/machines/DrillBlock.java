@@ -159,7 +159,7 @@ public class DrillBlock extends BlockWithEntity {
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[DRILL] Scheduled tick at {}, checking network connections", pos);
         }
     }
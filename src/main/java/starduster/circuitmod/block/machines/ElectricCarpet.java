@@ -71,7 +71,8 @@ public class ElectricCarpet extends BlockWithEntity {
                 if (carpet.getNetwork() != null) {
                     EnergyNetwork network = carpet.getNetwork();
                     player.sendMessage(net.minecraft.text.Text.literal("§7Network: §9" + network.getNetworkId()), false);
-                    player.sendMessage(net.minecraft.text.Text.literal("§7Energy demand: §e1§7 energy/tick"), false);
+                    int fieldSize = carpet.getFieldSize();
+                    player.sendMessage(net.minecraft.text.Text.literal("§7Carpet field: §e" + fieldSize + "§7 carpets, §e" + fieldSize + "§7 energy/tick"), false);
                 } else {
                     player.sendMessage(net.minecraft.text.Text.literal("§cNot connected to any network!"), false);
                 }
@@ -121,7 +122,7 @@ public class ElectricCarpet extends BlockWithEntity {
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[ELECTRIC-CARPET] Scheduled tick at {}, checking network connections", pos);
         }
     }
@@ -17,6 +17,7 @@ import starduster.circuitmod.block.entity.MassFabricatorBlockEntity;
 import starduster.circuitmod.power.EnergyNetworkManager;
 import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.MachineSleepScheduler;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.world.ServerWorld;
@@ -92,11 +93,12 @@ public class MassFabricatorBlock extends BlockWithEntity {
     @Override
     public void scheduledTick(BlockState state, net.minecraft.server.world.ServerWorld world, BlockPos pos, net.minecraft.util.math.random.Random random) {
         super.scheduledTick(state, world, pos, random);
+        MachineSleepScheduler.wake(world, pos); // Neighbour changed: let an idle machine re-check its surroundings
         
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[MASS-FABRICATOR] Scheduled tick at {}, checking network connections", pos);
         }
     }
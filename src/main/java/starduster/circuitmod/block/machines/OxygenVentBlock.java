@@ -0,0 +1,63 @@
+package starduster.circuitmod.block.machines;
+
+import com.mojang.serialization.MapCodec;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.BlockWithEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import starduster.circuitmod.block.entity.OxygenVentBlockEntity;
+import starduster.circuitmod.luna.LunaDimension;
+import starduster.circuitmod.luna.PressurizedRooms;
+
+/**
+ * Fills the sealed room around it with air on Luna. The rooms themselves are tracked by {@link PressurizedRooms}.
+ */
+public class OxygenVentBlock extends BlockWithEntity {
+    public static final MapCodec<OxygenVentBlock> CODEC = createCodec(OxygenVentBlock::new);
+
+    @Override
+    public MapCodec<OxygenVentBlock> getCodec() {
+        return CODEC;
+    }
+
+    public OxygenVentBlock(Settings settings) {
+        super(settings);
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new OxygenVentBlockEntity(pos, state);
+    }
+
+    @Override
+    public BlockRenderType getRenderType(BlockState state) {
+        return BlockRenderType.MODEL;
+    }
+
+    @Override
+    public ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
+        if (!world.isClient) {
+            if (!LunaDimension.isLuna(world)) {
+                player.sendMessage(Text.literal("§7There is already air here"), true);
+                return ActionResult.SUCCESS;
+            }
+            int volume = PressurizedRooms.getPressurizedVolume(world, pos);
+            if (volume < 0) {
+                player.sendMessage(Text.literal("§7Checking room seal..."), true);
+            } else if (volume == 0) {
+                player.sendMessage(Text.literal("§cNo sealed room: air is venting into space"), true);
+            } else {
+                player.sendMessage(Text.literal("§bPressurizing " + volume + " blocks"), true);
+            }
+        }
+        return ActionResult.SUCCESS;
+    }
+}
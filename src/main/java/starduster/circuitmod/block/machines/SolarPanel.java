@@ -23,6 +23,7 @@ import starduster.circuitmod.block.entity.SolarPanelBlockEntity;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.power.IPowerConnectable;
 import starduster.circuitmod.power.EnergyNetworkManager;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 public class SolarPanel extends BlockWithEntity {
     public static final MapCodec<SolarPanel> CODEC = createCodec(SolarPanel::new);
@@ -111,11 +112,12 @@ public class SolarPanel extends BlockWithEntity {
     @Override
     public void scheduledTick(BlockState state, net.minecraft.server.world.ServerWorld world, BlockPos pos, net.minecraft.util.math.random.Random random) {
         super.scheduledTick(state, world, pos, random);
+        MachineSleepScheduler.wake(world, pos); // Neighbour changed: let an idle machine re-check its surroundings
         
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[SOLAR-PANEL] Scheduled tick at {}, checking network connections", pos);
         }
     }
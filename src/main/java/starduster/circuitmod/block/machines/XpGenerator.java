@@ -23,6 +23,7 @@ import starduster.circuitmod.block.entity.XpGeneratorBlockEntity;
 import starduster.circuitmod.block.entity.ModBlockEntities;
 import starduster.circuitmod.power.EnergyNetworkManager;
 import starduster.circuitmod.power.IPowerConnectable;
+import starduster.circuitmod.util.MachineSleepScheduler;
 
 public class XpGenerator extends BlockWithEntity {
     public static final MapCodec<XpGenerator> CODEC = createCodec(XpGenerator::new);
@@ -110,11 +111,12 @@ public class XpGenerator extends BlockWithEntity {
     @Override
     public void scheduledTick(BlockState state, net.minecraft.server.world.ServerWorld world, BlockPos pos, net.minecraft.util.math.random.Random random) {
         super.scheduledTick(state, world, pos, random);
+        MachineSleepScheduler.wake(world, pos); // Neighbour changed: let an idle machine re-check its surroundings
         
         BlockEntity blockEntity = world.getBlockEntity(pos);
         if (blockEntity instanceof IPowerConnectable) {
             // Try to connect to networks when neighbors change
-            EnergyNetworkManager.findAndJoinNetwork(world, pos, (IPowerConnectable) blockEntity);
+            EnergyNetworkManager.requestAttach(world, pos);
             Circuitmod.LOGGER.info("[XP-GENERATOR] Scheduled tick at {}, checking network connections", pos);
         }
     }
@@ -3,30 +3,56 @@ package starduster.circuitmod.blueprint;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
 import net.minecraft.world.chunk.WorldChunk;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.TickProfiler;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
  * Handles async blueprint scanning to prevent server lag.
- * Scans areas in chunks over multiple ticks with rate limiting.
+ * Chunk section palettes are copied on the server thread, then decoded on a
+ * worker pool (one fork/join task per section) and the finished blueprint is
+ * handed back to the server thread.
  */
 public class BlueprintScanner {
     
-    private static final int BLOCKS_PER_TICK = 50; // Maximum blocks to scan per tick
     private static final int MAX_BLUEPRINT_SIZE = 64 * 64 * 64; // Maximum total blocks in a blueprint
     private static final int MAX_DIMENSION = 100; // Maximum size in any single dimension
     
+    // Shared worker pool for section decoding; daemon threads so it never blocks shutdown
+    private static final ForkJoinPool SCAN_POOL = new ForkJoinPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+        pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("CircuitMod-BlueprintScan-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        },
+        null, false);
+    
     /**
-     * Iterate over every BlockPos in the axis-aligned cube defined by corner1 and corner2,
-     * excluding the corner pieces (blueprint desks) themselves.
+     * Computes the scan box between corner1 and corner2, excluding the corner
+     * pieces (blueprint desks) themselves. Returns null if the area is empty.
      */
-    public static void scanCube(BlockPos corner1, BlockPos corner2, Consumer<BlockPos> action) {
+    public static BlockBox getScanBox(BlockPos corner1, BlockPos corner2) {
         int minX = Math.min(corner1.getX(), corner2.getX());
         int maxX = Math.max(corner1.getX(), corner2.getX());
         int minY = Math.min(corner1.getY(), corner2.getY());
@@ -51,13 +77,25 @@ public class BlueprintScanner {
         
         // Check for invalid bounds (can happen if desks are too close together)
         if (minX > maxX || minY > maxY || minZ > maxZ) {
+            return null;
+        }
+        return new BlockBox(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+    
+    /**
+     * Iterate over every BlockPos in the axis-aligned cube defined by corner1 and corner2,
+     * excluding the corner pieces (blueprint desks) themselves.
+     */
+    public static void scanCube(BlockPos corner1, BlockPos corner2, Consumer<BlockPos> action) {
+        BlockBox box = getScanBox(corner1, corner2);
+        if (box == null) {
             Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] Invalid scan area - desks may be too close together");
             return;
         }
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
+        for (int x = box.getMinX(); x <= box.getMaxX(); x++) {
+            for (int y = box.getMinY(); y <= box.getMaxY(); y++) {
+                for (int z = box.getMinZ(); z <= box.getMaxZ(); z++) {
                     action.accept(new BlockPos(x, y, z));
                 }
             }
@@ -65,7 +103,9 @@ public class BlueprintScanner {
     }
     
     /**
-     * Scans an area asynchronously and creates a blueprint
+     * Scans an area asynchronously and creates a blueprint.
+     * Must be called on the server thread; all callbacks are invoked on the server thread.
+     * Exactly one of onComplete and onError is called.
      * 
      * @param startPos Starting corner position
      * @param endPos Ending corner position  
@@ -73,194 +113,247 @@ public class BlueprintScanner {
      * @param blueprintName Name for the blueprint
      * @param onComplete Callback when scanning is complete
      * @param onProgress Callback for progress updates
+     * @param onError Callback when the scan was rejected or failed
      */
     public static void scanAreaAsync(BlockPos startPos, BlockPos endPos, ServerWorld world, String blueprintName,
-                                   Consumer<Blueprint> onComplete, Consumer<Integer> onProgress) {
+                                   Consumer<Blueprint> onComplete, Consumer<Integer> onProgress, Runnable onError) {
         
-        // Collect all positions in the cube (excluding corner pieces)
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockState> states = new ArrayList<>();
-        
-        scanCube(startPos, endPos, pos -> {
-            positions.add(pos);
-            states.add(world.getBlockState(pos));
-        });
-        
-        // Check if we have any positions to scan
-        if (positions.isEmpty()) {
+        BlockBox box = getScanBox(startPos, endPos);
+        if (box == null) {
             Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] No valid positions to scan - desks may be too close together");
+            onError.run();
             return;
         }
         
-        int totalBlocks = positions.size();
-        if (totalBlocks > MAX_BLUEPRINT_SIZE) {
-            Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] Area too large: {} blocks (max: {})", 
-                totalBlocks, MAX_BLUEPRINT_SIZE);
-            return;
-        }
-        
-        // Calculate dimensions for the blueprint
-        int minX = positions.stream().mapToInt(BlockPos::getX).min().orElse(0);
-        int maxX = positions.stream().mapToInt(BlockPos::getX).max().orElse(0);
-        int minY = positions.stream().mapToInt(BlockPos::getY).min().orElse(0);
-        int maxY = positions.stream().mapToInt(BlockPos::getY).max().orElse(0);
-        int minZ = positions.stream().mapToInt(BlockPos::getZ).min().orElse(0);
-        int maxZ = positions.stream().mapToInt(BlockPos::getZ).max().orElse(0);
-        
-        int width = maxX - minX + 1;
-        int height = maxY - minY + 1;
-        int length = maxZ - minZ + 1;
+        int width = box.getBlockCountX();
+        int height = box.getBlockCountY();
+        int length = box.getBlockCountZ();
         
         // Validate dimensions
         if (width > MAX_DIMENSION || height > MAX_DIMENSION || length > MAX_DIMENSION) {
             Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] Area too large: {}x{}x{} (max: {})", 
                 width, height, length, MAX_DIMENSION);
+            onError.run();
             return;
         }
         
-        Circuitmod.LOGGER.info("[BLUEPRINT-SCANNER] Starting async scan of {}x{}x{} area ({} blocks)", 
-            width, height, length, totalBlocks);
+        int totalBlocks = width * height * length;
+        if (totalBlocks > MAX_BLUEPRINT_SIZE) {
+            Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] Area too large: {} blocks (max: {})", 
+                totalBlocks, MAX_BLUEPRINT_SIZE);
+            onError.run();
+            return;
+        }
+        
+        List<SectionSnapshot> snapshots = new ArrayList<>();
+        Map<Long, NbtCompound> blockEntityData = new HashMap<>();
+        long profileStart = TickProfiler.begin();
+        captureSnapshots(world, box, snapshots, blockEntityData);
+        TickProfiler.end(TickProfiler.Subsystem.BLUEPRINT_SCAN, profileStart);
+        
+        Circuitmod.LOGGER.info("[BLUEPRINT-SCANNER] Starting async scan of {}x{}x{} area ({} blocks, {} sections)", 
+            width, height, length, totalBlocks, snapshots.size());
         
         // Create the blueprint
         BlockPos dimensions = new BlockPos(width, height, length);
         BlockPos origin = new BlockPos(0, 0, 0); // Origin is relative to the blueprint
         Blueprint blueprint = new Blueprint(blueprintName, dimensions, origin);
         
-        // Create the scanning task with the collected data
-        ScanningTask task = new ScanningTask(blueprint, positions, states, minX, minY, minZ,
-            world, onComplete, onProgress);
+        MinecraftServer server = world.getServer();
+        ScanningTask task = new ScanningTask(blueprint, box, snapshots, blockEntityData, server, onProgress);
+        CompletableFuture.runAsync(task::invoke, SCAN_POOL).whenComplete((ignored, error) -> {
+            if (error != null) {
+                Circuitmod.LOGGER.error("[BLUEPRINT-SCANNER] Scan of blueprint '{}' failed", blueprintName, error);
+                server.execute(onError);
+                return;
+            }
+            // Hand the finished blueprint back to the server thread
+            server.execute(() -> {
+                onProgress.accept(100);
+                onComplete.accept(blueprint);
+                Circuitmod.LOGGER.info("[BLUEPRINT-SCANNER] Scan complete! Blueprint '{}' has {} blocks", 
+                    blueprint.getName(), blueprint.getTotalBlocks());
+            });
+        });
+    }
+    
+    /**
+     * Copies the block state containers of every loaded, non-empty chunk section
+     * touching the box and serializes the block entities inside it. Runs on the server thread.
+     */
+    private static void captureSnapshots(ServerWorld world, BlockBox box, List<SectionSnapshot> snapshots,
+                                         Map<Long, NbtCompound> blockEntityData) {
+        int minChunkX = ChunkSectionPos.getSectionCoord(box.getMinX());
+        int maxChunkX = ChunkSectionPos.getSectionCoord(box.getMaxX());
+        int minSectionY = ChunkSectionPos.getSectionCoord(box.getMinY());
+        int maxSectionY = ChunkSectionPos.getSectionCoord(box.getMaxY());
+        int minChunkZ = ChunkSectionPos.getSectionCoord(box.getMinZ());
+        int maxChunkZ = ChunkSectionPos.getSectionCoord(box.getMaxZ());
         
-        // Start the task - it will run over multiple ticks
-        task.start();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                // Skip chunks that aren't loaded rather than forcing them to load
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+                WorldChunk chunk = world.getChunk(chunkX, chunkZ);
+                
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = chunk.sectionCoordToIndex(sectionY);
+                    if (sectionIndex < 0 || sectionIndex >= chunk.getSectionArray().length) {
+                        continue;
+                    }
+                    ChunkSection section = chunk.getSection(sectionIndex);
+                    if (section.isEmpty()) {
+                        continue; // All air, nothing to store
+                    }
+                    snapshots.add(new SectionSnapshot(chunkX, sectionY, chunkZ, section.getBlockStateContainer().copy()));
+                }
+                
+                // Block entities must be serialized on the server thread
+                for (Map.Entry<BlockPos, BlockEntity> entry : chunk.getBlockEntities().entrySet()) {
+                    BlockPos worldPos = entry.getKey();
+                    if (!box.contains(worldPos)) {
+                        continue;
+                    }
+                    try {
+                        NbtCompound nbt = entry.getValue().createNbt(world.getRegistryManager());
+                        blockEntityData.put(worldPos.asLong(), nbt);
+                    } catch (Exception e) {
+                        Circuitmod.LOGGER.warn("[BLUEPRINT-SCANNER] Failed to serialize block entity at {}: {}", 
+                            worldPos, e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * A detached copy of one chunk section's block states.
+     */
+    private record SectionSnapshot(int chunkX, int sectionY, int chunkZ, PalettedContainer<BlockState> states) {
+    }
+    
+    /**
+     * The non-air blocks decoded from one section, stored as parallel arrays.
+     */
+    private static class SectionResult {
+        private final List<BlockPos> positions = new ArrayList<>();
+        private final List<BlockState> states = new ArrayList<>();
     }
     
     /**
-     * Internal class that handles the actual scanning process
+     * Root fork/join task: forks one {@link SectionTask} per snapshot and merges
+     * their results into the blueprint once all of them are joined.
      */
-    private static class ScanningTask {
+    private static class ScanningTask extends RecursiveAction {
         private final Blueprint blueprint;
-        private final List<BlockPos> positions;
-        private final List<BlockState> states;
-        private final int minX, minY, minZ;
-        private final ServerWorld world;
-        private final Consumer<Blueprint> onComplete;
+        private final BlockBox box;
+        private final List<SectionSnapshot> snapshots;
+        private final Map<Long, NbtCompound> blockEntityData;
+        private final MinecraftServer server;
         private final Consumer<Integer> onProgress;
+        private final AtomicInteger completedSections = new AtomicInteger();
+        private final AtomicInteger lastReportedProgress = new AtomicInteger(-1);
         
-        private int currentIndex = 0;
-        private int totalBlocks;
-        private int scannedBlocks = 0;
-        private boolean isComplete = false;
-        
-        public ScanningTask(Blueprint blueprint, List<BlockPos> positions, List<BlockState> states,
-                          int minX, int minY, int minZ, ServerWorld world, 
-                          Consumer<Blueprint> onComplete, Consumer<Integer> onProgress) {
+        public ScanningTask(Blueprint blueprint, BlockBox box, List<SectionSnapshot> snapshots,
+                            Map<Long, NbtCompound> blockEntityData, MinecraftServer server,
+                            Consumer<Integer> onProgress) {
             this.blueprint = blueprint;
-            this.positions = positions;
-            this.states = states;
-            this.minX = minX;
-            this.minY = minY;
-            this.minZ = minZ;
-            this.world = world;
-            this.onComplete = onComplete;
+            this.box = box;
+            this.snapshots = snapshots;
+            this.blockEntityData = blockEntityData;
+            this.server = server;
             this.onProgress = onProgress;
-            
-            this.totalBlocks = positions.size();
         }
         
-        public void start() {
-            // Schedule the first tick
-            scheduleNextTick();
-        }
-        
-        private void scheduleNextTick() {
-            if (isComplete) {
-                return;
+        @Override
+        protected void compute() {
+            List<SectionTask> tasks = new ArrayList<>(snapshots.size());
+            for (SectionSnapshot snapshot : snapshots) {
+                tasks.add(new SectionTask(snapshot, box, this));
             }
+            invokeAll(tasks);
             
-            // Schedule for next tick using the world's task scheduler
-            world.getServer().execute(this::processTick);
+            // Merge in a deterministic order on this worker
+            for (SectionTask task : tasks) {
+                SectionResult result = task.join();
+                for (int i = 0; i < result.positions.size(); i++) {
+                    BlockPos worldPos = result.positions.get(i);
+                    BlockPos relativePos = new BlockPos(
+                        worldPos.getX() - box.getMinX(),
+                        worldPos.getY() - box.getMinY(),
+                        worldPos.getZ() - box.getMinZ()
+                    );
+                    try {
+                        blueprint.addBlock(relativePos, result.states.get(i), blockEntityData.get(worldPos.asLong()));
+                    } catch (Exception e) {
+                        Circuitmod.LOGGER.warn("[BLUEPRINT-SCANNER] Failed to add block at {}: {}", 
+                            worldPos, e.getMessage());
+                    }
+                }
+            }
         }
         
-        private void processTick() {
-            if (isComplete) {
-                return;
+        private void onSectionComplete() {
+            int done = completedSections.incrementAndGet();
+            int progress = Math.min((done * 100) / Math.max(1, snapshots.size()), 99); // Reserve 100 for completion
+            int previous = lastReportedProgress.getAndSet(progress);
+            if (progress != previous) {
+                server.execute(() -> onProgress.accept(progress));
             }
+        }
+    }
+    
+    /**
+     * Decodes the non-air blocks of a single section snapshot that lie inside the scan box.
+     */
+    private static class SectionTask extends RecursiveTask<SectionResult> {
+        private final SectionSnapshot snapshot;
+        private final BlockBox box;
+        private final ScanningTask parent;
+        
+        public SectionTask(SectionSnapshot snapshot, BlockBox box, ScanningTask parent) {
+            this.snapshot = snapshot;
+            this.box = box;
+            this.parent = parent;
+        }
+        
+        @Override
+        protected SectionResult compute() {
+            SectionResult result = new SectionResult();
+            int baseX = ChunkSectionPos.getBlockCoord(snapshot.chunkX());
+            int baseY = ChunkSectionPos.getBlockCoord(snapshot.sectionY());
+            int baseZ = ChunkSectionPos.getBlockCoord(snapshot.chunkZ());
             
-            int blocksThisTick = 0;
+            // Clamp the section to the scan box
+            int minX = Math.max(box.getMinX(), baseX) - baseX;
+            int maxX = Math.min(box.getMaxX(), baseX + 15) - baseX;
+            int minY = Math.max(box.getMinY(), baseY) - baseY;
+            int maxY = Math.min(box.getMaxY(), baseY + 15) - baseY;
+            int minZ = Math.max(box.getMinZ(), baseZ) - baseZ;
+            int maxZ = Math.min(box.getMaxZ(), baseZ + 15) - baseZ;
             
-            // Process blocks for this tick
-            while (blocksThisTick < BLOCKS_PER_TICK && currentIndex < totalBlocks) {
-                BlockPos worldPos = positions.get(currentIndex);
-                BlockState blockState = states.get(currentIndex);
-                
-                // Ensure the chunk is loaded
-                if (!world.isChunkLoaded(worldPos)) {
-                    // Skip this block if chunk isn't loaded
-                    currentIndex++;
-                    scannedBlocks++;
-                    blocksThisTick++;
-                    continue;
-                }
-                
-                // Only store non-air blocks
-                if (!blockState.isAir()) {
-                    // Calculate relative position in the blueprint
-                    BlockPos relativePos = new BlockPos(
-                        worldPos.getX() - minX,
-                        worldPos.getY() - minY, 
-                        worldPos.getZ() - minZ
-                    );
-                    
-                    // Get block entity data if present
-                    NbtCompound blockEntityData = null;
-                    BlockEntity blockEntity = world.getBlockEntity(worldPos);
-                    if (blockEntity != null) {
+            PalettedContainer<BlockState> states = snapshot.states();
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
                         try {
-                            blockEntityData = blockEntity.createNbt(world.getRegistryManager());
+                            BlockState state = states.get(x, y, z);
+                            if (!state.isAir()) {
+                                result.positions.add(new BlockPos(baseX + x, baseY + y, baseZ + z));
+                                result.states.add(state);
+                            }
                         } catch (Exception e) {
-                            Circuitmod.LOGGER.warn("[BLUEPRINT-SCANNER] Failed to serialize block entity at {}: {}", 
-                                worldPos, e.getMessage());
-                            blockEntityData = null;
+                            Circuitmod.LOGGER.warn("[BLUEPRINT-SCANNER] Failed to read block at {}: {}", 
+                                new BlockPos(baseX + x, baseY + y, baseZ + z), e.getMessage());
                         }
                     }
-                    
-                    // Add to blueprint
-                    blueprint.addBlock(relativePos, blockState, blockEntityData);
                 }
-                
-                // Advance to next position
-                currentIndex++;
-                scannedBlocks++;
-                blocksThisTick++;
-                
-                // Update progress every 10 blocks
-                if (scannedBlocks % 10 == 0) {
-                    int progress = (scannedBlocks * 100) / totalBlocks;
-                    onProgress.accept(Math.min(progress, 99)); // Reserve 100 for completion
-                }
-            }
-            
-            // Check if we're done
-            if (currentIndex >= totalBlocks) {
-                complete();
-                return;
             }
             
-            // Schedule next tick if not complete
-            if (!isComplete) {
-                scheduleNextTick();
-            }
-        }
-        
-
-        
-        private void complete() {
-            isComplete = true;
-            onProgress.accept(100);
-            onComplete.accept(blueprint);
-            
-            Circuitmod.LOGGER.info("[BLUEPRINT-SCANNER] Scan complete! Blueprint '{}' has {} blocks", 
-                blueprint.getName(), blueprint.getTotalBlocks());
+            parent.onSectionComplete();
+            return result;
         }
     }
-} 
\ No newline at end of file
+} 
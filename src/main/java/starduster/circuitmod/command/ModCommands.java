@@ -1,6 +1,8 @@
 package starduster.circuitmod.command;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.minecraft.command.CommandRegistryAccess;
@@ -12,8 +14,15 @@ import starduster.circuitmod.item.network.ItemNetwork;
 import starduster.circuitmod.power.EnergyNetworkManager;
 import starduster.circuitmod.power.EnergyNetwork;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.DiagnosticLog;
+import starduster.circuitmod.util.TickProfiler;
+
+import java.util.Locale;
 
 public class ModCommands {
+    private static final int DEFAULT_PROFILE_TOP_COUNT = 10;
+    private static final int DEFAULT_LOG_RECENT_COUNT = 20;
+
     public static void initialize() {
         CommandRegistrationCallback.EVENT.register(ModCommands::registerCommands);
     }
@@ -28,9 +37,48 @@ public class ModCommands {
                 .executes(ModCommands::energyRecovery))
             .then(CommandManager.literal("energy-stats")
                 .executes(ModCommands::energyStats))
+            .then(CommandManager.literal("profile")
+                .requires(source -> source.hasPermissionLevel(2))
+                .then(CommandManager.literal("start")
+                    .executes(ModCommands::profileStart))
+                .then(CommandManager.literal("stop")
+                    .executes(ModCommands::profileStop))
+                .then(CommandManager.literal("dump")
+                    .executes(context -> profileDump(context, DEFAULT_PROFILE_TOP_COUNT))
+                    .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 100))
+                        .executes(context -> profileDump(context, IntegerArgumentType.getInteger(context, "count"))))))
+            .then(buildLogCommand())
         );
     }
 
+    private static LiteralArgumentBuilder<ServerCommandSource> buildLogCommand() {
+        LiteralArgumentBuilder<ServerCommandSource> level = CommandManager.literal("level")
+            .executes(ModCommands::logLevels);
+        LiteralArgumentBuilder<ServerCommandSource> recent = CommandManager.literal("recent")
+            .executes(context -> logRecent(context, DEFAULT_LOG_RECENT_COUNT, null))
+            .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 200))
+                .executes(context -> logRecent(context, IntegerArgumentType.getInteger(context, "count"), null)));
+
+        for (DiagnosticLog category : DiagnosticLog.getCategories().values()) {
+            LiteralArgumentBuilder<ServerCommandSource> categoryLevel = CommandManager.literal(category.getName());
+            for (DiagnosticLog.Level value : DiagnosticLog.Level.values()) {
+                categoryLevel.then(CommandManager.literal(value.name().toLowerCase(Locale.ROOT))
+                    .executes(context -> setLogLevel(context, category, value)));
+            }
+            level.then(categoryLevel);
+
+            recent.then(CommandManager.literal(category.getName())
+                .executes(context -> logRecent(context, DEFAULT_LOG_RECENT_COUNT, category))
+                .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 200))
+                    .executes(context -> logRecent(context, IntegerArgumentType.getInteger(context, "count"), category))));
+        }
+
+        return CommandManager.literal("log")
+            .requires(source -> source.hasPermissionLevel(2))
+            .then(level)
+            .then(recent);
+    }
+
     private static int refreshNetworks(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         
@@ -83,4 +131,56 @@ public class ModCommands {
         
         return 1;
     }
-} 
\ No newline at end of file
+    
+    private static int profileStart(CommandContext<ServerCommandSource> context) {
+        TickProfiler.start();
+        Circuitmod.LOGGER.info("[COMMAND] Tick profiler started");
+        context.getSource().sendMessage(Text.literal("Circuitmod profiler started"));
+        return 1;
+    }
+    
+    private static int profileStop(CommandContext<ServerCommandSource> context) {
+        TickProfiler.stop();
+        Circuitmod.LOGGER.info("[COMMAND] Tick profiler stopped");
+        context.getSource().sendMessage(Text.literal("Circuitmod profiler stopped"));
+        return 1;
+    }
+    
+    private static int profileDump(CommandContext<ServerCommandSource> context, int topCount) {
+        ServerCommandSource source = context.getSource();
+        
+        for (String line : TickProfiler.dump(topCount)) {
+            Circuitmod.LOGGER.info("[PROFILE] {}", line);
+            source.sendMessage(Text.literal(line));
+        }
+        
+        return 1;
+    }
+    
+    private static int logLevels(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        
+        for (DiagnosticLog category : DiagnosticLog.getCategories().values()) {
+            source.sendMessage(Text.literal(category.getName() + ": " + category.getLevel().name().toLowerCase(Locale.ROOT)));
+        }
+        
+        return 1;
+    }
+    
+    private static int setLogLevel(CommandContext<ServerCommandSource> context, DiagnosticLog category, DiagnosticLog.Level level) {
+        category.setLevel(level);
+        Circuitmod.LOGGER.info("[COMMAND] Diagnostic log level for {} set to {}", category.getName(), level);
+        context.getSource().sendMessage(Text.literal("Log level for " + category.getName() + " set to " + level.name().toLowerCase(Locale.ROOT)));
+        return 1;
+    }
+    
+    private static int logRecent(CommandContext<ServerCommandSource> context, int count, DiagnosticLog category) {
+        ServerCommandSource source = context.getSource();
+        
+        for (DiagnosticLog.Entry entry : DiagnosticLog.recent(count, category)) {
+            source.sendMessage(Text.literal("[" + entry.category() + "/" + entry.level() + "] " + entry.message()));
+        }
+        
+        return 1;
+    }
+}
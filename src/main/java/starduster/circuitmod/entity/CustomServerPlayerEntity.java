@@ -5,6 +5,7 @@ import net.minecraft.network.packet.c2s.common.SyncedClientOptions;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import starduster.circuitmod.util.DiagnosticLog;
 
 /**
  * Custom server player entity that uses CustomPlayerInventory.
@@ -16,7 +17,7 @@ public class CustomServerPlayerEntity extends ServerPlayerEntity {
         super(server, world, profile, clientOptions);
         // Note: The inventory is already created in PlayerEntity constructor before this runs
         // We need to use a mixin to replace it at creation time
-        System.out.println("[CircuitMod] CustomServerPlayerEntity created for " + profile.getName());
+        DiagnosticLog.PLAYER.debug("[CircuitMod] CustomServerPlayerEntity created for {}", profile.getName());
     }
     
     /**
@@ -41,8 +41,10 @@ import software.bernie.geckolib.util.GeckoLibUtil;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.item.FuelRodItem;
 import starduster.circuitmod.item.ModItems;
+import starduster.circuitmod.network.IControllableVehicle;
+import starduster.circuitmod.network.VehicleInput;
 
-public class HovercraftEntity extends VehicleEntity implements GeoEntity, VehicleInventory, RideableInventory {
+public class HovercraftEntity extends VehicleEntity implements GeoEntity, VehicleInventory, RideableInventory, IControllableVehicle {
     // Tracked data for synchronization (similar to boat's paddle states and FurnaceMinecart's LIT)
     private static final TrackedData<Boolean> BOOST_ACTIVE = DataTracker.registerData(HovercraftEntity.class, TrackedDataHandlerRegistry.BOOLEAN);
     private static final TrackedData<Boolean> POWERED = DataTracker.registerData(HovercraftEntity.class, TrackedDataHandlerRegistry.BOOLEAN);
@@ -124,6 +126,20 @@ public class HovercraftEntity extends VehicleEntity implements GeoEntity, Vehicl
         this.dataTracker.set(BOOST_ACTIVE, boost);
     }
     
+    @Override
+    public void applyInput(int flags) {
+        this.setInputs(
+            VehicleInput.isPressed(flags, VehicleInput.FORWARD), VehicleInput.isPressed(flags, VehicleInput.BACK),
+            VehicleInput.isPressed(flags, VehicleInput.LEFT), VehicleInput.isPressed(flags, VehicleInput.RIGHT),
+            VehicleInput.isPressed(flags, VehicleInput.UP), VehicleInput.isPressed(flags, VehicleInput.DOWN),
+            VehicleInput.isPressed(flags, VehicleInput.BOOST));
+    }
+    
+    @Override
+    public boolean predictsInput() {
+        return true; // The rider's client drives the hovercraft's movement
+    }
+    
     public boolean isBoostActive() {
         return this.dataTracker.get(BOOST_ACTIVE);
     }
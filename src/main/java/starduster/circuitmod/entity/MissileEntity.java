@@ -2,20 +2,26 @@ package starduster.circuitmod.entity;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
-import net.minecraft.entity.MovementType;
 import net.minecraft.entity.PositionInterpolator;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
 import net.minecraft.world.World;
 import software.bernie.geckolib.animatable.GeoEntity;
 import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
 import software.bernie.geckolib.animatable.manager.AnimatableManager;
 import software.bernie.geckolib.util.GeckoLibUtil;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.ChunkPreloader;
+
+import java.util.ArrayDeque;
 
 /**
  * Missile entity that travels in an arc trajectory to a target coordinate
@@ -38,7 +44,14 @@ public class MissileEntity extends Entity implements GeoEntity {
     
     // Movement parameters
     private static final float SPEED = 0.45F; // 3x speed
-    private int ticks = 0;
+    private static final int TICKET_LOOKAHEAD_TICKS = 100; // Load chunks this many ticks of flight ahead
+    private static final int TICKET_RADIUS = 2; // Keeps the path chunk entity-ticking and its neighbours loaded
+    private int ticks = 0; // Ticks flown; the position on the trajectory is ticks * SPEED
+    
+    // Worked out from launchPos/targetPos on the first flight tick (also after loading)
+    private MissileTrajectory trajectory;
+    private final ArrayDeque<ChunkPreloader> chunkTickets = new ArrayDeque<>();
+    private int nextTicketIndex = 0;
     
     public MissileEntity(EntityType<?> type, World world) {
         super(type, world);
@@ -67,6 +80,7 @@ public class MissileEntity extends Entity implements GeoEntity {
      */
     public void setTargetPosition(Vec3d target) {
         this.targetPos = target;
+        this.trajectory = null;
     }
     
     /**
@@ -92,6 +106,7 @@ public class MissileEntity extends Entity implements GeoEntity {
         if (!isLaunched) {
             this.isLaunched = true;
             this.launchPos = this.getPos();
+            this.trajectory = null;
             Circuitmod.LOGGER.info("[MISSILE] Launched from {} toward target {}", launchPos, targetPos);
         }
     }
@@ -129,44 +144,58 @@ public class MissileEntity extends Entity implements GeoEntity {
             if (launchPos == null) {
                 launchPos = this.getPos();
             }
+            if (trajectory == null) {
+                trajectory = new MissileTrajectory(launchPos, getTargetPosition(), this.getWorld().getBottomY());
+                chunkTickets.clear();
+                nextTicketIndex = trajectory.indexOfChunkAt(ticks * SPEED);
+            }
             
-            ticks++;
-            
-            Vec3d currentPos = this.getPos();
-            Vec3d target = getTargetPosition();
+            double distance = ticks * SPEED;
+            double nextDistance = distance + SPEED;
+            if (this.getWorld() instanceof ServerWorld serverWorld) {
+                requestChunksAhead(serverWorld, distance);
+            }
             
-            // Calculate horizontal distance and progress
-            Vec3d launchPosFlat = new Vec3d(launchPos.x, 0, launchPos.z);
-            Vec3d targetFlat = new Vec3d(target.x, 0, target.z);
-            Vec3d currentFlat = new Vec3d(currentPos.x, 0, currentPos.z);
+            // Fell out of the bottom of the world without hitting anything
+            if (nextDistance > trajectory.getEndDistance()) {
+                this.discard();
+                return;
+            }
             
-            double totalDistance = launchPosFlat.distanceTo(targetFlat);
-            double traveledDistance = launchPosFlat.distanceTo(currentFlat);
-            double progress = totalDistance > 0 ? traveledDistance / totalDistance : 0;
+            double nextX = trajectory.getX(nextDistance);
+            double nextY = trajectory.getY(nextDistance);
+            double nextZ = trajectory.getZ(nextDistance);
             
-            // Calculate horizontal direction
-            Vec3d horizontalDir = targetFlat.subtract(launchPosFlat).normalize();
+            // Hold position until the ticket ahead has loaded the next chunk
+            int nextChunkX = MathHelper.floor(nextX) >> 4;
+            int nextChunkZ = MathHelper.floor(nextZ) >> 4;
+            boolean nextChunkReady = this.getWorld() instanceof ServerWorld serverWorld
+                ? ChunkPreloader.getLoadedChunk(serverWorld, nextChunkX, nextChunkZ) != null
+                : this.getWorld().isChunkLoaded(nextChunkX, nextChunkZ);
+            if (!nextChunkReady) {
+                this.setVelocity(Vec3d.ZERO);
+                return;
+            }
             
-            // Calculate arc height using parabolic trajectory
-            // Peak height is 20 blocks at 50% progress
-            double arcHeight = 20.0;
-            double heightOffset = 4.0 * arcHeight * progress * (1.0 - progress);
+            ticks++;
             
-            // Target Y position with arc
-            double targetY = MathHelper.lerp(progress, launchPos.y, target.y) + heightOffset;
+            Vec3d currentPos = this.getPos();
+            Vec3d nextPos = new Vec3d(nextX, nextY, nextZ);
             
-            // Calculate next position
-            Vec3d nextPos = currentFlat.add(horizontalDir.multiply(SPEED));
-            nextPos = new Vec3d(nextPos.x, targetY, nextPos.z);
+            // Sweep this tick's segment through the block grid; fluids count so water stops the missile too
+            BlockHitResult hit = this.getWorld().raycast(new RaycastContext(currentPos, nextPos,
+                RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.ANY, this));
+            if (hit.getType() != HitResult.Type.MISS) {
+                this.setPosition(hit.getPos());
+                detonate();
+                return;
+            }
             
             // Calculate velocity for this tick
-            Vec3d velocity = nextPos.subtract(currentPos);
-            this.setVelocity(velocity);
-            
-            // Calculate rotation to face movement direction (for model orientation)
-            double dx = velocity.x;
-            double dy = velocity.y;
-            double dz = velocity.z;
+            double dx = nextX - currentPos.x;
+            double dy = nextY - currentPos.y;
+            double dz = nextZ - currentPos.z;
+            this.setVelocity(dx, dy, dz);
             
             // Yaw: horizontal rotation (side to side)
             // atan2(dz, dx) gives angle from +X axis
@@ -189,32 +218,43 @@ public class MissileEntity extends Entity implements GeoEntity {
             this.setYaw(yaw);
             this.setPitch(pitch);
             
-            // Apply movement and check for collision
-            Vec3d oldPos = this.getPos();
-            this.move(MovementType.SELF, this.getVelocity());
-            Vec3d newPos = this.getPos();
-            
-            // Check if we hit something (position didn't change as expected)
-            boolean hitSomething = oldPos.distanceTo(newPos) < velocity.length() * 0.5;
-            
-            // Check if we're in water or hit a block
-            if (hitSomething || this.isTouchingWater() || this.isOnGround()) {
-                detonate();
-                return;
-            }
+            this.setPosition(nextPos);
             
             // Debug logging - print velocity components (tangent direction) as missile travels
             if (ticks % 20 == 0) {
                 Circuitmod.LOGGER.info("[MISSILE] Velocity (tangent direction) - X: {}, Y: {}, Z: {} | Yaw: {}, Pitch: {}", 
-                    String.format("%.6f", velocity.x),
-                    String.format("%.6f", velocity.y),
-                    String.format("%.6f", velocity.z),
+                    String.format("%.6f", dx),
+                    String.format("%.6f", dy),
+                    String.format("%.6f", dz),
                     String.format("%.1f", yaw),
                     String.format("%.1f", pitch));
             }
         }
     }
     
+    /**
+     * Keeps chunk tickets on the path from the missile's current chunk to {@link #TICKET_LOOKAHEAD_TICKS} ahead.
+     * The ticket set stays a few chunks long, so this costs the same every tick however long the flight is.
+     */
+    private void requestChunksAhead(ServerWorld world, double distance) {
+        double horizon = distance + TICKET_LOOKAHEAD_TICKS * SPEED;
+        while (nextTicketIndex < trajectory.getChunkCount() && trajectory.getChunkEntryDistance(nextTicketIndex) <= horizon) {
+            chunkTickets.addLast(ChunkPreloader.request(world, new ChunkPos(trajectory.getChunk(nextTicketIndex)), TICKET_RADIUS));
+            nextTicketIndex++;
+        }
+        
+        // Chunks already flown through are left to expire on their own
+        int firstIndex = nextTicketIndex - chunkTickets.size();
+        while (chunkTickets.size() > 1 && trajectory.getChunkEntryDistance(firstIndex + 1) <= distance) {
+            chunkTickets.removeFirst();
+            firstIndex++;
+        }
+        
+        for (ChunkPreloader ticket : chunkTickets) {
+            ticket.keepAlive();
+        }
+    }
+    
     /**
      * Detonate the missile - creates a powerful explosion (3x TNT power)
      */
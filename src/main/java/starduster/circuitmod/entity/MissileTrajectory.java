@@ -0,0 +1,146 @@
+package starduster.circuitmod.entity;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+
+/**
+ * Flight path of a missile, worked out once at launch.
+ * <p>
+ * The path follows the horizontal line from the launch point to the target. Height is a parabola that
+ * peaks {@link #ARC_HEIGHT} above the straight launch-to-target line at the midpoint. Past the target it
+ * keeps descending until it leaves the bottom of the world. Positions are looked up by horizontal distance
+ * flown. The chunks the path crosses are listed in flight order, so they can be loaded before the missile
+ * arrives.
+ */
+public class MissileTrajectory {
+    public static final double ARC_HEIGHT = 20.0;
+
+    private final double startX;
+    private final double startY;
+    private final double startZ;
+    private final double dirX;
+    private final double dirZ;
+    private final double length; // Horizontal launch-to-target distance
+    private final double rise; // Target Y minus launch Y
+    private final double endDistance;
+
+    private final long[] chunks;
+    private final double[] chunkEntryDistances;
+
+    public MissileTrajectory(Vec3d launch, Vec3d target, int bottomY) {
+        this.startX = launch.x;
+        this.startY = launch.y;
+        this.startZ = launch.z;
+        this.rise = target.y - launch.y;
+
+        double dx = target.x - launch.x;
+        double dz = target.z - launch.z;
+        double horizontal = Math.sqrt(dx * dx + dz * dz);
+        if (horizontal < 1.0E-4) {
+            // Target straight above or below: no direction to fly in, just follow the height curve
+            this.dirX = 0.0;
+            this.dirZ = 0.0;
+            this.length = 1.0;
+        } else {
+            this.dirX = dx / horizontal;
+            this.dirZ = dz / horizontal;
+            this.length = horizontal;
+        }
+
+        // Solve y(p) = bottomY for the far root: -4h p^2 + (rise + 4h) p + (startY - bottomY) = 0
+        double b = rise + 4.0 * ARC_HEIGHT;
+        double c = Math.max(startY - bottomY, 0.0);
+        double endProgress = (b + Math.sqrt(b * b + 16.0 * ARC_HEIGHT * c)) / (8.0 * ARC_HEIGHT);
+        this.endDistance = endProgress * length;
+
+        LongArrayList chunkList = new LongArrayList();
+        DoubleArrayList entryList = new DoubleArrayList();
+        traceChunks(chunkList, entryList);
+        this.chunks = chunkList.toLongArray();
+        this.chunkEntryDistances = entryList.toDoubleArray();
+    }
+
+    public double getX(double distance) {
+        return startX + dirX * distance;
+    }
+
+    public double getY(double distance) {
+        double progress = distance / length;
+        return startY + rise * progress + 4.0 * ARC_HEIGHT * progress * (1.0 - progress);
+    }
+
+    public double getZ(double distance) {
+        return startZ + dirZ * distance;
+    }
+
+    /**
+     * @return the horizontal distance at which the path leaves the bottom of the world
+     */
+    public double getEndDistance() {
+        return endDistance;
+    }
+
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * @return the {@link ChunkPos#toLong() packed} position of the index-th chunk along the path
+     */
+    public long getChunk(int index) {
+        return chunks[index];
+    }
+
+    public double getChunkEntryDistance(int index) {
+        return chunkEntryDistances[index];
+    }
+
+    /**
+     * @return the index of the chunk the path is in after flying {@code distance}
+     */
+    public int indexOfChunkAt(double distance) {
+        int index = Arrays.binarySearch(chunkEntryDistances, distance);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    /**
+     * Walks the chunk grid along the horizontal line, one chunk border at a time.
+     */
+    private void traceChunks(LongArrayList chunkList, DoubleArrayList entryList) {
+        int chunkX = MathHelper.floor(startX) >> 4;
+        int chunkZ = MathHelper.floor(startZ) >> 4;
+        int stepX = dirX > 0 ? 1 : -1;
+        int stepZ = dirZ > 0 ? 1 : -1;
+
+        // Distance along the line to the next chunk border on each axis, and between borders
+        double nextX = dirX == 0 ? Double.POSITIVE_INFINITY
+            : ((stepX > 0 ? (chunkX + 1) * 16.0 : chunkX * 16.0) - startX) / dirX;
+        double nextZ = dirZ == 0 ? Double.POSITIVE_INFINITY
+            : ((stepZ > 0 ? (chunkZ + 1) * 16.0 : chunkZ * 16.0) - startZ) / dirZ;
+        double deltaX = dirX == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dirX);
+        double deltaZ = dirZ == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dirZ);
+
+        double distance = 0.0;
+        while (true) {
+            chunkList.add(ChunkPos.toLong(chunkX, chunkZ));
+            entryList.add(distance);
+            if (Math.min(nextX, nextZ) > endDistance) {
+                return;
+            }
+            if (nextX < nextZ) {
+                distance = nextX;
+                chunkX += stepX;
+                nextX += deltaX;
+            } else {
+                distance = nextZ;
+                chunkZ += stepZ;
+                nextZ += deltaZ;
+            }
+        }
+    }
+}
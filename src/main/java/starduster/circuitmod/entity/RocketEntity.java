@@ -18,6 +18,9 @@ import net.minecraft.world.World;
 import net.minecraft.block.BlockState;
 import org.jetbrains.annotations.Nullable;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.network.IControllableVehicle;
+import starduster.circuitmod.network.VehicleInput;
+import starduster.circuitmod.util.DiagnosticLog;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.GeoEntity;
 import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
@@ -27,7 +30,7 @@ import software.bernie.geckolib.util.GeckoLibUtil;
 /**
  * Example {@link GeoAnimatable} implementation of a rocket entity
  */
-public class RocketEntity extends AnimalEntity implements GeoEntity {
+public class RocketEntity extends AnimalEntity implements GeoEntity, IControllableVehicle {
     private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
     
     // Rocket launch state
@@ -430,10 +433,18 @@ public class RocketEntity extends AnimalEntity implements GeoEntity {
         return this.getY() + 0.5f;
     }
     
-    // Method to set spacebar state from networking
+    // Spacebar state from networking; the rocket only listens to the launch key
+    @Override
+    public void applyInput(int flags) {
+        this.setSpacePressed(VehicleInput.isPressed(flags, VehicleInput.UP));
+    }
+    
     public void setSpacePressed(boolean spacePressed) {
+        // Input arrives every tick while a player is aboard, so only report actual changes
+        if (this.spacePressed != spacePressed) {
+            DiagnosticLog.PLAYER.debug("Rocket spacebar state set to: {}", spacePressed);
+        }
         this.spacePressed = spacePressed;
-        Circuitmod.LOGGER.info("Rocket spacebar state set to: {}", spacePressed);
     }
     
     // Public method for mixin to check launch state
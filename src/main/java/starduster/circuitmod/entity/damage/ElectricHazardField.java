@@ -0,0 +1,244 @@
+package starduster.circuitmod.entity.damage;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.predicate.entity.EntityPredicates;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import starduster.circuitmod.Circuitmod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * World-level index of active electric hazards (tesla coil spheres and electric carpet surfaces).
+ * <p>
+ * Hazards register while they are powered, bucketed by chunk. Every {@link #DAMAGE_INTERVAL} ticks one
+ * entity query per hazard chunk is made against the union of that chunk's hazard volumes, and each living
+ * entity found is tested with squared distances (coils) or a direct lookup of the carpet under its feet.
+ * A whole carpet floor costs a handful of entity scans instead of one per carpet block.
+ */
+public class ElectricHazardField {
+    public static final float DAMAGE_PER_HIT = 2.0f;
+    public static final int DAMAGE_INTERVAL = 2; // Damage every 2 ticks (0.1 seconds)
+    public static final int COIL_RANGE = 5; // Tesla coil damage radius in blocks
+
+    private static final double COIL_RANGE_SQ = COIL_RANGE * COIL_RANGE;
+    private static final double CARPET_TOP = 0.125; // Carpet surface height above the block origin
+    private static final double CARPET_TOLERANCE = 0.1; // How far an entity's feet may be from the surface
+    private static final TypeFilter<Entity, LivingEntity> LIVING = TypeFilter.instanceOf(LivingEntity.class);
+
+    private static final Map<ServerWorld, ElectricHazardField> FIELDS = new HashMap<>();
+
+    private final ServerWorld world;
+    private final LongOpenHashSet carpets = new LongOpenHashSet();
+    private final Long2ObjectOpenHashMap<HazardChunk> chunks = new Long2ObjectOpenHashMap<>();
+    private ElectricDamageSource damageSource;
+
+    // Scratch state reused by every pass
+    private final List<LivingEntity> scratchEntities = new ArrayList<>();
+    private final ReferenceOpenHashSet<LivingEntity> damagedThisPass = new ReferenceOpenHashSet<>();
+    private final BlockPos.Mutable scratchPos = new BlockPos.Mutable();
+
+    private ElectricHazardField(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            ElectricHazardField field = FIELDS.get(world);
+            if (field != null && world.getTime() % DAMAGE_INTERVAL == 0) {
+                field.applyDamage();
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> FIELDS.remove(world));
+    }
+
+    private static ElectricHazardField get(ServerWorld world) {
+        return FIELDS.computeIfAbsent(world, ElectricHazardField::new);
+    }
+
+    public static void addCoil(ServerWorld world, BlockPos pos) {
+        get(world).chunkFor(pos).coils.add(pos.asLong());
+    }
+
+    public static void removeCoil(ServerWorld world, BlockPos pos) {
+        ElectricHazardField field = FIELDS.get(world);
+        if (field != null) {
+            field.remove(pos, false);
+        }
+    }
+
+    public static void addCarpet(ServerWorld world, BlockPos pos) {
+        ElectricHazardField field = get(world);
+        if (field.carpets.add(pos.asLong())) {
+            field.chunkFor(pos).carpets.add(pos.asLong());
+        }
+    }
+
+    public static void removeCarpet(ServerWorld world, BlockPos pos) {
+        ElectricHazardField field = FIELDS.get(world);
+        if (field != null && field.carpets.remove(pos.asLong())) {
+            field.remove(pos, true);
+        }
+    }
+
+    private HazardChunk chunkFor(BlockPos pos) {
+        HazardChunk chunk = chunks.computeIfAbsent(ChunkPos.toLong(pos), key -> new HazardChunk());
+        chunk.boundsDirty = true;
+        return chunk;
+    }
+
+    private void remove(BlockPos pos, boolean carpet) {
+        long chunkKey = ChunkPos.toLong(pos);
+        HazardChunk chunk = chunks.get(chunkKey);
+        if (chunk == null) {
+            return;
+        }
+        if (carpet) {
+            chunk.carpets.remove(pos.asLong());
+        } else {
+            chunk.coils.rem(pos.asLong());
+        }
+        if (chunk.isEmpty()) {
+            chunks.remove(chunkKey);
+        } else {
+            chunk.boundsDirty = true;
+        }
+    }
+
+    private void applyDamage() {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        if (damageSource == null) {
+            damageSource = ElectricDamageSource.create(world);
+        }
+        damagedThisPass.clear();
+
+        for (Long2ObjectMap.Entry<HazardChunk> entry : chunks.long2ObjectEntrySet()) {
+            HazardChunk chunk = entry.getValue();
+            scratchEntities.clear();
+            world.collectEntitiesByType(LIVING, chunk.getBounds(), EntityPredicates.EXCEPT_SPECTATOR, scratchEntities);
+
+            for (int i = 0; i < scratchEntities.size(); i++) {
+                LivingEntity entity = scratchEntities.get(i);
+                if (damagedThisPass.contains(entity)) {
+                    continue;
+                }
+                if (isStandingOnCarpet(entity) || isInCoilRange(entity, chunk.coils)) {
+                    damagedThisPass.add(entity);
+                    entity.damage(world, damageSource, DAMAGE_PER_HIT);
+
+                    // Log the damage (only occasionally to avoid spam)
+                    if (world.getTime() % 100 == 0) {
+                        Circuitmod.LOGGER.info("[ELECTRIC-HAZARD] Damaged {} at {} with {} damage",
+                            entity.getName().getString(), entity.getBlockPos(), DAMAGE_PER_HIT);
+                    }
+                }
+            }
+        }
+        scratchEntities.clear();
+    }
+
+    private boolean isInCoilRange(LivingEntity entity, LongArrayList coils) {
+        double x = entity.getX();
+        double y = entity.getY();
+        double z = entity.getZ();
+        for (int i = 0; i < coils.size(); i++) {
+            long coil = coils.getLong(i);
+            double dx = x - (BlockPos.unpackLongX(coil) + 0.5);
+            double dy = y - (BlockPos.unpackLongY(coil) + 0.5);
+            double dz = z - (BlockPos.unpackLongZ(coil) + 0.5);
+            if (dx * dx + dy * dy + dz * dz <= COIL_RANGE_SQ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks for an active carpet directly under the entity's feet, whose top surface is within tolerance.
+     */
+    private boolean isStandingOnCarpet(LivingEntity entity) {
+        if (carpets.isEmpty()) {
+            return false;
+        }
+        Box box = entity.getBoundingBox();
+        // Feet must sit just below the carpet top, as with the old per-carpet surface box test
+        int y = MathHelper.floor(box.minY - CARPET_TOP + CARPET_TOLERANCE);
+        if (box.minY < y + CARPET_TOP - CARPET_TOLERANCE || box.minY >= y + CARPET_TOP) {
+            return false;
+        }
+        int minX = MathHelper.floor(box.minX);
+        int maxX = MathHelper.floor(box.maxX - 1.0E-7);
+        int minZ = MathHelper.floor(box.minZ);
+        int maxZ = MathHelper.floor(box.maxZ - 1.0E-7);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                if (carpets.contains(scratchPos.set(x, y, z).asLong())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Active hazards within one chunk, with the union of their volumes as the entity query box.
+     */
+    private static class HazardChunk {
+        private final LongOpenHashSet carpets = new LongOpenHashSet();
+        private final LongArrayList coils = new LongArrayList();
+        private Box bounds;
+        private boolean boundsDirty = true;
+
+        boolean isEmpty() {
+            return carpets.isEmpty() && coils.isEmpty();
+        }
+
+        Box getBounds() {
+            if (boundsDirty) {
+                double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+                double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+                for (LongIterator it = carpets.iterator(); it.hasNext(); ) {
+                    long carpet = it.nextLong();
+                    int x = BlockPos.unpackLongX(carpet), y = BlockPos.unpackLongY(carpet), z = BlockPos.unpackLongZ(carpet);
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    minZ = Math.min(minZ, z);
+                    maxX = Math.max(maxX, x + 1);
+                    maxY = Math.max(maxY, y + 1);
+                    maxZ = Math.max(maxZ, z + 1);
+                }
+                for (int i = 0; i < coils.size(); i++) {
+                    long coil = coils.getLong(i);
+                    int x = BlockPos.unpackLongX(coil), y = BlockPos.unpackLongY(coil), z = BlockPos.unpackLongZ(coil);
+                    minX = Math.min(minX, x - COIL_RANGE);
+                    minY = Math.min(minY, y - COIL_RANGE);
+                    minZ = Math.min(minZ, z - COIL_RANGE);
+                    maxX = Math.max(maxX, x + COIL_RANGE + 1);
+                    maxY = Math.max(maxY, y + COIL_RANGE + 1);
+                    maxZ = Math.max(maxZ, z + COIL_RANGE + 1);
+                }
+                bounds = new Box(minX, minY, minZ, maxX, maxY, maxZ);
+                boundsDirty = false;
+            }
+            return bounds;
+        }
+    }
+}
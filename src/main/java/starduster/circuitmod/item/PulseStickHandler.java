@@ -7,6 +7,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.Vec3d;
 import starduster.circuitmod.effect.ModStatusEffects;
 import starduster.circuitmod.effect.PulseVelocityStorage;
+import starduster.circuitmod.util.DiagnosticLog;
 
 public class PulseStickHandler {
     
@@ -28,7 +29,7 @@ public class PulseStickHandler {
             } 
             // Cleanup: If player has velocity data but no status effect, clean it up
             else if (PulseVelocityStorage.hasVelocity(player)) {
-                System.out.println("[PULSE-STICK-DEBUG] Cleaning up orphaned velocity data for: " + player.getName().getString());
+                DiagnosticLog.PLAYER.debug(() -> "[PULSE-STICK-DEBUG] Cleaning up orphaned velocity data for: " + player.getName().getString());
                 PulseVelocityStorage.clearVelocity(player);
             }
         }
@@ -40,12 +41,11 @@ public class PulseStickHandler {
     private static void handlePulsePlayer(PlayerEntity player) {
         Vec3d pulseVelocity = PulseStickItem.getPulseVelocity(player);
         
-        System.out.println("[PULSE-STICK-DEBUG] handlePulsePlayer called for: " + player.getName().getString() + 
-                          " | Stored velocity: " + pulseVelocity + 
-                          " | Has effect: " + player.hasStatusEffect(ModStatusEffects.PULSE_VELOCITY));
+        DiagnosticLog.PLAYER.debug(() -> "[PULSE-STICK-DEBUG] handlePulsePlayer called for: " + player.getName().getString()
+            + " | Stored velocity: " + pulseVelocity + " | Has effect: " + player.hasStatusEffect(ModStatusEffects.PULSE_VELOCITY));
         
         if (pulseVelocity.equals(Vec3d.ZERO)) {
-            System.out.println("[PULSE-STICK-DEBUG] Pulse velocity is zero, clearing effect");
+            DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] Pulse velocity is zero, clearing effect");
             PulseStickItem.clearPulseVelocity(player);
             return;
         }
@@ -53,9 +53,8 @@ public class PulseStickHandler {
         // Check if player is on ground, touching blocks, or sneaking to stop
         if (player.isOnGround() || player.horizontalCollision || player.isSneaking()) {
             // Stop the pulse effect when hitting something or sneaking
-            System.out.println("[PULSE-STICK-DEBUG] Stopping pulse - OnGround: " + player.isOnGround() + 
-                              " | HorizontalCollision: " + player.horizontalCollision + 
-                              " | Sneaking: " + player.isSneaking());
+            DiagnosticLog.PLAYER.debug(() -> "[PULSE-STICK-DEBUG] Stopping pulse - OnGround: " + player.isOnGround()
+                + " | HorizontalCollision: " + player.horizontalCollision + " | Sneaking: " + player.isSneaking());
             PulseStickItem.clearPulseVelocity(player);
             return;
         }
@@ -73,19 +72,15 @@ public class PulseStickHandler {
             pulseVelocity.z * boostFactor   // Boosted horizontal Z velocity
         );
         
-        // Debug: Print velocity information every 10 ticks (twice per second)
+        // Debug: Log velocity information every 10 ticks (twice per second)
         if (player.age % 10 == 0) {
-            double currentHorizontalSpeed = Math.sqrt(currentVelocity.x * currentVelocity.x + currentVelocity.z * currentVelocity.z);
-            double newHorizontalSpeed = Math.sqrt(newVelocity.x * newVelocity.x + newVelocity.z * newVelocity.z);
-            double storedHorizontalSpeed = Math.sqrt(pulseVelocity.x * pulseVelocity.x + pulseVelocity.z * pulseVelocity.z);
-            
-            System.out.printf("[PULSE-STICK] %s - Current: %.3f | Stored: %.3f | Applied: %.3f | Y: %.3f%n", 
+            DiagnosticLog.PLAYER.debug(() -> String.format("[PULSE-STICK] %s - Current: %.3f | Stored: %.3f | Applied: %.3f | Y: %.3f",
                 player.getName().getString(),
-                currentHorizontalSpeed,
-                storedHorizontalSpeed, 
-                newHorizontalSpeed,
+                currentVelocity.horizontalLength(),
+                pulseVelocity.horizontalLength(),
+                newVelocity.horizontalLength(),
                 currentVelocity.y
-            );
+            ));
         }
         
         player.setVelocity(newVelocity);
@@ -11,6 +11,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import starduster.circuitmod.effect.ModStatusEffects;
 import starduster.circuitmod.effect.PulseVelocityStorage;
+import starduster.circuitmod.util.DiagnosticLog;
 
 public class PulseStickItem extends Item {
     
@@ -29,7 +30,8 @@ public class PulseStickItem extends Item {
         StatusEffectInstance effect = new StatusEffectInstance(ModStatusEffects.PULSE_VELOCITY, 60, 0);
         player.addStatusEffect(effect);
         
-        System.out.println("[PULSE-STICK-DEBUG] Applied pulse velocity effect and stored velocity: " + velocity + " for player: " + player.getName().getString());
+        DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] Applied pulse velocity effect and stored velocity: {} for player: {}",
+            velocity, player.getName().getString());
     }
     
     /**
@@ -49,7 +51,7 @@ public class PulseStickItem extends Item {
         player.removeStatusEffect(ModStatusEffects.PULSE_VELOCITY);
         PulseVelocityStorage.clearVelocity(player);
         
-        System.out.println("[PULSE-STICK-DEBUG] Cleared pulse velocity for player: " + player.getName().getString());
+        DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] Cleared pulse velocity for player: {}", player.getName().getString());
     }
     
     /**
@@ -58,7 +60,8 @@ public class PulseStickItem extends Item {
     public static boolean isPulseActive(PlayerEntity player) {
         boolean active = player.hasStatusEffect(ModStatusEffects.PULSE_VELOCITY);
         boolean hasVelocity = PulseVelocityStorage.hasVelocity(player);
-        System.out.println("[PULSE-STICK-DEBUG] isPulseActive check for " + player.getName().getString() + ": " + active + " | Has velocity data: " + hasVelocity);
+        DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] isPulseActive check for {}: {} | Has velocity data: {}",
+            player.getName().getString(), active, hasVelocity);
         return active && hasVelocity;
     }
 
@@ -75,7 +78,7 @@ public class PulseStickItem extends Item {
         // Check if the pulse stick has zero durability
         if (itemStack.getDamage() >= itemStack.getMaxDamage()) {
             // Item is at zero durability, don't work but don't break either
-            System.out.println("[PULSE-STICK-DEBUG] Pulse stick at zero durability, cannot use");
+            DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] Pulse stick at zero durability, cannot use");
             return ActionResult.FAIL;
         }
         
@@ -107,7 +110,8 @@ public class PulseStickItem extends Item {
             itemStack.setDamage(currentDamage + 1);
         }
         
-        System.out.println("[PULSE-STICK-DEBUG] Pulse activated! Launch velocity: " + launchVelocity + " | Stored horizontal: " + horizontalVelocity);
+        DiagnosticLog.PLAYER.debug("[PULSE-STICK-DEBUG] Pulse activated! Launch velocity: {} | Stored horizontal: {}",
+            launchVelocity, horizontalVelocity);
         
         return ActionResult.SUCCESS;
     }
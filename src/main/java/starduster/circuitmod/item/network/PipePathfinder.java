@@ -0,0 +1,101 @@
+package starduster.circuitmod.item.network;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Depth-limited search that pipes use to score the direction an item should hop next.
+ * <p>
+ * The search only sees blocks through a {@link Maze}, so it runs the same against the live world and
+ * against synthetic pipe layouts in benchmarks.
+ */
+public final class PipePathfinder {
+    public static final int MAX_DEPTH = 12;
+
+    /**
+     * What the search finds at a position, as far as routing an item is concerned.
+     */
+    public enum Cell {
+        EMPTY_PIPE,
+        BUSY_PIPE,
+        INVENTORY_WITH_SPACE,
+        FULL_INVENTORY,
+        BLOCKED
+    }
+
+    @FunctionalInterface
+    public interface Maze {
+        Cell cellAt(BlockPos pos);
+    }
+
+    /**
+     * Result of pathfinding evaluation containing both score and path
+     */
+    public static final class PathResult {
+        public final int score;
+        public final List<BlockPos> path;
+
+        PathResult(int score, List<BlockPos> path) {
+            this.score = score;
+            this.path = new ArrayList<>(path);
+        }
+    }
+
+    private PipePathfinder() {
+    }
+
+    /**
+     * Scores sending an item into {@code pos}, travelling in {@code direction}. Higher is better; nearby
+     * inventories with space score highest.
+     */
+    public static PathResult evaluate(Maze maze, BlockPos pos, Direction direction) {
+        return evaluate(maze, pos, direction, 0, new HashSet<>(), new ArrayList<>());
+    }
+
+    /**
+     * Explores every branch from a pipe. The visited set only holds the current path, so other branches
+     * may pass through the same position.
+     */
+    private static PathResult evaluate(Maze maze, BlockPos pos, Direction direction, int depth, Set<BlockPos> visited, List<BlockPos> currentPath) {
+        if (depth >= MAX_DEPTH || visited.contains(pos)) {
+            return new PathResult(0, currentPath);
+        }
+
+        List<BlockPos> path = new ArrayList<>(currentPath);
+        path.add(pos);
+        switch (maze.cellAt(pos)) {
+            case INVENTORY_WITH_SPACE:
+                return new PathResult(200 - (depth * 15), path); // Higher base score for better pathfinding
+            case FULL_INVENTORY:
+                return new PathResult(5, path); // Inventory with no space gets minimal score
+            case BLOCKED:
+                return new PathResult(-20, path); // Not an inventory - negative score
+            case BUSY_PIPE:
+                return new PathResult(-10, path); // Blocked pipe or invalid path
+            case EMPTY_PIPE:
+            default:
+                break;
+        }
+
+        // Found a pipe - explore all possible directions from this pipe
+        visited.add(pos);
+        int bestScore = -1;
+        List<BlockPos> bestPath = path;
+        for (Direction exploreDir : Direction.values()) {
+            if (exploreDir == direction.getOpposite()) continue; // Don't go backwards
+
+            PathResult result = evaluate(maze, pos.offset(exploreDir), exploreDir, depth + 1, visited, path);
+            if (result.score > bestScore) {
+                bestScore = result.score;
+                bestPath = result.path;
+            }
+        }
+        visited.remove(pos); // Remove from visited for other paths
+        return new PathResult(bestScore > 0 ? bestScore - 2 : bestScore, bestPath); // Subtract 2 for each pipe hop
+    }
+}
@@ -0,0 +1,9 @@
+package starduster.circuitmod.luna;
+
+/**
+ * Duck interface mixed into {@link net.minecraft.world.World} that caches whether the world is the Luna dimension.
+ * A world's registry key never changes, so the flag is computed once when the world is constructed.
+ */
+public interface ILunaWorld {
+    boolean circuitmod$isLuna();
+}
@@ -0,0 +1,142 @@
+package starduster.circuitmod.luna;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.predicate.entity.EntityPredicates;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.BlockPos;
+import starduster.circuitmod.entity.CustomPlayerInventory;
+import starduster.circuitmod.entity.RocketEntity;
+import starduster.circuitmod.item.EmuSuitArmorItem;
+import starduster.circuitmod.item.OxygenTankItem;
+import starduster.circuitmod.util.ModDamageTypes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Luna's lack of air, applied once per {@link #PASS_INTERVAL} ticks to every living entity in the dimension.
+ * <p>
+ * Each pass an entity whose head is inside a {@link PressurizedRooms pressurized room} is safe, and a player in
+ * a full EMU suit breathes one unit of oxygen from their tanks. Anyone else is exposed, and after
+ * {@link #EXPOSED_PASSES_PER_DAMAGE} exposed passes in a row takes suffocation damage. Whether an entity wears
+ * a full suit is cached until its armor changes. Other dimensions cost one flag check per tick.
+ */
+public class LunaAtmosphere {
+    public static final int PASS_INTERVAL = 20; // One oxygen unit per second
+    public static final int EXPOSED_PASSES_PER_DAMAGE = 3; // Damage every 3 seconds
+    public static final float DAMAGE_AMOUNT = 2.0f; // One heart of damage
+
+    private static final TypeFilter<Entity, LivingEntity> LIVING = TypeFilter.instanceOf(LivingEntity.class);
+
+    private static final Map<ServerWorld, LunaAtmosphere> ATMOSPHERES = new HashMap<>();
+    private static final Map<LivingEntity, Boolean> FULL_SUIT_CACHE = new WeakHashMap<>();
+
+    private final ServerWorld world;
+    private DamageSource damageSource;
+
+    // Consecutive exposed passes; rebuilt every pass, so entities that left or breathed drop out
+    private Reference2IntOpenHashMap<LivingEntity> exposure = new Reference2IntOpenHashMap<>();
+    private Reference2IntOpenHashMap<LivingEntity> nextExposure = new Reference2IntOpenHashMap<>();
+    private final List<LivingEntity> scratchEntities = new ArrayList<>();
+
+    private LunaAtmosphere(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            if (LunaDimension.isLuna(world) && world.getTime() % PASS_INTERVAL == 0) {
+                ATMOSPHERES.computeIfAbsent(world, LunaAtmosphere::new).tick();
+            }
+        });
+        ServerEntityEvents.EQUIPMENT_CHANGE.register((entity, slot, previous, current) -> {
+            if (slot.getType() == EquipmentSlot.Type.HUMANOID_ARMOR) {
+                FULL_SUIT_CACHE.remove(entity);
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> ATMOSPHERES.remove(world));
+    }
+
+    private void tick() {
+        if (damageSource == null) {
+            damageSource = new DamageSource(
+                world.getRegistryManager().getOrThrow(RegistryKeys.DAMAGE_TYPE).getOrThrow(ModDamageTypes.SPACE_SUFFOCATION_DAMAGE));
+        }
+
+        scratchEntities.clear();
+        world.collectEntitiesByType(LIVING, EntityPredicates.EXCEPT_SPECTATOR, scratchEntities);
+
+        nextExposure.clear();
+        for (int i = 0; i < scratchEntities.size(); i++) {
+            LivingEntity entity = scratchEntities.get(i);
+            if (entity instanceof RocketEntity || !entity.isAlive()) {
+                continue;
+            }
+            if (PressurizedRooms.isPressurized(world, BlockPos.ofFloored(entity.getEyePos()))) {
+                continue;
+            }
+            if (entity instanceof PlayerEntity player && hasFullSuit(player) && breathe(player)) {
+                continue;
+            }
+
+            int passes = exposure.getInt(entity) + 1;
+            if (passes >= EXPOSED_PASSES_PER_DAMAGE) {
+                entity.damage(world, damageSource, DAMAGE_AMOUNT);
+                passes = 0;
+            }
+            nextExposure.put(entity, passes);
+        }
+        scratchEntities.clear();
+
+        Reference2IntOpenHashMap<LivingEntity> swap = exposure;
+        exposure = nextExposure;
+        nextExposure = swap;
+    }
+
+    private static boolean hasFullSuit(LivingEntity entity) {
+        Boolean cached = FULL_SUIT_CACHE.get(entity);
+        if (cached == null) {
+            cached = entity.getEquippedStack(EquipmentSlot.HEAD).getItem() instanceof EmuSuitArmorItem
+                && entity.getEquippedStack(EquipmentSlot.CHEST).getItem() instanceof EmuSuitArmorItem
+                && entity.getEquippedStack(EquipmentSlot.LEGS).getItem() instanceof EmuSuitArmorItem
+                && entity.getEquippedStack(EquipmentSlot.FEET).getItem() instanceof EmuSuitArmorItem;
+            FULL_SUIT_CACHE.put(entity, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Consumes one pass worth of oxygen from the first tank that has any.
+     *
+     * @return false if both tanks are empty
+     */
+    private static boolean breathe(PlayerEntity player) {
+        if (!(player.getInventory() instanceof CustomPlayerInventory inventory)) {
+            return false;
+        }
+        return breatheFrom(inventory.getStack(CustomPlayerInventory.OXYGEN_TANK_1_SLOT))
+            || breatheFrom(inventory.getStack(CustomPlayerInventory.OXYGEN_TANK_2_SLOT));
+    }
+
+    private static boolean breatheFrom(ItemStack tank) {
+        if (tank.isEmpty() || !(tank.getItem() instanceof OxygenTankItem oxygenTank) || oxygenTank.getOxygen(tank) <= 0) {
+            return false;
+        }
+        oxygenTank.consumeOxygen(tank, 1);
+        return true;
+    }
+}
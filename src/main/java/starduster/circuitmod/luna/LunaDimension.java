@@ -0,0 +1,22 @@
+package starduster.circuitmod.luna;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import starduster.circuitmod.Circuitmod;
+
+/**
+ * Identity of the Luna dimension. Hot paths (block sets, entity ticks) should use {@link #isLuna(World)},
+ * which reads a flag cached on the world instead of comparing identifiers.
+ */
+public final class LunaDimension {
+    public static final RegistryKey<World> KEY = RegistryKey.of(RegistryKeys.WORLD, Identifier.of(Circuitmod.MOD_ID, "luna"));
+
+    private LunaDimension() {
+    }
+
+    public static boolean isLuna(World world) {
+        return ((ILunaWorld) world).circuitmod$isLuna();
+    }
+}
@@ -2,7 +2,6 @@ package starduster.circuitmod.luna;
 
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.Identifier;
 import net.minecraft.util.math.MathHelper;
 
 import java.util.HashMap;
@@ -102,7 +101,7 @@ public class LunaTimeManager {
      * Checks if the given world is the Luna dimension.
      */
     private static boolean isLunaDimension(ServerWorld world) {
-        return world.getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"));
+        return LunaDimension.isLuna(world);
     }
     
     /**
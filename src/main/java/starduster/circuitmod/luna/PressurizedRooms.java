@@ -0,0 +1,502 @@
+package starduster.circuitmod.luna;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.DoorBlock;
+import net.minecraft.block.TrapdoorBlock;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.EmptyBlockView;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.block.entity.OxygenVentBlockEntity;
+import starduster.circuitmod.util.ChunkPreloader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Sealed, breathable rooms on Luna, filled by oxygen vents.
+ * <p>
+ * Each vent flood-fills the air around it, one volume per open face, bounded to {@link #MAX_RADIUS} blocks
+ * from the vent. The chunk sections in range are copied on the server thread and flooded on a worker pool;
+ * the result comes back to the server thread. A volume that reaches the bound, leaves the world or grows past
+ * {@link #MAX_ROOM_VOLUME} is open to space and holds no pressure. Volumes are stored as one 4096-bit set per
+ * chunk section and indexed by section, so {@link #isPressurized} is a couple of hash lookups.
+ * <p>
+ * Only block changes that make a position start or stop sealing matter. Sealing a cell inside a sealed room
+ * just clears its bit. Opening a wall of a room, or sealing a cell in or next to an open volume, queues that
+ * vent for a new flood. Nothing floods on a timer, so idle bases cost nothing.
+ */
+public class PressurizedRooms {
+    public static final int MAX_RADIUS = 24; // Flood bound in blocks from the vent along each axis
+    public static final int MAX_ROOM_VOLUME = 4096; // Largest room one vent can hold pressure in
+    private static final int MAX_FLOODS_IN_FLIGHT = 4; // Per world; the rest wait in the dirty queue
+
+    // Shared flood pool; daemon threads so it never blocks shutdown
+    private static final ForkJoinPool FLOOD_POOL = new ForkJoinPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+        pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("CircuitMod-RoomFlood-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        },
+        null, false);
+
+    private static final Map<ServerWorld, PressurizedRooms> ROOMS = new HashMap<>();
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<Vent> vents = new Long2ObjectOpenHashMap<>();
+    private final LongLinkedOpenHashSet dirtyVents = new LongLinkedOpenHashSet();
+    // Every volume touching a section, sealed or not, keyed by ChunkSectionPos.asLong
+    private final Long2ObjectOpenHashMap<ObjectArrayList<Volume>> volumesBySection = new Long2ObjectOpenHashMap<>();
+    private final ObjectArrayList<Volume> scratchVolumes = new ObjectArrayList<>();
+    private int floodsInFlight;
+
+    private PressurizedRooms(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static void initialize() {
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof OxygenVentBlockEntity && LunaDimension.isLuna(world)) {
+                ROOMS.computeIfAbsent(world, PressurizedRooms::new).addVent(blockEntity.getPos());
+            }
+        });
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof OxygenVentBlockEntity) {
+                PressurizedRooms rooms = ROOMS.get(world);
+                if (rooms != null) {
+                    rooms.removeVent(blockEntity.getPos());
+                }
+            }
+        });
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            PressurizedRooms rooms = ROOMS.get(world);
+            if (rooms != null) {
+                rooms.startFloods();
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> ROOMS.remove(world));
+    }
+
+    /**
+     * @return true if {@code pos} is air inside a sealed room filled by a vent
+     */
+    public static boolean isPressurized(World world, BlockPos pos) {
+        PressurizedRooms rooms = ROOMS.get(world);
+        if (rooms == null) {
+            return false;
+        }
+        ObjectArrayList<Volume> volumes = rooms.volumesBySection.get(ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (volumes == null) {
+            return false;
+        }
+        for (int i = 0; i < volumes.size(); i++) {
+            Volume volume = volumes.get(i);
+            if (volume.sealed && volume.contains(pos.getX(), pos.getY(), pos.getZ())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of pressurized blocks the vent at {@code pos} fills, or -1 while its flood is pending
+     */
+    public static int getPressurizedVolume(World world, BlockPos pos) {
+        PressurizedRooms rooms = ROOMS.get(world);
+        Vent vent = rooms != null ? rooms.vents.get(pos.asLong()) : null;
+        if (vent == null || vent.pending) {
+            return -1;
+        }
+        int size = 0;
+        for (Volume volume : vent.volumes) {
+            if (volume.sealed) {
+                size += volume.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Called for every block change in a server world. Cheap unless the change makes the position start or
+     * stop sealing in a Luna world that has vents.
+     */
+    public static void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (oldState == newState || !LunaDimension.isLuna(world)) {
+            return;
+        }
+        PressurizedRooms rooms = ROOMS.get(world);
+        if (rooms == null || rooms.vents.isEmpty()) {
+            return;
+        }
+        boolean sealsNow = seals(newState);
+        if (seals(oldState) != sealsNow) {
+            rooms.onSealingChanged(pos, sealsNow);
+        }
+    }
+
+    /**
+     * Whether a block holds air back: any full collision cube, plus closed doors and trapdoors.
+     */
+    public static boolean seals(BlockState state) {
+        if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof TrapdoorBlock) {
+            return !state.get(DoorBlock.OPEN);
+        }
+        return state.isFullCube(EmptyBlockView.INSTANCE, BlockPos.ORIGIN);
+    }
+
+    private void addVent(BlockPos pos) {
+        long key = pos.asLong();
+        if (!vents.containsKey(key)) {
+            vents.put(key, new Vent(pos.toImmutable()));
+        }
+        markDirty(vents.get(key));
+    }
+
+    private void removeVent(BlockPos pos) {
+        Vent vent = vents.remove(pos.asLong());
+        if (vent != null) {
+            vent.generation++; // Drop any flood still in flight
+            dirtyVents.remove(vent.key);
+            clearVolumes(vent);
+        }
+    }
+
+    private void markDirty(Vent vent) {
+        vent.generation++;
+        vent.pending = true;
+        dirtyVents.add(vent.key);
+    }
+
+    private void onSealingChanged(BlockPos pos, boolean sealsNow) {
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+
+        // A vent with every face walled off owns no volume, so check for one directly
+        for (Direction direction : Direction.values()) {
+            Vent vent = vents.get(BlockPos.asLong(x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ()));
+            if (vent != null) {
+                markDirty(vent);
+            }
+        }
+
+        collectVolumesNear(x, y, z);
+        for (int i = 0; i < scratchVolumes.size(); i++) {
+            Volume volume = scratchVolumes.get(i);
+            boolean inside = volume.contains(x, y, z);
+            if (!inside && !volume.isAdjacent(x, y, z)) {
+                continue;
+            }
+            if (volume.sealed && inside && sealsNow) {
+                // Filling a cell of a sealed room can't open it; the air there is just gone
+                volume.remove(x, y, z);
+            } else {
+                markDirty(volume.vent);
+            }
+        }
+        scratchVolumes.clear();
+    }
+
+    /**
+     * Gathers the volumes indexed in the section of the position and of its six neighbours, without repeats.
+     */
+    private void collectVolumesNear(int x, int y, int z) {
+        scratchVolumes.clear();
+        addSectionVolumes(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        for (Direction direction : Direction.values()) {
+            long sectionKey = ChunkSectionPos.asLong(
+                (x + direction.getOffsetX()) >> 4, (y + direction.getOffsetY()) >> 4, (z + direction.getOffsetZ()) >> 4);
+            if (sectionKey != ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4)) {
+                addSectionVolumes(sectionKey);
+            }
+        }
+    }
+
+    private void addSectionVolumes(long sectionKey) {
+        ObjectArrayList<Volume> volumes = volumesBySection.get(sectionKey);
+        if (volumes == null) {
+            return;
+        }
+        for (int i = 0; i < volumes.size(); i++) {
+            Volume volume = volumes.get(i);
+            if (!scratchVolumes.contains(volume)) {
+                scratchVolumes.add(volume);
+            }
+        }
+    }
+
+    private void startFloods() {
+        int attempts = dirtyVents.size();
+        while (floodsInFlight < MAX_FLOODS_IN_FLIGHT && attempts-- > 0) {
+            long key = dirtyVents.removeFirstLong();
+            Vent vent = vents.get(key);
+            if (vent == null) {
+                continue;
+            }
+            Long2ObjectOpenHashMap<PalettedContainer<BlockState>> snapshots = captureSnapshots(vent.pos);
+            if (snapshots == null) {
+                dirtyVents.add(key); // Part of the range isn't loaded yet; try again later
+                continue;
+            }
+            launchFlood(vent, snapshots);
+        }
+    }
+
+    /**
+     * Copies the block states of every section within range of the vent. Runs on the server thread.
+     *
+     * @return null if a chunk in range has not reached FULL status yet
+     */
+    private Long2ObjectOpenHashMap<PalettedContainer<BlockState>> captureSnapshots(BlockPos center) {
+        int minChunkX = (center.getX() - MAX_RADIUS - 1) >> 4;
+        int maxChunkX = (center.getX() + MAX_RADIUS + 1) >> 4;
+        int minChunkZ = (center.getZ() - MAX_RADIUS - 1) >> 4;
+        int maxChunkZ = (center.getZ() + MAX_RADIUS + 1) >> 4;
+        int minSectionY = Math.max(center.getY() - MAX_RADIUS - 1, world.getBottomY()) >> 4;
+        int maxSectionY = Math.min(center.getY() + MAX_RADIUS + 1, world.getTopYInclusive()) >> 4;
+
+        // Only take chunks that are already FULL; getChunk would wait on the server thread for ones still loading
+        int chunksX = maxChunkX - minChunkX + 1;
+        WorldChunk[] chunks = new WorldChunk[chunksX * (maxChunkZ - minChunkZ + 1)];
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                WorldChunk chunk = ChunkPreloader.getLoadedChunk(world, chunkX, chunkZ);
+                if (chunk == null) {
+                    return null;
+                }
+                chunks[(chunkZ - minChunkZ) * chunksX + (chunkX - minChunkX)] = chunk;
+            }
+        }
+
+        Long2ObjectOpenHashMap<PalettedContainer<BlockState>> snapshots = new Long2ObjectOpenHashMap<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                WorldChunk chunk = chunks[(chunkZ - minChunkZ) * chunksX + (chunkX - minChunkX)];
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    ChunkSection section = chunk.getSection(chunk.sectionCoordToIndex(sectionY));
+                    if (!section.isEmpty()) {
+                        // Missing sections read as air
+                        snapshots.put(ChunkSectionPos.asLong(chunkX, sectionY, chunkZ), section.getBlockStateContainer().copy());
+                    }
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    private void launchFlood(Vent vent, Long2ObjectOpenHashMap<PalettedContainer<BlockState>> snapshots) {
+        int generation = vent.generation;
+        Flood flood = new Flood(vent, snapshots, world.getBottomY(), world.getTopYInclusive());
+        floodsInFlight++;
+        CompletableFuture.supplyAsync(flood::run, FLOOD_POOL).whenComplete((volumes, error) ->
+            world.getServer().execute(() -> {
+                floodsInFlight--;
+                if (error != null) {
+                    Circuitmod.LOGGER.error("[PRESSURIZED-ROOMS] Flood from vent at {} failed", vent.pos, error);
+                    return;
+                }
+                // The vent was removed or changed again while this flood ran
+                if (ROOMS.get(world) != this || vents.get(vent.key) != vent || vent.generation != generation) {
+                    return;
+                }
+                clearVolumes(vent);
+                vent.volumes = volumes;
+                vent.pending = false;
+                for (Volume volume : volumes) {
+                    for (long sectionKey : volume.sections.keySet()) {
+                        ObjectArrayList<Volume> sectionVolumes = volumesBySection.get(sectionKey);
+                        if (sectionVolumes == null) {
+                            sectionVolumes = new ObjectArrayList<>();
+                            volumesBySection.put(sectionKey, sectionVolumes);
+                        }
+                        sectionVolumes.add(volume);
+                    }
+                }
+            }));
+    }
+
+    private void clearVolumes(Vent vent) {
+        for (Volume volume : vent.volumes) {
+            for (long sectionKey : volume.sections.keySet()) {
+                ObjectArrayList<Volume> volumes = volumesBySection.get(sectionKey);
+                if (volumes != null) {
+                    volumes.remove(volume);
+                    if (volumes.isEmpty()) {
+                        volumesBySection.remove(sectionKey);
+                    }
+                }
+            }
+        }
+        vent.volumes = List.of();
+    }
+
+    private static final class Vent {
+        private final BlockPos pos;
+        private final long key;
+        private List<Volume> volumes = List.of();
+        private int generation;
+        private boolean pending; // Changed since its last flood; volumes are stale
+
+        private Vent(BlockPos pos) {
+            this.pos = pos;
+            this.key = pos.asLong();
+        }
+    }
+
+    /**
+     * The air reached from one face of a vent, as one bit per block in each chunk section it touches.
+     */
+    private static final class Volume {
+        private final Vent vent;
+        private final Long2ObjectOpenHashMap<long[]> sections = new Long2ObjectOpenHashMap<>();
+        private boolean sealed;
+        private int size;
+
+        private Volume(Vent vent) {
+            this.vent = vent;
+        }
+
+        private static int indexInSection(int x, int y, int z) {
+            return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+        }
+
+        private boolean contains(int x, int y, int z) {
+            long[] bits = sections.get(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+            int index = indexInSection(x, y, z);
+            return bits != null && (bits[index >>> 6] & 1L << index) != 0;
+        }
+
+        private boolean add(int x, int y, int z) {
+            long sectionKey = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            long[] bits = sections.get(sectionKey);
+            if (bits == null) {
+                bits = new long[64];
+                sections.put(sectionKey, bits);
+            }
+            int index = indexInSection(x, y, z);
+            if ((bits[index >>> 6] & 1L << index) != 0) {
+                return false;
+            }
+            bits[index >>> 6] |= 1L << index;
+            size++;
+            return true;
+        }
+
+        private void remove(int x, int y, int z) {
+            long[] bits = sections.get(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+            int index = indexInSection(x, y, z);
+            if (bits != null && (bits[index >>> 6] & 1L << index) != 0) {
+                bits[index >>> 6] &= ~(1L << index);
+                size--;
+            }
+        }
+
+        private boolean isAdjacent(int x, int y, int z) {
+            for (Direction direction : Direction.values()) {
+                if (contains(x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * One vent's flood over detached section copies. Runs on the flood pool and touches no world state.
+     */
+    private static final class Flood {
+        private final Vent vent;
+        private final Long2ObjectOpenHashMap<PalettedContainer<BlockState>> snapshots;
+        private final int bottomY;
+        private final int topY;
+
+        private Flood(Vent vent, Long2ObjectOpenHashMap<PalettedContainer<BlockState>> snapshots, int bottomY, int topY) {
+            this.vent = vent;
+            this.snapshots = snapshots;
+            this.bottomY = bottomY;
+            this.topY = topY;
+        }
+
+        private List<Volume> run() {
+            List<Volume> volumes = new ObjectArrayList<>();
+            LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+            BlockPos center = vent.pos;
+
+            for (Direction face : Direction.values()) {
+                int startX = center.getX() + face.getOffsetX();
+                int startY = center.getY() + face.getOffsetY();
+                int startZ = center.getZ() + face.getOffsetZ();
+                if (startY < bottomY || startY > topY || sealsAt(startX, startY, startZ) || containedIn(volumes, startX, startY, startZ)) {
+                    continue;
+                }
+
+                Volume volume = new Volume(vent);
+                boolean open = false;
+                volume.add(startX, startY, startZ);
+                queue.enqueue(BlockPos.asLong(startX, startY, startZ));
+                while (!queue.isEmpty()) {
+                    long packed = queue.dequeueLong();
+                    int x = BlockPos.unpackLongX(packed);
+                    int y = BlockPos.unpackLongY(packed);
+                    int z = BlockPos.unpackLongZ(packed);
+                    for (Direction direction : Direction.values()) {
+                        int nx = x + direction.getOffsetX();
+                        int ny = y + direction.getOffsetY();
+                        int nz = z + direction.getOffsetZ();
+                        if (ny < bottomY || ny > topY) {
+                            open = true; // Air escapes out of the world
+                            continue;
+                        }
+                        if (sealsAt(nx, ny, nz)) {
+                            continue;
+                        }
+                        if (Math.abs(nx - center.getX()) > MAX_RADIUS || Math.abs(ny - center.getY()) > MAX_RADIUS
+                                || Math.abs(nz - center.getZ()) > MAX_RADIUS) {
+                            open = true; // Reached the bound; keep filling inside it so any gap is on record
+                            continue;
+                        }
+                        if (volume.add(nx, ny, nz)) {
+                            queue.enqueue(BlockPos.asLong(nx, ny, nz));
+                        }
+                    }
+                }
+                volume.sealed = !open && volume.size <= MAX_ROOM_VOLUME;
+                volumes.add(volume);
+            }
+            return volumes;
+        }
+
+        private boolean sealsAt(int x, int y, int z) {
+            PalettedContainer<BlockState> states = snapshots.get(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+            return states != null && seals(states.get(x & 15, y & 15, z & 15));
+        }
+
+        private static boolean containedIn(List<Volume> volumes, int x, int y, int z) {
+            for (Volume volume : volumes) {
+                if (volume.contains(x, y, z)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
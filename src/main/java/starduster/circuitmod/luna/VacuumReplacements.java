@@ -0,0 +1,109 @@
+package starduster.circuitmod.luna;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.WallTorchBlock;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.advancement.ModCriteria;
+import starduster.circuitmod.block.ModBlocks;
+import starduster.circuitmod.util.ModBlockTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Table of blocks that can't stay lit in Luna's vacuum, keyed by block identity.
+ * Membership comes from the {@code circuitmod:vacuum_*} block tags and is rebuilt whenever tags load,
+ * so placement checks are a single map lookup and datapacks can extend the list.
+ * <p>
+ * The torch advancement is not granted per replaced block: positions are queued and players near any
+ * of them are looked up once at the end of the world tick.
+ */
+public class VacuumReplacements {
+    private static final double ADVANCEMENT_RANGE_SQ = 100.0; // 10 blocks
+
+    /**
+     * What a block turns into in a vacuum, and whether placing it counts towards the torch advancement.
+     */
+    public record Rule(UnaryOperator<BlockState> replacement, boolean grantsTorchAdvancement) {
+    }
+
+    private static volatile Map<Block, Rule> rules = new IdentityHashMap<>();
+
+    // Torch replacements waiting for the advancement pass, per world
+    private static final Map<ServerWorld, List<BlockPos>> PENDING_ADVANCEMENTS = new HashMap<>();
+
+    public static void initialize() {
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> rebuild());
+        ServerTickEvents.END_WORLD_TICK.register(VacuumReplacements::flushAdvancements);
+        ServerWorldEvents.UNLOAD.register((server, world) -> PENDING_ADVANCEMENTS.remove(world));
+    }
+
+    private static void rebuild() {
+        Map<Block, Rule> table = new IdentityHashMap<>();
+        add(table, ModBlockTags.VACUUM_EXTINGUISHES_TORCHES,
+            new Rule(state -> ModBlocks.EXTINGUISHED_TORCH.getDefaultState(), true));
+        add(table, ModBlockTags.VACUUM_EXTINGUISHES_WALL_TORCHES,
+            new Rule(state -> {
+                BlockState extinguished = ModBlocks.EXTINGUISHED_WALL_TORCH.getDefaultState();
+                return state.contains(WallTorchBlock.FACING)
+                    ? extinguished.with(WallTorchBlock.FACING, state.get(WallTorchBlock.FACING))
+                    : extinguished;
+            }, true));
+        add(table, ModBlockTags.VACUUM_UNLIGHTS,
+            new Rule(state -> state.contains(Properties.LIT) ? state.with(Properties.LIT, false) : state, false));
+        add(table, ModBlockTags.VACUUM_SNUFFS,
+            new Rule(state -> Blocks.AIR.getDefaultState(), false));
+        rules = table;
+        Circuitmod.LOGGER.info("[VACUUM] Loaded {} vacuum replacement rules", table.size());
+    }
+
+    private static void add(Map<Block, Rule> table, TagKey<Block> tag, Rule rule) {
+        for (RegistryEntry<Block> entry : Registries.BLOCK.iterateEntries(tag)) {
+            table.putIfAbsent(entry.value(), rule);
+        }
+    }
+
+    @Nullable
+    public static Rule getRule(BlockState state) {
+        return rules.get(state.getBlock());
+    }
+
+    /**
+     * Queues a torch replacement for the advancement pass at the end of this world tick.
+     */
+    public static void queueTorchAdvancement(ServerWorld world, BlockPos pos) {
+        PENDING_ADVANCEMENTS.computeIfAbsent(world, w -> new ArrayList<>()).add(pos.toImmutable());
+    }
+
+    private static void flushAdvancements(ServerWorld world) {
+        List<BlockPos> positions = PENDING_ADVANCEMENTS.remove(world);
+        if (positions == null) {
+            return;
+        }
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            for (BlockPos pos : positions) {
+                if (player.squaredDistanceTo(pos.getX(), pos.getY(), pos.getZ()) <= ADVANCEMENT_RANGE_SQ) {
+                    ModCriteria.TORCH_PLACED_IN_LUNA.trigger(player);
+                    break;
+                }
+            }
+        }
+    }
+}
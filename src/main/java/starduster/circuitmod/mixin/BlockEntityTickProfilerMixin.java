@@ -0,0 +1,35 @@
+package starduster.circuitmod.mixin;
+
+import net.minecraft.block.entity.BlockEntity;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import starduster.circuitmod.util.TickProfiler;
+
+/**
+ * Times each block entity tick for {@link TickProfiler} while a profile is running.
+ */
+@Mixin(targets = "net.minecraft.world.chunk.WorldChunk$DirectBlockEntityTickInvoker")
+public abstract class BlockEntityTickProfilerMixin {
+
+    @Shadow
+    @Final
+    private BlockEntity blockEntity;
+
+    @Unique
+    private long circuitmod$tickStart;
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void circuitmod$startTiming(CallbackInfo ci) {
+        circuitmod$tickStart = TickProfiler.beginMachine(blockEntity);
+    }
+
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void circuitmod$stopTiming(CallbackInfo ci) {
+        TickProfiler.endMachine(blockEntity, circuitmod$tickStart);
+    }
+}
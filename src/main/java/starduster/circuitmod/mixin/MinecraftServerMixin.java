@@ -6,13 +6,13 @@ import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.PlayerManager;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.Identifier;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.luna.LunaTimeManager;
+import starduster.circuitmod.luna.LunaDimension;
 
 /**
  * Mixin to intercept time synchronization packets for the Luna dimension.
@@ -36,7 +36,7 @@ public class MinecraftServerMixin {
     )
     private void circuitmod$customLunaTimeSync(PlayerManager playerManager, Packet<?> packet, RegistryKey<World> dimension) {
         // Check if this is a time update packet for Luna dimension
-        if (packet instanceof WorldTimeUpdateS2CPacket && dimension.getValue().equals(Identifier.of("circuitmod", "luna"))) {
+        if (packet instanceof WorldTimeUpdateS2CPacket && LunaDimension.KEY.equals(dimension)) {
             @SuppressWarnings("resource")
             MinecraftServer server = (MinecraftServer) (Object) this;
             ServerWorld lunaWorld = server.getWorld(dimension);
@@ -2,13 +2,13 @@ package starduster.circuitmod.mixin;
 
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import starduster.circuitmod.luna.LunaDimension;
 
 /**
  * Reduces gravity-like vertical acceleration for players in the Luna dimension.
@@ -26,8 +26,7 @@ public abstract class MoonGravityMixin {
         PlayerEntity player = (PlayerEntity) (Object) this;
         World world = player.getWorld();
 
-
-        boolean isMoon = world.getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"));
+        boolean isMoon = LunaDimension.isLuna(world);
 
         // Restore vanilla behavior outside the moon
         if (!isMoon) {
@@ -10,6 +10,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import starduster.circuitmod.entity.CustomPlayerInventory;
+import starduster.circuitmod.util.DiagnosticLog;
 
 /**
  * Mixin to replace the PlayerEntity inventory with our CustomPlayerInventory
@@ -29,16 +30,16 @@ public class PlayerEntityInventoryMixin {
     private void circuitmod$replaceInventory(CallbackInfo ci) {
         PlayerEntity self = (PlayerEntity) (Object) this;
         
-        System.out.println("[CircuitMod] PlayerEntity init (FIELD injection) - Entity type: " + self.getClass().getName());
-        System.out.println("[CircuitMod] Current inventory type: " + this.inventory.getClass().getName());
+        DiagnosticLog.PLAYER.debug("[CircuitMod] PlayerEntity init (FIELD injection) - Entity type: {}", self.getClass().getName());
+        DiagnosticLog.PLAYER.debug("[CircuitMod] Current inventory type: {}", this.inventory.getClass().getName());
         
         // Only replace if not already a CustomPlayerInventory (prevent double replacement)
         if (!(this.inventory instanceof CustomPlayerInventory)) {
-            System.out.println("[CircuitMod] Replacing with CustomPlayerInventory!");
+            DiagnosticLog.PLAYER.debug("[CircuitMod] Replacing with CustomPlayerInventory!");
             this.inventory = new CustomPlayerInventory(self);
-            System.out.println("[CircuitMod] Inventory replaced. New inventory size: " + this.inventory.size());
+            DiagnosticLog.PLAYER.debug("[CircuitMod] Inventory replaced. New inventory size: {}", this.inventory.size());
         } else {
-            System.out.println("[CircuitMod] Already CustomPlayerInventory, skipping replacement");
+            DiagnosticLog.PLAYER.debug("[CircuitMod] Already CustomPlayerInventory, skipping replacement");
         }
     }
 }
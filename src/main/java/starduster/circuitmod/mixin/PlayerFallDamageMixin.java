@@ -4,13 +4,13 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Hand;
-import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import starduster.circuitmod.item.ModItems;
+import starduster.circuitmod.luna.LunaDimension;
 
 @Mixin(LivingEntity.class)
 public class PlayerFallDamageMixin {
@@ -39,7 +39,7 @@ public class PlayerFallDamageMixin {
     @ModifyVariable(method = "handleFallDamage", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private double circuitmod$scaleFallDistanceForMoon(double fallDistance) {
         LivingEntity entity = (LivingEntity) (Object) this;
-        if (entity.getWorld().getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"))) {
+        if (LunaDimension.isLuna(entity.getWorld())) {
             return fallDistance * Math.sqrt(MOON_GRAVITY_MULTIPLIER);
         }
         return fallDistance;
@@ -9,6 +9,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import starduster.circuitmod.entity.CustomServerPlayerEntity;
+import starduster.circuitmod.util.DiagnosticLog;
 
 /**
  * Mixin to override player entity creation in PlayerManager.
@@ -22,7 +23,7 @@ public class PlayerManagerMixin {
      */
     @Redirect(method = "createPlayer", at = @At(value = "NEW", target = "net/minecraft/server/network/ServerPlayerEntity"))
     private ServerPlayerEntity circuitmod$createCustomPlayer(MinecraftServer server, ServerWorld world, GameProfile profile, net.minecraft.network.packet.c2s.common.SyncedClientOptions clientOptions) {
-        System.out.println("[CircuitMod] PlayerManagerMixin creating CustomServerPlayerEntity");
+        DiagnosticLog.PLAYER.debug("[CircuitMod] PlayerManagerMixin creating CustomServerPlayerEntity");
         return new CustomServerPlayerEntity(server, world, profile, clientOptions);
     }
 }
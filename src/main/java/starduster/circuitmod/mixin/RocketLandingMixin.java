@@ -3,12 +3,12 @@ package starduster.circuitmod.mixin;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
-import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import starduster.circuitmod.entity.RocketEntity;
+import starduster.circuitmod.luna.LunaDimension;
 
 /**
  * Mixin to prevent fall damage for rockets and their passengers when landing on Luna
@@ -21,7 +21,7 @@ public class RocketLandingMixin {
         LivingEntity entity = (LivingEntity) (Object) this;
         
         // Check if entity is in Luna dimension
-        boolean isInLuna = entity.getWorld().getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"));
+        boolean isInLuna = LunaDimension.isLuna(entity.getWorld());
         
         if (!isInLuna) {
             return;
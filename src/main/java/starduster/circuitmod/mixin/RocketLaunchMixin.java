@@ -2,18 +2,20 @@ package starduster.circuitmod.mixin;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.RegistryKeys;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.TeleportTarget;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.entity.RocketEntity;
+import starduster.circuitmod.luna.LunaDimension;
+import starduster.circuitmod.util.ChunkPreloader;
 
 import java.util.List;
 
@@ -28,6 +30,14 @@ public class RocketLaunchMixin {
     private static final double EARTH_ARRIVAL_HEIGHT = 1000.0; // Height to teleport to Earth from Luna
     private static final double LUNA_SPAWN_HEIGHT = 500.0; // Height to spawn at on Luna
     private static final double EARTH_SPAWN_HEIGHT = 500.0; // Height to spawn at on Earth
+    private static final int ARRIVAL_PRELOAD_RADIUS = 2; // Chunks around the arrival column, covering the descent
+    private static final int MAX_ARRIVAL_WAIT_TICKS = 200; // Give up waiting and teleport anyway after this long
+    
+    @Unique
+    private ChunkPreloader circuitmod$arrivalPreload;
+    
+    @Unique
+    private int circuitmod$arrivalWaitTicks;
     
     @Inject(method = "tick", at = @At("TAIL"))
     private void circuitmod$handleRocketLaunch(CallbackInfo ci) {
@@ -35,6 +45,13 @@ public class RocketLaunchMixin {
         
         // Only apply launch mechanics if rocket is launching
         if (!rocket.isLaunching()) {
+            // Launch aborted before arrival; nothing needs the destination chunks any more
+            if (circuitmod$arrivalPreload != null) {
+                circuitmod$arrivalPreload.release();
+                circuitmod$arrivalPreload = null;
+                circuitmod$arrivalWaitTicks = 0;
+            }
+            
             // Restore normal gravity when not launching
             if (rocket.hasNoGravity()) {
                 rocket.setNoGravity(false);
@@ -43,12 +60,22 @@ public class RocketLaunchMixin {
         }
         
         // Check if we've reached teleport height (depends on current dimension)
-        if (!rocket.getWorld().isClient) {
-            boolean isInLuna = rocket.getWorld().getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"));
-            boolean isInOverworld = rocket.getWorld().getRegistryKey().getValue().equals(Identifier.of("minecraft", "overworld"));
+        if (!rocket.getWorld().isClient && rocket.getWorld() instanceof ServerWorld serverWorld) {
+            boolean isInLuna = LunaDimension.isLuna(serverWorld);
+            boolean isInOverworld = serverWorld.getRegistryKey() == World.OVERWORLD;
+            ServerWorld destination = isInOverworld ? serverWorld.getServer().getWorld(LunaDimension.KEY)
+                : isInLuna ? serverWorld.getServer().getWorld(World.OVERWORLD) : null;
+            
+            // Start loading the arrival column as soon as the launch starts, so it is ready by arrival height
+            if (destination != null) {
+                preloadArrival(rocket, destination);
+            }
             
             // From Overworld to Luna at Y=2000
             if (isInOverworld && rocket.getY() >= LUNA_ARRIVAL_HEIGHT) {
+                if (awaitArrivalChunks(rocket)) {
+                    return;
+                }
                 Circuitmod.LOGGER.info("Rocket reached Luna arrival height! Teleporting to Luna...");
                 teleportToLuna(rocket);
                 return;
@@ -56,6 +83,9 @@ public class RocketLaunchMixin {
             
             // From Luna to Earth at Y=1000
             if (isInLuna && rocket.getY() >= EARTH_ARRIVAL_HEIGHT) {
+                if (awaitArrivalChunks(rocket)) {
+                    return;
+                }
                 Circuitmod.LOGGER.info("Rocket reached Earth arrival height! Teleporting to Earth...");
                 teleportToEarth(rocket);
                 return;
@@ -102,6 +132,46 @@ public class RocketLaunchMixin {
         rocket.incrementLaunchTicks();
     }
     
+    @Unique
+    private void preloadArrival(RocketEntity rocket, ServerWorld destination) {
+        // The rocket arrives at the same X/Z; re-request if it drifts into another chunk on the way up
+        ChunkPos column = new ChunkPos(rocket.getBlockPos());
+        if (circuitmod$arrivalPreload != null && circuitmod$arrivalPreload.isFor(destination, column)) {
+            circuitmod$arrivalPreload.keepAlive();
+            return;
+        }
+        if (circuitmod$arrivalPreload != null) {
+            circuitmod$arrivalPreload.release();
+        }
+        circuitmod$arrivalPreload = ChunkPreloader.request(destination, column, ARRIVAL_PRELOAD_RADIUS);
+        Circuitmod.LOGGER.info("Preloading rocket arrival chunks around {} in {}", column, destination.getRegistryKey().getValue());
+    }
+    
+    /**
+     * Holds the rocket at arrival height until the destination chunks are loaded.
+     *
+     * @return true if the rocket is still waiting
+     */
+    @Unique
+    private boolean awaitArrivalChunks(RocketEntity rocket) {
+        if (circuitmod$arrivalPreload == null || circuitmod$arrivalPreload.isReady()
+            || circuitmod$arrivalWaitTicks >= MAX_ARRIVAL_WAIT_TICKS) {
+            if (circuitmod$arrivalWaitTicks >= MAX_ARRIVAL_WAIT_TICKS) {
+                Circuitmod.LOGGER.warn("Rocket arrival chunks still loading after {} ticks, teleporting anyway", circuitmod$arrivalWaitTicks);
+            }
+            // The ticket is left to expire on its own so the landing approach stays loaded for a while
+            circuitmod$arrivalPreload = null;
+            circuitmod$arrivalWaitTicks = 0;
+            return false;
+        }
+        
+        circuitmod$arrivalWaitTicks++;
+        rocket.setNoGravity(true);
+        rocket.setVelocity(Vec3d.ZERO);
+        rocket.velocityModified = true;
+        return true;
+    }
+    
     private void teleportToLuna(RocketEntity rocket) {
         World world = rocket.getWorld();
         
@@ -110,7 +180,7 @@ public class RocketLaunchMixin {
         }
         
         // Get Luna dimension
-        RegistryKey<World> lunaKey = RegistryKey.of(RegistryKeys.WORLD, Identifier.of("circuitmod", "luna"));
+        RegistryKey<World> lunaKey = LunaDimension.KEY;
         ServerWorld lunaWorld = serverWorld.getServer().getWorld(lunaKey);
         
         if (lunaWorld == null) {
@@ -185,8 +255,7 @@ public class RocketLaunchMixin {
         }
         
         // Get Overworld dimension
-        RegistryKey<World> overworldKey = RegistryKey.of(RegistryKeys.WORLD, Identifier.of("minecraft", "overworld"));
-        ServerWorld overworldWorld = serverWorld.getServer().getWorld(overworldKey);
+        ServerWorld overworldWorld = serverWorld.getServer().getWorld(World.OVERWORLD);
         
         if (overworldWorld == null) {
             Circuitmod.LOGGER.error("Overworld dimension not found!");
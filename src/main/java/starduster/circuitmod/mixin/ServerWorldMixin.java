@@ -1,13 +1,16 @@
 package starduster.circuitmod.mixin;
 
+import net.minecraft.block.BlockState;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import starduster.circuitmod.Circuitmod;
 import starduster.circuitmod.luna.LunaTimeManager;
+import starduster.circuitmod.luna.LunaDimension;
+import starduster.circuitmod.luna.PressurizedRooms;
 
 /**
  * Mixin to intercept time updates in ServerWorld and apply custom Luna time cycle.
@@ -25,7 +28,7 @@ public class ServerWorldMixin {
         ServerWorld world = (ServerWorld) (Object) this;
         
         // Only apply to Luna dimension
-        if (world.getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"))) {
+        if (LunaDimension.isLuna(world)) {
             LunaTimeManager timeManager = LunaTimeManager.getInstance(world);
             
             if (timeManager != null) {
@@ -41,5 +44,12 @@ public class ServerWorldMixin {
             }
         }
     }
-}
 
+    /**
+     * Lets sealed Luna rooms react to walls being built or broken.
+     */
+    @Inject(method = "onBlockStateChanged", at = @At("TAIL"))
+    private void circuitmod$updatePressurizedRooms(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        PressurizedRooms.onBlockChanged((ServerWorld) (Object) this, pos, oldBlock, newBlock);
+    }
+}
@@ -1,147 +1,70 @@
 package starduster.circuitmod.mixin;
 
-import net.minecraft.block.*;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.WallTorchBlock;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
-import net.minecraft.state.property.EnumProperty;
-import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import starduster.circuitmod.Circuitmod;
-import starduster.circuitmod.block.ModBlocks;
-import starduster.circuitmod.util.TorchPlacementHelper;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import starduster.circuitmod.luna.LunaDimension;
+import starduster.circuitmod.luna.VacuumReplacements;
 
 /**
  * Mixin to intercept torch placement in the Luna dimension and replace with extinguished torches.
+ * The replacements themselves are data-driven, see {@link VacuumReplacements}.
  */
 @Mixin(World.class)
 public class TorchPlacementMixin {
 
     /**
-     * Intercepts setBlockState to replace torch blocks with extinguished versions in Luna dimension.
+     * Swaps blocks that can't burn in a vacuum (torches, candles, campfires, fire) for their Luna
+     * replacement before the state is set. Off Luna this is a single cached flag read.
      */
-    @SuppressWarnings("resource")
-    @Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;I)Z", at = @At("HEAD"), cancellable = true)
-    private void circuitmod$replaceTorchesInLuna(BlockPos pos, BlockState state, int flags, CallbackInfoReturnable<Boolean> cir) {
+    @ModifyVariable(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;I)Z", at = @At("HEAD"), argsOnly = true)
+    private BlockState circuitmod$replaceTorchesInLuna(BlockState state, BlockPos pos, BlockState originalState, int flags) {
         World world = (World) (Object) this;
-        EnumProperty<Direction> FACING = HorizontalFacingBlock.FACING;
         
-        // Only apply to Luna dimension
-        if (world.getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"))) {
-            Block block = state.getBlock();
-            
-            // Check if placing a regular torch
-            if (block == Blocks.TORCH || block == Blocks.SOUL_TORCH || block == Blocks.REDSTONE_TORCH) {
-                // Replace with extinguished torch, preserving all other state properties
-                BlockState extinguishedState = ModBlocks.EXTINGUISHED_TORCH.getDefaultState();
-                
-                // Call the original method with the extinguished torch instead
-                boolean result = ((World) (Object) this).setBlockState(pos, extinguishedState, flags);
-                
-                // Play extinguish sound effect and grant advancement
-                if (result) {
-                    world.playSound(null, pos, SoundEvents.BLOCK_CANDLE_EXTINGUISH, SoundCategory.BLOCKS, 1f, 1f);
-                    double d = pos.getX() + 0.5;
-                    double e = pos.getY() + 0.7;
-                    double f = pos.getZ() + 0.5;
-                    world.addParticleClient(ParticleTypes.SMOKE, d, e, f, 0.0, 0.0, 0.0);
-                    
-                    // Grant advancement to the player who placed the torch
-                    circuitmod$grantTorchAdvancementDirect(world, pos);
-                }
-                
-                cir.setReturnValue(result);
-                return;
-            }
-            
-            // Check if placing a wall torch
-            if (block == Blocks.WALL_TORCH || block == Blocks.SOUL_WALL_TORCH || block == Blocks.REDSTONE_WALL_TORCH) {
-                // Replace with extinguished wall torch, preserving facing direction
-                BlockState extinguishedState = ModBlocks.EXTINGUISHED_WALL_TORCH.getDefaultState();
-                
-                // Copy the facing property from the original wall torch
-                if (state.contains(WallTorchBlock.FACING)) {
-                    extinguishedState = extinguishedState.with(WallTorchBlock.FACING, state.get(WallTorchBlock.FACING));
-                }
-                
-                // Call the original method with the extinguished wall torch instead
-                boolean result = ((World) (Object) this).setBlockState(pos, extinguishedState, flags);
-                
-                // Play extinguish sound effect and grant advancement
-                if (result) {
-                    world.playSound(null, pos, SoundEvents.BLOCK_CANDLE_EXTINGUISH, SoundCategory.BLOCKS, 1f, 1f);
-                    Direction direction = state.get(FACING);
-                    double d = pos.getX() + 0.5;
-                    double e = pos.getY() + 0.7;
-                    double f = pos.getZ() + 0.5;
-                    Direction direction2 = direction.getOpposite();
-                    world.addParticleClient(ParticleTypes.SMOKE, d + 0.27 * direction2.getOffsetX(), e + 0.20, f + 0.27 * direction2.getOffsetZ(), 0.0, 0.0, 0.0);
-                    
-                    // Grant advancement to the player who placed the torch
-                    circuitmod$grantTorchAdvancementDirect(world, pos);
-                }
-                
-                cir.setReturnValue(result);
-                return;
-            }
+        // Only apply to Luna dimension; this runs on every block set, so bail out on the cached flag first
+        if (!LunaDimension.isLuna(world)) {
+            return state;
         }
-    }
-    
-    /**
-     * Grants the luna torch advancement to the player stored in ThreadLocal.
-     */
-    @Unique
-    private void circuitmod$grantTorchAdvancement() {
-        ServerPlayerEntity player = TorchPlacementHelper.placingPlayer.get();
-        if (player != null) {
-            // Trigger our custom criterion
-            Circuitmod.LOGGER.info("[TORCH] Triggering torch placement advancement for player: {}", player.getName().getString());
-            Circuitmod.TORCH_PLACED_IN_LUNA.trigger(player);
-            TorchPlacementHelper.placingPlayer.remove(); // Clean up ThreadLocal
-        } else {
-            Circuitmod.LOGGER.warn("[TORCH] Player is null when trying to grant torch advancement!");
+        
+        VacuumReplacements.Rule rule = VacuumReplacements.getRule(state);
+        if (rule == null) {
+            return state;
         }
-    }
-    
-    /**
-     * Grants the torch advancement by finding nearby players directly.
-     */
-    @Unique
-    private void circuitmod$grantTorchAdvancementDirect(World world, BlockPos pos) {
-        if (!world.isClient && world instanceof net.minecraft.server.world.ServerWorld serverWorld) {
-            // Find all players within 10 blocks of the torch placement
-            java.util.List<ServerPlayerEntity> nearbyPlayers = serverWorld.getPlayers(player -> 
-                player.squaredDistanceTo(pos.getX(), pos.getY(), pos.getZ()) <= 100.0 // 10 blocks squared
-            );
-            
-            for (ServerPlayerEntity player : nearbyPlayers) {
-                Circuitmod.LOGGER.info("[TORCH] Triggering torch placement advancement for nearby player: {}", player.getName().getString());
-                Circuitmod.TORCH_PLACED_IN_LUNA.trigger(player);
-            }
+        BlockState replacement = rule.replacement().apply(state);
+        if (replacement == state || world.isOutOfHeightLimit(pos)) {
+            return state;
         }
-    }
-}
-
-/**
- * Mixin to capture the player when they use an item to place a block.
- */
-@Mixin(net.minecraft.item.ItemStack.class)
-abstract class ItemStackPlacementMixin {
-    
-    @Inject(method = "useOnBlock", at = @At("HEAD"))
-    private void circuitmod$capturePlayerOnUse(net.minecraft.item.ItemUsageContext context, CallbackInfoReturnable<net.minecraft.util.ActionResult> cir) {
-        if (context.getPlayer() instanceof ServerPlayerEntity player) {
-            // Store the player in ThreadLocal so the World mixin can access it
-            Circuitmod.LOGGER.info("[TORCH] Captured player in useOnBlock: {}", player.getName().getString());
-            TorchPlacementHelper.placingPlayer.set(player);
+        // Already extinguished here (e.g. relighting an unlit candle): still keep it out, but without the effects
+        if (world.getBlockState(pos) == replacement) {
+            return replacement;
         }
+        
+        // Play extinguish sound effect and smoke, offset towards the wall for wall torches
+        world.playSound(null, pos, SoundEvents.BLOCK_CANDLE_EXTINGUISH, SoundCategory.BLOCKS, 1f, 1f);
+        double d = pos.getX() + 0.5;
+        double e = pos.getY() + 0.7;
+        double f = pos.getZ() + 0.5;
+        if (state.getBlock() instanceof WallTorchBlock) {
+            Direction direction2 = state.get(WallTorchBlock.FACING).getOpposite();
+            world.addParticleClient(ParticleTypes.SMOKE, d + 0.27 * direction2.getOffsetX(), e + 0.20, f + 0.27 * direction2.getOffsetZ(), 0.0, 0.0, 0.0);
+        } else {
+            world.addParticleClient(ParticleTypes.SMOKE, d, e, f, 0.0, 0.0, 0.0);
+        }
+        
+        // Grant the advancement to nearby players, batched once per world tick
+        if (rule.grantsTorchAdvancement() && world instanceof ServerWorld serverWorld) {
+            VacuumReplacements.queueTorchAdvancement(serverWorld, pos);
+        }
+        
+        return replacement;
     }
 }
@@ -0,0 +1,20 @@
+package starduster.circuitmod.mixin;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+/**
+ * Accessor mixin to expose block entity ticker registration in WorldChunk.
+ */
+@Mixin(WorldChunk.class)
+public interface WorldChunkAccessor {
+
+    @Invoker("updateTicker")
+    void invokeUpdateTicker(BlockEntity blockEntity);
+
+    @Invoker("removeBlockEntityTicker")
+    void invokeRemoveBlockEntityTicker(BlockPos pos);
+}
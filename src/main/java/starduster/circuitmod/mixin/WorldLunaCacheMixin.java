@@ -0,0 +1,30 @@
+package starduster.circuitmod.mixin;
+
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import starduster.circuitmod.luna.ILunaWorld;
+import starduster.circuitmod.luna.LunaDimension;
+
+/**
+ * Caches the Luna dimension check on every world, so the Luna mixins short-circuit on a single field read.
+ */
+@Mixin(World.class)
+public abstract class WorldLunaCacheMixin implements ILunaWorld {
+
+    @Unique
+    private boolean circuitmod$isLuna;
+
+    @Inject(method = "<init>", at = @At("TAIL"))
+    private void circuitmod$cacheLunaDimension(CallbackInfo ci) {
+        circuitmod$isLuna = LunaDimension.KEY.equals(((World) (Object) this).getRegistryKey());
+    }
+
+    @Override
+    public boolean circuitmod$isLuna() {
+        return circuitmod$isLuna;
+    }
+}
@@ -1,11 +1,11 @@
 package starduster.circuitmod.mixin;
 
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
-import net.minecraft.util.Identifier;
 import net.minecraft.world.LunarWorldView;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import starduster.circuitmod.luna.LunaDimension;
 
 /**
  * Mixin to override sky angle calculation for Luna dimension.
@@ -20,10 +20,8 @@ public interface WorldMixin {
      */
     @ModifyReturnValue(method = "getSkyAngle", at = @At("RETURN"))
     default float circuitmod$lunaCustomSkyAngle(float original) {
-        World world = (World) this;
-        
         // Only apply to Luna dimension
-        if (world.getRegistryKey().getValue().equals(Identifier.of("circuitmod", "luna"))) {
+        if (this instanceof World world && LunaDimension.isLuna(world)) {
             long timeOfDay = world.getTimeOfDay();
             
             // Use 192,000 tick cycle instead of 24,000
@@ -0,0 +1,18 @@
+package starduster.circuitmod.network;
+
+/**
+ * A vehicle steered through {@link VehicleInput}.
+ */
+public interface IControllableVehicle {
+    /**
+     * Applies the rider's packed {@link VehicleInput} keys.
+     */
+    void applyInput(int flags);
+
+    /**
+     * Whether the riding client also applies its input locally, so the vehicle responds before the server does.
+     */
+    default boolean predictsInput() {
+        return false;
+    }
+}
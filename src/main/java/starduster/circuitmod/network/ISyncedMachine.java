@@ -0,0 +1,29 @@
+package starduster.circuitmod.network;
+
+/**
+ * Interface for block entities whose client-visible state is replicated through {@link MachineStateSync}.
+ * A machine declares a fixed number of fields, each encoded as a long (booleans as 0/1,
+ * positions as {@code BlockPos.asLong}). Only fields that changed since the last value a player
+ * received are sent.
+ */
+public interface ISyncedMachine {
+    /**
+     * Gets the number of synced fields. Must be constant for a machine type and at most 32.
+     */
+    int getSyncedFieldCount();
+
+    /**
+     * Writes the current value of every synced field (server side).
+     *
+     * @param values Array of length {@link #getSyncedFieldCount()} to fill
+     */
+    void writeSyncedFields(long[] values);
+
+    /**
+     * Applies received field values (client side).
+     *
+     * @param changedMask Bit i is set if field i is present in {@code values}
+     * @param values Field values, indexed by field; entries without their bit set are undefined
+     */
+    void applySyncedFields(int changedMask, long[] values);
+}
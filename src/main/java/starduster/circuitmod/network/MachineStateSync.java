@@ -0,0 +1,140 @@
+package starduster.circuitmod.network;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Shared replication channel for machine state shown on the client (mining progress, dimensions, status flags).
+ * <p>
+ * Machines register themselves with {@link #track}. Every {@link #SYNC_INTERVAL} ticks their synced fields
+ * are diffed against the last values each tracking player received, and all changed fields for a player
+ * go out in a single {@link ModNetworking.MachineStateSyncPayload}. Unchanged machines cost nothing on the wire,
+ * and players who start tracking a machine (or change dimension) get its full state on the next pass.
+ */
+public class MachineStateSync {
+
+    // Ticks between sync passes (the old per-machine progress broadcasts ran every 5 ticks)
+    private static final int SYNC_INTERVAL = 2;
+
+    // Encoded value for "no position"; outside the world border, so no real position packs to it
+    public static final long NO_POS = Long.MIN_VALUE;
+
+    // Weak so removed or unloaded machines drop out even if they never tick again
+    private static final Set<BlockEntity> MACHINES = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Map<UUID, PlayerSnapshots> SNAPSHOTS = new HashMap<>();
+    private static int tickCounter = 0;
+
+    /**
+     * Initialize the sync channel tick and disconnect handlers
+     */
+    public static void initialize() {
+        ServerTickEvents.END_SERVER_TICK.register(MachineStateSync::onServerTick);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> SNAPSHOTS.remove(handler.player.getUuid()));
+    }
+
+    /**
+     * Registers a machine for replication. Cheap to call every tick.
+     */
+    public static <T extends BlockEntity & ISyncedMachine> void track(T machine) {
+        MACHINES.add(machine);
+    }
+
+    public static long encodePos(BlockPos pos) {
+        return pos != null ? pos.asLong() : NO_POS;
+    }
+
+    public static BlockPos decodePos(long value) {
+        return value != NO_POS ? BlockPos.fromLong(value) : null;
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (++tickCounter % SYNC_INTERVAL != 0) {
+            return;
+        }
+
+        Map<ServerPlayerEntity, List<ModNetworking.MachineDelta>> outgoing = new HashMap<>();
+        Iterator<BlockEntity> iterator = MACHINES.iterator();
+        while (iterator.hasNext()) {
+            BlockEntity blockEntity = iterator.next();
+            if (blockEntity.isRemoved() || !(blockEntity.getWorld() instanceof ServerWorld world)
+                || !(blockEntity instanceof ISyncedMachine machine)) {
+                iterator.remove();
+                continue;
+            }
+
+            BlockPos pos = blockEntity.getPos();
+            long posKey = pos.asLong();
+            long[] values = null;
+            for (ServerPlayerEntity player : PlayerLookup.tracking(blockEntity)) {
+                if (values == null) {
+                    values = new long[machine.getSyncedFieldCount()];
+                    machine.writeSyncedFields(values);
+                }
+                PlayerSnapshots snapshots = SNAPSHOTS.computeIfAbsent(player.getUuid(), uuid -> new PlayerSnapshots());
+                snapshots.enterWorld(world.getRegistryKey());
+                snapshots.seen.add(posKey);
+
+                long[] last = snapshots.lastSent.get(posKey);
+                int changedMask = 0;
+                for (int i = 0; i < values.length; i++) {
+                    if (last == null || last[i] != values[i]) {
+                        changedMask |= 1 << i;
+                    }
+                }
+                if (changedMask != 0) {
+                    // The array is never mutated after this pass, so players can share it
+                    snapshots.lastSent.put(posKey, values);
+                    outgoing.computeIfAbsent(player, key -> new ArrayList<>())
+                        .add(new ModNetworking.MachineDelta(pos, changedMask, values));
+                }
+            }
+        }
+
+        // Forget machines a player no longer tracks, so they are sent in full when tracked again
+        for (PlayerSnapshots snapshots : SNAPSHOTS.values()) {
+            snapshots.lastSent.keySet().retainAll(snapshots.seen);
+            snapshots.seen.clear();
+        }
+
+        for (Map.Entry<ServerPlayerEntity, List<ModNetworking.MachineDelta>> entry : outgoing.entrySet()) {
+            ModNetworking.sendMachineStateSync(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Last values sent to one player, keyed by packed machine position.
+     */
+    private static class PlayerSnapshots {
+        private RegistryKey<World> world;
+        private final Map<Long, long[]> lastSent = new HashMap<>();
+        private final Set<Long> seen = new HashSet<>();
+
+        void enterWorld(RegistryKey<World> worldKey) {
+            if (worldKey != world) {
+                // Positions are only unique per dimension
+                world = worldKey;
+                lastSent.clear();
+                seen.clear();
+            }
+        }
+    }
+}
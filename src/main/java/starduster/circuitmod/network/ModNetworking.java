@@ -26,12 +26,10 @@ public class ModNetworking {
         Circuitmod.LOGGER.info("Initializing mod networking");
         
         // Register the payload type for server->client communication
-        PayloadTypeRegistry.playS2C().register(QuarryMiningProgressPayload.ID, QuarryMiningProgressPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(MiningEnabledStatusPayload.ID, MiningEnabledStatusPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(QuarryDimensionsSyncPayload.ID, QuarryDimensionsSyncPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ItemMovePayload.ID, ItemMovePayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ContinuousPathAnimationPayload.ID, ContinuousPathAnimationPayload.CODEC);
-        PayloadTypeRegistry.playS2C().register(DrillMiningProgressPayload.ID, DrillMiningProgressPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(DrillMiningEnabledPayload.ID, DrillMiningEnabledPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(DrillDimensionsSyncPayload.ID, DrillDimensionsSyncPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(LaserDrillDepthSyncPayload.ID, LaserDrillDepthSyncPayload.CODEC);
@@ -42,6 +40,7 @@ public class ModNetworking {
         PayloadTypeRegistry.playS2C().register(ConstructorMaterialsSyncPayload.ID, ConstructorMaterialsSyncPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ConstructorBuildPositionsSyncPayload.ID, ConstructorBuildPositionsSyncPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ConstructorGhostBlocksSyncPayload.ID, ConstructorGhostBlocksSyncPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(MachineStateSyncPayload.ID, MachineStateSyncPayload.CODEC);
         
         // Register the payload type for client->server communication
         PayloadTypeRegistry.playC2S().register(ToggleMiningPayload.ID, ToggleMiningPayload.CODEC);
@@ -54,8 +53,7 @@ public class ModNetworking {
         PayloadTypeRegistry.playC2S().register(BlueprintNamePayload.ID, BlueprintNamePayload.CODEC);
         PayloadTypeRegistry.playC2S().register(BlueprintNameRequestPayload.ID, BlueprintNameRequestPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(CollectXpPayload.ID, CollectXpPayload.CODEC);
-        PayloadTypeRegistry.playC2S().register(HovercraftInputPayload.ID, HovercraftInputPayload.CODEC);
-        PayloadTypeRegistry.playC2S().register(RocketSpacebarInputPayload.ID, RocketSpacebarInputPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(VehicleInputPayload.ID, VehicleInputPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(HologramAreaPayload.ID, HologramAreaPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(MissileControlUpdatePayload.ID, MissileControlUpdatePayload.CODEC);
         PayloadTypeRegistry.playC2S().register(MissileFirePayload.ID, MissileFirePayload.CODEC);
@@ -63,19 +61,6 @@ public class ModNetworking {
     
 
     
-    /**
-     * Send a mining progress update to a player
-     * 
-     * @param player The player to send the update to
-     * @param miningProgress The mining progress percentage (0-100)
-     * @param miningPos The current mining position
-     * @param quarryPos The position of the quarry
-     */
-    public static void sendMiningProgressUpdate(ServerPlayerEntity player, int miningProgress, BlockPos miningPos, BlockPos quarryPos) {
-        QuarryMiningProgressPayload payload = new QuarryMiningProgressPayload(miningProgress, miningPos, quarryPos);
-        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(player, payload);
-    }
-    
     /**
      * Send a mining enabled status update to a player
      * 
@@ -142,22 +127,6 @@ public class ModNetworking {
         net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(player, payload);
     }
     
-    /**
-     * Send a drill mining progress update to players
-     * 
-     * @param players The players to send the update to
-     * @param miningProgress The mining progress (0-100)
-     * @param miningPos The position being mined
-     */
-    public static void sendDrillMiningProgressUpdate(Iterable<ServerPlayerEntity> players, int miningProgress, BlockPos miningPos) {
-        Circuitmod.LOGGER.info("[SERVER] Sending drill mining progress packet: {}% at {}", miningProgress, miningPos);
-            
-        DrillMiningProgressPayload payload = new DrillMiningProgressPayload(miningProgress, miningPos);
-        for (ServerPlayerEntity player : players) {
-            net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(player, payload);
-        }
-    }
-    
     /**
      * Send a drill mining enabled status update to players
      * 
@@ -343,20 +312,63 @@ public class ModNetworking {
     }
     
     /**
-     * Payload for quarry mining progress updates
+     * Send the coalesced machine state changes for one sync pass to a player
+     * 
+     * @param player The player to send the changes to
+     * @param deltas The changed fields of every machine the player tracks
      */
-    public record QuarryMiningProgressPayload(int miningProgress, BlockPos miningPos, BlockPos quarryPos) implements CustomPayload {
-        // Define the ID for this payload type
-        public static final CustomPayload.Id<QuarryMiningProgressPayload> ID = 
-            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "quarry_mining_progress"));
+    public static void sendMachineStateSync(ServerPlayerEntity player, List<MachineDelta> deltas) {
+        MachineStateSyncPayload payload = new MachineStateSyncPayload(deltas);
+        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(player, payload);
+    }
+    
+    /**
+     * Changed synced fields of one machine. Bit i of {@code changedMask} marks {@code values[i]} as present.
+     */
+    public record MachineDelta(BlockPos machinePos, int changedMask, long[] values) {
+    }
+    
+    /**
+     * Payload for coalesced machine state changes (server -> client)
+     * Only the fields flagged in each delta's mask are written to the wire.
+     */
+    public record MachineStateSyncPayload(List<MachineDelta> deltas) implements CustomPayload {
+        public static final CustomPayload.Id<MachineStateSyncPayload> ID =
+            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "machine_state_sync"));
         
-        // Define the codec for serializing/deserializing the payload
-        public static final PacketCodec<PacketByteBuf, QuarryMiningProgressPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.INTEGER, QuarryMiningProgressPayload::miningProgress,
-            BlockPos.PACKET_CODEC, QuarryMiningProgressPayload::miningPos,
-            BlockPos.PACKET_CODEC, QuarryMiningProgressPayload::quarryPos,
-            QuarryMiningProgressPayload::new
-        );
+        public static final PacketCodec<PacketByteBuf, MachineStateSyncPayload> CODEC = new PacketCodec<>() {
+            @Override
+            public void encode(PacketByteBuf buf, MachineStateSyncPayload value) {
+                buf.writeVarInt(value.deltas().size());
+                for (MachineDelta delta : value.deltas()) {
+                    buf.writeBlockPos(delta.machinePos());
+                    buf.writeVarInt(delta.changedMask());
+                    for (int i = 0; i < delta.values().length; i++) {
+                        if ((delta.changedMask() & (1 << i)) != 0) {
+                            buf.writeVarLong(delta.values()[i]);
+                        }
+                    }
+                }
+            }
+            
+            @Override
+            public MachineStateSyncPayload decode(PacketByteBuf buf) {
+                int count = buf.readVarInt();
+                List<MachineDelta> deltas = new ArrayList<>(count);
+                for (int d = 0; d < count; d++) {
+                    BlockPos machinePos = buf.readBlockPos();
+                    int changedMask = buf.readVarInt();
+                    long[] values = new long[32 - Integer.numberOfLeadingZeros(changedMask)];
+                    for (int i = 0; i < values.length; i++) {
+                        if ((changedMask & (1 << i)) != 0) {
+                            values[i] = buf.readVarLong();
+                        }
+                    }
+                    deltas.add(new MachineDelta(machinePos, changedMask, values));
+                }
+                return new MachineStateSyncPayload(deltas);
+            }
+        };
         
         @Override
         public Id<? extends CustomPayload> getId() {
@@ -469,27 +481,6 @@ public class ModNetworking {
         }
     }
     
-    /**
-     * Payload for drill mining progress updates (server -> client)
-     */
-    public record DrillMiningProgressPayload(int miningProgress, BlockPos miningPos) implements CustomPayload {
-        // Define the ID for this payload type
-        public static final CustomPayload.Id<DrillMiningProgressPayload> ID = 
-            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "drill_mining_progress"));
-        
-        // Define the codec for serializing/deserializing the payload
-        public static final PacketCodec<PacketByteBuf, DrillMiningProgressPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.INTEGER, DrillMiningProgressPayload::miningProgress,
-            BlockPos.PACKET_CODEC, DrillMiningProgressPayload::miningPos,
-            DrillMiningProgressPayload::new
-        );
-        
-        @Override
-        public Id<? extends CustomPayload> getId() {
-            return ID;
-        }
-    }
-    
     /**
      * Payload for drill mining enabled status updates (server -> client)
      */
@@ -946,45 +937,19 @@ public class ModNetworking {
     }
     
     /**
-     * Payload for hovercraft input (client -> server)
-     */
-    public record HovercraftInputPayload(int entityId, boolean forward, boolean backward, boolean left, boolean right, boolean up, boolean down, boolean boost) implements CustomPayload {
-        // Define the ID for this payload type
-        public static final CustomPayload.Id<HovercraftInputPayload> ID =
-            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "hovercraft_input"));
-        
-        // Define the codec for serializing/deserializing the payload
-        public static final PacketCodec<PacketByteBuf, HovercraftInputPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.INTEGER, HovercraftInputPayload::entityId,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::forward,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::backward,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::left,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::right,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::up,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::down,
-            PacketCodecs.BOOLEAN, HovercraftInputPayload::boost,
-            HovercraftInputPayload::new
-        );
-        
-        @Override
-        public Id<? extends CustomPayload> getId() {
-            return ID;
-        }
-    }
-    
-    /**
-     * Payload for rocket spacebar input (client -> server)
+     * Payload for vehicle input (client -> server): the rider's keys packed into one byte, see {@link VehicleInput}
      */
-    public record RocketSpacebarInputPayload(int entityId, boolean spacePressed) implements CustomPayload {
+    public record VehicleInputPayload(int entityId, byte sequence, byte flags) implements CustomPayload {
         // Define the ID for this payload type
-        public static final CustomPayload.Id<RocketSpacebarInputPayload> ID =
-            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "rocket_spacebar_input"));
+        public static final CustomPayload.Id<VehicleInputPayload> ID =
+            new CustomPayload.Id<>(Identifier.of(Circuitmod.MOD_ID, "vehicle_input"));
         
         // Define the codec for serializing/deserializing the payload
-        public static final PacketCodec<PacketByteBuf, RocketSpacebarInputPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.INTEGER, RocketSpacebarInputPayload::entityId,
-            PacketCodecs.BOOLEAN, RocketSpacebarInputPayload::spacePressed,
-            RocketSpacebarInputPayload::new
+        public static final PacketCodec<PacketByteBuf, VehicleInputPayload> CODEC = PacketCodec.tuple(
+            PacketCodecs.VAR_INT, VehicleInputPayload::entityId,
+            PacketCodecs.BYTE, VehicleInputPayload::sequence,
+            PacketCodecs.BYTE, VehicleInputPayload::flags,
+            VehicleInputPayload::new
         );
         
         @Override
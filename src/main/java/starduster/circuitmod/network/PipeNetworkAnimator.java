@@ -6,6 +6,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.TickProfiler;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.List;
@@ -161,6 +162,7 @@ public class PipeNetworkAnimator {
             stack.getItem().getName().getString(), from, to, durationTicks, startTick);
         
         // Send to all players tracking the source position
+        long profileStart = TickProfiler.begin();
         int playerCount = 0;
         for (ServerPlayerEntity player : PlayerLookup.tracking(world, from)) {
             try {
@@ -171,6 +173,7 @@ public class PipeNetworkAnimator {
                     player.getName().getString(), e.getMessage());
             }
         }
+        TickProfiler.end(TickProfiler.Subsystem.ANIMATION_PACKETS, profileStart);
         
         if (playerCount > 0) {
             Circuitmod.LOGGER.debug("[ANIMATOR] Sent animation to {} players", playerCount);
@@ -0,0 +1,79 @@
+package starduster.circuitmod.network;
+
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import starduster.circuitmod.util.DiagnosticLog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared input channel for the mod's rideable vehicles.
+ * <p>
+ * The riding client packs its control keys into one byte and sends a {@link ModNetworking.VehicleInputPayload}
+ * only when that byte changes, plus a slow resend, each tagged with a wrapping sequence number. The server
+ * applies the newest input it has seen per player and ignores anything older. Position stays with vanilla's
+ * vehicle move packets: the controlling client simulates the vehicle, and the server only corrects it when
+ * the reported move is off by more than vanilla's tolerance.
+ */
+public class VehicleInput {
+    public static final int FORWARD = 1;
+    public static final int BACK = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int UP = 1 << 4; // Jump key; also the rocket's launch key
+    public static final int DOWN = 1 << 5;
+    public static final int BOOST = 1 << 6;
+
+    private static final Map<UUID, Byte> LAST_SEQUENCE = new HashMap<>();
+
+    /**
+     * Initialize the input receiver and disconnect handler
+     */
+    public static void initialize() {
+        ServerPlayNetworking.registerGlobalReceiver(ModNetworking.VehicleInputPayload.ID, (payload, context) ->
+            context.server().execute(() -> receive(context.player(), payload)));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> LAST_SEQUENCE.remove(handler.player.getUuid()));
+    }
+
+    public static int pack(boolean forward, boolean back, boolean left, boolean right, boolean up, boolean down, boolean boost) {
+        return (forward ? FORWARD : 0) | (back ? BACK : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0)
+            | (up ? UP : 0) | (down ? DOWN : 0) | (boost ? BOOST : 0);
+    }
+
+    public static boolean isPressed(int flags, int key) {
+        return (flags & key) != 0;
+    }
+
+    /**
+     * @return true if {@code sequence} comes after {@code last}, allowing for the byte wrapping around
+     */
+    public static boolean isNewer(byte sequence, byte last) {
+        return (byte) (sequence - last) > 0;
+    }
+
+    private static void receive(ServerPlayerEntity player, ModNetworking.VehicleInputPayload payload) {
+        Byte last = LAST_SEQUENCE.get(player.getUuid());
+        if (last != null && !isNewer(payload.sequence(), last)) {
+            return; // Stale or repeated
+        }
+        LAST_SEQUENCE.put(player.getUuid(), payload.sequence());
+
+        Entity entity = player.getWorld().getEntityById(payload.entityId());
+        if (!(entity instanceof IControllableVehicle vehicle)) {
+            DiagnosticLog.PLAYER.debug("[SERVER] Vehicle entity {} not found for input from player {}",
+                payload.entityId(), player.getName().getString());
+            return;
+        }
+        // Only the rider may steer
+        if (!entity.hasPassenger(player)) {
+            DiagnosticLog.PLAYER.warn("[SERVER] Player {} tried to send input for vehicle {} but is not riding it",
+                player.getName().getString(), payload.entityId());
+            return;
+        }
+        vehicle.applyInput(payload.flags() & 0xFF);
+    }
+}
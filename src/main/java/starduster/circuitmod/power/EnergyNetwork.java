@@ -1,5 +1,6 @@
 package starduster.circuitmod.power;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -7,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.math.BlockPos;
@@ -84,7 +86,8 @@ public class EnergyNetwork {
      * @param block The block to add
      */
     public void addBlock(BlockPos pos, IPowerConnectable block) {
-        if (connectedBlocks.containsKey(pos)) {
+        // A null entry is a placeholder from position-only tracking; let the real block entity take it over
+        if (connectedBlocks.get(pos) != null || (block == null && connectedBlocks.containsKey(pos))) {
             return; // Block already in network
         }
         
@@ -210,15 +213,48 @@ public class EnergyNetwork {
      * @return A set of block positions that are part of this network
      */
     public Set<BlockPos> rebuild(World world, BlockPos startPos) {
+        return rebuild(pos -> getPowerConnectableAt(world, pos), startPos);
+    }
+    
+    /**
+     * Rebuilds this network from whatever {@code lookup} reports at each position. The fill uses an explicit
+     * queue rather than recursion, so long cable runs can't overflow the stack.
+     * 
+     * @param lookup Returns the connectable at a position, or null if there is none
+     * @param startPos The position to start rebuilding from
+     * @return The positions that were in this network before but are no longer connected to it
+     */
+    public Set<BlockPos> rebuild(Function<BlockPos, IPowerConnectable> lookup, BlockPos startPos) {
         // Store the old blocks to disconnect later
         Set<BlockPos> oldPositions = new HashSet<>(connectedBlocks.keySet());
         
         // Clear the network
         clear();
         
-        // Start flood-fill from the given position
         Set<BlockPos> visited = new HashSet<>();
-        floodFill(world, startPos, visited);
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        visited.add(startPos);
+        queue.add(startPos);
+        while (!queue.isEmpty()) {
+            BlockPos pos = queue.poll();
+            IPowerConnectable connectable = lookup.apply(pos);
+            if (connectable == null) {
+                continue;
+            }
+            addBlock(pos, connectable);
+            
+            for (net.minecraft.util.math.Direction dir : net.minecraft.util.math.Direction.values()) {
+                BlockPos neighborPos = pos.offset(dir);
+                if (visited.contains(neighborPos) || !connectable.canConnectPower(dir)) {
+                    continue;
+                }
+                IPowerConnectable neighbor = lookup.apply(neighborPos);
+                if (neighbor != null && neighbor.canConnectPower(dir.getOpposite())) {
+                    visited.add(neighborPos);
+                    queue.add(neighborPos);
+                }
+            }
+        }
         
         // Remove positions that are still in the network
         oldPositions.removeAll(visited);
@@ -227,42 +263,6 @@ public class EnergyNetwork {
         return oldPositions;
     }
     
-    /**
-     * Helper method to flood-fill the network from a starting position.
-     * 
-     * @param world The world
-     * @param pos The current position
-     * @param visited Set of positions already visited
-     */
-    private void floodFill(World world, BlockPos pos, Set<BlockPos> visited) {
-        // If we've already visited this position, stop
-        if (visited.contains(pos)) {
-            return;
-        }
-        
-        // Mark as visited
-        visited.add(pos);
-        
-        // Get the block at this position
-        IPowerConnectable connectable = getPowerConnectableAt(world, pos);
-        if (connectable == null) {
-            return;
-        }
-        
-        // Add to the network
-        addBlock(pos, connectable);
-        
-        // Recursively check neighbors
-        for (net.minecraft.util.math.Direction dir : net.minecraft.util.math.Direction.values()) {
-            BlockPos neighborPos = pos.offset(dir);
-            IPowerConnectable neighbor = getPowerConnectableAt(world, neighborPos);
-            
-            if (neighbor != null && neighbor.canConnectPower(dir.getOpposite()) && connectable.canConnectPower(dir)) {
-                floodFill(world, neighborPos, visited);
-            }
-        }
-    }
-    
     /**
      * Helper method to get an IPowerConnectable from a position.
      * 
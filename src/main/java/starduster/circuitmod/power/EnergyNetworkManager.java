@@ -20,6 +20,9 @@ public class EnergyNetworkManager {
     // Mapping from block positions to their network IDs for quick lookup
     private static final Map<BlockPos, String> blockToNetwork = new ConcurrentHashMap<>();
     
+    // Machines waiting to join a network, attached at the end of their world's tick
+    private static final Map<ServerWorld, Set<BlockPos>> pendingAttachments = new HashMap<>();
+    
     // Flag to control logging during startup
     private static boolean startupMode = true;
     
@@ -189,9 +192,20 @@ public class EnergyNetworkManager {
      * @param network The network to add the block to
      */
     public static void addBlockToNetwork(BlockPos pos, EnergyNetwork network) {
+        addBlockToNetwork(pos, network, null);
+    }
+    
+    /**
+     * Adds a block entity to a network and updates global tracking.
+     * 
+     * @param pos The position of the block
+     * @param network The network to add the block to
+     * @param connectable The block entity, or null to only track the position
+     */
+    public static void addBlockToNetwork(BlockPos pos, EnergyNetwork network, IPowerConnectable connectable) {
         if (network == null) return;
         
-        network.addBlock(pos, null); // The block entity will set itself
+        network.addBlock(pos, connectable);
         blockToNetwork.put(pos, network.getNetworkId());
         
         // Ensure the network is registered
@@ -572,7 +586,7 @@ public class EnergyNetworkManager {
         // Join existing network or create new one
         if (targetNetwork != null) {
             // Join the existing network
-            addBlockToNetwork(pos, targetNetwork);
+            addBlockToNetwork(pos, targetNetwork, connectable);
             
             if (!startupMode) {
                 Circuitmod.LOGGER.debug("Block at {} joined existing network {}", pos, targetNetwork.getNetworkId());
@@ -583,7 +597,7 @@ public class EnergyNetworkManager {
         } else {
             // Create a new network
             EnergyNetwork newNetwork = createNetwork();
-            addBlockToNetwork(pos, newNetwork);
+            addBlockToNetwork(pos, newNetwork, connectable);
             
             // Try to connect adjacent unconnected blocks
             connectAdjacentBlocks(world, pos, newNetwork, connectable);
@@ -611,7 +625,7 @@ public class EnergyNetworkManager {
             }
             
             EnergyNetwork newNetwork = createNetwork();
-            addBlockToNetwork(pos, newNetwork);
+            addBlockToNetwork(pos, newNetwork, connectable);
             return newNetwork;
         } catch (Exception e) {
             if (!startupMode) {
@@ -647,7 +661,7 @@ public class EnergyNetworkManager {
                     neighborConnectable.canConnectPower(dir.getOpposite()) && 
                     centerConnectable.canConnectPower(dir)) {
                     
-                    addBlockToNetwork(neighborPos, network);
+                    addBlockToNetwork(neighborPos, network, neighborConnectable);
                     
                     if (!startupMode) {
                         Circuitmod.LOGGER.debug("Connected adjacent block at {} to network {}", neighborPos, network.getNetworkId());
@@ -668,13 +682,51 @@ public class EnergyNetworkManager {
     public static void onBlockPlaced(World world, BlockPos pos, IPowerConnectable connectable) {
         if (world == null || world.isClient()) return;
         
-        // Delay network connection slightly to ensure all block entities are loaded
-        if (world instanceof ServerWorld) {
-            ((ServerWorld) world).scheduleBlockTick(pos, world.getBlockState(pos).getBlock(), 2);
+        // Attach at the end of the tick, once neighbouring block entities placed alongside exist too
+        requestAttach(world, pos);
+    }
+    
+    /**
+     * Queues the power connectable at {@code pos} to find and join a network at the end of the world tick.
+     * This is how machines attach after loading, placement and neighbour changes, so none of them need
+     * to poll for a network from their tick.
+     * 
+     * @param world The world
+     * @param pos The position of the block entity
+     */
+    public static void requestAttach(World world, BlockPos pos) {
+        if (world instanceof ServerWorld serverWorld) {
+            pendingAttachments.computeIfAbsent(serverWorld, w -> new HashSet<>()).add(pos.toImmutable());
         }
+    }
+    
+    /**
+     * Attaches every machine queued by {@link #requestAttach} in this world.
+     * 
+     * @param world The world
+     */
+    public static void processPendingAttachments(ServerWorld world) {
+        Set<BlockPos> pending = pendingAttachments.remove(world);
+        if (pending == null) return;
         
-        // Immediate connection for simpler cases
-        findAndJoinNetwork(world, pos, connectable);
+        for (BlockPos pos : pending) {
+            // Don't load chunks just to attach a machine; it is queued again when its chunk loads
+            if (!world.isChunkLoaded(pos.getX() >> 4, pos.getZ() >> 4)) continue;
+            
+            BlockEntity be = world.getBlockEntity(pos);
+            if (be instanceof IPowerConnectable connectable && !be.isRemoved()) {
+                findAndJoinNetwork(world, pos, connectable);
+            }
+        }
+    }
+    
+    /**
+     * Drops queued attachments for a world that is unloading.
+     * 
+     * @param world The world
+     */
+    public static void clearPendingAttachments(ServerWorld world) {
+        pendingAttachments.remove(world);
     }
     
     /**
@@ -1,9 +1,12 @@
 package starduster.circuitmod.power;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import starduster.circuitmod.Circuitmod;
+import starduster.circuitmod.util.TickProfiler;
 
 /**
  * Tick handler for energy networks that performs periodic validation and recovery.
@@ -25,6 +28,15 @@ public class EnergyNetworkTickHandler {
      */
     public static void initialize() {
         ServerTickEvents.END_SERVER_TICK.register(EnergyNetworkTickHandler::onServerTick);
+        
+        // Machines join a network when their block entity is loaded or placed, never by polling from their tick
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof IPowerConnectable connectable && connectable.attachesOnLoad()) {
+                EnergyNetworkManager.requestAttach(world, blockEntity.getPos());
+            }
+        });
+        ServerTickEvents.END_WORLD_TICK.register(EnergyNetworkManager::processPendingAttachments);
+        ServerWorldEvents.UNLOAD.register((server, world) -> EnergyNetworkManager.clearPendingAttachments(world));
     }
     
     /**
@@ -40,12 +52,16 @@ public class EnergyNetworkTickHandler {
         
         // Periodic network validation (every 10 seconds)
         if (tickCounter % VALIDATION_INTERVAL == 0) {
+            long profileStart = TickProfiler.begin();
             performPeriodicValidation(server);
+            TickProfiler.end(TickProfiler.Subsystem.TOPOLOGY_REPAIR, profileStart);
         }
         
         // Global recovery operations (every 60 seconds)
         if (tickCounter % RECOVERY_INTERVAL == 0) {
+            long profileStart = TickProfiler.begin();
             performGlobalRecovery(server);
+            TickProfiler.end(TickProfiler.Subsystem.TOPOLOGY_REPAIR, profileStart);
         }
     }
     
@@ -27,4 +27,14 @@ public interface IPowerConnectable {
      * @param network The energy network to connect to
      */
     void setNetwork(EnergyNetwork network);
-} 
\ No newline at end of file
+    
+    /**
+     * Whether the network manager should attach this block to a network when it is loaded or placed.
+     * Cables maintain their own connections and opt out.
+     * 
+     * @return True to be attached by {@link EnergyNetworkManager#requestAttach}
+     */
+    default boolean attachesOnLoad() {
+        return true;
+    }
+}
@@ -0,0 +1,149 @@
+package starduster.circuitmod.recipe;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.component.ComponentChanges;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.IngredientPlacement;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.input.RecipeInput;
+import net.minecraft.server.world.ServerWorld;
+import starduster.circuitmod.Circuitmod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Recipe lookup for single-input machines that avoids scanning the recipe manager every tick.
+ * <p>
+ * Recipes of each type are indexed once by the items their ingredient accepts, so a miss only tests the
+ * recipes that could match. On top of that each machine keeps its own instance, which remembers the result
+ * for the last input item and components; a machine working through a stack never leaves that memo.
+ * The shared index is dropped whenever datapacks reload, which also invalidates every machine's memo.
+ */
+public class RecipeLookupCache<I extends RecipeInput, T extends Recipe<I>> {
+    private static final Map<RecipeType<?>, TypeIndex> INDEX = new HashMap<>();
+    private static int generation = 0;
+
+    private final RecipeType<T> type;
+    private Item lastItem;
+    private ComponentChanges lastComponents;
+    private int lastGeneration = -1;
+    private Optional<RecipeEntry<T>> lastResult = Optional.empty();
+
+    public RecipeLookupCache(RecipeType<T> type) {
+        this.type = type;
+    }
+
+    public static void initialize() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> invalidate());
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> invalidate());
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> invalidate());
+    }
+
+    private static void invalidate() {
+        INDEX.clear();
+        generation++;
+    }
+
+    /**
+     * Returns the first recipe matching {@code stack}, building the recipe input only when the memo misses.
+     */
+    public Optional<RecipeEntry<T>> get(ServerWorld world, ItemStack stack, Function<ItemStack, I> inputFactory) {
+        if (stack.isEmpty()) {
+            return Optional.empty();
+        }
+        Item item = stack.getItem();
+        ComponentChanges components = stack.getComponentChanges();
+        if (lastGeneration == generation && item == lastItem && components.equals(lastComponents)) {
+            return lastResult;
+        }
+
+        lastResult = find(world, item, inputFactory.apply(stack));
+        lastItem = item;
+        lastComponents = components;
+        lastGeneration = generation;
+        return lastResult;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<RecipeEntry<T>> find(ServerWorld world, Item item, I input) {
+        TypeIndex index = INDEX.computeIfAbsent(type, t -> TypeIndex.build(world, t));
+        for (RecipeEntry<?> entry : index.candidates(item)) {
+            RecipeEntry<T> candidate = (RecipeEntry<T>) entry;
+            if (candidate.value().matches(input, world)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Recipes of one type grouped by accepted input item, in recipe manager order.
+     * Recipes whose input can't be resolved to a fixed item set are tested for every item.
+     */
+    private static class TypeIndex {
+        private final Map<Item, List<RecipeEntry<?>>> byItem = new IdentityHashMap<>();
+        private final List<RecipeEntry<?>> unindexed = new ArrayList<>();
+
+        List<RecipeEntry<?>> candidates(Item item) {
+            return byItem.getOrDefault(item, unindexed);
+        }
+
+        static TypeIndex build(ServerWorld world, RecipeType<?> type) {
+            List<RecipeEntry<?>> recipes = new ArrayList<>();
+            List<Set<Item>> inputs = new ArrayList<>();
+            for (RecipeEntry<?> entry : world.getRecipeManager().values()) {
+                if (entry.value().getType() == type) {
+                    recipes.add(entry);
+                    inputs.add(inputItems(entry.value()));
+                }
+            }
+
+            TypeIndex index = new TypeIndex();
+            for (Set<Item> items : inputs) {
+                if (items != null) {
+                    for (Item item : items) {
+                        index.byItem.putIfAbsent(item, new ArrayList<>());
+                    }
+                }
+            }
+            // Second pass keeps every candidate list in recipe manager order
+            for (int i = 0; i < recipes.size(); i++) {
+                RecipeEntry<?> entry = recipes.get(i);
+                Set<Item> items = inputs.get(i);
+                if (items == null) {
+                    index.unindexed.add(entry);
+                    index.byItem.values().forEach(list -> list.add(entry));
+                } else {
+                    for (Item item : items) {
+                        index.byItem.get(item).add(entry);
+                    }
+                }
+            }
+
+            Circuitmod.LOGGER.info("[RECIPE-CACHE] Indexed {} {} recipes over {} input items",
+                recipes.size(), type, index.byItem.size());
+            return index;
+        }
+
+        private static Set<Item> inputItems(Recipe<?> recipe) {
+            IngredientPlacement placement = recipe.getIngredientPlacement();
+            if (placement.hasNoPlacement() || placement.getIngredients().size() != 1) {
+                return null;
+            }
+            Set<Item> items = new LinkedHashSet<>();
+            placement.getIngredients().get(0).getMatchingItems().forEach(entry -> items.add(entry.value()));
+            return items;
+        }
+    }
+}
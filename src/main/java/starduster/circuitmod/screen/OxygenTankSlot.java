@@ -3,6 +3,7 @@ package starduster.circuitmod.screen;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.screen.slot.Slot;
+import starduster.circuitmod.util.DiagnosticLog;
 
 /**
  * Custom slot for oxygen tanks in the player inventory.
@@ -26,7 +27,7 @@ public class OxygenTankSlot extends Slot {
     
     @Override
     public void setStack(ItemStack stack) {
-        System.out.println("[CircuitMod] OxygenTankSlot.setStack called - slot index: " + this.getIndex() + ", stack: " + stack);
+        DiagnosticLog.PLAYER.debug("[CircuitMod] OxygenTankSlot.setStack called - slot index: {}, stack: {}", this.getIndex(), stack);
         super.setStack(stack);
     }
     
@@ -0,0 +1,173 @@
+package starduster.circuitmod.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.ChunkLightProvider;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers large world edits per chunk section and writes them straight into the section,
+ * skipping shape updates and block placement callbacks. Neighbor updates are either skipped
+ * or deferred until the whole batch has been written.
+ * <p>
+ * On flush each section is written in one pass, light is re-checked only where it can change,
+ * and every changed position is marked on the chunk holder so clients receive one
+ * delta packet per section at the end of the tick.
+ * <p>
+ * Edits that add or remove a block entity fall back to a regular
+ * {@code setBlockState} with {@link Block#NOTIFY_LISTENERS} so block entity lifecycles stay intact.
+ */
+public class BulkBlockWriter {
+
+    private final ServerWorld world;
+    private final Map<Long, SectionEdits> pending = new LinkedHashMap<>();
+    private int pendingCount = 0;
+
+    public BulkBlockWriter(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Queues a block state change. The last queued state for a position wins.
+     */
+    public void set(BlockPos pos, BlockState state) {
+        long sectionKey = ChunkSectionPos.toLong(pos);
+        pending.computeIfAbsent(sectionKey, key -> new SectionEdits()).add(ChunkSectionPos.packLocal(pos), state);
+        pendingCount++;
+    }
+
+    /**
+     * Queues removal of a block, leaving any fluid it contained in place (like {@code World.removeBlock}).
+     */
+    public void remove(BlockPos pos) {
+        set(pos, world.getFluidState(pos).getBlockState());
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Writes every queued edit without notifying neighbors. Returns the number of blocks that actually changed.
+     */
+    public int flush() {
+        return flush(false);
+    }
+
+    /**
+     * Writes every queued edit. If {@code notifyNeighbors} is set, neighbors of the changed blocks are
+     * notified once after all sections have been written, so intermediate states never cascade.
+     * Returns the number of blocks that actually changed.
+     */
+    public int flush(boolean notifyNeighbors) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        int changed = 0;
+        List<BlockPos> changedPositions = notifyNeighbors ? new ArrayList<>() : null;
+        List<Block> changedBlocks = notifyNeighbors ? new ArrayList<>() : null;
+        LightingProvider lightingProvider = world.getChunkManager().getLightingProvider();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        for (Map.Entry<Long, SectionEdits> entry : pending.entrySet()) {
+            ChunkSectionPos sectionPos = ChunkSectionPos.from(entry.getKey());
+            SectionEdits edits = entry.getValue();
+
+            WorldChunk chunk = world.getChunk(sectionPos.getSectionX(), sectionPos.getSectionZ());
+            int sectionIndex = chunk.sectionCoordToIndex(sectionPos.getSectionY());
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionArray().length) {
+                continue; // Outside the world's build height
+            }
+            ChunkSection section = chunk.getSection(sectionIndex);
+            boolean wasEmpty = section.isEmpty();
+            boolean sectionChanged = false;
+
+            for (int i = 0; i < edits.size(); i++) {
+                short local = edits.positions.get(i);
+                BlockState state = edits.states.get(i);
+                int localX = ChunkSectionPos.unpackLocalX(local);
+                int localY = ChunkSectionPos.unpackLocalY(local);
+                int localZ = ChunkSectionPos.unpackLocalZ(local);
+                mutable.set(sectionPos.getMinX() + localX, sectionPos.getMinY() + localY, sectionPos.getMinZ() + localZ);
+
+                BlockState oldState = section.getBlockState(localX, localY, localZ);
+                if (oldState == state) {
+                    continue;
+                }
+
+                if (oldState.hasBlockEntity() || state.hasBlockEntity()) {
+                    // Let vanilla handle block entity creation and removal
+                    if (world.setBlockState(mutable.toImmutable(), state, Block.NOTIFY_LISTENERS | Block.FORCE_STATE)) {
+                        changed++;
+                    }
+                    continue;
+                }
+
+                section.setBlockState(localX, localY, localZ, state, false);
+                sectionChanged = true;
+                changed++;
+
+                for (Map.Entry<Heightmap.Type, Heightmap> heightmap : chunk.getHeightmaps()) {
+                    heightmap.getValue().trackUpdate(localX, mutable.getY(), localZ, state);
+                }
+                if (ChunkLightProvider.needsLightUpdate(oldState, state)) {
+                    chunk.getChunkSkyLight().isSkyLightAccessible(chunk, localX, mutable.getY(), localZ);
+                    lightingProvider.checkBlock(mutable);
+                }
+                world.onBlockStateChanged(mutable, oldState, state);
+                world.getChunkManager().markForUpdate(mutable);
+                if (notifyNeighbors) {
+                    changedPositions.add(mutable.toImmutable());
+                    changedBlocks.add(oldState.getBlock());
+                }
+            }
+
+            if (sectionChanged) {
+                boolean isEmpty = section.isEmpty();
+                if (wasEmpty != isEmpty) {
+                    lightingProvider.setSectionStatus(sectionPos, isEmpty);
+                }
+                chunk.markNeedsSaving();
+            }
+        }
+
+        pending.clear();
+        pendingCount = 0;
+
+        if (notifyNeighbors) {
+            for (int i = 0; i < changedPositions.size(); i++) {
+                world.updateNeighbors(changedPositions.get(i), changedBlocks.get(i));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Queued edits for a single chunk section, in insertion order.
+     */
+    private static class SectionEdits {
+        private final List<Short> positions = new ArrayList<>();
+        private final List<BlockState> states = new ArrayList<>();
+
+        void add(short position, BlockState state) {
+            positions.add(position);
+            states.add(state);
+        }
+
+        int size() {
+            return positions.size();
+        }
+    }
+}
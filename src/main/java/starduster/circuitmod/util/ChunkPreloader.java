@@ -0,0 +1,97 @@
+package starduster.circuitmod.util;
+
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads a square of chunks ahead of time so that an arrival there (a teleport, a projectile landing) finds
+ * them ready instead of generating them on the server thread.
+ * <p>
+ * The request is an expiring portal ticket: the chunk system loads or generates the chunks on its workers
+ * over the following ticks, and {@link #isReady()} only polls whether they have reached FULL status. Callers keep the ticket alive with
+ * {@link #keepAlive()} while they still need it; an abandoned request simply times out.
+ */
+public class ChunkPreloader {
+    private static final long REFRESH_INTERVAL = 100L; // Portal tickets expire after 300 ticks
+
+    private final ServerWorld world;
+    private final ChunkPos center;
+    private final int radius;
+    private long lastIssuedTime;
+
+    private ChunkPreloader(ServerWorld world, ChunkPos center, int radius) {
+        this.world = world;
+        this.center = center;
+        this.radius = radius;
+    }
+
+    /**
+     * Starts loading every chunk within {@code radius} chunks of {@code center}.
+     */
+    public static ChunkPreloader request(ServerWorld world, ChunkPos center, int radius) {
+        ChunkPreloader preloader = new ChunkPreloader(world, center, radius);
+        preloader.issue();
+        return preloader;
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    public ChunkPos getCenter() {
+        return center;
+    }
+
+    public boolean isFor(ServerWorld world, ChunkPos center) {
+        return this.world == world && this.center.equals(center);
+    }
+
+    /**
+     * Re-issues the ticket before it expires. Cheap to call every tick.
+     */
+    public void keepAlive() {
+        if (world.getTime() - lastIssuedTime >= REFRESH_INTERVAL) {
+            issue();
+        }
+    }
+
+    /**
+     * Returns the chunk if it has reached FULL status, without waiting for it. {@link ServerWorld#isChunkLoaded}
+     * only checks the ticket level, so it turns true while the chunk is still being loaded or generated, and a
+     * following {@code getChunk} then blocks the server thread until it is done.
+     */
+    @Nullable
+    public static WorldChunk getLoadedChunk(ServerWorld world, int chunkX, int chunkZ) {
+        return world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * @return true once every requested chunk has reached FULL status; never waits for one
+     */
+    public boolean isReady() {
+        for (int x = center.x - radius; x <= center.x + radius; x++) {
+            for (int z = center.z - radius; z <= center.z + radius; z++) {
+                if (getLoadedChunk(world, x, z) == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops the ticket now instead of letting it expire.
+     */
+    public void release() {
+        world.getChunkManager().removeTicket(ChunkTicketType.PORTAL, center, radius);
+    }
+
+    private void issue() {
+        // Adding an identical ticket again just resets its expiry
+        world.getChunkManager().addTicket(ChunkTicketType.PORTAL, center, radius);
+        lastIssuedTime = world.getTime();
+    }
+}
@@ -0,0 +1,218 @@
+package starduster.circuitmod.util;
+
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+import starduster.circuitmod.Circuitmod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Diagnostic logging for the mod's hot paths, split into categories with their own level.
+ * <p>
+ * A message below its category's level costs one field read: nothing is formatted and, with the
+ * {@link Supplier} overloads, nothing is computed. Messages that pass are formatted once, written to the
+ * mod logger and kept in a shared in-memory ring that {@code /circuitmod log recent} reads back.
+ * The {@code *Limited} variants additionally let through at most one message per key every
+ * {@link #RATE_LIMIT_MILLIS}, reporting how many were dropped in between.
+ */
+public class DiagnosticLog {
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    /**
+     * One formatted message kept in the ring.
+     */
+    public record Entry(long timeMillis, String category, Level level, String message) {
+    }
+
+    public static final long RATE_LIMIT_MILLIS = 10_000L;
+    private static final int RING_SIZE = 512; // Power of two
+    private static final int MAX_LIMITED_KEYS = 4096;
+
+    private static final Map<String, DiagnosticLog> CATEGORIES = new LinkedHashMap<>();
+
+    public static final DiagnosticLog ENERGY = register("energy", Level.INFO);
+    public static final DiagnosticLog PIPES = register("pipes", Level.INFO);
+    public static final DiagnosticLog CONSTRUCTOR = register("constructor", Level.INFO);
+    public static final DiagnosticLog NETWORK = register("network", Level.INFO);
+    public static final DiagnosticLog PLAYER = register("player", Level.INFO);
+    public static final DiagnosticLog RENDER = register("render", Level.INFO);
+    public static final DiagnosticLog EXPLOSIVES = register("explosives", Level.INFO);
+
+    // Shared ring of recent messages; writers claim a slot with one atomic increment
+    private static final AtomicReferenceArray<Entry> RING = new AtomicReferenceArray<>(RING_SIZE);
+    private static final AtomicLong RING_CURSOR = new AtomicLong();
+
+    private final String name;
+    private volatile Level level;
+    private final ConcurrentHashMap<Object, Limiter> limiters = new ConcurrentHashMap<>();
+
+    private static class Limiter {
+        private long nextAllowedMillis;
+        private int suppressed;
+    }
+
+    private DiagnosticLog(String name, Level level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    private static DiagnosticLog register(String name, Level level) {
+        DiagnosticLog log = new DiagnosticLog(name, level);
+        CATEGORIES.put(name, log);
+        return log;
+    }
+
+    public static Map<String, DiagnosticLog> getCategories() {
+        return Collections.unmodifiableMap(CATEGORIES);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public boolean isEnabled(Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0 && messageLevel != Level.OFF;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    // Eagerly-argumented overloads; fixed arities avoid a varargs array when the level is off
+
+    public void debug(String format) {
+        if (isEnabled(Level.DEBUG)) emit(Level.DEBUG, format, null);
+    }
+
+    public void debug(String format, Object arg) {
+        if (isEnabled(Level.DEBUG)) emit(Level.DEBUG, format, new Object[]{arg});
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (isEnabled(Level.DEBUG)) emit(Level.DEBUG, format, new Object[]{arg1, arg2});
+    }
+
+    public void debug(String format, Object... args) {
+        if (isEnabled(Level.DEBUG)) emit(Level.DEBUG, format, args);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) emit(Level.DEBUG, message.get(), null);
+    }
+
+    public void info(String format) {
+        if (isEnabled(Level.INFO)) emit(Level.INFO, format, null);
+    }
+
+    public void info(String format, Object arg) {
+        if (isEnabled(Level.INFO)) emit(Level.INFO, format, new Object[]{arg});
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (isEnabled(Level.INFO)) emit(Level.INFO, format, new Object[]{arg1, arg2});
+    }
+
+    public void info(String format, Object... args) {
+        if (isEnabled(Level.INFO)) emit(Level.INFO, format, args);
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) emit(Level.INFO, message.get(), null);
+    }
+
+    public void warn(String format, Object... args) {
+        if (isEnabled(Level.WARN)) emit(Level.WARN, format, args);
+    }
+
+    /**
+     * Logs at most once per {@link #RATE_LIMIT_MILLIS} for {@code key}, e.g. a block position.
+     */
+    public void infoLimited(Object key, Supplier<String> message) {
+        logLimited(Level.INFO, key, message);
+    }
+
+    public void debugLimited(Object key, Supplier<String> message) {
+        logLimited(Level.DEBUG, key, message);
+    }
+
+    public void warnLimited(Object key, Supplier<String> message) {
+        logLimited(Level.WARN, key, message);
+    }
+
+    private void logLimited(Level messageLevel, Object key, Supplier<String> message) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (limiters.size() > MAX_LIMITED_KEYS) {
+            limiters.clear(); // Keys are usually positions; don't let them pile up forever
+        }
+        Limiter limiter = limiters.computeIfAbsent(key, k -> new Limiter());
+        int suppressed;
+        synchronized (limiter) {
+            if (now < limiter.nextAllowedMillis) {
+                limiter.suppressed++;
+                return;
+            }
+            limiter.nextAllowedMillis = now + RATE_LIMIT_MILLIS;
+            suppressed = limiter.suppressed;
+            limiter.suppressed = 0;
+        }
+        String text = message.get();
+        emit(messageLevel, suppressed > 0 ? text + " (" + suppressed + " similar suppressed)" : text, null);
+    }
+
+    private void emit(Level messageLevel, String format, Object[] args) {
+        String message = format;
+        Throwable throwable = null;
+        if (args != null) {
+            FormattingTuple tuple = MessageFormatter.arrayFormat(format, args);
+            message = tuple.getMessage();
+            throwable = tuple.getThrowable();
+        }
+
+        // Debug goes out at info: the game's logger drops debug, and enabling a category should show it
+        switch (messageLevel) {
+            case DEBUG, INFO -> Circuitmod.LOGGER.info(message, throwable);
+            case WARN -> Circuitmod.LOGGER.warn(message, throwable);
+            default -> Circuitmod.LOGGER.error(message, throwable);
+        }
+
+        long slot = RING_CURSOR.getAndIncrement();
+        RING.set((int) (slot & (RING_SIZE - 1)), new Entry(System.currentTimeMillis(), name, messageLevel, message));
+    }
+
+    /**
+     * Returns up to {@code count} of the most recent messages, oldest first, optionally for one category.
+     */
+    public static List<Entry> recent(int count, DiagnosticLog category) {
+        List<Entry> entries = new ArrayList<>();
+        long end = RING_CURSOR.get();
+        for (long slot = end - 1; slot >= Math.max(0, end - RING_SIZE) && entries.size() < count; slot--) {
+            Entry entry = RING.get((int) (slot & (RING_SIZE - 1)));
+            if (entry != null && (category == null || category.name.equals(entry.category()))) {
+                entries.add(entry);
+            }
+        }
+        Collections.reverse(entries);
+        return entries;
+    }
+}
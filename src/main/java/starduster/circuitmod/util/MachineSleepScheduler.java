@@ -0,0 +1,129 @@
+package starduster.circuitmod.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import starduster.circuitmod.mixin.WorldChunkAccessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lets idle machines drop out of the block entity tick loop entirely.
+ * <p>
+ * A machine with nothing to do calls {@link #sleep}, which removes its ticker from the chunk. It is woken,
+ * and its ticker re-registered from the block's {@code getTicker}, when its inventory changes, energy or a
+ * network reaches it, a neighbour updates, or the requested number of ticks has passed. Every sleep is
+ * bounded, so a missed wake-up only costs latency. Sleeping machines still answer screens, hoppers and
+ * energy networks as usual; they just aren't ticked.
+ */
+public class MachineSleepScheduler {
+    public static final int DEFAULT_SLEEP_TICKS = 100; // Longest an idle machine goes without a tick
+
+    private static final Map<ServerWorld, MachineSleepScheduler> SCHEDULERS = new HashMap<>();
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<Sleeper> sleeping = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<LongArrayList> wakeups = new Long2ObjectOpenHashMap<>(); // game time -> positions
+
+    private record Sleeper(BlockEntity blockEntity, long wakeTime) {
+    }
+
+    private MachineSleepScheduler(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            MachineSleepScheduler scheduler = SCHEDULERS.get(world);
+            if (scheduler != null) {
+                scheduler.wakeDue();
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> SCHEDULERS.remove(world));
+    }
+
+    /**
+     * Stops ticking the block entity for up to {@link #DEFAULT_SLEEP_TICKS} ticks, or until woken.
+     */
+    public static void sleep(BlockEntity blockEntity) {
+        sleep(blockEntity, DEFAULT_SLEEP_TICKS);
+    }
+
+    /**
+     * Stops ticking the block entity for the next {@code ticks} ticks, or until woken. Only has an effect on the server.
+     */
+    public static void sleep(BlockEntity blockEntity, int ticks) {
+        if (ticks <= 0 || blockEntity.isRemoved() || !(blockEntity.getWorld() instanceof ServerWorld world)) {
+            return;
+        }
+        MachineSleepScheduler scheduler = SCHEDULERS.computeIfAbsent(world, MachineSleepScheduler::new);
+        BlockPos pos = blockEntity.getPos();
+        long key = pos.asLong();
+        long wakeTime = world.getTime() + ticks;
+
+        scheduler.sleeping.put(key, new Sleeper(blockEntity, wakeTime));
+        scheduler.wakeups.computeIfAbsent(wakeTime, time -> new LongArrayList()).add(key);
+        ((WorldChunkAccessor) world.getWorldChunk(pos)).invokeRemoveBlockEntityTicker(pos);
+    }
+
+    /**
+     * Resumes ticking the block entity if it is asleep. Cheap enough to call on every inventory or energy change.
+     */
+    public static void wake(BlockEntity blockEntity) {
+        World world = blockEntity.getWorld();
+        if (world instanceof ServerWorld serverWorld) {
+            wake(serverWorld, blockEntity.getPos());
+        }
+    }
+
+    /**
+     * Resumes ticking whatever machine sleeps at {@code pos}, e.g. from a neighbour update.
+     */
+    public static void wake(ServerWorld world, BlockPos pos) {
+        MachineSleepScheduler scheduler = SCHEDULERS.get(world);
+        if (scheduler != null) {
+            Sleeper sleeper = scheduler.sleeping.remove(pos.asLong());
+            if (sleeper != null) {
+                scheduler.resume(sleeper.blockEntity());
+            }
+        }
+    }
+
+    private void wakeDue() {
+        long time = world.getTime();
+        LongArrayList due = wakeups.remove(time);
+        if (due == null) {
+            return;
+        }
+        for (int i = 0; i < due.size(); i++) {
+            long key = due.getLong(i);
+            Sleeper sleeper = sleeping.get(key);
+            // Skip entries for machines that were woken early and went back to sleep with a later deadline
+            if (sleeper != null && sleeper.wakeTime() == time) {
+                sleeping.remove(key);
+                resume(sleeper.blockEntity());
+            }
+        }
+    }
+
+    private void resume(BlockEntity blockEntity) {
+        // Unloaded or broken machines get a fresh ticker when they come back
+        if (blockEntity.isRemoved()) {
+            return;
+        }
+        BlockPos pos = blockEntity.getPos();
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(
+            ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+        if (chunk != null) {
+            ((WorldChunkAccessor) chunk).invokeUpdateTicker(blockEntity);
+        }
+    }
+}
@@ -14,6 +14,12 @@ public class ModBlockTags {
     public static final TagKey<Block> DEEPBASALT_ORE_REPLACEABLES = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "deepbasalt_ore_replaceables"));
     public static final TagKey<Block> MANTLEROCK_ORE_REPLACEABLES = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "mantlerock_ore_replaceables"));
 
+    // Blocks swapped out when placed in Luna's vacuum (see VacuumReplacements)
+    public static final TagKey<Block> VACUUM_EXTINGUISHES_TORCHES = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "vacuum_extinguishes_torches"));
+    public static final TagKey<Block> VACUUM_EXTINGUISHES_WALL_TORCHES = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "vacuum_extinguishes_wall_torches"));
+    public static final TagKey<Block> VACUUM_UNLIGHTS = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "vacuum_unlights"));
+    public static final TagKey<Block> VACUUM_SNUFFS = TagKey.of(RegistryKeys.BLOCK, Identifier.of("circuitmod", "vacuum_snuffs"));
+
     public static void initialize() {
         Circuitmod.LOGGER.info("Registering mod block tags");
     }
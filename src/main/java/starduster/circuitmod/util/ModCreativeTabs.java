@@ -124,6 +124,7 @@ public class ModCreativeTabs {
                             entries.add(ModItems.BLANK_BLUEPRINT);
 
                             entries.add(ModItems.OXYGEN_TANK);
+                            entries.add(ModBlocks.OXYGEN_VENT);
                             entries.add(ModItems.EMU_SUIT_HELMET);
                             entries.add(ModItems.EMU_SUIT_CHESTPLATE);
                             entries.add(ModItems.EMU_SUIT_LEGGINGS);
@@ -0,0 +1,64 @@
+package starduster.circuitmod.util;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Tracks whether a block entity's saved state actually changed since the last tick.
+ * <p>
+ * Screens read machine values live through their {@code PropertyDelegate}, so refreshing a GUI never
+ * needs {@code markDirty()}. Only a change to a field written by {@code writeNbt} should dirty the chunk,
+ * so machines fold their serialized fields into the tracker each tick and call {@link #commit};
+ * unchanged machines cost nothing at autosave.
+ */
+public class PersistentStateTracker {
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long hash = SEED;
+    private long lastHash;
+    private boolean hasLastHash = false;
+
+    /**
+     * Starts a new fingerprint for this tick.
+     */
+    public PersistentStateTracker begin() {
+        hash = SEED;
+        return this;
+    }
+
+    public PersistentStateTracker add(long value) {
+        hash = Long.rotateLeft((hash ^ value) * MULTIPLIER, 29);
+        return this;
+    }
+
+    public PersistentStateTracker add(int value) {
+        return add((long) value);
+    }
+
+    public PersistentStateTracker add(boolean value) {
+        return add(value ? 1L : 0L);
+    }
+
+    public PersistentStateTracker add(BlockPos pos) {
+        return add(pos != null ? pos.asLong() : Long.MIN_VALUE);
+    }
+
+    /**
+     * Marks the block entity dirty if the fingerprint changed since the last commit, or if {@code force} is set
+     * (for changes the fingerprint doesn't cover, such as inventory contents).
+     * The first commit after creation or loading only records the baseline.
+     *
+     * @return whether the block entity was marked dirty
+     */
+    public boolean commit(BlockEntity entity, boolean force) {
+        boolean changed = hasLastHash && hash != lastHash;
+        lastHash = hash;
+        hasLastHash = true;
+        if (changed || force) {
+            entity.markDirty();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package starduster.circuitmod.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed spherical shell offsets.
+ * Shell {@code r} holds every integer offset whose distance from the origin rounds to {@code r},
+ * so walking shells 0..R visits each block of the ball exactly once.
+ * Offsets are packed into a single int (10 bits per axis, range -512..511).
+ */
+public class SphereShells {
+
+    public static final int MAX_RADIUS = 511;
+
+    private static final int BITS = 10;
+    private static final int MASK = (1 << BITS) - 1;
+
+    // Larger shells are recomputed on demand; caching every shell up to MAX_RADIUS would cost hundreds of MB
+    private static final int CACHED_RADIUS = 64;
+
+    private static final ConcurrentHashMap<Integer, int[]> SHELLS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the packed offsets of the shell at the given radius. Cached arrays are shared; do not modify them.
+     */
+    public static int[] getShell(int radius) {
+        if (radius < 0 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("Shell radius out of range: " + radius);
+        }
+        if (radius > CACHED_RADIUS) {
+            return computeShell(radius);
+        }
+        return SHELLS.computeIfAbsent(radius, SphereShells::computeShell);
+    }
+
+    /**
+     * |sqrt(d2) - r| < 0.5 is equivalent to r^2 - r + 1 <= d2 <= r^2 + r for integer d2 (and d2 == 0 for r == 0).
+     */
+    private static int[] computeShell(int radius) {
+        long minSq = radius == 0 ? 0 : (long) radius * radius - radius + 1;
+        long maxSq = (long) radius * radius + radius;
+
+        int[] offsets = new int[64];
+        int count = 0;
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                long xy = (long) x * x + (long) y * y;
+                if (xy > maxSq) {
+                    continue;
+                }
+                // Solve for the z range on this column instead of scanning the whole cube
+                int zMax = (int) Math.floor(Math.sqrt(maxSq - xy));
+                long zMinSq = minSq - xy;
+                int zMin = zMinSq <= 0 ? 0 : (int) Math.ceil(Math.sqrt(zMinSq));
+                while ((long) zMax * zMax > maxSq - xy) zMax--;
+                while (zMin > 0 && (long) (zMin - 1) * (zMin - 1) >= zMinSq) zMin--;
+                while ((long) zMin * zMin < zMinSq) zMin++;
+
+                for (int z = zMin; z <= zMax; z++) {
+                    if (count + 2 > offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+                    offsets[count++] = pack(x, y, z);
+                    if (z != 0) {
+                        offsets[count++] = pack(x, y, -z);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    public static int pack(int x, int y, int z) {
+        return (x & MASK) | ((y & MASK) << BITS) | ((z & MASK) << (BITS * 2));
+    }
+
+    public static int unpackX(int packed) {
+        return (packed << (32 - BITS)) >> (32 - BITS);
+    }
+
+    public static int unpackY(int packed) {
+        return (packed << (32 - BITS * 2)) >> (32 - BITS);
+    }
+
+    public static int unpackZ(int packed) {
+        return (packed << (32 - BITS * 3)) >> (32 - BITS);
+    }
+
+    /**
+     * Squared distance of a packed offset from the origin.
+     */
+    public static int squaredLength(int packed) {
+        int x = unpackX(packed);
+        int y = unpackY(packed);
+        int z = unpackZ(packed);
+        return x * x + y * y + z * z;
+    }
+}
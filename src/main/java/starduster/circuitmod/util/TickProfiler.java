@@ -0,0 +1,225 @@
+package starduster.circuitmod.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import starduster.circuitmod.Circuitmod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Built-in tick profiler for the mod's own work, driven by {@code /circuitmod profile}.
+ * <p>
+ * Call sites bracket a hot path with {@link #begin()} and {@link #end}; while profiling is off {@code begin}
+ * returns a sentinel without reading the clock, so the cost is a static field read. Every circuitmod block
+ * entity tick is also timed per machine type and per position. Samples are only ever written from the server
+ * thread, so each series is a plain ring buffer of the latest {@link #RING_SIZE} samples with running totals,
+ * and no locking is needed.
+ */
+public class TickProfiler {
+    public static final long DISABLED = Long.MIN_VALUE;
+    private static final int RING_SIZE = 4096;
+
+    /**
+     * Named hot paths that are timed explicitly at their call sites.
+     */
+    public enum Subsystem {
+        ENERGY_SOLVE("energy solve"),
+        TOPOLOGY_REPAIR("topology repair"),
+        PIPE_ROUTING("pipe routing"),
+        MINING("mining"),
+        CONSTRUCTOR("constructor"),
+        BLUEPRINT_SCAN("blueprint scan"),
+        ANIMATION_PACKETS("animation packets");
+
+        private final String label;
+
+        Subsystem(String label) {
+            this.label = label;
+        }
+    }
+
+    private static boolean enabled = false;
+    private static long startedAt = 0L;
+    private static long stoppedAt = 0L;
+
+    private static final EnumMap<Subsystem, Series> SUBSYSTEMS = new EnumMap<>(Subsystem.class);
+    private static final Reference2ObjectOpenHashMap<BlockEntityType<?>, Series> MACHINES = new Reference2ObjectOpenHashMap<>();
+    private static final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Hotspot>> HOTSPOTS = new HashMap<>();
+    private static final Reference2BooleanOpenHashMap<BlockEntityType<?>> TRACKED_TYPES = new Reference2BooleanOpenHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears previous results and starts recording.
+     */
+    public static void start() {
+        SUBSYSTEMS.clear();
+        MACHINES.clear();
+        HOTSPOTS.clear();
+        startedAt = System.nanoTime();
+        enabled = true;
+    }
+
+    public static void stop() {
+        if (enabled) {
+            enabled = false;
+            stoppedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return a start timestamp, or {@link #DISABLED} when not profiling
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    public static void end(Subsystem subsystem, long start) {
+        if (start != DISABLED) {
+            SUBSYSTEMS.computeIfAbsent(subsystem, s -> new Series()).add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Starts timing a block entity tick if it is one of ours and ticks on the server.
+     */
+    public static long beginMachine(BlockEntity blockEntity) {
+        if (!enabled || !(blockEntity.getWorld() instanceof ServerWorld) || !isTracked(blockEntity.getType())) {
+            return DISABLED;
+        }
+        return System.nanoTime();
+    }
+
+    public static void endMachine(BlockEntity blockEntity, long start) {
+        if (start == DISABLED || !enabled) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        BlockEntityType<?> type = blockEntity.getType();
+        MACHINES.computeIfAbsent(type, t -> new Series()).add(nanos);
+
+        World world = blockEntity.getWorld();
+        if (world != null) {
+            RegistryKey<World> worldKey = world.getRegistryKey();
+            Hotspot hotspot = HOTSPOTS.computeIfAbsent(worldKey, key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(blockEntity.getPos().asLong(), pos -> new Hotspot(type, worldKey, pos));
+            hotspot.totalNanos += nanos;
+            hotspot.ticks++;
+        }
+    }
+
+    private static boolean isTracked(BlockEntityType<?> type) {
+        if (!TRACKED_TYPES.containsKey(type)) {
+            Identifier id = Registries.BLOCK_ENTITY_TYPE.getId(type);
+            TRACKED_TYPES.put(type, id != null && Circuitmod.MOD_ID.equals(id.getNamespace()));
+        }
+        return TRACKED_TYPES.getBoolean(type);
+    }
+
+    /**
+     * Formats the collected results: one line per subsystem and machine type, then the {@code topCount}
+     * positions with the highest total tick time.
+     */
+    public static List<String> dump(int topCount) {
+        List<String> lines = new ArrayList<>();
+        long elapsedNanos = (enabled ? System.nanoTime() : stoppedAt) - startedAt;
+        lines.add(String.format("Profile %s, %.1f s recorded", enabled ? "running" : "stopped", elapsedNanos / 1.0e9));
+
+        lines.add("Subsystems:");
+        for (Map.Entry<Subsystem, Series> entry : SUBSYSTEMS.entrySet()) {
+            lines.add("  " + entry.getValue().summarize(entry.getKey().label, elapsedNanos));
+        }
+
+        lines.add("Machines:");
+        List<Map.Entry<BlockEntityType<?>, Series>> machines = new ArrayList<>(MACHINES.entrySet());
+        machines.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+        for (Map.Entry<BlockEntityType<?>, Series> entry : machines) {
+            lines.add("  " + entry.getValue().summarize(typeName(entry.getKey()), elapsedNanos));
+        }
+
+        List<Hotspot> worst = new ArrayList<>();
+        for (Long2ObjectOpenHashMap<Hotspot> positions : HOTSPOTS.values()) {
+            worst.addAll(positions.values());
+        }
+        worst.sort((a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+        lines.add("Worst positions:");
+        for (int i = 0; i < Math.min(topCount, worst.size()); i++) {
+            Hotspot hotspot = worst.get(i);
+            lines.add(String.format("  %s %s %s: %.3f ms total, %.1f us/tick",
+                hotspot.world.getValue(), BlockPos.fromLong(hotspot.pos).toShortString(), typeName(hotspot.type),
+                hotspot.totalNanos / 1.0e6, hotspot.totalNanos / 1.0e3 / hotspot.ticks));
+        }
+        return lines;
+    }
+
+    private static String typeName(BlockEntityType<?> type) {
+        Identifier id = Registries.BLOCK_ENTITY_TYPE.getId(type);
+        return id != null ? id.getPath() : type.toString();
+    }
+
+    /**
+     * Running totals plus a ring buffer of the most recent samples for percentiles.
+     */
+    private static class Series {
+        private final long[] ring = new long[RING_SIZE];
+        private int next = 0;
+        private long count = 0;
+        private long totalNanos = 0;
+        private long maxNanos = 0;
+
+        void add(long nanos) {
+            ring[next] = nanos;
+            next = (next + 1) % RING_SIZE;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        String summarize(String label, long elapsedNanos) {
+            int size = (int) Math.min(count, RING_SIZE);
+            long[] sorted = Arrays.copyOf(ring, size);
+            Arrays.sort(sorted);
+            double share = elapsedNanos > 0 ? 100.0 * totalNanos / elapsedNanos : 0.0;
+            return String.format("%s: %d calls, mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us, %.2f%% of wall time",
+                label, count, totalNanos / 1.0e3 / Math.max(count, 1),
+                percentile(sorted, 0.50) / 1.0e3, percentile(sorted, 0.99) / 1.0e3, maxNanos / 1.0e3, share);
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+        }
+    }
+
+    private static class Hotspot {
+        private final BlockEntityType<?> type;
+        private final RegistryKey<World> world;
+        private final long pos;
+        private long totalNanos = 0;
+        private int ticks = 0;
+
+        Hotspot(BlockEntityType<?> type, RegistryKey<World> world, long pos) {
+            this.type = type;
+            this.world = world;
+            this.pos = pos;
+        }
+    }
+}